@@ -30,6 +30,9 @@ import org.wikipediacleaner.api.check.algorithm.CheckErrorAlgorithms;
 import org.wikipediacleaner.api.constants.EnumLanguage;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.data.ISBNRange;
+import org.wikipediacleaner.api.dump.DumpPageStore;
+import org.wikipediacleaner.api.dump.LinkGraph;
+import org.wikipediacleaner.api.dump.LinkGraphBuilder;
 import org.wikipediacleaner.gui.swing.basic.BasicWorker;
 import org.wikipediacleaner.gui.swing.basic.BasicWorkerListener;
 import org.wikipediacleaner.gui.swing.bot.AutomaticCWWorker;
@@ -227,6 +230,22 @@ public class Bot implements BasicWorkerListener {
     } else if ("UpdateDabWarnings".equalsIgnoreCase(action)) {
       Configuration config = Configuration.getConfiguration();
       String start = config.getString(null, ConfigurationValueString.LAST_DAB_WARNING);
+      File linkGraphFile = null;
+      File dumpFile = null;
+      boolean optionsFinished = false;
+      while (!optionsFinished && (args.length > currentArg)) {
+        if ("-linkGraph".equalsIgnoreCase(args[currentArg]) &&
+            (args.length > currentArg + 1)) {
+          linkGraphFile = new File(args[currentArg + 1]);
+          currentArg += 2;
+        } else if ("-dump".equalsIgnoreCase(args[currentArg]) &&
+                   (args.length > currentArg + 1)) {
+          dumpFile = getDumpFile(args[currentArg + 1]);
+          currentArg += 2;
+        } else {
+          optionsFinished = true;
+        }
+      }
       if (args.length > currentArg) {
         if (args[currentArg].equals("*")) {
           start = null;
@@ -234,7 +253,10 @@ public class Bot implements BasicWorkerListener {
           start = args[currentArg];
         }
       }
-      worker = new UpdateDabWarningWorker(wiki, null, start);
+      UpdateDabWarningWorker dabWorker = new UpdateDabWarningWorker(wiki, null, start);
+      dabWorker.setLinkGraph(getLinkGraph(linkGraphFile, dumpFile));
+      dabWorker.setPageStore(getPageStore(dumpFile));
+      worker = dabWorker;
     } else if ("UpdateISBNWarnings".equalsIgnoreCase(action)) {
       worker = new UpdateISBNWarningWorker(wiki, null, false);
     } else if ("ListISBNWarnings".equalsIgnoreCase(action)) {
@@ -264,6 +286,10 @@ public class Bot implements BasicWorkerListener {
     } else if ("ListCheckWiki".equalsIgnoreCase(action)) {
       boolean check = true;
       boolean onlyRecheck = false;
+      File checkpoint = null;
+      boolean resume = false;
+      File revisionIndex = null;
+      int dumpThreads = 0;
       boolean optionsFinished = false;
       while (!optionsFinished && (args.length > currentArg)) {
         if ("-nocheck".equalsIgnoreCase(args[currentArg])) {
@@ -272,6 +298,20 @@ public class Bot implements BasicWorkerListener {
         } else if ("-onlyRecheck".equalsIgnoreCase(args[currentArg])) {
           onlyRecheck = true;
           currentArg++;
+        } else if ("-checkpoint".equalsIgnoreCase(args[currentArg]) &&
+                   (args.length > currentArg + 1)) {
+          checkpoint = new File(args[currentArg + 1]);
+          currentArg += 2;
+        } else if ("-resume".equalsIgnoreCase(args[currentArg])) {
+          resume = true;
+          currentArg++;
+        } else if ("-revisionIndex".equalsIgnoreCase(args[currentArg]) &&
+                   (args.length > currentArg + 1)) {
+          revisionIndex = new File(args[currentArg + 1]);
+          currentArg += 2;
+        } else if ("-parallel".equalsIgnoreCase(args[currentArg])) {
+          dumpThreads = Runtime.getRuntime().availableProcessors();
+          currentArg++;
         } else {
           optionsFinished = true;
         }
@@ -280,17 +320,22 @@ public class Bot implements BasicWorkerListener {
         File dumpFile = getDumpFile(args[currentArg]);
         List<CheckErrorAlgorithm> algorithms = new ArrayList<CheckErrorAlgorithm>();
         extractAlgorithms(algorithms, null, args, currentArg + 2);
+        ListCWWorker listWorker = null;
         if (args[currentArg + 1].startsWith("wiki:")) {
           String pageName = args[currentArg + 1].substring(5);
-          worker = new ListCWWorker(
+          listWorker = new ListCWWorker(
               wiki, null, dumpFile, pageName,
               algorithms, check, onlyRecheck);
         } else {
           File output = new File(args[currentArg + 1]);
-          worker = new ListCWWorker(
+          listWorker = new ListCWWorker(
               wiki, null, dumpFile, output,
               algorithms, check);
         }
+        listWorker.setCheckpoint(checkpoint, resume);
+        listWorker.setRevisionIndex(revisionIndex);
+        listWorker.setDumpThreads(dumpThreads);
+        worker = listWorker;
       }
     }
     if (worker != null) {
@@ -347,6 +392,47 @@ public class Bot implements BasicWorkerListener {
     }
   }
 
+  /**
+   * Retrieve the graph of links between articles.
+   * 
+   * @param graphFile File containing the graph of links.
+   * @param dumpFile Dump file from which the graph is built (null to read the graph file).
+   * @return Graph of links (null if not available).
+   */
+  private LinkGraph getLinkGraph(File graphFile, File dumpFile) {
+    try {
+      if (dumpFile == null) {
+        return LinkGraph.read(graphFile);
+      }
+      LinkGraph graph = LinkGraphBuilder.build(wiki, dumpFile);
+      if (graphFile != null) {
+        graph.write(graphFile);
+      }
+      return graph;
+    } catch (IOException e) {
+      log.error("Unable to retrieve graph of links", e);
+      return null;
+    }
+  }
+
+  /**
+   * Retrieve the offline store of pages of a dump.
+   * 
+   * @param dumpFile Dump file.
+   * @return Offline store of pages (null if not available).
+   */
+  private DumpPageStore getPageStore(File dumpFile) {
+    if (dumpFile == null) {
+      return null;
+    }
+    try {
+      return DumpPageStore.create(dumpFile);
+    } catch (IOException e) {
+      log.error("Unable to read index of dump", e);
+      return null;
+    }
+  }
+
   /**
    * @param path Path to the dump file.
    * @return Dump file.
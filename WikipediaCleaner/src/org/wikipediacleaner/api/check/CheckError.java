@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 
 import org.wikipediacleaner.api.check.algorithm.CheckErrorAlgorithm;
 import org.wikipediacleaner.api.check.algorithm.CheckErrorAlgorithms;
+import org.wikipediacleaner.api.check.algorithm.CheckErrorPrefilters;
 import org.wikipediacleaner.api.constants.CWConfigurationError;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.data.DataManager;
@@ -57,6 +58,31 @@ public class CheckError {
     if ((algorithms != null) &&
         (pageAnalysis != null) &&
         (pageAnalysis.getContents() != null)) {
+      List<CheckErrorAlgorithm> activeAlgorithms = new ArrayList<CheckErrorAlgorithm>();
+      for (CheckErrorAlgorithm algorithm : algorithms) {
+        if ((algorithm != null) &&
+            (algorithm.isAvailable()) &&
+            (CWConfigurationError.isPriorityActive(algorithm.getPriority()))) {
+          activeAlgorithms.add(algorithm);
+        }
+      }
+
+      // Algorithms which can't find errors in the page contents are skipped
+      List<CheckErrorAlgorithm> possibleAlgorithms =
+          getPrefilters(activeAlgorithms).getPossibleAlgorithms(pageAnalysis.getContents());
+      for (CheckErrorAlgorithm algorithm : activeAlgorithms) {
+        if (pageAnalysis.getCheckWikiErrors(algorithm.getErrorNumber()) != null) {
+          possibleAlgorithms.remove(algorithm);
+        } else if (!possibleAlgorithms.contains(algorithm)) {
+          pageAnalysis.setCheckWikiErrors(
+              algorithm.getErrorNumber(), false, new ArrayList<CheckErrorResult>());
+        }
+      }
+      pageAnalysis.performPageAnalysis(
+          CheckErrorAlgorithms.getRequiredFamilies(possibleAlgorithms), null);
+      if (perf != null) {
+        perf.printStep("Page analysis");
+      }
       for (CheckErrorAlgorithm algorithm : algorithms) {
         if ((algorithm != null) &&
             (algorithm.isAvailable()) &&
@@ -93,6 +119,30 @@ public class CheckError {
     return errorsFound;
   }
 
+  /** Algorithms of the last prefilters */
+  private static List<CheckErrorAlgorithm> prefiltersAlgorithms;
+
+  /** Last prefilters */
+  private static CheckErrorPrefilters prefilters;
+
+  /**
+   * Retrieve the prefilters of a list of algorithms.
+   * 
+   * <p>The prefilters are kept as long as the same algorithms are used,
+   * to avoid building them again for each page.</p>
+   * 
+   * @param algorithms Algorithms.
+   * @return Prefilters of the algorithms.
+   */
+  private static synchronized CheckErrorPrefilters getPrefilters(
+      List<CheckErrorAlgorithm> algorithms) {
+    if ((prefilters == null) || !algorithms.equals(prefiltersAlgorithms)) {
+      prefiltersAlgorithms = algorithms;
+      prefilters = new CheckErrorPrefilters(algorithms);
+    }
+    return prefilters;
+  }
+
   /**
    * Analyze a page to find errors of a given type.
    * 
@@ -427,9 +477,11 @@ public class CheckError {
       return false;
     }
     boolean removed = false;
+    String title = (wikipedia != null) ?
+        wikipedia.normalizeTitle(page.getTitle()) : page.getTitle();
     synchronized (errors) {
       for (int i = errors.size(); i > 0; i--) {
-        if (Page.areSameTitle(page.getTitle(), errors.get(i - 1).getTitle())) {
+        if (Page.areSameTitle(wikipedia, title, errors.get(i - 1).getTitle())) {
           errors.remove(i - 1);
           removed = true;
         }
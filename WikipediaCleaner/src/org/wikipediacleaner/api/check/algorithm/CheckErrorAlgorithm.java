@@ -10,12 +10,14 @@ package org.wikipediacleaner.api.check.algorithm;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.constants.CWConfigurationError;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 
 
@@ -129,6 +131,16 @@ public interface CheckErrorAlgorithm {
    */
   public boolean analyze(PageAnalysis analysis, Collection<CheckErrorResult> errors, boolean onlyAutomatic);
 
+  /**
+   * @return Families of elements used by the analysis of a page.
+   */
+  public Set<PageElementFamily> getRequiredFamilies();
+
+  /**
+   * @return Prefilter on the page contents (null if the algorithm has no prefilter).
+   */
+  public CheckErrorPrefilter getPrefilter();
+
   /**
    * Return the parameters used to configure the algorithm.
    * 
@@ -14,6 +14,7 @@ import org.wikipediacleaner.api.constants.WikiConfiguration;
 import org.wikipediacleaner.api.data.MagicWord;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.i18n.GT;
 
@@ -26,6 +27,7 @@ public class CheckErrorAlgorithm001 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm001() {
     super("Template namespace in template usage");
+    addRequiredFamilies(PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -16,6 +16,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementComment;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTag.Parameter;
 import org.wikipediacleaner.gui.swing.component.MWPane;
@@ -36,6 +37,7 @@ public class CheckErrorAlgorithm002 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm002() {
     super("Article with incorrect tags");
+    addRequiredFamilies(PageElementFamily.COMMENT, PageElementFamily.TAG);
   }
 
   /**
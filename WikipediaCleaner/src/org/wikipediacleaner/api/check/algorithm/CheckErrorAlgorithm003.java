@@ -16,6 +16,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.i18n.GT;
@@ -28,6 +29,7 @@ public class CheckErrorAlgorithm003 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm003() {
     super("Article with <ref> and no <references />");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -15,6 +15,7 @@ import org.wikipediacleaner.api.constants.ArticleUrl;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementTag;
 
@@ -27,6 +28,8 @@ public class CheckErrorAlgorithm004 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm004() {
     super("<a> tags");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_HTML_A);
   }
 
   /**
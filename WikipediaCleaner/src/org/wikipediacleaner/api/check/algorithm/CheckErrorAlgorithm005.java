@@ -22,6 +22,7 @@ public class CheckErrorAlgorithm005 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm005() {
     super("Found a comment \"<!--\" with no \"-->\" end.");
+    addRequiredFamilies();
   }
 
   /**
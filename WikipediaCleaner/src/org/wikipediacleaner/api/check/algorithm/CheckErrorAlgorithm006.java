@@ -14,6 +14,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.SpecialCharacters;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
@@ -33,6 +34,7 @@ public class CheckErrorAlgorithm006 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm006() {
     super("DEFAULTSORT with special letters");
+    addRequiredFamilies(PageElementFamily.FUNCTION);
   }
 
   /**
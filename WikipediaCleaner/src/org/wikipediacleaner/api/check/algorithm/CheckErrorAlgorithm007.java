@@ -11,7 +11,9 @@ import java.util.Collection;
 import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
+import org.wikipediacleaner.api.data.ContentsEditBuilder;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
 
@@ -23,6 +25,7 @@ public class CheckErrorAlgorithm007 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm007() {
     super("Headlines all start with three \"=\"");
+    addRequiredFamilies(PageElementFamily.TITLE);
   }
 
   /**
@@ -96,25 +99,17 @@ public class CheckErrorAlgorithm007 extends CheckErrorAlgorithmBase {
     }
 
     // Replace titles
-    StringBuilder tmp = new StringBuilder();
-    int lastIndex = 0;
+    ContentsEditBuilder builder = new ContentsEditBuilder(contents);
     int offset = minTitle - 2;
     for (PageElementTitle title : titles) {
-      if (lastIndex < title.getBeginIndex()) {
-        tmp.append(contents.substring(lastIndex, title.getBeginIndex()));
-        lastIndex = title.getBeginIndex();
-      }
-      tmp.append(PageElementTitle.createTitle(
-          title.getLevel() - offset, title.getTitle(), title.getAfterTitle()));
+      String newTitle = PageElementTitle.createTitle(
+          title.getLevel() - offset, title.getTitle(), title.getAfterTitle());
       if (title.getAfterTitle() != null) {
-        tmp.append(title.getAfterTitle());
+        newTitle += title.getAfterTitle();
       }
-      lastIndex = title.getEndIndex();
-    }
-    if (lastIndex < contents.length()) {
-      tmp.append(contents.substring(lastIndex));
+      builder.addEdit(title.getBeginIndex(), title.getEndIndex(), newTitle);
     }
 
-    return tmp.toString();
+    return builder.getContents();
   }
 }
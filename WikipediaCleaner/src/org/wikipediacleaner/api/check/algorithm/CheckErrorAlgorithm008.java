@@ -11,6 +11,7 @@ import java.util.Collection;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
@@ -23,6 +24,8 @@ public class CheckErrorAlgorithm008 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm008() {
     super("Headline should end with \"=\"");
+    addRequiredFamilies(
+        PageElementFamily.COMMENT, PageElementFamily.TAG, PageElementFamily.TITLE);
   }
 
   /**
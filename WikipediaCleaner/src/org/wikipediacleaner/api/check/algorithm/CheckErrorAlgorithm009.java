@@ -14,6 +14,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.MagicWord;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 
@@ -26,6 +27,9 @@ public class CheckErrorAlgorithm009 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm009() {
     super("Categories more at one line");
+    addRequiredFamilies(
+        PageElementFamily.CATEGORY, PageElementFamily.FUNCTION,
+        PageElementFamily.TEMPLATE);
   }
 
   /**
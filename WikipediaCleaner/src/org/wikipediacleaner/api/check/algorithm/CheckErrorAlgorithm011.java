@@ -14,6 +14,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.HtmlCharacters;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 
@@ -31,6 +32,7 @@ public class CheckErrorAlgorithm011 extends CheckErrorAlgorithmHtmlNamedEntities
 
   public CheckErrorAlgorithm011() {
     super("HTML named entities");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.TEMPLATE);
     htmlCharacters = new ArrayList<HtmlCharacters>();
     htmlCharacters.add(HtmlCharacters.LETTER_SMALL_A_ACUTE_ACCENT);         // &aacute;
     htmlCharacters.add(HtmlCharacters.LETTER_CAPITAL_A_ACUTE_ACCENT);       // &Aacute;
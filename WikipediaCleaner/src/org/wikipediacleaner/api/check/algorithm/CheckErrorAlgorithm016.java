@@ -15,6 +15,7 @@ import java.util.Map;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.HtmlCharacters;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
@@ -35,6 +36,10 @@ public class CheckErrorAlgorithm016 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm016() {
     super("Unicode control characters");
+    addRequiredFamilies(PageElementFamily.TEMPLATE);
+    for (ControlCharacter control : ControlCharacter.values()) {
+      addPrefilterCharacters(control.begin, control.end);
+    }
   }
 
   /**
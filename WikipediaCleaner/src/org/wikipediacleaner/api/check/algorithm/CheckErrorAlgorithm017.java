@@ -18,6 +18,7 @@ import org.wikipediacleaner.api.constants.EnumCaseSensitiveness;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
@@ -38,6 +39,7 @@ public class CheckErrorAlgorithm017 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm017() {
     super("Category duplication");
+    addRequiredFamilies(PageElementFamily.CATEGORY, PageElementFamily.TITLE);
   }
 
   /**
@@ -13,6 +13,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
 
@@ -32,6 +33,7 @@ public class CheckErrorAlgorithm018 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm018() {
     super("Category first letter small");
+    addRequiredFamilies(PageElementFamily.CATEGORY);
   }
 
   /**
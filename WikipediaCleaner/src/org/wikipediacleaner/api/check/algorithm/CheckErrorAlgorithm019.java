@@ -11,7 +11,9 @@ import java.util.Collection;
 import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
+import org.wikipediacleaner.api.data.ContentsEditBuilder;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
 
@@ -23,6 +25,7 @@ public class CheckErrorAlgorithm019 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm019() {
     super("Headlines start with one \"=\"");
+    addRequiredFamilies(PageElementFamily.TITLE);
   }
 
   /**
@@ -91,30 +94,22 @@ public class CheckErrorAlgorithm019 extends CheckErrorAlgorithmBase {
     }
 
     // Replace titles
-    StringBuilder tmp = new StringBuilder();
-    int lastIndex = 0;
+    ContentsEditBuilder builder = new ContentsEditBuilder(contents);
     boolean found = false;
     for (PageElementTitle title : titles) {
       if (!found && title.getLevel() == 1) {
         found = true;
       }
       if (found) {
-        if (lastIndex < title.getBeginIndex()) {
-          tmp.append(contents.substring(lastIndex, title.getBeginIndex()));
-          lastIndex = title.getBeginIndex();
-        }
-        tmp.append(PageElementTitle.createTitle(
-            title.getLevel() + 1, title.getTitle(), title.getAfterTitle()));
+        String newTitle = PageElementTitle.createTitle(
+            title.getLevel() + 1, title.getTitle(), title.getAfterTitle());
         if (title.getAfterTitle() != null) {
-          tmp.append(title.getAfterTitle());
+          newTitle += title.getAfterTitle();
         }
-        lastIndex = title.getEndIndex();
+        builder.addEdit(title.getBeginIndex(), title.getEndIndex(), newTitle);
       }
     }
-    if (lastIndex < contents.length()) {
-      tmp.append(contents.substring(lastIndex));
-    }
 
-    return tmp.toString();
+    return builder.getContents();
   }
 }
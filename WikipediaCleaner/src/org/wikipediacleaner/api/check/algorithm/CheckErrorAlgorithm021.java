@@ -17,6 +17,7 @@ import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.i18n.GT;
 
 
@@ -28,6 +29,7 @@ public class CheckErrorAlgorithm021 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm021() {
     super("Category is English");
+    addRequiredFamilies(PageElementFamily.CATEGORY);
   }
 
   /**
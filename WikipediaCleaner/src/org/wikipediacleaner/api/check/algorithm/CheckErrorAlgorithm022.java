@@ -15,6 +15,7 @@ import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
 
@@ -34,6 +35,7 @@ public class CheckErrorAlgorithm022 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm022() {
     super("Category with space");
+    addRequiredFamilies(PageElementFamily.CATEGORY);
   }
 
   /**
@@ -12,7 +12,9 @@ import java.util.List;
 import java.util.Vector;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
+import org.wikipediacleaner.api.data.ContentsEditBuilder;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
 
@@ -24,6 +26,7 @@ public class CheckErrorAlgorithm025 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm025() {
     super("Headline hierarchy");
+    addRequiredFamilies(PageElementFamily.TITLE);
   }
 
   /**
@@ -78,8 +81,7 @@ public class CheckErrorAlgorithm025 extends CheckErrorAlgorithmBase {
     }
 
     // Replace titles
-    StringBuilder tmp = new StringBuilder();
-    int lastIndex = 0;
+    ContentsEditBuilder builder = new ContentsEditBuilder(contents);
     Vector<Integer> offsets = new Vector<Integer>();
     List<PageElementTitle> titles = analysis.getTitles();
     for (int index = 0; index < titles.size(); index++) {
@@ -96,16 +98,12 @@ public class CheckErrorAlgorithm025 extends CheckErrorAlgorithmBase {
 
       // Replace title if needed
       if (offset > 0) {
-        if (lastIndex < title.getBeginIndex()) {
-          tmp.append(contents.substring(lastIndex, title.getBeginIndex()));
-          lastIndex = title.getBeginIndex();
-        }
-        tmp.append(PageElementTitle.createTitle(
-            title.getLevel() - offset, title.getTitle(), title.getAfterTitle()));
+        String newTitle = PageElementTitle.createTitle(
+            title.getLevel() - offset, title.getTitle(), title.getAfterTitle());
         if (title.getAfterTitle() != null) {
-          tmp.append(title.getAfterTitle());
+          newTitle += title.getAfterTitle();
         }
-        lastIndex = title.getEndIndex();
+        builder.addEdit(title.getBeginIndex(), title.getEndIndex(), newTitle);
       }
 
       // Compute level offset
@@ -124,13 +122,7 @@ public class CheckErrorAlgorithm025 extends CheckErrorAlgorithmBase {
         offsets.add(Integer.valueOf(titles.get(index + 1).getLevel() - title.getLevel() - 1));
       }
     }
-    if (lastIndex == 0) {
-      return contents;
-    }
-    if (lastIndex < contents.length()) {
-      tmp.append(contents.substring(lastIndex));
-    }
 
-    return tmp.toString();
+    return builder.getContents();
   }
 }
@@ -13,6 +13,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.HtmlCharacters;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
 
@@ -32,6 +33,7 @@ public class CheckErrorAlgorithm027 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm027() {
     super("Unicode syntax");
+    addRequiredFamilies(PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -16,6 +16,7 @@ import java.util.Map;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.i18n.GT;
@@ -29,6 +30,8 @@ public class CheckErrorAlgorithm028 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm028() {
     super("Table not correct end");
+    addRequiredFamilies(
+        PageElementFamily.COMMENT, PageElementFamily.TAG, PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -23,6 +24,8 @@ public class CheckErrorAlgorithm029 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm029() {
     super("Gallery not correct end");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_WIKI_GALLERY);
   }
 
   /**
@@ -15,6 +15,7 @@ import org.wikipediacleaner.api.check.SimpleAction;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.data.MagicWord;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 import org.wikipediacleaner.gui.swing.action.ActionExternalViewer;
 import org.wikipediacleaner.i18n.GT;
@@ -36,6 +37,7 @@ public class CheckErrorAlgorithm030 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm030() {
     super("Image without description");
+    addRequiredFamilies(PageElementFamily.IMAGE);
     descriptionChecker = new StringCheckerUnauthorizedCharacters("[]|=");
   }
 
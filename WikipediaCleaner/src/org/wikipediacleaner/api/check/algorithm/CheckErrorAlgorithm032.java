@@ -14,6 +14,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 
 
@@ -25,6 +26,7 @@ public class CheckErrorAlgorithm032 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm032() {
     super("Double pipe in one link");
+    addRequiredFamilies(PageElementFamily.INTERNAL_LINK);
   }
 
   /**
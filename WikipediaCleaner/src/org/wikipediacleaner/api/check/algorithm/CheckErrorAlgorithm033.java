@@ -14,6 +14,7 @@ import java.util.Map;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.i18n.GT;
 
@@ -26,6 +27,8 @@ public class CheckErrorAlgorithm033 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm033() {
     super("HTML text style element <u>");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_HTML_U);
   }
 
   /**
@@ -15,6 +15,7 @@ import org.wikipediacleaner.api.data.MagicWord;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementMagicWord;
 import org.wikipediacleaner.api.data.PageElementParameter;
@@ -30,6 +31,9 @@ public class CheckErrorAlgorithm034 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm034() {
     super("Template programming element");
+    addRequiredFamilies(
+        PageElementFamily.TAG, PageElementFamily.FUNCTION, PageElementFamily.MAGIC_WORD,
+        PageElementFamily.PARAMETER, PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.Collection;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.MagicWord;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm036 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm036() {
     super("Redirect not correct");
+    addRequiredFamilies(PageElementFamily.INTERNAL_LINK);
   }
 
   /**
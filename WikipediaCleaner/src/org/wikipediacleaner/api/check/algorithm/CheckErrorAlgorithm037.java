@@ -18,6 +18,7 @@ import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.api.data.PageElementTitle;
@@ -32,6 +33,9 @@ public class CheckErrorAlgorithm037 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm037() {
     super("Title with special letters and no DEFAULTSORT");
+    addRequiredFamilies(
+        PageElementFamily.CATEGORY, PageElementFamily.FUNCTION,
+        PageElementFamily.TEMPLATE, PageElementFamily.TITLE);
   }
 
   /**
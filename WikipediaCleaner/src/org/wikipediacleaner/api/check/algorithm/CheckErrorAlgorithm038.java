@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.i18n.GT;
 
@@ -24,6 +25,8 @@ public class CheckErrorAlgorithm038 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm038() {
     super("HTML text style element <i>");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_HTML_I);
   }
 
   /**
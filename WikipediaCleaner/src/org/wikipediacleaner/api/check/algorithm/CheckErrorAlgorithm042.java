@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -24,6 +25,8 @@ public class CheckErrorAlgorithm042 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm042() {
     super("<strike> tags");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_HTML_STRIKE);
   }
 
   /**
@@ -11,6 +11,7 @@ import java.util.Collection;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.i18n.GT;
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm042_Old extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm042_Old() {
     super("HTML text style element <small>");
+    addRequiredFamilies(PageElementFamily.TAG);
   }
 
   /**
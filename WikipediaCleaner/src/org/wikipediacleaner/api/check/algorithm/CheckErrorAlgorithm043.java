@@ -12,6 +12,7 @@ import java.util.Collection;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -26,6 +27,9 @@ public class CheckErrorAlgorithm043 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm043() {
     super("Template not correct end");
+    addRequiredFamilies(
+        PageElementFamily.COMMENT, PageElementFamily.TAG, PageElementFamily.CATEGORY,
+        PageElementFamily.FUNCTION, PageElementFamily.TEMPLATE);
   }
 
   /**
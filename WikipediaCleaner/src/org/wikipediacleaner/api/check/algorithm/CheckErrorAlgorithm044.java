@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.constants.WPCConfigurationString;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.api.data.PageElementTitle;
 import org.wikipediacleaner.gui.swing.component.MWPane;
@@ -34,6 +35,7 @@ public class CheckErrorAlgorithm044 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm044() {
     super("Headlines with bold");
+    addRequiredFamilies(PageElementFamily.TITLE);
   }
 
   /**
@@ -16,6 +16,7 @@ import java.util.Map;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementLanguageLink;
 import org.wikipediacleaner.api.data.PageElementTitle;
 import org.wikipediacleaner.gui.swing.component.MWPane;
@@ -37,6 +38,9 @@ public class CheckErrorAlgorithm045 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm045() {
     super("Interwiki double");
+    addRequiredFamilies(
+        PageElementFamily.CATEGORY, PageElementFamily.LANGUAGE_LINK,
+        PageElementFamily.TITLE);
   }
 
   /**
@@ -13,6 +13,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementInterwikiLink;
@@ -30,6 +31,11 @@ public class CheckErrorAlgorithm046 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm046() {
     super("Square brackets not correct begin");
+    addRequiredFamilies(
+        PageElementFamily.COMMENT, PageElementFamily.TAG, PageElementFamily.CATEGORY,
+        PageElementFamily.IMAGE, PageElementFamily.INTERNAL_LINK,
+        PageElementFamily.INTERWIKI_LINK, PageElementFamily.LANGUAGE_LINK,
+        PageElementFamily.TEMPLATE, PageElementFamily.EXTERNAL_LINK);
   }
 
   /**
@@ -13,6 +13,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -27,6 +28,10 @@ public class CheckErrorAlgorithm047 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm047() {
     super("Template not correct begin");
+    addRequiredFamilies(
+        PageElementFamily.COMMENT, PageElementFamily.TAG, PageElementFamily.CATEGORY,
+        PageElementFamily.FUNCTION, PageElementFamily.TEMPLATE,
+        PageElementFamily.EXTERNAL_LINK);
   }
 
   /**
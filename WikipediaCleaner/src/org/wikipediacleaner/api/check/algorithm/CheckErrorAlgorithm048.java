@@ -15,6 +15,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.constants.WPCConfigurationString;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -39,6 +40,9 @@ public class CheckErrorAlgorithm048 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm048() {
     super("Title linked in text");
+    addRequiredFamilies(
+        PageElementFamily.TAG, PageElementFamily.INTERNAL_LINK,
+        PageElementFamily.TITLE);
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
@@ -39,6 +40,7 @@ public class CheckErrorAlgorithm049 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm049() {
     super("Headline with HTML");
+    addRequiredFamilies(PageElementFamily.TAG);
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementLanguageLink;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
@@ -24,6 +25,7 @@ public class CheckErrorAlgorithm051 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm051() {
     super("Interwiki before last headline");
+    addRequiredFamilies(PageElementFamily.LANGUAGE_LINK, PageElementFamily.TITLE);
   }
 
   /**
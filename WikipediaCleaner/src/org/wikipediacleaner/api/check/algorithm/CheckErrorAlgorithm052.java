@@ -12,6 +12,7 @@ import java.util.Collection;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm052 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm052() {
     super("Category before last headline");
+    addRequiredFamilies(PageElementFamily.CATEGORY, PageElementFamily.TITLE);
   }
 
   /**
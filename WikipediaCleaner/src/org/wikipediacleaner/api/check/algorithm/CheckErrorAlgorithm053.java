@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementLanguageLink;
 
 
@@ -24,6 +25,7 @@ public class CheckErrorAlgorithm053 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm053() {
     super("Interwiki before last category");
+    addRequiredFamilies(PageElementFamily.CATEGORY, PageElementFamily.LANGUAGE_LINK);
   }
 
   /**
@@ -15,6 +15,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementInterwikiLink;
@@ -38,6 +39,10 @@ public class CheckErrorAlgorithm054 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm054() {
     super("Break in list");
+    addRequiredFamilies(
+        PageElementFamily.TAG, PageElementFamily.CATEGORY, PageElementFamily.IMAGE,
+        PageElementFamily.INTERNAL_LINK, PageElementFamily.INTERWIKI_LINK,
+        PageElementFamily.EXTERNAL_LINK);
   }
 
   /**
@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -28,6 +29,8 @@ public class CheckErrorAlgorithm055 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm055() {
     super("HTML text style element <small> double");
+    addRequiredFamilies(
+        PageElementFamily.TAG, PageElementFamily.FUNCTION, PageElementFamily.TEMPLATE);
   }
 
   /** Closing small tag */
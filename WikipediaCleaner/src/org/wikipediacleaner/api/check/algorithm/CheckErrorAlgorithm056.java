@@ -12,6 +12,7 @@ import java.util.Collection;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementComment;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm056 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm056() {
     super("Arrow as ASCII art");
+    addRequiredFamilies(PageElementFamily.COMMENT, PageElementFamily.TAG);
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm058 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm058() {
     super("Headline ALL CAPS");
+    addRequiredFamilies(PageElementFamily.TITLE);
   }
 
   /**
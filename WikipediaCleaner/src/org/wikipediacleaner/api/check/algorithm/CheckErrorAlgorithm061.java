@@ -18,6 +18,7 @@ import org.wikipediacleaner.api.check.SpecialCharacters;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElement;
 import org.wikipediacleaner.api.data.PageElementComparator;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFullTag;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -32,6 +33,7 @@ public class CheckErrorAlgorithm061 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm061() {
     super("Reference before punctuation");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.TEMPLATE);
   }
 
   /**
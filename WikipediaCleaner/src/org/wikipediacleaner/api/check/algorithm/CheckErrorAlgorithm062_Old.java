@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm062_Old extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm062_Old() {
     super("Headline alone");
+    addRequiredFamilies(PageElementFamily.TITLE);
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -23,6 +24,8 @@ public class CheckErrorAlgorithm063 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm063() {
     super("HTML text style element <small> in ref, sub or sup");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_HTML_SMALL);
   }
 
   /**
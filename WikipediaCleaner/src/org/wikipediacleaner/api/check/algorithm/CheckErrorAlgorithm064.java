@@ -16,6 +16,7 @@ import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.constants.WPCConfigurationString;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -42,6 +43,7 @@ public class CheckErrorAlgorithm064 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm064() {
     super("Link equal to linktext");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.INTERNAL_LINK);
   }
 
   /**
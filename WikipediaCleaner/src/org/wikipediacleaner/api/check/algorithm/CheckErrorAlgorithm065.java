@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementImage.Parameter;
@@ -26,6 +27,7 @@ public class CheckErrorAlgorithm065 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm065() {
     super("Image description with break");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.IMAGE);
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.gui.swing.component.MWPane;
@@ -33,6 +34,7 @@ public class CheckErrorAlgorithm066 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm066() {
     super("Image description with full <small>.");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.IMAGE);
   }
 
   /**
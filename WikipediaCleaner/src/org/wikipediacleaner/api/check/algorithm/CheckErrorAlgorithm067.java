@@ -19,6 +19,7 @@ import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.constants.WPCConfigurationStringList;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementComment;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.i18n.GT;
 
@@ -31,6 +32,7 @@ public class CheckErrorAlgorithm067 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm067() {
     super("Reference after punctuation");
+    addRequiredFamilies(PageElementFamily.COMMENT, PageElementFamily.TAG);
   }
 
   /**
@@ -22,6 +22,7 @@ import org.wikipediacleaner.api.check.CheckLanguageLinkActionProvider;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementInterwikiLink;
 import org.wikipediacleaner.gui.swing.action.ActionExternalViewer;
@@ -52,6 +53,7 @@ public class CheckErrorAlgorithm068 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm068() {
     super("Link to other language");
+    addRequiredFamilies(PageElementFamily.INTERWIKI_LINK);
     checker = new StringCheckerUnauthorizedCharacters("[]\"");
   }
 
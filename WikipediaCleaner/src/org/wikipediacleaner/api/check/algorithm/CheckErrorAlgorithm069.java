@@ -20,6 +20,7 @@ import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElement;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementISBN;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
@@ -38,6 +39,11 @@ public class CheckErrorAlgorithm069 extends CheckErrorAlgorithmISBN {
 
   public CheckErrorAlgorithm069() {
     super("ISBN wrong syntax");
+    addRequiredFamilies(
+        PageElementFamily.TAG, PageElementFamily.FUNCTION,
+        PageElementFamily.INTERNAL_LINK, PageElementFamily.INTERWIKI_LINK,
+        PageElementFamily.TEMPLATE, PageElementFamily.EXTERNAL_LINK,
+        PageElementFamily.ISBN);
   }
 
   /** List of strings that could be before an ISBN in <nowiki>. */
@@ -17,6 +17,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.SimpleAction;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementISBN;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -33,6 +34,8 @@ public class CheckErrorAlgorithm070 extends CheckErrorAlgorithmISBN {
 
   public CheckErrorAlgorithm070() {
     super("ISBN wrong length");
+    addRequiredFamilies(
+        PageElementFamily.FUNCTION, PageElementFamily.TEMPLATE, PageElementFamily.ISBN);
   }
 
   /**
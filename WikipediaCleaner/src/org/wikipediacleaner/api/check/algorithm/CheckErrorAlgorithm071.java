@@ -14,6 +14,7 @@ import java.util.Map;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementISBN;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -29,6 +30,8 @@ public class CheckErrorAlgorithm071 extends CheckErrorAlgorithmISBN {
 
   public CheckErrorAlgorithm071() {
     super("ISBN wrong position of X");
+    addRequiredFamilies(
+        PageElementFamily.FUNCTION, PageElementFamily.TEMPLATE, PageElementFamily.ISBN);
   }
 
   /**
@@ -17,6 +17,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.SimpleAction;
 import org.wikipediacleaner.api.data.ISBNRange;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementISBN;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.api.data.ISBNRange.ISBNInformation;
@@ -32,6 +33,7 @@ public class CheckErrorAlgorithm072 extends CheckErrorAlgorithmISBN {
 
   public CheckErrorAlgorithm072() {
     super("ISBN wrong checksum in ISBN-10");
+    addRequiredFamilies(PageElementFamily.TEMPLATE, PageElementFamily.ISBN);
   }
 
   /**
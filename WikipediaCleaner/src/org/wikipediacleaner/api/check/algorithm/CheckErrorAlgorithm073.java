@@ -17,6 +17,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.SimpleAction;
 import org.wikipediacleaner.api.data.ISBNRange;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementISBN;
 import org.wikipediacleaner.api.data.PageElementISSN;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -33,6 +34,7 @@ public class CheckErrorAlgorithm073 extends CheckErrorAlgorithmISBN {
 
   public CheckErrorAlgorithm073() {
     super("ISBN wrong checksum in ISBN-13");
+    addRequiredFamilies(PageElementFamily.TEMPLATE, PageElementFamily.ISBN);
   }
 
   /**
@@ -11,6 +11,7 @@ import java.util.Collection;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 
 
@@ -22,6 +23,7 @@ public class CheckErrorAlgorithm074 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm074() {
     super("Link with no target");
+    addRequiredFamilies(PageElementFamily.INTERNAL_LINK);
   }
 
   /**
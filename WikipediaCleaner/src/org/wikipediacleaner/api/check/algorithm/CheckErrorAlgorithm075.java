@@ -21,6 +21,7 @@ public class CheckErrorAlgorithm075 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm075() {
     super("Indented list");
+    addRequiredFamilies();
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.Collection;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
@@ -32,6 +33,8 @@ public class CheckErrorAlgorithm076 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm076() {
     super("Link with no space");
+    addRequiredFamilies(
+        PageElementFamily.INTERNAL_LINK, PageElementFamily.EXTERNAL_LINK);
   }
 
   /**
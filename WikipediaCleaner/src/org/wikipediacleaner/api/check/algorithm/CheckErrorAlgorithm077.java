@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.i18n.GT;
@@ -25,6 +26,7 @@ public class CheckErrorAlgorithm077 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm077() {
     super("Image description with partial <small>");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.IMAGE);
   }
 
   /**
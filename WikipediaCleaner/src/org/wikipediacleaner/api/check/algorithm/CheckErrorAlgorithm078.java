@@ -25,6 +25,7 @@ import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElement;
 import org.wikipediacleaner.api.data.PageElementComparator;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.i18n.GT;
@@ -41,6 +42,7 @@ public class CheckErrorAlgorithm078 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm078() {
     super("Reference double");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.TEMPLATE);
   }
 
   /**
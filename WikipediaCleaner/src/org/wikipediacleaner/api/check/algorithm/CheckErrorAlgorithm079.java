@@ -14,6 +14,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.SimpleAction;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.gui.swing.action.ActionExternalViewer;
@@ -36,6 +37,9 @@ public class CheckErrorAlgorithm079 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm079() {
     super("External link without description");
+    addRequiredFamilies(
+        PageElementFamily.TAG, PageElementFamily.TEMPLATE,
+        PageElementFamily.EXTERNAL_LINK);
     descriptionChecker = new StringCheckerUnauthorizedCharacters("[]");
   }
 
@@ -12,6 +12,7 @@ import java.util.Collection;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm080 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm080() {
     super("External link with line break");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.EXTERNAL_LINK);
   }
 
   /**
@@ -23,6 +23,7 @@ import org.wikipediacleaner.api.check.SimpleAction;
 import org.wikipediacleaner.api.constants.WPCConfigurationStringList;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTag.Parameter;
 import org.wikipediacleaner.gui.swing.action.ActionExternalViewer;
@@ -55,6 +56,7 @@ public class CheckErrorAlgorithm081 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm081() {
     super("Reference duplication");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.EXTERNAL_LINK);
     nameChecker = new StringCheckerReferenceName();
   }
 
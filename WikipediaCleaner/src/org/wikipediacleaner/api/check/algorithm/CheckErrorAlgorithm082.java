@@ -11,6 +11,7 @@ import java.util.Collection;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInterwikiLink;
 
 
@@ -22,6 +23,7 @@ public class CheckErrorAlgorithm082 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm082() {
     super("Link to other wikiproject");
+    addRequiredFamilies(PageElementFamily.INTERWIKI_LINK);
   }
 
   /**
@@ -15,6 +15,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementComment;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 import org.wikipediacleaner.i18n.GT;
 
@@ -27,6 +28,7 @@ public class CheckErrorAlgorithm084 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm084() {
     super("Section without content");
+    addRequiredFamilies(PageElementFamily.COMMENT, PageElementFamily.TITLE);
   }
 
   /**
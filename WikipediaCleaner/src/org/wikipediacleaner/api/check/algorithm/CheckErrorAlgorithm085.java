@@ -16,6 +16,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementComment;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTag.Parameter;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -47,6 +48,7 @@ public class CheckErrorAlgorithm085 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm085() {
     super("Tag without content");
+    addRequiredFamilies(PageElementFamily.COMMENT, PageElementFamily.TAG);
   }
 
   /**
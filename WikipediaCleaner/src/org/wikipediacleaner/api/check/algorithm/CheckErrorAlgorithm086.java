@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 
 
 /**
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm086 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm086() {
     super("External link with two brackets");
+    addRequiredFamilies(PageElementFamily.EXTERNAL_LINK);
   }
 
   /**
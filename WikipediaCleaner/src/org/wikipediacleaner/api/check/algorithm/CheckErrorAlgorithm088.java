@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
@@ -32,6 +33,7 @@ public class CheckErrorAlgorithm088 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm088() {
     super("DEFAULTSORT with blank at first position");
+    addRequiredFamilies(PageElementFamily.FUNCTION);
   }
 
   /**
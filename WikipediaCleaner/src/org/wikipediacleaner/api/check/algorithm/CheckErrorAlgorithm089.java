@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm089 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm089() {
     super("DEFAULTSORT with no space after the comma");
+    addRequiredFamilies(PageElementFamily.FUNCTION);
   }
 
   /**
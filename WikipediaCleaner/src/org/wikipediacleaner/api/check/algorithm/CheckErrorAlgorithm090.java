@@ -22,6 +22,7 @@ import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementImage.Parameter;
@@ -46,6 +47,9 @@ public class CheckErrorAlgorithm090 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm090() {
     super("Internal link written as external link");
+    addRequiredFamilies(
+        PageElementFamily.TAG, PageElementFamily.IMAGE, PageElementFamily.INTERNAL_LINK,
+        PageElementFamily.TEMPLATE, PageElementFamily.EXTERNAL_LINK);
     checker = new StringCheckerUnauthorizedCharacters("[]\"");
   }
 
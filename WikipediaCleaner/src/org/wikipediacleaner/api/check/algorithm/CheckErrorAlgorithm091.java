@@ -24,6 +24,7 @@ import org.wikipediacleaner.api.data.Interwiki;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
@@ -51,6 +52,10 @@ public class CheckErrorAlgorithm091 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm091() {
     super("Interwiki link written as external link");
+    addRequiredFamilies(
+        PageElementFamily.INTERNAL_LINK, PageElementFamily.TEMPLATE,
+        PageElementFamily.EXTERNAL_LINK);
+    addPrefilterLiterals(false, "//");
     checker = new StringCheckerUnauthorizedCharacters("[]\"");
   }
 
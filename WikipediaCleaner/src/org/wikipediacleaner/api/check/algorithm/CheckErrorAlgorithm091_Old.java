@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementCategory;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.i18n.GT;
 
@@ -25,6 +26,7 @@ public class CheckErrorAlgorithm091_Old extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm091_Old() {
     super("DEFAULTSORT is missing and title with lowercase letters");
+    addRequiredFamilies(PageElementFamily.CATEGORY, PageElementFamily.FUNCTION);
   }
 
   /**
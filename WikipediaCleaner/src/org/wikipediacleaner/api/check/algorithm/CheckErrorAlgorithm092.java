@@ -13,7 +13,9 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
+import org.wikipediacleaner.api.data.ContentsEditBuilder;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
 
@@ -25,6 +27,7 @@ public class CheckErrorAlgorithm092 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm092() {
     super("Headline double");
+    addRequiredFamilies(PageElementFamily.TITLE);
   }
 
   /**
@@ -116,8 +119,7 @@ public class CheckErrorAlgorithm092 extends CheckErrorAlgorithmBase {
     }
 
     // Fix double headlines
-    int lastIndex = 0;
-    StringBuilder buffer = new StringBuilder();
+    ContentsEditBuilder builder = new ContentsEditBuilder(contents);
     for (int i = 1; i < titles.size(); i++) {
       PageElementTitle previousTitle = titles.get(i - 1);
       PageElementTitle currentTitle = titles.get(i);
@@ -142,11 +144,7 @@ public class CheckErrorAlgorithm092 extends CheckErrorAlgorithmBase {
           }
         }
         if (shouldRemove) {
-          if (previousTitle.getBeginIndex() > lastIndex) {
-            buffer.append(contents.substring(lastIndex, previousTitle.getBeginIndex()));
-            lastIndex = previousTitle.getBeginIndex();
-          }
-          lastIndex = currentTitle.getBeginIndex();
+          builder.removeText(previousTitle.getBeginIndex(), currentTitle.getBeginIndex());
         } else {
 
           // Analyze if second title can be removed
@@ -168,21 +166,13 @@ public class CheckErrorAlgorithm092 extends CheckErrorAlgorithmBase {
             }
           }
           if (shouldRemove) {
-            if (currentTitle.getBeginIndex() > lastIndex) {
-              buffer.append(contents.substring(lastIndex, currentTitle.getBeginIndex()));
-              lastIndex = currentTitle.getBeginIndex();
-            }
-            lastIndex = (nextTitle != null) ? nextTitle.getBeginIndex() : contents.length();
+            builder.removeText(
+                currentTitle.getBeginIndex(),
+                (nextTitle != null) ? nextTitle.getBeginIndex() : contents.length());
           }
         }
       }
     }
-    if (lastIndex == 0) {
-      return contents;
-    }
-    if (lastIndex < contents.length()) {
-      buffer.append(contents.substring(lastIndex));
-    }
-    return buffer.toString();
+    return builder.getContents();
   }
 }
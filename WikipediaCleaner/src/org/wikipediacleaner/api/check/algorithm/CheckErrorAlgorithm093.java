@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 
 
 /**
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm093 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm093() {
     super("External link with double http://");
+    addRequiredFamilies(PageElementFamily.EXTERNAL_LINK);
   }
 
   private static String[] possiblePrefixes = {
@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -24,6 +25,8 @@ public class CheckErrorAlgorithm094 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm094() {
     super("Reference tags with no correct match");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_WIKI_REF);
   }
 
   /**
@@ -16,6 +16,7 @@ import org.wikipediacleaner.api.data.DataManager;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 
 
@@ -27,6 +28,7 @@ public class CheckErrorAlgorithm095 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm095() {
     super("Editor's signature or link to user space");
+    addRequiredFamilies(PageElementFamily.INTERNAL_LINK);
   }
 
   /**
@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElement;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
 
@@ -24,6 +25,7 @@ public class CheckErrorAlgorithm097 extends CheckErrorAlgorithmTOC {
 
   public CheckErrorAlgorithm097() {
     super("Material between TOC and first headline");
+    addRequiredFamilies(PageElementFamily.TITLE);
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm100 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm100() {
     super("List tag (<ol>, <ul> or <li>) with no correct match.");
+    addRequiredFamilies(PageElementFamily.TAG);
   }
 
   /**
@@ -16,6 +16,7 @@ import java.util.Map;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.i18n.GT;
 
@@ -28,6 +29,8 @@ public class CheckErrorAlgorithm101 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm101() {
     super("Ordinal numbers found inside <sup> tags");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_HTML_SUP);
   }
 
   /**
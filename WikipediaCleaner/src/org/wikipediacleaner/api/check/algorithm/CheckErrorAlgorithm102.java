@@ -17,6 +17,7 @@ import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementComment;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementPMID;
 import org.wikipediacleaner.api.data.PageElementTag;
@@ -32,6 +33,10 @@ public class CheckErrorAlgorithm102 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm102() {
     super("PMID wrong syntax");
+    addRequiredFamilies(
+        PageElementFamily.COMMENT, PageElementFamily.TAG, PageElementFamily.FUNCTION,
+        PageElementFamily.TEMPLATE, PageElementFamily.EXTERNAL_LINK,
+        PageElementFamily.PMID);
   }
 
   /** List of strings that could be before a PMID in <nowiki>. */
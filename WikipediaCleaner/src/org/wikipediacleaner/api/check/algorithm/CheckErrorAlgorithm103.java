@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.gui.swing.component.MWPane;
@@ -32,6 +33,7 @@ public class CheckErrorAlgorithm103 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm103() {
     super("Unnecessary pipe template");
+    addRequiredFamilies(PageElementFamily.IMAGE, PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -13,6 +13,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTag.Parameter;
 
@@ -25,6 +26,7 @@ public class CheckErrorAlgorithm104 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm104() {
     super("Unbalanced quotes in ref name");
+    addRequiredFamilies(PageElementFamily.COMMENT, PageElementFamily.TAG);
   }
 
   /**
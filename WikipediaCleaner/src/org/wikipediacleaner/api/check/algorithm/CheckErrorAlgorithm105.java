@@ -13,6 +13,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.MagicWord;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -28,6 +29,10 @@ public class CheckErrorAlgorithm105 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm105() {
     super("Headline should start with \"=\"");
+    addRequiredFamilies(
+        PageElementFamily.COMMENT, PageElementFamily.TAG, PageElementFamily.FUNCTION,
+        PageElementFamily.TEMPLATE, PageElementFamily.TITLE,
+        PageElementFamily.EXTERNAL_LINK);
   }
 
   /**
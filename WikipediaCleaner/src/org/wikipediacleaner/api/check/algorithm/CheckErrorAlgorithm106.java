@@ -17,6 +17,7 @@ import org.wikipediacleaner.api.constants.WPCConfigurationStringList;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementFunction;
 import org.wikipediacleaner.api.data.PageElementISSN;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -32,6 +33,8 @@ public class CheckErrorAlgorithm106 extends CheckErrorAlgorithmISSN {
 
   public CheckErrorAlgorithm106() {
     super("ISSN wrong syntax");
+    addRequiredFamilies(
+        PageElementFamily.FUNCTION, PageElementFamily.TEMPLATE, PageElementFamily.ISSN);
   }
 
   /**
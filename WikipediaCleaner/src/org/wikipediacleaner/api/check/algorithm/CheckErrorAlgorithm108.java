@@ -16,6 +16,7 @@ import java.util.Map;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.SimpleAction;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementISSN;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.gui.swing.action.ActionExternalViewer;
@@ -30,6 +31,7 @@ public class CheckErrorAlgorithm108 extends CheckErrorAlgorithmISSN {
 
   public CheckErrorAlgorithm108() {
     super("ISSN wrong checksum");
+    addRequiredFamilies(PageElementFamily.TEMPLATE, PageElementFamily.ISSN);
   }
 
   /**
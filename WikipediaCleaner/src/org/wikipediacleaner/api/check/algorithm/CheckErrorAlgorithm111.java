@@ -16,6 +16,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.i18n.GT;
@@ -28,6 +29,7 @@ public class CheckErrorAlgorithm111 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm111() {
     super("Ref after last reference list");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -16,6 +16,7 @@ import java.util.Map.Entry;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.constants.WPCConfigurationStringList;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTag.Parameter;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -29,6 +30,9 @@ public class CheckErrorAlgorithm112 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm112() {
     super("Bad or deprecated CSS attributes");
+    addRequiredFamilies(
+        PageElementFamily.TAG, PageElementFamily.TEMPLATE,
+        PageElementFamily.EXTERNAL_LINK);
   }
 
   /** List of attributes for each kind of tag */
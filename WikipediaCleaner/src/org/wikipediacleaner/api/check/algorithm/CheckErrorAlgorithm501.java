@@ -31,11 +31,13 @@ import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.api.data.Suggestion;
 import org.wikipediacleaner.api.data.Suggestion.ElementarySuggestion;
+import org.wikipediacleaner.api.data.SuggestionFilter;
 import org.wikipediacleaner.gui.swing.component.MWPaneReplaceAllAction;
 import org.wikipediacleaner.i18n.GT;
 import org.wikipediacleaner.utils.Configuration;
 import org.wikipediacleaner.utils.ConfigurationValueInteger;
 import org.wikipediacleaner.utils.Performance;
+import org.wikipediacleaner.utils.RegexExecution;
 
 
 /**
@@ -85,30 +87,34 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
     Configuration config = Configuration.getConfiguration();
     int slowRegexp = config.getInt(null, ConfigurationValueInteger.SLOW_REGEXP);
 
+    // Find where suggestions may match
+    SuggestionFilter filter = analysis.getWPCConfiguration().getSuggestionFilter();
+    SuggestionFilter.Hits hits = (filter != null) ? filter.find(analysis.getContents()) : null;
+
     // Check spelling in templates
     List<Replacement> replacements = new ArrayList<Replacement>();
     if ((result == false) || (errors != null)) {
-      result |= analyzeTemplates(analysis, activeSuggestions, replacements);
+      result |= analyzeTemplates(analysis, activeSuggestions, hits, replacements);
     }
 
     // Check spelling in internal links
     if ((result == false) || (errors != null)) {
-      result |= analyzeInternalLinks(analysis, activeSuggestions, replacements);
+      result |= analyzeInternalLinks(analysis, activeSuggestions, hits, replacements);
     }
 
     // Check spelling in tags
     if ((result == false) || (errors != null)) {
-      result |= analyzeTags(analysis, activeSuggestions, replacements);
+      result |= analyzeTags(analysis, activeSuggestions, hits, replacements);
     }
 
     // Check spelling in normal text with non native regular expressions
     if ((result == false) || (errors != null)) {
-      result |= analyzeNonNativeText(analysis, activeSuggestions, replacements, slowRegexp);
+      result |= analyzeNonNativeText(analysis, activeSuggestions, hits, replacements, slowRegexp);
     }
 
     // Check spelling in normal text with native regular expressions
     if ((result == false) || (errors != null)) {
-      result |= analyzeNativeText(analysis, activeSuggestions, replacements, slowRegexp);
+      result |= analyzeNativeText(analysis, activeSuggestions, hits, replacements, slowRegexp);
     }
 
     if (errors == null) {
@@ -201,12 +207,14 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
    * 
    * @param analysis Page analysis.
    * @param suggestions Active suggestions.
+   * @param hits Positions where suggestions may match (null if unknown).
    * @param replacements List of possible replacements.
    * @param slowRegexp Threshold for slow regular expression.
    * @return True if an error has been found.
    */
   private boolean analyzeNativeText(
       PageAnalysis analysis, List<Suggestion> suggestions,
+      SuggestionFilter.Hits hits,
       List<Replacement> replacements, int slowRegexp) {
     boolean result = false;
 
@@ -218,48 +226,68 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
     while (itSuggestion.hasNext()) {
       Suggestion suggestion = itSuggestion.next();
       if (!suggestion.isOtherPattern()) {
+        itSuggestion.remove();
+        if ((hits != null) && !hits.mayMatch(suggestion)) {
+          continue;
+        }
+        RegexExecution execution = RegexExecution.start(suggestion.getPattern(), contents);
+        if (execution == null) {
+          continue;
+        }
         Performance perf = Performance.getInstance("Slow regular expression");
         perf.setThreshold(slowRegexp);
-        itSuggestion.remove();
-        Matcher matcher = suggestion.initMatcher(contents);
-        for (ContentsChunk chunk : chunks) {
-          matcher.region(chunk.getBegin(), chunk.getEnd());
-          int authorizedBegin = chunk.getBegin();
-          while (matcher.find()) {
-            int begin = matcher.start();
-            int end = matcher.end();
-            boolean shouldKeep = true;
-            if (shouldKeep && (begin > 0) &&
-                (Character.isLetterOrDigit(contents.charAt(begin))) &&
-                (Character.isLetterOrDigit(contents.charAt(begin - 1)))) {
-              shouldKeep = false;
-            }
-            if (shouldKeep && (end < contents.length()) &&
-                (Character.isLetterOrDigit(contents.charAt(end))) &&
-                (Character.isLetterOrDigit(contents.charAt(end - 1)))) {
-              shouldKeep = false;
-            }
-            if (shouldKeep) {
-              tmpReplacements.clear();
-              shouldKeep = addReplacements(
-                  begin, end, contents, authorizedBegin, chunk.getEnd(),
-                  suggestion, tmpReplacements);
+        Matcher matcher = suggestion.initMatcher(execution.getText());
+        SuggestionFilter.Finder finder = new SuggestionFilter.Finder(matcher);
+        try {
+          for (ContentsChunk chunk : chunks) {
+            if ((hits != null) &&
+                !hits.mayMatch(suggestion, chunk.getBegin(), chunk.getEnd())) {
+              continue;
             }
-            if (shouldKeep && (analysis.getAreas().getEndArea(begin) > begin)) {
-              shouldKeep = false;
-            }
-            if (shouldKeep && (analysis.isInTemplate(begin) != null)) {
-              shouldKeep = false;
-            }
-            if (shouldKeep) {
-              shouldKeep = shouldKeep(contents, begin, end);
-            }
-            if (shouldKeep) {
-              result = true;
-              replacements.addAll(tmpReplacements);
+            finder.reset(
+                chunk.getBegin(), chunk.getEnd(),
+                (hits != null) ? hits.getWindows(suggestion, chunk.getBegin(), chunk.getEnd()) : null);
+            int authorizedBegin = chunk.getBegin();
+            while (finder.find()) {
+              int begin = matcher.start();
+              int end = matcher.end();
+              boolean shouldKeep = true;
+              if (shouldKeep && (begin > 0) &&
+                  (Character.isLetterOrDigit(contents.charAt(begin))) &&
+                  (Character.isLetterOrDigit(contents.charAt(begin - 1)))) {
+                shouldKeep = false;
+              }
+              if (shouldKeep && (end < contents.length()) &&
+                  (Character.isLetterOrDigit(contents.charAt(end))) &&
+                  (Character.isLetterOrDigit(contents.charAt(end - 1)))) {
+                shouldKeep = false;
+              }
+              if (shouldKeep) {
+                tmpReplacements.clear();
+                shouldKeep = addReplacements(
+                    begin, end, contents, authorizedBegin, chunk.getEnd(),
+                    suggestion, tmpReplacements);
+              }
+              if (shouldKeep && (analysis.getAreas().getEndArea(begin) > begin)) {
+                shouldKeep = false;
+              }
+              if (shouldKeep && (analysis.isInTemplate(begin) != null)) {
+                shouldKeep = false;
+              }
+              if (shouldKeep) {
+                shouldKeep = shouldKeep(contents, begin, end);
+              }
+              if (shouldKeep) {
+                result = true;
+                replacements.addAll(tmpReplacements);
+              }
+              authorizedBegin = end;
             }
-            authorizedBegin = end;
           }
+        } catch (RegexExecution.BudgetExceededException e) {
+          // Pattern quarantined, keep what has been found so far
+        } finally {
+          execution.end();
         }
         perf.printEnd(suggestion.getPatternText());
         perf.release();
@@ -274,12 +302,14 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
    * 
    * @param analysis Page analysis.
    * @param suggestions Active suggestions.
+   * @param hits Positions where suggestions may match (null if unknown).
    * @param replacements List of possible replacements.
    * @param slowRegexp Threshold for slow regular expression.
    * @return True if an error has been found.
    */
   private boolean analyzeNonNativeText(
       PageAnalysis analysis, List<Suggestion> suggestions,
+      SuggestionFilter.Hits hits,
       List<Replacement> replacements, int slowRegexp) {
     boolean result = false;
 
@@ -291,29 +321,49 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
     while (itSuggestion.hasNext()) {
       Suggestion suggestion = itSuggestion.next();
       if (suggestion.isOtherPattern()) {
+        itSuggestion.remove();
+        if ((hits != null) && !hits.mayMatch(suggestion)) {
+          continue;
+        }
+        RegexExecution execution = RegexExecution.start(suggestion.getPattern(), contents);
+        if (execution == null) {
+          continue;
+        }
         Performance perf = Performance.getInstance("Slow regular expression");
         perf.setThreshold(slowRegexp);
-        itSuggestion.remove();
-        Matcher matcher = suggestion.initMatcher(contents);
-        for (ContentsChunk chunk : chunks) {
-          matcher.region(chunk.getBegin(), chunk.getEnd());
-          int authorizedBegin = chunk.getBegin();
-          while (matcher.find()) {
-            int begin = matcher.start();
-            int end = matcher.end();
-            tmpReplacements.clear();
-            boolean shouldKeep = addReplacements(
-                begin, end, contents, authorizedBegin, chunk.getEnd(),
-                suggestion, tmpReplacements);
-            if (shouldKeep) {
-              shouldKeep = shouldKeep(contents, begin, end);
+        Matcher matcher = suggestion.initMatcher(execution.getText());
+        SuggestionFilter.Finder finder = new SuggestionFilter.Finder(matcher);
+        try {
+          for (ContentsChunk chunk : chunks) {
+            if ((hits != null) &&
+                !hits.mayMatch(suggestion, chunk.getBegin(), chunk.getEnd())) {
+              continue;
             }
-            if (shouldKeep) {
-              result = true;
-              replacements.addAll(tmpReplacements);
+            finder.reset(
+                chunk.getBegin(), chunk.getEnd(),
+                (hits != null) ? hits.getWindows(suggestion, chunk.getBegin(), chunk.getEnd()) : null);
+            int authorizedBegin = chunk.getBegin();
+            while (finder.find()) {
+              int begin = matcher.start();
+              int end = matcher.end();
+              tmpReplacements.clear();
+              boolean shouldKeep = addReplacements(
+                  begin, end, contents, authorizedBegin, chunk.getEnd(),
+                  suggestion, tmpReplacements);
+              if (shouldKeep) {
+                shouldKeep = shouldKeep(contents, begin, end);
+              }
+              if (shouldKeep) {
+                result = true;
+                replacements.addAll(tmpReplacements);
+              }
+              authorizedBegin = end;
             }
-            authorizedBegin = end;
           }
+        } catch (RegexExecution.BudgetExceededException e) {
+          // Pattern quarantined, keep what has been found so far
+        } finally {
+          execution.end();
         }
         perf.printEnd(suggestion.getComment(), suggestion.getPatternText());
         perf.release();
@@ -378,11 +428,13 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
    * 
    * @param analysis Page analysis.
    * @param suggestions Active suggestions.
+   * @param hits Positions where suggestions may match (null if unknown).
    * @param replacements List of possible replacements.
    * @return True if an error has been found.
    */
   private boolean analyzeTemplates(
       PageAnalysis analysis, List<Suggestion> suggestions,
+      SuggestionFilter.Hits hits,
       List<Replacement> replacements) {
     boolean result = false;
 
@@ -396,36 +448,48 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
       Suggestion suggestion = itSuggestion.next();
       if (suggestion.getPatternText().startsWith("\\{\\{")) {
         itSuggestion.remove();
-        Matcher matcher = suggestion.initMatcher(contents);
-
-        // Check suggestion on each template
-        for (PageElementTemplate template : templates) {
-          int begin = template.getBeginIndex();
-          if (matcher.region(begin, contentsLength).lookingAt()) {
-            int end = matcher.end();
-            if ((end >= contentsLength) ||
-                (!Character.isLetterOrDigit(contents.charAt(end))) ||
-                (!Character.isLetterOrDigit(contents.charAt(end - 1)))) {
-              result |= addReplacements(
-                  begin, end, contents, begin, contentsLength,
-                  suggestion, replacements);
+        if ((hits != null) && !hits.mayMatch(suggestion)) {
+          continue;
+        }
+        RegexExecution execution = RegexExecution.start(suggestion.getPattern(), contents);
+        if (execution == null) {
+          continue;
+        }
+        Matcher matcher = suggestion.initMatcher(execution.getText());
+        try {
+          // Check suggestion on each template
+          for (PageElementTemplate template : templates) {
+            int begin = template.getBeginIndex();
+            if (matcher.region(begin, contentsLength).lookingAt()) {
+              int end = matcher.end();
+              if ((end >= contentsLength) ||
+                  (!Character.isLetterOrDigit(contents.charAt(end))) ||
+                  (!Character.isLetterOrDigit(contents.charAt(end - 1)))) {
+                result |= addReplacements(
+                    begin, end, contents, begin, contentsLength,
+                    suggestion, replacements);
+              }
             }
           }
-        }
 
-        // Check suggestion on each function
-        for (PageElementFunction function : functions) {
-          int begin = function.getBeginIndex();
-          if (matcher.region(begin, contentsLength).lookingAt()) {
-            int end = matcher.end();
-            if ((end >= contentsLength) ||
-                (!Character.isLetterOrDigit(contents.charAt(end))) ||
-                (!Character.isLetterOrDigit(contents.charAt(end - 1)))) {
-              result |= addReplacements(
-                  begin, end, contents, begin, contentsLength,
-                  suggestion, replacements);
+          // Check suggestion on each function
+          for (PageElementFunction function : functions) {
+            int begin = function.getBeginIndex();
+            if (matcher.region(begin, contentsLength).lookingAt()) {
+              int end = matcher.end();
+              if ((end >= contentsLength) ||
+                  (!Character.isLetterOrDigit(contents.charAt(end))) ||
+                  (!Character.isLetterOrDigit(contents.charAt(end - 1)))) {
+                result |= addReplacements(
+                    begin, end, contents, begin, contentsLength,
+                    suggestion, replacements);
+              }
             }
           }
+        } catch (RegexExecution.BudgetExceededException e) {
+          // Pattern quarantined, keep what has been found so far
+        } finally {
+          execution.end();
         }
       }
     }
@@ -438,11 +502,13 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
    * 
    * @param analysis Page analysis.
    * @param suggestions Active suggestions.
+   * @param hits Positions where suggestions may match (null if unknown).
    * @param replacements List of possible replacements.
    * @return True if an error has been found.
    */
   private boolean analyzeInternalLinks(
       PageAnalysis analysis, List<Suggestion> suggestions,
+      SuggestionFilter.Hits hits,
       List<Replacement> replacements) {
     boolean result = false;
 
@@ -455,21 +521,33 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
       Suggestion suggestion = itSuggestion.next();
       if (suggestion.getPatternText().startsWith("\\[\\[")) {
         itSuggestion.remove();
-        Matcher matcher = suggestion.initMatcher(contents);
-
-        // Check suggestion on each internal link
-        for (PageElementInternalLink link : links) {
-          int begin = link.getBeginIndex();
-          if (matcher.region(begin, contentsLength).lookingAt()) {
-            int end = matcher.end();
-            if ((end >= contentsLength) ||
-                (!Character.isLetterOrDigit(contents.charAt(end))) ||
-                (!Character.isLetterOrDigit(contents.charAt(end - 1)))) {
-              result |= addReplacements(
-                  begin, end, contents, begin, contentsLength,
-                  suggestion, replacements);
+        if ((hits != null) && !hits.mayMatch(suggestion)) {
+          continue;
+        }
+        RegexExecution execution = RegexExecution.start(suggestion.getPattern(), contents);
+        if (execution == null) {
+          continue;
+        }
+        Matcher matcher = suggestion.initMatcher(execution.getText());
+        try {
+          // Check suggestion on each internal link
+          for (PageElementInternalLink link : links) {
+            int begin = link.getBeginIndex();
+            if (matcher.region(begin, contentsLength).lookingAt()) {
+              int end = matcher.end();
+              if ((end >= contentsLength) ||
+                  (!Character.isLetterOrDigit(contents.charAt(end))) ||
+                  (!Character.isLetterOrDigit(contents.charAt(end - 1)))) {
+                result |= addReplacements(
+                    begin, end, contents, begin, contentsLength,
+                    suggestion, replacements);
+              }
             }
           }
+        } catch (RegexExecution.BudgetExceededException e) {
+          // Pattern quarantined, keep what has been found so far
+        } finally {
+          execution.end();
         }
       }
     }
@@ -482,11 +560,13 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
    * 
    * @param analysis Page analysis.
    * @param suggestions Active suggestions.
+   * @param hits Positions where suggestions may match (null if unknown).
    * @param replacements List of possible replacements.
    * @return True if an error has been found.
    */
   private boolean analyzeTags(
       PageAnalysis analysis, List<Suggestion> suggestions,
+      SuggestionFilter.Hits hits,
       List<Replacement> replacements) {
     boolean result = false;
 
@@ -499,21 +579,33 @@ public class CheckErrorAlgorithm501 extends CheckErrorAlgorithmBase {
       Suggestion suggestion = itSuggestion.next();
       if (suggestion.getPatternText().startsWith("<")) {
         itSuggestion.remove();
-        Matcher matcher = suggestion.initMatcher(contents);
-
-        // Check suggestion on each tag
-        for (PageElementTag tag : tags) {
-          int begin = tag.getBeginIndex();
-          if (matcher.region(begin, contentsLength).lookingAt()) {
-            int end = matcher.end();
-            if ((end >= contentsLength) ||
-                (!Character.isLetterOrDigit(contents.charAt(end))) ||
-                (!Character.isLetterOrDigit(contents.charAt(end - 1)))) {
-              result |= addReplacements(
-                  begin, end, contents, begin, contentsLength,
-                  suggestion, replacements);
+        if ((hits != null) && !hits.mayMatch(suggestion)) {
+          continue;
+        }
+        RegexExecution execution = RegexExecution.start(suggestion.getPattern(), contents);
+        if (execution == null) {
+          continue;
+        }
+        Matcher matcher = suggestion.initMatcher(execution.getText());
+        try {
+          // Check suggestion on each tag
+          for (PageElementTag tag : tags) {
+            int begin = tag.getBeginIndex();
+            if (matcher.region(begin, contentsLength).lookingAt()) {
+              int end = matcher.end();
+              if ((end >= contentsLength) ||
+                  (!Character.isLetterOrDigit(contents.charAt(end))) ||
+                  (!Character.isLetterOrDigit(contents.charAt(end - 1)))) {
+                result |= addReplacements(
+                    begin, end, contents, begin, contentsLength,
+                    suggestion, replacements);
+              }
             }
           }
+        } catch (RegexExecution.BudgetExceededException e) {
+          // Pattern quarantined, keep what has been found so far
+        } finally {
+          execution.end();
         }
       }
     }
@@ -11,6 +11,7 @@ import java.util.Collection;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm503 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm503() {
     super("Internal link in title");
+    addRequiredFamilies(PageElementFamily.INTERNAL_LINK, PageElementFamily.TITLE);
   }
 
   /**
@@ -11,6 +11,7 @@ import java.util.Collection;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTitle;
 
@@ -23,6 +24,7 @@ public class CheckErrorAlgorithm504 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm504() {
     super("Reference in title");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.TITLE);
   }
 
   /**
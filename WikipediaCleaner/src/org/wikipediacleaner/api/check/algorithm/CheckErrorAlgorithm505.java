@@ -11,6 +11,7 @@ import java.util.Collection;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 
 
@@ -22,6 +23,7 @@ public class CheckErrorAlgorithm505 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm505() {
     super("Image without alternative description");
+    addRequiredFamilies(PageElementFamily.IMAGE);
   }
 
   /**
@@ -11,6 +11,7 @@ import java.util.Collection;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -22,6 +23,8 @@ public class CheckErrorAlgorithm506 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm506() {
     super("Reference with a numeric name");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_WIKI_REF);
   }
 
   /**
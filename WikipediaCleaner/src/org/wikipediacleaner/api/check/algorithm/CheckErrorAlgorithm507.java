@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTag.Parameter;
 
@@ -24,6 +25,8 @@ public class CheckErrorAlgorithm507 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm507() {
     super("Gallery without caption");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_WIKI_GALLERY);
   }
 
   /**
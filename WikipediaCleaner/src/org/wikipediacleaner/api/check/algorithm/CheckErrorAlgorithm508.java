@@ -14,6 +14,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 
 
@@ -25,6 +26,7 @@ public class CheckErrorAlgorithm508 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm508() {
     super("Missing template");
+    addRequiredFamilies(PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementTag;
 
@@ -24,6 +25,7 @@ public class CheckErrorAlgorithm510 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm510() {
     super("Non working pipe trick");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.INTERNAL_LINK);
   }
 
   /**
@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 
 
@@ -24,6 +25,8 @@ public class CheckErrorAlgorithm513 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm513() {
     super("Internal link inside external link");
+    addRequiredFamilies(
+        PageElementFamily.INTERNAL_LINK, PageElementFamily.EXTERNAL_LINK);
   }
 
   /**
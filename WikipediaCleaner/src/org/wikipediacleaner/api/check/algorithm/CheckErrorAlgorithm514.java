@@ -17,6 +17,7 @@ import java.util.Set;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.i18n.GT;
@@ -30,6 +31,9 @@ public class CheckErrorAlgorithm514 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm514() {
     super("Missing named reference");
+    addRequiredFamilies(
+        PageElementFamily.TAG, PageElementFamily.INTERNAL_LINK,
+        PageElementFamily.TEMPLATE);
   }
 
   /**
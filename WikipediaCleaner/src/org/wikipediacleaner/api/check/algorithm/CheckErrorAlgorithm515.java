@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.i18n.GT;
@@ -26,6 +27,7 @@ public class CheckErrorAlgorithm515 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm515() {
     super("Title linked in text through redirect link");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.INTERNAL_LINK);
   }
 
   /**
@@ -19,6 +19,7 @@ import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
@@ -35,6 +36,7 @@ public class CheckErrorAlgorithm518 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm518() {
     super("<nowiki> tags");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.INTERNAL_LINK);
   }
 
   /**
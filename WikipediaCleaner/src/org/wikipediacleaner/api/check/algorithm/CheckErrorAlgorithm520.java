@@ -32,6 +32,7 @@ public class CheckErrorAlgorithm520 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm520() {
     super("Weird characters");
+    addRequiredFamilies();
   }
 
   /**
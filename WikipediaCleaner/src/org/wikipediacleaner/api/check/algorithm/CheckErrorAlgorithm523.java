@@ -18,6 +18,7 @@ import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.MagicWord;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementImage;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.i18n.GT;
@@ -31,6 +32,7 @@ public class CheckErrorAlgorithm523 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm523() {
     super("Duplicated image");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.IMAGE);
   }
 
   /**
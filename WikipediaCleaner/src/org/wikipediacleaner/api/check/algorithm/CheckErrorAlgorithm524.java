@@ -24,6 +24,7 @@ import org.wikipediacleaner.api.data.DataManager;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.api.data.Page.RelatedPages;
@@ -39,6 +40,7 @@ public class CheckErrorAlgorithm524 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm524() {
     super("Duplicate template argument");
+    addRequiredFamilies(PageElementFamily.TAG, PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -14,6 +14,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.PageElementTag.Parameter;
 import org.wikipediacleaner.i18n.GT;
@@ -27,6 +28,8 @@ public class CheckErrorAlgorithm525 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm525() {
     super("Useless span tag");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_HTML_SPAN);
   }
 
   /**
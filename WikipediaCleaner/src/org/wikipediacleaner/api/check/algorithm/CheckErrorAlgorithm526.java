@@ -23,6 +23,7 @@ import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.data.DataManager;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementInternalLink;
 import org.wikipediacleaner.i18n.GT;
 import org.wikipediacleaner.utils.Configuration;
@@ -37,6 +38,7 @@ public class CheckErrorAlgorithm526 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm526() {
     super("Incorrect date link");
+    addRequiredFamilies(PageElementFamily.INTERNAL_LINK);
   }
 
   /** Minimum length of the year */
@@ -23,6 +23,7 @@ import org.wikipediacleaner.api.data.DataManager;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.api.data.Page.RelatedPages;
 import org.wikipediacleaner.api.data.PageElementTag.Parameter;
@@ -37,6 +38,8 @@ public class CheckErrorAlgorithm527 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm527() {
     super("Reference with same name but different content");
+    addRequiredFamilies(PageElementFamily.TAG);
+    addPrefilterTags(PageElementTag.TAG_WIKI_REF);
   }
 
   /** Tracking category. */
@@ -21,6 +21,7 @@ import org.wikipediacleaner.api.data.DataManager;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementPMID;
 import org.wikipediacleaner.api.data.Page.RelatedPages;
 import org.wikipediacleaner.i18n.GT;
@@ -34,6 +35,7 @@ public class CheckErrorAlgorithm528 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm528() {
     super("PMID magical link");
+    addRequiredFamilies(PageElementFamily.EXTERNAL_LINK, PageElementFamily.PMID);
   }
 
   /** Tracking category. */
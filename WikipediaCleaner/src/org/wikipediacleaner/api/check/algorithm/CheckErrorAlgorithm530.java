@@ -23,6 +23,7 @@ import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.Page.RelatedPages;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementRFC;
 import org.wikipediacleaner.gui.swing.action.ActionExternalViewer;
 import org.wikipediacleaner.i18n.GT;
@@ -36,6 +37,7 @@ public class CheckErrorAlgorithm530 extends CheckErrorAlgorithmBase {
 
   public CheckErrorAlgorithm530() {
     super("RFC magical link");
+    addRequiredFamilies(PageElementFamily.EXTERNAL_LINK, PageElementFamily.RFC);
   }
 
   /** Tracking category. */
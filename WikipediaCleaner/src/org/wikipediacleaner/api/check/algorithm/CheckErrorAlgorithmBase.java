@@ -11,9 +11,11 @@ import java.awt.Color;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.swing.JTextPane;
 import javax.swing.text.BadLocationException;
@@ -26,9 +28,11 @@ import org.wikipediacleaner.api.check.SpecialCharacters;
 import org.wikipediacleaner.api.constants.CWConfigurationError;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.constants.WPCConfigurationString;
+import org.wikipediacleaner.api.data.ContentsEditBuilder;
 import org.wikipediacleaner.api.data.MagicWord;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
 
@@ -45,6 +49,16 @@ public abstract class CheckErrorAlgorithmBase implements CheckErrorAlgorithm {
 
   private final String name;
 
+  /**
+   * Families of elements used by the analysis (null if not declared).
+   */
+  private Set<PageElementFamily> requiredFamilies;
+
+  /**
+   * Prefilter on the page contents (null if not declared).
+   */
+  private CheckErrorPrefilter prefilter;
+
   /**
    * @param name Name of the error.
    */
@@ -52,6 +66,98 @@ public abstract class CheckErrorAlgorithmBase implements CheckErrorAlgorithm {
     this.name = name;
   }
 
+  /**
+   * Declare families of elements used by the analysis of a page.
+   * 
+   * <p>Calling it without families declares that the analysis only uses
+   * the page contents. Algorithms which don't declare anything are
+   * considered to use all the families of elements.</p>
+   * 
+   * @param families Families of elements.
+   */
+  protected void addRequiredFamilies(PageElementFamily... families) {
+    if (requiredFamilies == null) {
+      requiredFamilies = EnumSet.noneOf(PageElementFamily.class);
+    }
+    Collections.addAll(requiredFamilies, families);
+  }
+
+  /**
+   * @return Families of elements used by the analysis of a page.
+   * @see org.wikipediacleaner.api.check.algorithm.CheckErrorAlgorithm#getRequiredFamilies()
+   */
+  @Override
+  public Set<PageElementFamily> getRequiredFamilies() {
+    if (requiredFamilies == null) {
+      return PageElementFamily.ALL;
+    }
+    return Collections.unmodifiableSet(requiredFamilies);
+  }
+
+  /**
+   * Declare literals which must be present in the page contents for the
+   * analysis to find errors.
+   * 
+   * <p>Declarations are cumulative: the analysis is done if at least one of
+   * the declared literals, tags or characters is present. Algorithms which
+   * don't declare anything are always analyzed.</p>
+   * 
+   * @param ignoreCase True if the literals are case insensitive.
+   * @param literals Literals.
+   */
+  protected void addPrefilterLiterals(boolean ignoreCase, String... literals) {
+    if (prefilter == null) {
+      prefilter = new CheckErrorPrefilter();
+    }
+    for (String literal : literals) {
+      if (ignoreCase) {
+        prefilter.addLiteralIgnoreCase(literal);
+      } else {
+        prefilter.addLiteral(literal);
+      }
+    }
+  }
+
+  /**
+   * Declare tags which must be present in the page contents for the
+   * analysis to find errors.
+   * 
+   * @param names Tag names.
+   * @see #addPrefilterLiterals(boolean, String...)
+   */
+  protected void addPrefilterTags(String... names) {
+    for (String tagName : names) {
+      addPrefilterLiterals(true, "<" + tagName, "</" + tagName);
+    }
+
+    // Closing tags may have spaces before their name
+    addPrefilterLiterals(false, "</ ");
+  }
+
+  /**
+   * Declare a range of characters which must be present in the page
+   * contents for the analysis to find errors.
+   * 
+   * @param first First code point of the range.
+   * @param last Last code point of the range.
+   * @see #addPrefilterLiterals(boolean, String...)
+   */
+  protected void addPrefilterCharacters(int first, int last) {
+    if (prefilter == null) {
+      prefilter = new CheckErrorPrefilter();
+    }
+    prefilter.addRange(first, last);
+  }
+
+  /**
+   * @return Prefilter on the page contents (null if the algorithm has no prefilter).
+   * @see org.wikipediacleaner.api.check.algorithm.CheckErrorAlgorithm#getPrefilter()
+   */
+  @Override
+  public CheckErrorPrefilter getPrefilter() {
+    return prefilter;
+  }
+
   /**
    * @return Name of the error.
    */
@@ -358,22 +464,18 @@ public abstract class CheckErrorAlgorithmBase implements CheckErrorAlgorithm {
    * @return Page contents after fix.
    */
   public String fixUsingFirstReplacement(String fixName, PageAnalysis analysis) {
-    String result = analysis.getContents();
+    ContentsEditBuilder builder = new ContentsEditBuilder(analysis.getContents());
     List<CheckErrorResult> errors = new ArrayList<CheckErrorResult>();
     if (analyze(analysis, errors, false)) {
-      for (int i = errors.size(); i > 0; i--) {
-        CheckErrorResult errorResult = errors.get(i - 1);
+      for (CheckErrorResult errorResult : errors) {
         String newText = errorResult.getFirstReplacement();
         if (newText != null) {
-          String tmp =
-            result.substring(0, errorResult.getStartPosition()) +
-            newText +
-            result.substring(errorResult.getEndPosition());
-          result = tmp;
+          builder.addEdit(
+              errorResult.getStartPosition(), errorResult.getEndPosition(), newText);
         }
       }
     }
-    return result;
+    return builder.getContents();
   }
 
   /**
@@ -383,23 +485,19 @@ public abstract class CheckErrorAlgorithmBase implements CheckErrorAlgorithm {
    * @return Page contents after fix.
    */
   public String fixUsingAutomaticReplacement(PageAnalysis analysis) {
-    String result = analysis.getContents();
+    ContentsEditBuilder builder = new ContentsEditBuilder(analysis.getContents());
     List<CheckErrorResult> errors = new ArrayList<CheckErrorResult>();
     if (analyze(analysis, errors, true)) {
       Collections.sort(errors);
-      for (int i = errors.size(); i > 0; i--) {
-        CheckErrorResult errorResult = errors.get(i - 1);
+      for (CheckErrorResult errorResult : errors) {
         String newText = errorResult.getAutomaticReplacement();
         if (newText != null) {
-          String tmp =
-            result.substring(0, errorResult.getStartPosition()) +
-            newText +
-            result.substring(errorResult.getEndPosition());
-          result = tmp;
+          builder.addEdit(
+              errorResult.getStartPosition(), errorResult.getEndPosition(), newText);
         }
       }
     }
-    return result;
+    return builder.getContents();
   }
 
   /**
@@ -409,23 +507,19 @@ public abstract class CheckErrorAlgorithmBase implements CheckErrorAlgorithm {
    * @return Page contents after fix.
    */
   public String fixUsingAutomaticBotReplacement(PageAnalysis analysis) {
-    String result = analysis.getContents();
+    ContentsEditBuilder builder = new ContentsEditBuilder(analysis.getContents());
     List<CheckErrorResult> errors = new ArrayList<CheckErrorResult>();
     if (analyze(analysis, errors, true)) {
       Collections.sort(errors);
-      for (int i = errors.size(); i > 0; i--) {
-        CheckErrorResult errorResult = errors.get(i - 1);
+      for (CheckErrorResult errorResult : errors) {
         String newText = errorResult.getAutomaticBotReplacement();
         if (newText != null) {
-          String tmp =
-            result.substring(0, errorResult.getStartPosition()) +
-            newText +
-            result.substring(errorResult.getEndPosition());
-          result = tmp;
+          builder.addEdit(
+              errorResult.getStartPosition(), errorResult.getEndPosition(), newText);
         }
       }
     }
-    return result;
+    return builder.getContents();
   }
 
   /**
@@ -436,18 +530,14 @@ public abstract class CheckErrorAlgorithmBase implements CheckErrorAlgorithm {
    * @return Page contents after fix.
    */
   public String fixUsingRemove(String fixName, PageAnalysis analysis) {
-    String result = analysis.getContents();
+    ContentsEditBuilder builder = new ContentsEditBuilder(analysis.getContents());
     List<CheckErrorResult> errors = new ArrayList<CheckErrorResult>();
     if (analyze(analysis, errors, false)) {
-      for (int i = errors.size(); i > 0; i--) {
-        CheckErrorResult errorResult = errors.get(i - 1);
-        String tmp =
-          result.substring(0, errorResult.getStartPosition()) +
-          result.substring(errorResult.getEndPosition());
-        result = tmp;
+      for (CheckErrorResult errorResult : errors) {
+        builder.removeText(errorResult.getStartPosition(), errorResult.getEndPosition());
       }
     }
-    return result;
+    return builder.getContents();
   }
 
   /**
@@ -15,6 +15,7 @@ import org.wikipediacleaner.api.check.HtmlCharacters;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementExternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 import org.wikipediacleaner.gui.swing.component.MWPane;
 import org.wikipediacleaner.i18n.GT;
@@ -37,6 +38,10 @@ public abstract class CheckErrorAlgorithmHtmlNamedEntities extends CheckErrorAlg
    */
   public CheckErrorAlgorithmHtmlNamedEntities(String name) {
     super(name);
+    addRequiredFamilies(
+        PageElementFamily.COMMENT, PageElementFamily.TAG,
+        PageElementFamily.EXTERNAL_LINK);
+    addPrefilterLiterals(false, "&");
   }
 
   /**
@@ -26,6 +26,7 @@ import org.wikipediacleaner.api.constants.WPCConfigurationStringList;
 import org.wikipediacleaner.api.data.ISBNRange;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementComment;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementISBN;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.api.data.SearchEngine;
@@ -46,6 +47,7 @@ public abstract class CheckErrorAlgorithmISBN extends CheckErrorAlgorithmBase {
    */
   protected CheckErrorAlgorithmISBN(String name) {
     super(name);
+    addRequiredFamilies(PageElementFamily.COMMENT, PageElementFamily.TEMPLATE);
   }
 
   /**
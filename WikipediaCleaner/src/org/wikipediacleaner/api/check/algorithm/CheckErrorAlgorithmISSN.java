@@ -25,6 +25,7 @@ import org.wikipediacleaner.api.constants.WPCConfigurationString;
 import org.wikipediacleaner.api.constants.WPCConfigurationStringList;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementComment;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementISSN;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.api.data.SearchEngine;
@@ -44,6 +45,7 @@ public abstract class CheckErrorAlgorithmISSN extends CheckErrorAlgorithmBase {
    */
   protected CheckErrorAlgorithmISSN(String name) {
     super(name);
+    addRequiredFamilies(PageElementFamily.COMMENT, PageElementFamily.TEMPLATE);
   }
 
   /**
@@ -18,6 +18,7 @@ import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElement;
 import org.wikipediacleaner.api.data.PageElementComparator;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementMagicWord;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.i18n.GT;
@@ -33,6 +34,7 @@ public abstract class CheckErrorAlgorithmTOC extends CheckErrorAlgorithmBase {
    */
   public CheckErrorAlgorithmTOC(String name) {
     super(name);
+    addRequiredFamilies(PageElementFamily.MAGIC_WORD, PageElementFamily.TEMPLATE);
   }
 
   /**
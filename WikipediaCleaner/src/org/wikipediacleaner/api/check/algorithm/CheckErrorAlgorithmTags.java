@@ -12,6 +12,7 @@ import java.util.Collection;
 
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -25,6 +26,7 @@ public abstract class CheckErrorAlgorithmTags extends CheckErrorAlgorithmBase {
    */
   public CheckErrorAlgorithmTags(String name) {
     super(name);
+    addRequiredFamilies(PageElementFamily.TAG);
 
   }
 
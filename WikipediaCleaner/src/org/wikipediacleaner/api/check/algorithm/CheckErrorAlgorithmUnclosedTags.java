@@ -13,6 +13,7 @@ import java.util.List;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementFamily;
 import org.wikipediacleaner.api.data.PageElementTag;
 
 
@@ -26,6 +27,7 @@ public abstract class CheckErrorAlgorithmUnclosedTags extends CheckErrorAlgorith
    */
   public CheckErrorAlgorithmUnclosedTags(String name) {
     super(name);
+    addRequiredFamilies(PageElementFamily.TAG);
   }
 
   /**
@@ -9,13 +9,17 @@ package org.wikipediacleaner.api.check.algorithm;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.wikipediacleaner.api.constants.CWConfiguration;
 import org.wikipediacleaner.api.constants.CWConfigurationError;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
+import org.wikipediacleaner.api.data.PageElementFamily;
 
 
 /**
@@ -122,4 +126,21 @@ public final class CheckErrorAlgorithms {
     int priority = algorithm.getPriority();
     return CWConfigurationError.isPriorityActive(priority);
   }
+
+  /**
+   * @param algorithms Algorithms.
+   * @return Families of elements used by at least one of the algorithms.
+   */
+  public static Set<PageElementFamily> getRequiredFamilies(
+      Collection<CheckErrorAlgorithm> algorithms) {
+    Set<PageElementFamily> families = EnumSet.noneOf(PageElementFamily.class);
+    if (algorithms != null) {
+      for (CheckErrorAlgorithm algorithm : algorithms) {
+        if (algorithm != null) {
+          families.addAll(algorithm.getRequiredFamilies());
+        }
+      }
+    }
+    return families;
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.check.algorithm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Prefilter on the raw page contents for an algorithm.
+ *
+ * <p>The algorithm can only find errors in a page containing at least one
+ * of the literals or one of the characters of the prefilter.</p>
+ */
+public class CheckErrorPrefilter {
+
+  /** Literals, case sensitive */
+  private final List<String> literals;
+
+  /** Literals, case insensitive (in lower case) */
+  private final List<String> literalsIgnoreCase;
+
+  /** Ranges of code points (first and last code points, included) */
+  private final List<int[]> ranges;
+
+  /**
+   * Create an empty prefilter.
+   */
+  CheckErrorPrefilter() {
+    this.literals = new ArrayList<String>();
+    this.literalsIgnoreCase = new ArrayList<String>();
+    this.ranges = new ArrayList<int[]>();
+  }
+
+  /**
+   * @param literal Literal, case sensitive.
+   */
+  void addLiteral(String literal) {
+    if ((literal != null) && (literal.length() > 0) && !literals.contains(literal)) {
+      literals.add(literal);
+    }
+  }
+
+  /**
+   * @param literal Literal, case insensitive.
+   */
+  void addLiteralIgnoreCase(String literal) {
+    if ((literal == null) || (literal.length() == 0)) {
+      return;
+    }
+    StringBuilder lowerCase = new StringBuilder(literal.length());
+    for (int i = 0; i < literal.length(); i++) {
+      lowerCase.append(Character.toLowerCase(literal.charAt(i)));
+    }
+    String tmp = lowerCase.toString();
+    if (!literalsIgnoreCase.contains(tmp)) {
+      literalsIgnoreCase.add(tmp);
+    }
+  }
+
+  /**
+   * @param first First code point of the range.
+   * @param last Last code point of the range.
+   */
+  void addRange(int first, int last) {
+    if (first <= last) {
+      ranges.add(new int[] { first, last });
+    }
+  }
+
+  /**
+   * @return Literals, case sensitive.
+   */
+  public List<String> getLiterals() {
+    return Collections.unmodifiableList(literals);
+  }
+
+  /**
+   * @return Literals, case insensitive (in lower case).
+   */
+  public List<String> getLiteralsIgnoreCase() {
+    return Collections.unmodifiableList(literalsIgnoreCase);
+  }
+
+  /**
+   * @return Ranges of code points (first and last code points, included).
+   */
+  public List<int[]> getRanges() {
+    return Collections.unmodifiableList(ranges);
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.check.algorithm;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Prefilters of several algorithms, evaluated in a single scan of the page contents.
+ */
+public class CheckErrorPrefilters {
+
+  /** Algorithms */
+  private final List<CheckErrorAlgorithm> algorithms;
+
+  /** True for algorithms without prefilter */
+  private final boolean[] always;
+
+  /** Algorithms using each condition */
+  private final int[][] algorithmsByCondition;
+
+  /** Number of conditions */
+  private final int conditionsCount;
+
+  /** Literals of the conditions (null for ranges) */
+  private final String[] literals;
+
+  /** Ranges of the conditions (null for literals) */
+  private final int[][] ranges;
+
+  /** Case sensitive conditions by first character, for ASCII characters */
+  private final int[][] asciiLiterals;
+
+  /** Case sensitive conditions by first character, for other characters */
+  private final Map<Character, int[]> otherLiterals;
+
+  /** Case insensitive conditions by first character in lower case, for ASCII characters */
+  private final int[][] asciiLiteralsIgnoreCase;
+
+  /** Case insensitive conditions by first character in lower case, for other characters */
+  private final Map<Character, int[]> otherLiteralsIgnoreCase;
+
+  /** Characters of the basic multilingual plane in a range */
+  private final BitSet rangeCharacters;
+
+  /** Range conditions */
+  private final int[] rangeConditions;
+
+  /** True if a range contains supplementary code points */
+  private final boolean supplementaryRanges;
+
+  /**
+   * @param algorithms Algorithms.
+   */
+  public CheckErrorPrefilters(Collection<CheckErrorAlgorithm> algorithms) {
+    this.algorithms = new ArrayList<CheckErrorAlgorithm>(algorithms);
+    int algorithmsCount = this.algorithms.size();
+    always = new boolean[algorithmsCount];
+
+    // Register distinct conditions
+    Map<String, Integer> literalConditions = new HashMap<String, Integer>();
+    Map<String, Integer> literalIgnoreCaseConditions = new HashMap<String, Integer>();
+    Map<String, Integer> rangeConditionsMap = new HashMap<String, Integer>();
+    List<Object> conditions = new ArrayList<Object>();
+    List<Boolean> conditionsIgnoreCase = new ArrayList<Boolean>();
+    List<List<Integer>> tmpAlgorithmsByCondition = new ArrayList<List<Integer>>();
+    for (int algorithmIndex = 0; algorithmIndex < algorithmsCount; algorithmIndex++) {
+      CheckErrorAlgorithm algorithm = this.algorithms.get(algorithmIndex);
+      CheckErrorPrefilter prefilter = (algorithm != null) ? algorithm.getPrefilter() : null;
+      if (prefilter == null) {
+        always[algorithmIndex] = true;
+        continue;
+      }
+      List<Integer> algorithmConditions = new ArrayList<Integer>();
+      for (String literal : prefilter.getLiterals()) {
+        algorithmConditions.add(registerCondition(
+            literal, literal, false, literalConditions,
+            conditions, conditionsIgnoreCase));
+      }
+      for (String literal : prefilter.getLiteralsIgnoreCase()) {
+        algorithmConditions.add(registerCondition(
+            literal, literal, true, literalIgnoreCaseConditions,
+            conditions, conditionsIgnoreCase));
+      }
+      for (int[] range : prefilter.getRanges()) {
+        algorithmConditions.add(registerCondition(
+            range[0] + "-" + range[1], range, false, rangeConditionsMap,
+            conditions, conditionsIgnoreCase));
+      }
+      for (Integer algorithmCondition : algorithmConditions) {
+        int condition = algorithmCondition.intValue();
+        while (tmpAlgorithmsByCondition.size() <= condition) {
+          tmpAlgorithmsByCondition.add(new ArrayList<Integer>());
+        }
+        tmpAlgorithmsByCondition.get(condition).add(Integer.valueOf(algorithmIndex));
+      }
+    }
+
+    // Index conditions
+    conditionsCount = conditions.size();
+    literals = new String[conditionsCount];
+    ranges = new int[conditionsCount][];
+    algorithmsByCondition = new int[conditionsCount][];
+    Map<Character, List<Integer>> tmpLiterals = new HashMap<Character, List<Integer>>();
+    Map<Character, List<Integer>> tmpLiteralsIgnoreCase = new HashMap<Character, List<Integer>>();
+    List<Integer> tmpRangeConditions = new ArrayList<Integer>();
+    rangeCharacters = new BitSet();
+    boolean tmpSupplementary = false;
+    for (int condition = 0; condition < conditionsCount; condition++) {
+      List<Integer> conditionAlgorithms = tmpAlgorithmsByCondition.get(condition);
+      algorithmsByCondition[condition] = new int[conditionAlgorithms.size()];
+      for (int i = 0; i < conditionAlgorithms.size(); i++) {
+        algorithmsByCondition[condition][i] = conditionAlgorithms.get(i).intValue();
+      }
+      Object value = conditions.get(condition);
+      if (value instanceof String) {
+        String literal = (String) value;
+        literals[condition] = literal;
+        Map<Character, List<Integer>> map = conditionsIgnoreCase.get(condition).booleanValue() ?
+            tmpLiteralsIgnoreCase : tmpLiterals;
+        Character first = Character.valueOf(literal.charAt(0));
+        List<Integer> list = map.get(first);
+        if (list == null) {
+          list = new ArrayList<Integer>();
+          map.put(first, list);
+        }
+        list.add(Integer.valueOf(condition));
+      } else {
+        int[] range = (int[]) value;
+        ranges[condition] = range;
+        tmpRangeConditions.add(Integer.valueOf(condition));
+        if (range[0] <= Character.MAX_VALUE) {
+          rangeCharacters.set(range[0], Math.min(range[1], Character.MAX_VALUE) + 1);
+        }
+        if (range[1] > Character.MAX_VALUE) {
+          tmpSupplementary = true;
+        }
+      }
+    }
+    asciiLiterals = new int[128][];
+    otherLiterals = new HashMap<Character, int[]>();
+    indexLiterals(tmpLiterals, asciiLiterals, otherLiterals);
+    asciiLiteralsIgnoreCase = new int[128][];
+    otherLiteralsIgnoreCase = new HashMap<Character, int[]>();
+    indexLiterals(tmpLiteralsIgnoreCase, asciiLiteralsIgnoreCase, otherLiteralsIgnoreCase);
+    rangeConditions = toArray(tmpRangeConditions);
+    supplementaryRanges = tmpSupplementary;
+  }
+
+  /**
+   * Register a condition.
+   *
+   * @param key Key of the condition.
+   * @param value Value of the condition (literal or range).
+   * @param conditionIgnoreCase True if the literal is case insensitive.
+   * @param known Conditions already registered.
+   * @param conditions List of conditions.
+   * @param conditionsIgnoreCase List of case insensitive flags.
+   * @return Index of the condition.
+   */
+  private static Integer registerCondition(
+      String key, Object value, boolean conditionIgnoreCase,
+      Map<String, Integer> known,
+      List<Object> conditions, List<Boolean> conditionsIgnoreCase) {
+    Integer result = known.get(key);
+    if (result == null) {
+      result = Integer.valueOf(conditions.size());
+      conditions.add(value);
+      conditionsIgnoreCase.add(Boolean.valueOf(conditionIgnoreCase));
+      known.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * Index literal conditions by their first character.
+   *
+   * @param literalConditions Literal conditions by first character.
+   * @param ascii Index for ASCII characters.
+   * @param other Index for other characters.
+   */
+  private static void indexLiterals(
+      Map<Character, List<Integer>> literalConditions,
+      int[][] ascii, Map<Character, int[]> other) {
+    for (Map.Entry<Character, List<Integer>> entry : literalConditions.entrySet()) {
+      char first = entry.getKey().charValue();
+      int[] tmp = toArray(entry.getValue());
+      if (first < ascii.length) {
+        ascii[first] = tmp;
+      } else {
+        other.put(entry.getKey(), tmp);
+      }
+    }
+  }
+
+  /**
+   * @param list List of integers.
+   * @return Array of integers.
+   */
+  private static int[] toArray(List<Integer> list) {
+    int[] result = new int[list.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = list.get(i).intValue();
+    }
+    return result;
+  }
+
+  /**
+   * Evaluate the prefilters on the page contents.
+   *
+   * @param contents Page contents.
+   * @return Algorithms which may find errors in the page, in their original order.
+   */
+  public List<CheckErrorAlgorithm> getPossibleAlgorithms(String contents) {
+    boolean[] possible = always.clone();
+    int remaining = 0;
+    for (boolean algorithmPossible : possible) {
+      if (!algorithmPossible) {
+        remaining++;
+      }
+    }
+
+    // Scan the contents until every algorithm is possible
+    if ((contents != null) && (conditionsCount > 0)) {
+      boolean[] found = new boolean[conditionsCount];
+      int length = contents.length();
+      int index = 0;
+      while ((remaining > 0) && (index < length)) {
+        char currentChar = contents.charAt(index);
+        char lowerChar = Character.toLowerCase(currentChar);
+
+        // Check literals
+        int[] candidates = (currentChar < 128) ?
+            asciiLiterals[currentChar] : otherLiterals.get(Character.valueOf(currentChar));
+        if (candidates != null) {
+          for (int condition : candidates) {
+            if (!found[condition] && contents.startsWith(literals[condition], index)) {
+              found[condition] = true;
+              remaining -= markPossible(condition, possible);
+            }
+          }
+        }
+        candidates = (lowerChar < 128) ?
+            asciiLiteralsIgnoreCase[lowerChar] : otherLiteralsIgnoreCase.get(Character.valueOf(lowerChar));
+        if (candidates != null) {
+          for (int condition : candidates) {
+            if (!found[condition] && startsWithIgnoreCase(contents, literals[condition], index)) {
+              found[condition] = true;
+              remaining -= markPossible(condition, possible);
+            }
+          }
+        }
+
+        // Check ranges
+        int codePoint = currentChar;
+        if (supplementaryRanges && Character.isHighSurrogate(currentChar)) {
+          codePoint = contents.codePointAt(index);
+        }
+        if ((codePoint > Character.MAX_VALUE) || rangeCharacters.get(codePoint)) {
+          for (int condition : rangeConditions) {
+            if (!found[condition] &&
+                (codePoint >= ranges[condition][0]) &&
+                (codePoint <= ranges[condition][1])) {
+              found[condition] = true;
+              remaining -= markPossible(condition, possible);
+            }
+          }
+        }
+
+        index++;
+      }
+    }
+
+    List<CheckErrorAlgorithm> result = new ArrayList<CheckErrorAlgorithm>();
+    for (int i = 0; i < possible.length; i++) {
+      if (possible[i]) {
+        result.add(algorithms.get(i));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Mark algorithms using a condition as possible.
+   *
+   * @param condition Condition found in the page contents.
+   * @param possible Flags for possible algorithms.
+   * @return Number of algorithms newly marked as possible.
+   */
+  private int markPossible(int condition, boolean[] possible) {
+    int count = 0;
+    for (int algorithm : algorithmsByCondition[condition]) {
+      if (!possible[algorithm]) {
+        possible[algorithm] = true;
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @param contents Page contents.
+   * @param literal Literal in lower case.
+   * @param index Index in the page contents.
+   * @return True if the page contents contains the literal at the index, ignoring case.
+   */
+  private static boolean startsWithIgnoreCase(String contents, String literal, int index) {
+    if (index + literal.length() > contents.length()) {
+      return false;
+    }
+    for (int i = 0; i < literal.length(); i++) {
+      if (Character.toLowerCase(contents.charAt(index + i)) != literal.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -31,6 +31,7 @@ import org.wikipediacleaner.api.constants.wiki.Wiktionary;
 import org.wikipediacleaner.api.data.DataManager;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
+import org.wikipediacleaner.api.data.TitlePool;
 import org.wikipediacleaner.api.impl.CommentDecorator;
 import org.wikipediacleaner.api.impl.ProgramCommentDecorator;
 import org.wikipediacleaner.utils.Configuration;
@@ -178,6 +179,12 @@ public enum EnumWikipedia {
   }
 
   /**
+   * Normalize a title.
+   * 
+   * <p>The case of the first letter is managed according to the namespace
+   * of the title. Normalized titles are kept in a pool, so a title
+   * normalized again is simply retrieved from the pool.</p>
+   * 
    * @param pageTitle Title.
    * @return Normalized title.
    */
@@ -185,12 +192,31 @@ public enum EnumWikipedia {
     if (pageTitle == null) {
       return null;
     }
-    String result = pageTitle.replaceAll(" ", " ");
-    result = result.replaceAll("_", " ");
-    result = result.replaceAll(" +", " ");
-    result = result.trim();
-    result = Page.getStringUcFirst(result);
-    return result;
+    TitlePool titlePool = wikiConfiguration.getTitlePool();
+    String result = titlePool.get(pageTitle);
+    if (result != null) {
+      return result;
+    }
+    result = Page.normalizeTitle(pageTitle, false);
+    if (result.length() > 0) {
+      Namespace namespace = wikiConfiguration.getNamespaceOfTitle(result);
+      boolean caseSensitive =
+          (namespace != null) &&
+          (namespace.getCaseSensitiveness() == EnumCaseSensitiveness.CASE_SENSITIVE);
+      if ((namespace != null) && (namespace.getId().intValue() != Namespace.MAIN)) {
+        int colonIndex = result.indexOf(':');
+        String title = result.substring(colonIndex + 1);
+        String ucTitle = caseSensitive ? title : Page.getStringUcFirst(title);
+        String prefix = result.substring(0, colonIndex);
+        String ucPrefix = Page.getStringUcFirst(prefix);
+        if ((ucTitle != title) || (ucPrefix != prefix)) {
+          result = ucPrefix + ":" + ucTitle;
+        }
+      } else if (!caseSensitive) {
+        result = Page.getStringUcFirst(result);
+      }
+    }
+    return titlePool.put(pageTitle, result);
   }
 
   // =========================================================================
@@ -423,6 +449,16 @@ public enum EnumWikipedia {
     disambiguationPages = tmpResult;
   }
 
+  /**
+   * @return Titles of all disambiguation pages (null if not loaded).
+   */
+  public Set<String> getDisambiguationPages() {
+    if (disambiguationPages == null) {
+      return null;
+    }
+    return Collections.unmodifiableSet(disambiguationPages);
+  }
+
   /**
    * @return true if disambiguation pages have been loaded.
    */
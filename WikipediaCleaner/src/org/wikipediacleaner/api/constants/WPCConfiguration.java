@@ -31,6 +31,7 @@ import org.wikipediacleaner.api.data.PageElementTag.Parameter;
 import org.wikipediacleaner.api.data.PageAnalysisUtils;
 import org.wikipediacleaner.api.data.PageElementTemplate;
 import org.wikipediacleaner.api.data.Suggestion;
+import org.wikipediacleaner.api.data.SuggestionFilter;
 import org.wikipediacleaner.api.data.TemplateMatch;
 import org.wikipediacleaner.api.data.TemplateMatcher;
 import org.wikipediacleaner.api.data.TemplateMatcher1L;
@@ -103,6 +104,7 @@ public class WPCConfiguration {
     initDefaultEncyclopedicNamespaces();
     disambiguationCategories = null;
     suggestions = null;
+    suggestionFilter = null;
     templateMatchers = new HashMap<String, List<TemplateMatcher>>();
     templatesAfterAskHelp = null;
     wiktionaryMatches = null;
@@ -577,6 +579,11 @@ public class WPCConfiguration {
    */
   private Map<String, Suggestion> suggestions;
 
+  /**
+   * Filter finding where spelling suggestions may match.
+   */
+  private SuggestionFilter suggestionFilter;
+
   /**
    * Initialize suggestions for text replacements.
    * 
@@ -709,6 +716,7 @@ public class WPCConfiguration {
           }
         }
 
+        suggestionFilter = new SuggestionFilter(tmpMap.values());
         suggestions = tmpMap;
       }
     }
@@ -721,6 +729,13 @@ public class WPCConfiguration {
     return suggestions;
   }
 
+  /**
+   * @return Filter finding where spelling suggestions may match.
+   */
+  public SuggestionFilter getSuggestionFilter() {
+    return suggestionFilter;
+  }
+
   /* ================================================================================= */
   /* Template matches                                                                  */
   /* ================================================================================= */
@@ -8,15 +8,20 @@
 package org.wikipediacleaner.api.constants;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.wikipediacleaner.api.data.Interwiki;
 import org.wikipediacleaner.api.data.Language;
 import org.wikipediacleaner.api.data.MagicWord;
 import org.wikipediacleaner.api.data.Namespace;
+import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.SpecialPage;
+import org.wikipediacleaner.api.data.TitlePool;
 
 
 /**
@@ -128,6 +133,21 @@ public class WikiConfiguration {
    */
   private List<Namespace> namespaces;
 
+  /**
+   * Namespaces by id.
+   */
+  private Map<Integer, Namespace> namespacesById;
+
+  /**
+   * Namespaces by name, for every alias.
+   */
+  private Map<String, Namespace> namespacesByName;
+
+  /**
+   * Normalized titles, depending on the namespaces.
+   */
+  private final TitlePool titlePool = new TitlePool();
+
   /**
    * @return List of namespaces
    */
@@ -139,10 +159,36 @@ public class WikiConfiguration {
    * @param namespaces List of namespaces
    */
   public void setNamespaces(List<Namespace> namespaces) {
-    this.namespaces = namespaces;
+    Map<Integer, Namespace> tmpById = null;
+    Map<String, Namespace> tmpByName = null;
     if (namespaces != null) {
       Collections.sort(namespaces);
+      tmpById = new HashMap<Integer, Namespace>();
+      tmpByName = new HashMap<String, Namespace>();
+      for (Namespace n : namespaces) {
+        if ((n != null) && (n.getId() != null)) {
+          if (!tmpById.containsKey(n.getId())) {
+            tmpById.put(n.getId(), n);
+          }
+          for (String alias : n.getAliases()) {
+            if (!tmpByName.containsKey(alias)) {
+              tmpByName.put(alias, n);
+            }
+          }
+        }
+      }
     }
+    this.namespacesById = tmpById;
+    this.namespacesByName = tmpByName;
+    this.namespaces = namespaces;
+    titlePool.clear();
+  }
+
+  /**
+   * @return Pool of normalized titles.
+   */
+  public TitlePool getTitlePool() {
+    return titlePool;
   }
 
   /**
@@ -150,15 +196,41 @@ public class WikiConfiguration {
    * @return Matching namespace.
    */
   public Namespace getNamespace(int id) {
-    if (namespaces == null) {
+    Map<Integer, Namespace> tmpById = namespacesById;
+    if (tmpById == null) {
+      return null;
+    }
+    return tmpById.get(Integer.valueOf(id));
+  }
+
+  /**
+   * @param name Namespace name.
+   * @return Namespace for which the name is an alias.
+   */
+  public Namespace getNamespaceByName(String name) {
+    Map<String, Namespace> tmpByName = namespacesByName;
+    if ((tmpByName == null) || (name == null)) {
+      return null;
+    }
+    return tmpByName.get(Page.getStringUcFirst(name.trim()));
+  }
+
+  /**
+   * @param title Page title.
+   * @return Namespace of the page, or null if namespaces are unknown.
+   */
+  public Namespace getNamespaceOfTitle(String title) {
+    if ((namespaces == null) || (title == null)) {
       return null;
     }
-    for (Namespace n : namespaces) {
-      if ((n != null) && (n.getId() != null) && (id == n.getId().intValue())) {
-        return n;
+    int colonIndex = title.indexOf(':');
+    if (colonIndex > 0) {
+      Namespace namespace = getNamespaceByName(title.substring(0, colonIndex));
+      if (namespace != null) {
+        return namespace;
       }
     }
-    return null;
+    return getNamespace(Namespace.MAIN);
   }
 
   /**
@@ -180,11 +252,9 @@ public class WikiConfiguration {
         return namespace.getCaseSensitiveness().normalize(title);
       }
       if (colonIndex > 0) {
-        String possibleNamespace = title.substring(0, colonIndex);
-        for (Namespace n : namespaces) {
-          if (n.isPossibleName(possibleNamespace)) {
-            return n.getTitle() + ":" + n.getCaseSensitiveness().normalize(title.substring(colonIndex + 1));
-          }
+        Namespace n = getNamespaceByName(title.substring(0, colonIndex));
+        if (n != null) {
+          return n.getTitle() + ":" + n.getCaseSensitiveness().normalize(title.substring(colonIndex + 1));
         }
       }
       return namespace.getTitle() + ":" + namespace.getCaseSensitiveness().normalize(title);
@@ -263,15 +333,11 @@ public class WikiConfiguration {
    * @return Magic word.
    */
   public MagicWord getMagicWordByAlias(String value) {
-    if ((value == null) || (magicWords == null)) {
+    MagicWordTable table = magicWordsTable;
+    if ((value == null) || (table == null)) {
       return null;
     }
-    for (MagicWord magicWord : magicWords.values()) {
-      if (magicWord.isPossibleAlias(value)) {
-        return magicWord;
-      }
-    }
-    return null; 
+    return table.get(value);
   }
 
   /**
@@ -280,20 +346,15 @@ public class WikiConfiguration {
    * @return Matching Magic Word if the text is an alias for a Function Magic Word.
    */
   public MagicWord getFunctionMagicWord(String text, boolean colon) {
-    List<String> functionMagicWords = MagicWord.getFunctionMagicWords();
-    String colonText = text + ":";
-    for (String functionMagicWord : functionMagicWords) {
-      MagicWord magicWord = getMagicWordByName(functionMagicWord);
-      if (magicWord != null) {
-        if (magicWord.isPossibleAlias(text)) {
-          return magicWord;
-        }
-        if (colon && magicWord.isPossibleAlias(colonText)) {
-          return magicWord;
-        }
-      }
+    MagicWordTable table = functionMagicWordsTable;
+    if ((text == null) || (table == null)) {
+      return null;
     }
-    return null;
+    MagicWord magicWord = table.get(text);
+    if ((magicWord == null) && colon) {
+      magicWord = table.get(text + ":");
+    }
+    return magicWord;
   }
 
   /**
@@ -301,23 +362,171 @@ public class WikiConfiguration {
    * @return Matching Magic Word if the text is an alias for a Image Magic Word.
    */
   public MagicWord getImgMagicWord(String text) {
-    List<String> imgMagicWords = MagicWord.getImgMagicWords();
-    for (String imgMagicWord : imgMagicWords) {
-      MagicWord magicWord = getMagicWordByName(imgMagicWord);
-      if ((magicWord != null) && magicWord.isPossibleAlias(text)) {
-        return magicWord;
-      }
+    MagicWordTable table = imgMagicWordsTable;
+    if ((text == null) || (table == null)) {
+      return null;
     }
-    return null;
+    return table.get(text);
   }
 
   /**
    * @param magicWords Magic words.
    */
   public void setMagicWords(Map<String, MagicWord> magicWords) {
+    MagicWordTable tmpAll = null;
+    MagicWordTable tmpFunctions = null;
+    MagicWordTable tmpImg = null;
+    if (magicWords != null) {
+      tmpAll = new MagicWordTable();
+      for (MagicWord magicWord : magicWords.values()) {
+        tmpAll.add(magicWord);
+      }
+      tmpFunctions = new MagicWordTable();
+      for (String name : MagicWord.getFunctionMagicWords()) {
+        tmpFunctions.add(magicWords.get(name));
+      }
+      tmpImg = new MagicWordTable();
+      for (String name : MagicWord.getImgMagicWords()) {
+        tmpImg.add(magicWords.get(name));
+      }
+    }
+    this.magicWordsTable = tmpAll;
+    this.functionMagicWordsTable = tmpFunctions;
+    this.imgMagicWordsTable = tmpImg;
     this.magicWords = magicWords;
   }
 
+  /**
+   * Table of all magic words by alias.
+   */
+  private MagicWordTable magicWordsTable;
+
+  /**
+   * Table of function magic words by alias.
+   */
+  private MagicWordTable functionMagicWordsTable;
+
+  /**
+   * Table of image magic words by alias.
+   */
+  private MagicWordTable imgMagicWordsTable;
+
+  /**
+   * Table of magic words by alias, giving the same results as MagicWord.isPossibleAlias().
+   * The first magic word added is used when several magic words match.
+   */
+  private static class MagicWordTable {
+
+    /** Magic words by alias */
+    private final Map<String, MagicWord> byAlias = new HashMap<String, MagicWord>();
+
+    /** Case insensitive magic words by case folded alias */
+    private final Map<String, MagicWord> byFoldedAlias = new HashMap<String, MagicWord>();
+
+    /** Sharp magic words by alias */
+    private final Map<String, MagicWord> sharpByAlias = new HashMap<String, MagicWord>();
+
+    /** Case insensitive sharp magic words by case folded alias */
+    private final Map<String, MagicWord> sharpByFoldedAlias = new HashMap<String, MagicWord>();
+
+    /** Magic words with aliases containing a parameter */
+    private final List<MagicWord> withParameter = new ArrayList<MagicWord>();
+
+    /** Patterns for the aliases containing a parameter */
+    private final List<Pattern> parameterPatterns = new ArrayList<Pattern>();
+
+    /**
+     * @param magicWord Magic word to add to the table.
+     */
+    void add(MagicWord magicWord) {
+      if ((magicWord == null) || (magicWord.getAliases() == null)) {
+        return;
+      }
+      boolean sharp = magicWord.isSharp();
+      for (String alias : magicWord.getAliases()) {
+        if (alias.contains("$1")) {
+          withParameter.add(magicWord);
+          parameterPatterns.add(Pattern.compile(alias.replaceAll("\\$1", ".*")));
+        } else {
+          addAlias(sharp ? sharpByAlias : byAlias, alias, magicWord);
+          if (!magicWord.isCaseSensitive()) {
+            addAlias(sharp ? sharpByFoldedAlias : byFoldedAlias, fold(alias), magicWord);
+          }
+        }
+      }
+    }
+
+    /**
+     * @param text Text.
+     * @return Magic word for which the text is a possible alias.
+     */
+    MagicWord get(String text) {
+
+      // Magic words not using #, or text not beginning with #
+      MagicWord result = byAlias.get(text);
+      if (result != null) {
+        return result;
+      }
+      String folded = fold(text);
+      result = byFoldedAlias.get(folded);
+      if (result != null) {
+        return result;
+      }
+
+      // Magic words using #
+      String sharpText = text;
+      String sharpFolded = folded;
+      if ((text.length() > 0) && (text.charAt(0) == '#')) {
+        sharpText = text.substring(1);
+        sharpFolded = folded.substring(1);
+      }
+      result = sharpByAlias.get(sharpText);
+      if (result != null) {
+        return result;
+      }
+      result = sharpByFoldedAlias.get(sharpFolded);
+      if (result != null) {
+        return result;
+      }
+
+      // Aliases containing a parameter
+      for (int i = 0; i < parameterPatterns.size(); i++) {
+        MagicWord magicWord = withParameter.get(i);
+        String tmpText = text;
+        if ((text.length() > 0) && (text.charAt(0) == '#') && magicWord.isSharp()) {
+          tmpText = sharpText;
+        }
+        if (parameterPatterns.get(i).matcher(tmpText).matches()) {
+          return magicWord;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * @param map Map of magic words by alias.
+     * @param alias Alias.
+     * @param magicWord Magic word.
+     */
+    private static void addAlias(Map<String, MagicWord> map, String alias, MagicWord magicWord) {
+      if (!map.containsKey(alias)) {
+        map.put(alias, magicWord);
+      }
+    }
+
+    /**
+     * @param text Text.
+     * @return Text folded so that texts equal ignoring case have the same folded text.
+     */
+    private static String fold(String text) {
+      char[] chars = text.toCharArray();
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+      }
+      return new String(chars);
+    }
+  }
+
   // ==========================================================================
   // Special pages
   // ==========================================================================
@@ -343,24 +552,40 @@ public class WikiConfiguration {
    * @return Special page.
    */
   public SpecialPage getSpecialPageByAlias(String value) {
-    if ((value == null) || (specialPages == null)) {
+    Map<String, SpecialPage> tmpByAlias = specialPagesByAlias;
+    if ((value == null) || (tmpByAlias == null)) {
       return null;
     }
-    for (SpecialPage specialPage : specialPages.values()) {
-      if (specialPage.isPossibleAlias(value)) {
-        return specialPage;
-      }
-    }
-    return null; 
+    return tmpByAlias.get(Page.normalizeTitle(value));
   }
 
   /**
    * @param specialPages Special pages.
    */
   public void setSpecialPages(Map<String, SpecialPage> specialPages) {
+    Map<String, SpecialPage> tmpByAlias = null;
+    if (specialPages != null) {
+      tmpByAlias = new HashMap<String, SpecialPage>();
+      for (SpecialPage specialPage : specialPages.values()) {
+        if (specialPage.getAliases() != null) {
+          for (String alias : specialPage.getAliases()) {
+            String normalized = Page.normalizeTitle(alias);
+            if ((normalized != null) && !tmpByAlias.containsKey(normalized)) {
+              tmpByAlias.put(normalized, specialPage);
+            }
+          }
+        }
+      }
+    }
+    this.specialPagesByAlias = tmpByAlias;
     this.specialPages = specialPages;
   }
 
+  /**
+   * Special pages by normalized alias.
+   */
+  private Map<String, SpecialPage> specialPagesByAlias;
+
   // ==========================================================================
   // Messages
   // ==========================================================================
@@ -7,12 +7,15 @@
 
 package org.wikipediacleaner.api.data;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import org.wikipediacleaner.utils.RegexExecution;
+
 
 /**
  * Utility class to memorize automatic fixing parameters
@@ -128,21 +131,39 @@ public class AutomaticFixing implements Comparable<AutomaticFixing> {
         // Apply for a regular expression
         try {
           Pattern pattern = Pattern.compile(originalText);
-          Matcher matcher = pattern.matcher(text);
-          while (matcher.find()) {
-            String foundText = matcher.group();
-            int start = matcher.start();
-            int end = matcher.end();
-            int currentLength = tmpText.length();
-            matcher.appendReplacement(tmpText, replacementText);
-            if (replacements != null) {
-              String replacedBy = tmpText.substring(currentLength + start - currentIndex);
-              String comment = foundText + " → " + replacedBy;
-              if (!replacements.contains(comment)) {
-                replacements.add(comment);
+          RegexExecution execution = RegexExecution.start(pattern, text);
+          if (execution != null) {
+            List<String> tmpReplacements = new ArrayList<String>();
+            try {
+              Matcher matcher = pattern.matcher(execution.getText());
+              while (matcher.find()) {
+                String foundText = matcher.group();
+                int start = matcher.start();
+                int end = matcher.end();
+                int currentLength = tmpText.length();
+                matcher.appendReplacement(tmpText, replacementText);
+                if (replacements != null) {
+                  String replacedBy = tmpText.substring(currentLength + start - currentIndex);
+                  String comment = foundText + " → " + replacedBy;
+                  if (!tmpReplacements.contains(comment)) {
+                    tmpReplacements.add(comment);
+                  }
+                }
+                currentIndex = end;
+              }
+              if (replacements != null) {
+                for (String comment : tmpReplacements) {
+                  if (!replacements.contains(comment)) {
+                    replacements.add(comment);
+                  }
+                }
               }
+            } catch (RegexExecution.BudgetExceededException e) {
+              // Pattern quarantined, the text is left unchanged
+              currentIndex = 0;
+            } finally {
+              execution.end();
             }
-            currentIndex = end;
           }
         } catch (PatternSyntaxException e) {
           System.err.println("Error with " + originalText + ": " + e.getMessage());
@@ -8,6 +8,7 @@
 
 package org.wikipediacleaner.api.data;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -47,16 +48,19 @@ public class AutomaticFormatter {
 
     // Fix Check Wiki errors
     if (algorithms != null) {
+      List<AlgorithmFix> fixes = new ArrayList<AlgorithmFix>();
       for (CheckErrorAlgorithm algorithm : algorithms) {
         if (algorithm.isAvailable() &&
             CheckErrorAlgorithms.isAlgorithmActive(wiki, algorithm.getErrorNumber())) {
-          String currentContents = contents;
-          PageAnalysis analysis = page.getAnalysis(currentContents, true);
-          contents = botFix ? algorithm.botFix(analysis) : algorithm.automaticFix(analysis);
-          if ((usedAlgorithms != null) && (!contents.equals(currentContents))) {
-            // TODO: compute if fix is complete ?
-            usedAlgorithms.add(new CheckError.Progress(algorithm, true));
-          }
+          fixes.add(new AlgorithmFix(algorithm, botFix));
+        }
+      }
+      List<FixPlanner.Fix> appliedFixes = new ArrayList<FixPlanner.Fix>();
+      contents = new FixPlanner(page).apply(contents, fixes, appliedFixes);
+      if (usedAlgorithms != null) {
+        for (FixPlanner.Fix fix : appliedFixes) {
+          // TODO: compute if fix is complete ?
+          usedAlgorithms.add(new CheckError.Progress(((AlgorithmFix) fix).algorithm, true));
         }
       }
     }
@@ -79,6 +83,37 @@ public class AutomaticFormatter {
     return contents;
   }
 
+  /**
+   * Fix of the errors detected by a Check Wiki algorithm.
+   */
+  private static class AlgorithmFix implements FixPlanner.Fix {
+
+    /** Check Wiki algorithm */
+    final CheckErrorAlgorithm algorithm;
+
+    /** True to use bot fixes */
+    private final boolean botFix;
+
+    /**
+     * @param algorithm Check Wiki algorithm.
+     * @param botFix True to use bot fixes.
+     */
+    AlgorithmFix(CheckErrorAlgorithm algorithm, boolean botFix) {
+      this.algorithm = algorithm;
+      this.botFix = botFix;
+    }
+
+    /**
+     * @param analysis Page analysis.
+     * @return Page contents after fix.
+     * @see org.wikipediacleaner.api.data.FixPlanner.Fix#fix(org.wikipediacleaner.api.data.PageAnalysis)
+     */
+    @Override
+    public String fix(PageAnalysis analysis) {
+      return botFix ? algorithm.botFix(analysis) : algorithm.automaticFix(analysis);
+    }
+  }
+
   /**
    * Auto formatting options: link default sort and categories.
    * 
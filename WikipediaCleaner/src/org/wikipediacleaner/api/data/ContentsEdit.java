@@ -0,0 +1,253 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Replacement of a part of the page contents.
+ */
+public class ContentsEdit implements Comparable<ContentsEdit> {
+
+  /** Maximum number of differences computed in details */
+  private final static int MAX_DIFFERENCES = 1000;
+
+  /** Minimum length of unchanged text between two edits */
+  private final static int MIN_UNCHANGED_LENGTH = 4;
+
+  /** Begin index of the replaced part */
+  private final int beginIndex;
+
+  /** End index of the replaced part */
+  private final int endIndex;
+
+  /** Replacement text */
+  private final String replacement;
+
+  /**
+   * @param beginIndex Begin index of the replaced part.
+   * @param endIndex End index of the replaced part.
+   * @param replacement Replacement text.
+   */
+  public ContentsEdit(int beginIndex, int endIndex, String replacement) {
+    if ((beginIndex < 0) || (beginIndex > endIndex)) {
+      throw new IllegalArgumentException(
+          "Invalid edit [" + beginIndex + "," + endIndex + "]");
+    }
+    this.beginIndex = beginIndex;
+    this.endIndex = endIndex;
+    this.replacement = (replacement != null) ? replacement : "";
+  }
+
+  /**
+   * @return Begin index of the replaced part.
+   */
+  public int getBeginIndex() {
+    return beginIndex;
+  }
+
+  /**
+   * @return End index of the replaced part.
+   */
+  public int getEndIndex() {
+    return endIndex;
+  }
+
+  /**
+   * @return Replacement text.
+   */
+  public String getReplacement() {
+    return replacement;
+  }
+
+  /**
+   * @param edit Other edit.
+   * @return True if both edits overlap or begin at the same index.
+   */
+  public boolean overlaps(ContentsEdit edit) {
+    if (beginIndex == edit.beginIndex) {
+      return true;
+    }
+    return (beginIndex < edit.endIndex) && (edit.beginIndex < endIndex);
+  }
+
+  /**
+   * @param edit Other edit.
+   * @return True if both edits overlap or touch each other.
+   */
+  public boolean isConflicting(ContentsEdit edit) {
+    return (beginIndex <= edit.endIndex) && (edit.beginIndex <= endIndex);
+  }
+
+  /**
+   * Apply a list of edits to a text.
+   *
+   * @param contents Text.
+   * @param edits Edits sorted by position and not overlapping.
+   * @return Text with the edits applied.
+   */
+  public static String apply(String contents, List<ContentsEdit> edits) {
+    if ((contents == null) || (edits == null) || edits.isEmpty()) {
+      return contents;
+    }
+    StringBuilder result = new StringBuilder(contents.length());
+    int currentIndex = 0;
+    for (ContentsEdit edit : edits) {
+      if (edit.beginIndex < currentIndex) {
+        throw new IllegalArgumentException(
+            "Overlapping edit [" + edit.beginIndex + "," + edit.endIndex + "]");
+      }
+      result.append(contents, currentIndex, edit.beginIndex);
+      result.append(edit.replacement);
+      currentIndex = edit.endIndex;
+    }
+    result.append(contents, currentIndex, contents.length());
+    return result.toString();
+  }
+
+  /**
+   * Compute the edits transforming a text into an other one.
+   *
+   * <p>Differences are computed character by character (Myers algorithm)
+   * as long as they are not too numerous, edits separated by a very short
+   * unchanged text are merged.
+   * Otherwise, a single edit covering all differences is returned.</p>
+   *
+   * @param oldContents Original text.
+   * @param newContents Modified text.
+   * @return Edits sorted by position.
+   */
+  public static List<ContentsEdit> diff(String oldContents, String newContents) {
+    List<ContentsEdit> result = new ArrayList<ContentsEdit>();
+
+    // Remove common prefix and suffix
+    int oldLength = oldContents.length();
+    int newLength = newContents.length();
+    int minLength = Math.min(oldLength, newLength);
+    int prefix = 0;
+    while ((prefix < minLength) &&
+           (oldContents.charAt(prefix) == newContents.charAt(prefix))) {
+      prefix++;
+    }
+    int suffix = 0;
+    while ((suffix < minLength - prefix) &&
+           (oldContents.charAt(oldLength - 1 - suffix) == newContents.charAt(newLength - 1 - suffix))) {
+      suffix++;
+    }
+    int n = oldLength - prefix - suffix;
+    int m = newLength - prefix - suffix;
+    if ((n == 0) && (m == 0)) {
+      return result;
+    }
+    if ((n == 0) || (m == 0)) {
+      result.add(new ContentsEdit(
+          prefix, prefix + n, newContents.substring(prefix, prefix + m)));
+      return result;
+    }
+
+    // Compute the furthest paths for each number of differences
+    int max = Math.min(n + m, MAX_DIFFERENCES);
+    int offset = max + 1;
+    int[] v = new int[2 * max + 3];
+    List<int[]> trace = new ArrayList<int[]>();
+    int differences = -1;
+    for (int d = 0; (d <= max) && (differences < 0); d++) {
+      trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+      for (int k = -d; k <= d; k += 2) {
+        int x = ((k == -d) || ((k != d) && (v[offset + k - 1] < v[offset + k + 1]))) ?
+            v[offset + k + 1] : v[offset + k - 1] + 1;
+        int y = x - k;
+        while ((x < n) && (y < m) &&
+               (oldContents.charAt(prefix + x) == newContents.charAt(prefix + y))) {
+          x++;
+          y++;
+        }
+        v[offset + k] = x;
+        if ((x >= n) && (y >= m)) {
+          differences = d;
+          break;
+        }
+      }
+    }
+    if (differences < 0) {
+      result.add(new ContentsEdit(
+          prefix, prefix + n, newContents.substring(prefix, prefix + m)));
+      return result;
+    }
+
+    // Go back through the paths to find the edits
+    int x = n;
+    int y = m;
+    boolean open = false;
+    int oldBegin = 0;
+    int oldEnd = 0;
+    int newBegin = 0;
+    int newEnd = 0;
+    for (int d = differences; d > 0; d--) {
+      int[] vd = trace.get(d);
+      int k = x - y;
+      int previousK = ((k == -d) || ((k != d) && (vd[d + k - 1] < vd[d + k + 1]))) ?
+          k + 1 : k - 1;
+      int previousX = vd[d + previousK];
+      int previousY = previousX - previousK;
+      int middleX = (previousK == k + 1) ? previousX : previousX + 1;
+      int middleY = middleX - k;
+      if (open && (x - middleX >= MIN_UNCHANGED_LENGTH)) {
+        result.add(new ContentsEdit(
+            prefix + oldBegin, prefix + oldEnd,
+            newContents.substring(prefix + newBegin, prefix + newEnd)));
+        open = false;
+      }
+      if (!open) {
+        oldEnd = middleX;
+        newEnd = middleY;
+        open = true;
+      }
+      oldBegin = previousX;
+      newBegin = previousY;
+      x = previousX;
+      y = previousY;
+    }
+    if (open) {
+      result.add(new ContentsEdit(
+          prefix + oldBegin, prefix + oldEnd,
+          newContents.substring(prefix + newBegin, prefix + newEnd)));
+    }
+    Collections.reverse(result);
+    return result;
+  }
+
+  /**
+   * @param edit Other edit.
+   * @return Comparison of the positions of the edits.
+   * @see java.lang.Comparable#compareTo(java.lang.Object)
+   */
+  @Override
+  public int compareTo(ContentsEdit edit) {
+    if (beginIndex != edit.beginIndex) {
+      return (beginIndex < edit.beginIndex) ? -1 : 1;
+    }
+    if (endIndex != edit.endIndex) {
+      return (endIndex < edit.endIndex) ? -1 : 1;
+    }
+    return 0;
+  }
+
+  /**
+   * @return Textual description of the edit.
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return "[" + beginIndex + "," + endIndex + "] → " + replacement;
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Builder collecting edits on the page contents, and creating the modified
+ * contents in a single pass.
+ *
+ * <p>Edits may be added in any order, but they may not overlap:
+ * an edit overlapping an edit already added is ignored.</p>
+ */
+public class ContentsEditBuilder {
+
+  /** Original contents */
+  private final String contents;
+
+  /** Edits, sorted by position */
+  private final List<ContentsEdit> edits;
+
+  /**
+   * @param contents Original contents.
+   */
+  public ContentsEditBuilder(String contents) {
+    this.contents = contents;
+    this.edits = new ArrayList<ContentsEdit>();
+  }
+
+  /**
+   * Add an edit.
+   *
+   * @param beginIndex Begin index of the replaced part.
+   * @param endIndex End index of the replaced part.
+   * @param replacement Replacement text.
+   * @return True if the edit has been added, false if it overlaps an other edit.
+   */
+  public boolean addEdit(int beginIndex, int endIndex, String replacement) {
+    return addEdit(new ContentsEdit(beginIndex, endIndex, replacement));
+  }
+
+  /**
+   * Add an edit removing text.
+   *
+   * @param beginIndex Begin index of the removed part.
+   * @param endIndex End index of the removed part.
+   * @return True if the edit has been added, false if it overlaps an other edit.
+   */
+  public boolean removeText(int beginIndex, int endIndex) {
+    return addEdit(new ContentsEdit(beginIndex, endIndex, ""));
+  }
+
+  /**
+   * Add an edit.
+   *
+   * @param edit Edit.
+   * @return True if the edit has been added, false if it overlaps an other edit.
+   */
+  public boolean addEdit(ContentsEdit edit) {
+    if (edit.getEndIndex() > contents.length()) {
+      throw new IllegalArgumentException(
+          "Edit [" + edit.getBeginIndex() + "," + edit.getEndIndex() +
+          "] outside of contents of length " + contents.length());
+    }
+
+    // Check overlap with the surrounding edits
+    int index = getIndex(edit);
+    if ((index > 0) && edits.get(index - 1).overlaps(edit)) {
+      return false;
+    }
+    if ((index < edits.size()) && edits.get(index).overlaps(edit)) {
+      return false;
+    }
+    edits.add(index, edit);
+    return true;
+  }
+
+  /**
+   * Add a group of edits, only if none of them overlaps or touches an edit
+   * already added.
+   *
+   * <p>Either all the edits of the group are added, or none of them.</p>
+   *
+   * @param newEdits Edits sorted by position and not overlapping.
+   * @return True if the edits have been added, false if one of them conflicts with an other edit.
+   */
+  public boolean addIndependentEdits(List<ContentsEdit> newEdits) {
+    ContentsEdit previous = null;
+    for (ContentsEdit edit : newEdits) {
+      if (edit.getEndIndex() > contents.length()) {
+        throw new IllegalArgumentException(
+            "Edit [" + edit.getBeginIndex() + "," + edit.getEndIndex() +
+            "] outside of contents of length " + contents.length());
+      }
+      if ((previous != null) &&
+          ((previous.getEndIndex() > edit.getBeginIndex()) || previous.overlaps(edit))) {
+        throw new IllegalArgumentException(
+            "Edit [" + edit.getBeginIndex() + "," + edit.getEndIndex() +
+            "] not sorted or overlapping the previous edit");
+      }
+      int index = getIndex(edit);
+      if ((index > 0) && edits.get(index - 1).isConflicting(edit)) {
+        return false;
+      }
+      if ((index < edits.size()) && edits.get(index).isConflicting(edit)) {
+        return false;
+      }
+      previous = edit;
+    }
+    for (ContentsEdit edit : newEdits) {
+      edits.add(getIndex(edit), edit);
+    }
+    return true;
+  }
+
+  /**
+   * @param edit Edit.
+   * @return Index of the first edit beginning at or after the edit.
+   */
+  private int getIndex(ContentsEdit edit) {
+    int low = 0;
+    int high = edits.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (edits.get(middle).getBeginIndex() < edit.getBeginIndex()) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return True if no edit has been added.
+   */
+  public boolean isEmpty() {
+    return edits.isEmpty();
+  }
+
+  /**
+   * @return Edits, sorted by position.
+   */
+  public List<ContentsEdit> getEdits() {
+    return Collections.unmodifiableList(edits);
+  }
+
+  /**
+   * @return Contents with all the edits applied.
+   */
+  public String getContents() {
+    return ContentsEdit.apply(contents, edits);
+  }
+}
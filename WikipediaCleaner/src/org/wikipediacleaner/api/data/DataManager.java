@@ -35,11 +35,13 @@ public class DataManager {
       List<Page> knownPages) {
 
     // Check in the known pages
-    if (knownPages != null) {
+    if ((knownPages != null) && (title != null)) {
+      String normalizedTitle = (wikipedia != null) ?
+          wikipedia.normalizeTitle(title) : Page.normalizeTitle(title);
       for (Page page : knownPages) {
         if ((page != null) &&
             (page.getWikipedia() == wikipedia) &&
-            (Page.areSameTitle(page.getTitle(), title)) &&
+            (Page.areSameTitle(wikipedia, page.getTitle(), normalizedTitle)) &&
             ((revisionId == null) || (revisionId.equals(page.getRevisionId().toString())))) {
           return page;
         }
@@ -56,13 +58,9 @@ public class DataManager {
       int colonIndex = page.getTitle().indexOf(':');
       if (colonIndex > 0) {
         String namespaceText = page.getTitle().substring(0, colonIndex);
-        List<Namespace> namespaces = wikipedia.getWikiConfiguration().getNamespaces();
-        if (namespaces != null) {
-          for (Namespace namespace : namespaces) {
-            if (namespace.isPossibleName(namespaceText)) {
-              page.setNamespace(namespace.getId());
-            }
-          }
+        Namespace namespace = wikipedia.getWikiConfiguration().getNamespaceByName(namespaceText);
+        if (namespace != null) {
+          page.setNamespace(namespace.getId());
         }
       }
       if (page.getNamespace() == null) {
@@ -0,0 +1,107 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Planner applying several fixes to a page with as few analysis as possible.
+ *
+ * <p>All fixes are computed on the same analysis of the page, and the edits
+ * of the fixes which neither overlap nor touch the edits of the previous ones
+ * are applied together in a single pass.</p>
+ *
+ * <p>A fix computed after an other fix has modified the page in the same round
+ * may depend on the result of this other fix: it is treated as a conflict and
+ * computed again on the analysis of the modified page in the next round.
+ * Each round settles at least the first fix modifying the page, and the rounds
+ * stop when no fix has anything left to fix.</p>
+ *
+ * <p>Fixes are supposed to be local: the result is the same as applying them
+ * one after the other as long as each fix only depends on the text around
+ * the errors it fixes.</p>
+ */
+class FixPlanner {
+
+  /**
+   * Fix computed on an analysis of the page.
+   */
+  static interface Fix {
+
+    /**
+     * @param analysis Page analysis.
+     * @return Page contents after fix.
+     */
+    String fix(PageAnalysis analysis);
+  }
+
+  /** Page */
+  private final Page page;
+
+  /** Number of analysis used by the last call to apply() */
+  private int analysisCount;
+
+  /**
+   * @param page Page.
+   */
+  FixPlanner(Page page) {
+    this.page = page;
+  }
+
+  /**
+   * Apply fixes to the page contents.
+   *
+   * @param contents Current contents.
+   * @param fixes Fixes to apply, in order.
+   * @param appliedFixes Fixes which have modified the contents (may be null).
+   * @return New contents.
+   */
+  String apply(String contents, List<? extends Fix> fixes, List<Fix> appliedFixes) {
+    analysisCount = 0;
+    List<Fix> pendingFixes = new ArrayList<Fix>(fixes);
+    while (!pendingFixes.isEmpty()) {
+      PageAnalysis analysis = page.getAnalysis(contents, true);
+      analysisCount++;
+      ContentsEditBuilder builder = new ContentsEditBuilder(contents);
+      List<Fix> nextFixes = new ArrayList<Fix>();
+      boolean modified = false;
+      for (Fix fix : pendingFixes) {
+        String newContents = fix.fix(analysis);
+        if ((newContents == null) || newContents.equals(contents)) {
+          if (modified) {
+            nextFixes.add(fix);
+          }
+        } else {
+          if (builder.addIndependentEdits(ContentsEdit.diff(contents, newContents))) {
+            if ((appliedFixes != null) && !appliedFixes.contains(fix)) {
+              appliedFixes.add(fix);
+            }
+            if (modified) {
+              nextFixes.add(fix);
+            }
+          } else {
+            nextFixes.add(fix);
+          }
+          modified = true;
+        }
+      }
+      contents = builder.getContents();
+      pendingFixes = nextFixes;
+    }
+    return contents;
+  }
+
+  /**
+   * @return Number of analysis used by the last call to apply().
+   */
+  int getAnalysisCount() {
+    return analysisCount;
+  }
+}
@@ -450,6 +450,25 @@ public class MagicWord implements Comparable<MagicWord> {
     return aliases;
   }
 
+  /**
+   * @return True if the magic word is case sensitive.
+   */
+  public boolean isCaseSensitive() {
+    return caseSensitive;
+  }
+
+  /**
+   * @return True if the magic word can be used with a # before it.
+   */
+  public boolean isSharp() {
+    for (String magicWord : sharpMagicWords) {
+      if (magicWord.equals(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * @param text Text to check.
    * @return Flag indicating if the text is a possible alias.
@@ -467,16 +486,8 @@ public class MagicWord implements Comparable<MagicWord> {
     if (text == null) {
       return false;
     }
-    if ((text.length() > 0) && (text.charAt(0) == '#')) {
-      boolean sharp = false;
-      for (String magicWord : sharpMagicWords) {
-        if (magicWord.equals(name)) {
-          sharp = true;
-        }
-      }
-      if (sharp) {
-        text = text.substring(1);
-      }
+    if ((text.length() > 0) && (text.charAt(0) == '#') && isSharp()) {
+      text = text.substring(1);
     }
     for (String alias : aliases) {
       if (alias.contains("$1")) {
@@ -7,7 +7,9 @@
 
 package org.wikipediacleaner.api.data;
 
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Set;
 
 import org.wikipediacleaner.api.constants.EnumCaseSensitiveness;
 
@@ -45,6 +47,7 @@ public class Namespace implements Comparable<Namespace> {
   private final EnumCaseSensitiveness caseSensitiveness;
   private final boolean subPages;
   private final LinkedList<String> aliases;
+  private final Set<String> aliasesSet;
 
   /**
    * @param id Namespace Id.
@@ -68,6 +71,7 @@ public class Namespace implements Comparable<Namespace> {
     this.caseSensitiveness = caseSensitiveness;
     this.subPages = subPages;
     this.aliases = new LinkedList<String>();
+    this.aliasesSet = new HashSet<String>();
     addAlias(this.title);
     addAlias(this.canonicalTitle);
   }
@@ -122,7 +126,7 @@ public class Namespace implements Comparable<Namespace> {
       return;
     }
     alias = Page.getStringUcFirst(alias);
-    if (!aliases.contains(alias)) {
+    if (aliasesSet.add(alias)) {
       aliases.add(alias);
     }
   }
@@ -135,13 +139,7 @@ public class Namespace implements Comparable<Namespace> {
     if (name == null) {
       return false;
     }
-    name = Page.getStringUcFirst(name.trim());
-    for (String alias : aliases) {
-      if (name.equals(alias)) {
-        return true;
-      }
-    }
-    return false;
+    return aliasesSet.contains(Page.getStringUcFirst(name.trim()));
   }
 
   /* (non-Javadoc)
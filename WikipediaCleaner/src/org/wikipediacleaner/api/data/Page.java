@@ -98,13 +98,32 @@ public class Page implements Comparable<Page> {
    * @return Indicates if <code>title1</code> and <code>title2</code> are the same title.
    */
   public static boolean areSameTitle(String title1, String title2) {
-    // TODO: should be by Wiki (capitalization of first letter)
     if ((title1 == null) || (title2 == null)) {
       return false;
     }
-    title1 = normalizeTitle(title1);
-    title2 = normalizeTitle(title2);
-    return title1.equals(title2);
+    if (title1.equals(title2)) {
+      return true;
+    }
+    return normalizeTitle(title1).equals(normalizeTitle(title2));
+  }
+
+  /**
+   * @param wiki Wiki.
+   * @param title1 Title 1.
+   * @param title2 Title 2.
+   * @return Indicates if <code>title1</code> and <code>title2</code> are the same title in the wiki.
+   */
+  public static boolean areSameTitle(EnumWikipedia wiki, String title1, String title2) {
+    if (wiki == null) {
+      return areSameTitle(title1, title2);
+    }
+    if ((title1 == null) || (title2 == null)) {
+      return false;
+    }
+    if (title1.equals(title2)) {
+      return true;
+    }
+    return wiki.normalizeTitle(title1).equals(wiki.normalizeTitle(title2));
   }
 
   /**
@@ -112,20 +131,82 @@ public class Page implements Comparable<Page> {
    * @return Normalized title.
    */
   public static String normalizeTitle(String pageTitle) {
-    // TODO: should be by Wiki (capitalization of first letter)
+    return normalizeTitle(pageTitle, true);
+  }
+
+  /**
+   * Normalize a title in a single pass.
+   * 
+   * <p>White spaces are trimmed, non breaking spaces and underscores are
+   * replaced by spaces, consecutive spaces are replaced by a single space,
+   * and trailing left-to-right marks are removed.
+   * The title itself is returned if it's already normalized.</p>
+   * 
+   * @param pageTitle Title.
+   * @param ucFirst True if the first letter should be upper case.
+   * @return Normalized title.
+   */
+  public static String normalizeTitle(String pageTitle, boolean ucFirst) {
     if (pageTitle == null) {
       return null;
     }
-    String result = pageTitle.trim();
-    result = result.replaceAll(" ", " ");
-    while ((result.length() > 0) && (result.charAt(result.length() - 1) == 0x200E)) {
-      result = result.substring(0, result.length() - 1);
+
+    // Limits of the title
+    int length = pageTitle.length();
+    int begin = 0;
+    while ((begin < length) && (pageTitle.charAt(begin) <= ' ')) {
+      begin++;
     }
-    result = result.replaceAll("_", " ");
-    result = result.replaceAll(" +", " ");
-    result = result.trim();
-    result = Page.getStringUcFirst(result);
-    return result;
+    int end = length;
+    while ((end > begin) && (pageTitle.charAt(end - 1) <= ' ')) {
+      end--;
+    }
+    while ((end > begin) && (pageTitle.charAt(end - 1) == 0x200E)) {
+      end--;
+    }
+
+    // Check if the title is already normalized
+    boolean normalized = (begin == 0) && (end == length);
+    char previous = 0;
+    for (int index = begin; normalized && (index < end); index++) {
+      char current = pageTitle.charAt(index);
+      if ((current == '_') || (current == '\u00A0') ||
+          ((current == ' ') && (previous == ' '))) {
+        normalized = false;
+      }
+      previous = current;
+    }
+    if (normalized) {
+      if (ucFirst && (length > 0) && Character.isLowerCase(pageTitle.charAt(0))) {
+        return getStringUcFirst(pageTitle);
+      }
+      return pageTitle;
+    }
+
+    // Normalize the title
+    char[] buffer = new char[end - begin];
+    int count = 0;
+    for (int index = begin; index < end; index++) {
+      char current = pageTitle.charAt(index);
+      if ((current == '_') || (current == '\u00A0')) {
+        current = ' ';
+      }
+      if ((current != ' ') || (count == 0) || (buffer[count - 1] != ' ')) {
+        buffer[count] = current;
+        count++;
+      }
+    }
+    int first = 0;
+    while ((first < count) && (buffer[first] <= ' ')) {
+      first++;
+    }
+    while ((count > first) && (buffer[count - 1] <= ' ')) {
+      count--;
+    }
+    if (ucFirst && (count > first) && Character.isLowerCase(buffer[first])) {
+      buffer[first] = Character.toUpperCase(buffer[first]);
+    }
+    return new String(buffer, first, count - first);
   }
 
   /**
@@ -992,6 +1073,9 @@ public class Page implements Comparable<Page> {
   /**
    * Page analysis.
    * 
+   * <p>When the page contents has been modified since the analysis stored
+   * with the page, the stored analysis is reused for the unmodified parts.</p>
+   * 
    * @param currentContents Current page content to take into account.
    * @param update True to update the analysis stored with the page.
    * @return Page analysis for the current page contents.
@@ -1001,9 +1085,12 @@ public class Page implements Comparable<Page> {
       return new PageAnalysis(this, null);
     }
     PageAnalysis result = null;
-    if ((analysis == null) || (!currentContents.equals(analysis.getContents()))) {
+    if (analysis == null) {
       result = new PageAnalysis(this, currentContents);
-      if ((update) || (analysis == null)) {
+      analysis = result;
+    } else if (!currentContents.equals(analysis.getContents())) {
+      result = analysis.analyzeModifiedContents(currentContents);
+      if (update) {
         analysis = result;
       }
     } else {
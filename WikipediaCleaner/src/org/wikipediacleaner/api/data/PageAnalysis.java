@@ -8,8 +8,11 @@
 package org.wikipediacleaner.api.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -58,6 +61,48 @@ public class PageAnalysis {
         null, ConfigurationValueBoolean.SPELLING);
   }
 
+  /**
+   * Analysis of a modified version of the page contents.
+   * 
+   * <p>Contents is expected to differ from the contents of the previous
+   * analysis only between the begin index and the end indexes.
+   * Elements outside of the modified part are reused from the previous
+   * analysis if it's possible, otherwise the page is fully analyzed.</p>
+   * 
+   * @param previous Previous analysis of the page.
+   * @param contents Modified page contents.
+   * @param beginIndex Beginning of the modified part.
+   * @param oldEndIndex End of the modified part in the previous contents.
+   * @param newEndIndex End of the modified part in the modified contents.
+   */
+  private PageAnalysis(
+      PageAnalysis previous, String contents,
+      int beginIndex, int oldEndIndex, int newEndIndex) {
+    this(previous.getPage(), contents);
+    if (!updateAnalysis(previous, beginIndex, oldEndIndex, newEndIndex)) {
+      comments = null;
+      commentFailures = null;
+      tags = null;
+      tagFailures = null;
+      internalLinks = null;
+      images = null;
+      categories = null;
+      interwikiLinks = null;
+      languageLinks = null;
+      functions = null;
+      magicWords = null;
+      templates = null;
+      parameters = null;
+      titles = null;
+      wikiFailures = null;
+      externalLinks = null;
+      externalLinkFailures = null;
+      synchronized (indexes) {
+        indexes.clear();
+      }
+    }
+  }
+
   /**
    * @return Page.
    */
@@ -145,16 +190,41 @@ public class PageAnalysis {
    * Perform page analysis.
    */
   public void performFullPageAnalysis(AnalysisPerformance perf) {
+    performPageAnalysis(PageElementFamily.ALL, perf);
+  }
+
+  /**
+   * Perform page analysis for some families of elements.
+   * 
+   * <p>Only the levels of analysis required by the families are performed,
+   * other levels are still performed later if elements are requested.</p>
+   * 
+   * @param families Families of elements.
+   * @param perf Analysis performance.
+   */
+  public void performPageAnalysis(
+      Collection<PageElementFamily> families, AnalysisPerformance perf) {
+    int level = PageElementFamily.getLevel(families);
     long beginTime = System.nanoTime();
-    firstLevelAnalysis();
+    if (level >= 1) {
+      firstLevelAnalysis();
+    }
     long firstTime = System.nanoTime();
-    secondLevelAnalysis();
+    if (level >= 2) {
+      secondLevelAnalysis();
+    }
     long secondTime = System.nanoTime();
-    thirdLevelAnalysis();
+    if (level >= 3) {
+      thirdLevelAnalysis();
+    }
     long thirdTime = System.nanoTime();
-    fourthLevelAnalysis();
+    if (level >= 4) {
+      fourthLevelAnalysis();
+    }
     long fourthTime = System.nanoTime();
-    fifthLevelAnalysis();
+    if (level >= 5) {
+      fifthLevelAnalysis();
+    }
     long fifthTime = System.nanoTime();
     if (perf != null) {
       perf.firstLevel += (firstTime - beginTime);
@@ -373,6 +443,21 @@ public class PageAnalysis {
   // Content analysis
   // ==========================================================================
 
+  /** Scanner of the possible beginnings of elements, created by the first level analysis. */
+  private PageContentsScanner scanner;
+
+  /** Positions where the analysis of a comment failed. */
+  private Positions commentFailures;
+
+  /** Positions where the analysis of a tag failed. */
+  private Positions tagFailures;
+
+  /** Positions where the analysis of an element beginning with [[, {{ or {{{ failed. */
+  private Positions wikiFailures;
+
+  /** Positions where the analysis of an external link beginning with [ failed. */
+  private Positions externalLinkFailures;
+
   /** Internal lock for first level analysis. */
   private final Object firstLevelLock = new Object();
 
@@ -405,14 +490,19 @@ public class PageAnalysis {
 
       // Initialize
       comments = new ArrayList<PageElementComment>();
+      commentFailures = new Positions();
+      scanner = new PageContentsScanner(contents);
 
-      // Go through all the text of the page
+      // Go through all the possible beginnings of comments
       int maxIndex = (contents != null) ? contents.length() : 0;
       int currentIndex = 0;
+      PageContentsScanner.Cursor candidates = scanner.getTags();
       while (currentIndex < maxIndex) {
-        currentIndex = contents.indexOf("<!--", currentIndex);
+        currentIndex = candidates.next(currentIndex);
         if (currentIndex < 0) {
           currentIndex = maxIndex;
+        } else if (!contents.startsWith("<!--", currentIndex)) {
+          currentIndex++;
         } else {
           PageElementComment comment = PageElementComment.analyzeBlock(
               getWikipedia(), contents, currentIndex);
@@ -420,6 +510,7 @@ public class PageAnalysis {
             comments.add(comment);
             currentIndex = comment.getEndIndex();
           } else {
+            commentFailures.add(currentIndex);
             currentIndex++;
           }
         }
@@ -453,46 +544,29 @@ public class PageAnalysis {
 
       // Initialize
       tags = new ArrayList<PageElementTag>();
+      tagFailures = new Positions();
 
-      // Go through all the text of the page
+      // Go through all the possible beginnings of tags
       int maxIndex = (contents != null) ? contents.length() : 0;
       int currentIndex = 0;
+      PageElementAreas.Cursor areaCursor = areas.getCursor();
+      PageContentsScanner.Cursor candidates = scanner.getTags();
       while (currentIndex < maxIndex) {
-        currentIndex = contents.indexOf('<', currentIndex);
+        currentIndex = candidates.next(currentIndex);
         if (currentIndex < 0) {
           currentIndex = maxIndex;
         } else {
-          int nextIndex = areas.getEndArea(currentIndex);
+          int nextIndex = areaCursor.getEndArea(currentIndex);
           if (nextIndex > currentIndex) {
             currentIndex = nextIndex;
           } else {
             PageElementTag tag = PageElementTag.analyzeBlock(contents, currentIndex);
             if (tag != null) {
-              if (tag.isEndTag() && !tag.isFullTag()) {
-                boolean found = false;
-                int i = tags.size();
-                int level = 0;
-                while ((i > 0) && !found) {
-                  i--;
-                  PageElementTag tmpTag = tags.get(i);
-                  if (tag.getNormalizedName().equals(tmpTag.getNormalizedName())) {
-                    if (!tmpTag.isFullTag()) {
-                      if (tmpTag.isEndTag()) {
-                        level++;
-                      } else {
-                        level--;
-                        if (level < 0) {
-                          found = true;
-                          tmpTag.setMatchingTag(tag);
-                        }
-                      }
-                    }
-                  }
-                }
-              }
+              matchTag(tags, tags.size(), tag);
               tags.add(tag);
               currentIndex = tag.getEndIndex();
             } else {
+              tagFailures.add(currentIndex);
               currentIndex++;
             }
           }
@@ -509,6 +583,38 @@ public class PageAnalysis {
     }
   }
 
+  /**
+   * Find the opening tag matching a closing tag.
+   * 
+   * @param tags List of tags.
+   * @param count Number of tags before the closing tag in the list.
+   * @param tag Closing tag.
+   */
+  private static void matchTag(List<PageElementTag> tags, int count, PageElementTag tag) {
+    if (!tag.isEndTag() || tag.isFullTag()) {
+      return;
+    }
+    int i = count;
+    int level = 0;
+    while (i > 0) {
+      i--;
+      PageElementTag tmpTag = tags.get(i);
+      if (tag.getNormalizedName().equals(tmpTag.getNormalizedName())) {
+        if (!tmpTag.isFullTag()) {
+          if (tmpTag.isEndTag()) {
+            level++;
+          } else {
+            level--;
+            if (level < 0) {
+              tmpTag.setMatchingTag(tag);
+              return;
+            }
+          }
+        }
+      }
+    }
+  }
+
   /**
    * Perform a third level analysis of the page (links, templates, ...).
    */
@@ -536,31 +642,25 @@ public class PageAnalysis {
       templates = new ArrayList<PageElementTemplate>();
       parameters = new ArrayList<PageElementParameter>();
       titles = new ArrayList<PageElementTitle>();
+      wikiFailures = new Positions();
+      openTemplates = new ArrayList<PageElementTemplate>();
       if (perf != null) {
         perf.stopPart("new");
       }
 
-      // Go through all the text of the page
+      // Go through all the possible beginnings of elements
       int maxIndex = (contents != null) ? contents.length() : 0;
       int currentIndex = 0;
-      int areaIndex = 0;
-      List<PageElementAreas.Area> tmpAeras = areas.getAreas();
+      PageElementAreas.Cursor areaCursor = areas.getCursor();
+      PageContentsScanner.Cursor candidates = scanner.getWikiElements();
       while (currentIndex < maxIndex) {
+        currentIndex = candidates.next(currentIndex);
+        if (currentIndex < 0) {
+          break;
+        }
 
         // Checking if the current index is in wiki text area.
-        boolean areaFound = false;
-        int nextIndex = currentIndex;
-        while ((areaIndex < tmpAeras.size()) && !areaFound) {
-          PageElementAreas.Area area = tmpAeras.get(areaIndex);
-          if (area.beginIndex > currentIndex) {
-            areaFound = true;
-          } else if (area.endIndex > currentIndex) {
-            areaFound = true;
-            nextIndex = area.endIndex;
-          } else {
-            areaIndex++;
-          }
-        }
+        int nextIndex = areaCursor.getEndArea(currentIndex);
         if (perf != null) {
           perf.stopPart("nextIndex");
         }
@@ -599,6 +699,8 @@ public class PageAnalysis {
         }
       }
 
+      openTemplates = null;
+
       // Update areas of non wiki text
       areas.addInternalLinks(internalLinks);
       areas.addImages(images);
@@ -619,6 +721,14 @@ public class PageAnalysis {
     }
   }
 
+  /**
+   * Templates found by the third level of analysis that may contain the current index,
+   * the innermost one being the last.
+   * Templates are found in the order of their begin index, so the ones ending
+   * before the current index can be forgotten.
+   */
+  private List<PageElementTemplate> openTemplates;
+
   /**
    * Perform a fourth level analysis of the page (external links).
    */
@@ -635,28 +745,21 @@ public class PageAnalysis {
             "PageAnalysis.fourthLevelAnalysis", TRACE_THRESHOLD);
       }
 
-      // Go through all the text of the page
+      // Go through all the possible beginnings of external links
       externalLinks = new ArrayList<PageElementExternalLink>();
+      externalLinkFailures = new Positions();
       int maxIndex = (contents != null) ? contents.length() : 0;
       int currentIndex = 0;
-      int areaIndex = 0;
-      List<PageElementAreas.Area> tmpAeras = areas.getAreas();
+      PageElementAreas.Cursor areaCursor = areas.getCursor();
+      PageContentsScanner.Cursor candidates = scanner.getExternalLinks();
       while (currentIndex < maxIndex) {
+        currentIndex = candidates.next(currentIndex);
+        if (currentIndex < 0) {
+          break;
+        }
 
         // Checking if the current index is in wiki text area.
-        boolean areaFound = false;
-        int nextIndex = currentIndex;
-        while ((areaIndex < tmpAeras.size()) && !areaFound) {
-          PageElementAreas.Area area = tmpAeras.get(areaIndex);
-          if (area.beginIndex > currentIndex) {
-            areaFound = true;
-          } else if (area.endIndex > currentIndex) {
-            areaFound = true;
-            nextIndex = area.endIndex;
-          } else {
-            areaIndex++;
-          }
-        }
+        int nextIndex = areaCursor.getEndArea(currentIndex);
 
         if (nextIndex > currentIndex) {
           currentIndex = nextIndex;
@@ -769,6 +872,7 @@ public class PageAnalysis {
       return language.getEndIndex();
     }
 
+    wikiFailures.add(currentIndex);
     return currentIndex + 1;
   }
 
@@ -791,6 +895,7 @@ public class PageAnalysis {
       return link.getBeginIndex() + Math.max(2, link.getTextOffset());
     }
 
+    externalLinkFailures.add(currentIndex);
     return currentIndex + 1;
   }
 
@@ -845,12 +950,13 @@ public class PageAnalysis {
 
     // Check if this is a parameter
     PageElementParameter parameter = PageElementParameter.analyzeBlock(
-        getWikipedia(), contents, currentIndex, comments, tags);
+        getWikipedia(), contents, currentIndex, getLookup());
     if (parameter != null) {
       parameters.add(parameter);
       return currentIndex + 3;
     }
 
+    wikiFailures.add(currentIndex);
     return currentIndex + 1;
   }
 
@@ -864,7 +970,7 @@ public class PageAnalysis {
 
     // Check if this is a function
     PageElementFunction function = PageElementFunction.analyzeBlock(
-        getWikipedia(), contents, currentIndex, comments, tags);
+        getWikipedia(), contents, currentIndex, getLookup());
     if (function != null) {
       functions.add(function);
       if (function.getParameterCount() == 0) {
@@ -875,15 +981,17 @@ public class PageAnalysis {
 
     // Check if this is a template
     PageElementTemplate template = PageElementTemplate.analyzeBlock(
-        getWikipedia(), contents, currentIndex, comments, tags);
+        getWikipedia(), contents, currentIndex, getLookup());
     if (template != null) {
       templates.add(template);
+      openTemplates.add(template);
       if (template.getParameterCount() == 0) {
         return template.getEndIndex();
       }
       return currentIndex + 2;
     }
 
+    wikiFailures.add(currentIndex);
     return currentIndex + 1;
   }
 
@@ -905,12 +1013,7 @@ public class PageAnalysis {
       } else if (contents.charAt(tmpIndex) == '\n') {
         hasNewLine = true;
       } else if (contents.charAt(tmpIndex) == '>') {
-        PageElementComment comment = null;
-        for (PageElementComment tmpComment : comments) {
-          if (tmpComment.getEndIndex() == tmpIndex + 1) {
-            comment = tmpComment;
-          }
-        }
+        PageElementComment comment = getLookup().getCommentEndingAt(tmpIndex + 1);
         if (comment == null) {
           return currentIndex + 1;
         }
@@ -921,12 +1024,14 @@ public class PageAnalysis {
     }
 
     // Check that it's not a template value
-    if (templates != null) {
+    if (openTemplates != null) {
       PageElementTemplate template = null;
-      for (PageElementTemplate tmp : templates) {
-        if ((tmp.getBeginIndex() <= currentIndex) &&
-            (tmp.getEndIndex() > currentIndex)) {
+      while ((template == null) && !openTemplates.isEmpty()) {
+        PageElementTemplate tmp = openTemplates.get(openTemplates.size() - 1);
+        if (tmp.getEndIndex() > currentIndex) {
           template = tmp;
+        } else {
+          openTemplates.remove(openTemplates.size() - 1);
         }
       }
       if (template != null) {
@@ -942,7 +1047,7 @@ public class PageAnalysis {
 
     // Check if this is a title
     PageElementTitle title = PageElementTitle.analyzeBlock(
-        getWikipedia(), contents, currentIndex, comments, tags);
+        getWikipedia(), contents, currentIndex, getLookup());
     if (title != null) {
       titles.add(title);
       return title.getBeginIndex() + title.getFirstLevel();
@@ -951,6 +1056,438 @@ public class PageAnalysis {
     return currentIndex + 1;
   }
 
+  // ==========================================================================
+  // Incremental analysis
+  // ==========================================================================
+
+  /**
+   * Analyze a modified version of the page contents.
+   * 
+   * @param newContents Modified page contents.
+   * @return Analysis of the modified page contents, reusing this analysis if possible.
+   */
+  PageAnalysis analyzeModifiedContents(String newContents) {
+    if ((contents == null) || (newContents == null)) {
+      return new PageAnalysis(page, newContents);
+    }
+    int oldLength = contents.length();
+    int newLength = newContents.length();
+    int minLength = Math.min(oldLength, newLength);
+    int beginIndex = 0;
+    while ((beginIndex < minLength) &&
+           (contents.charAt(beginIndex) == newContents.charAt(beginIndex))) {
+      beginIndex++;
+    }
+    int commonEnd = 0;
+    while ((commonEnd < minLength - beginIndex) &&
+           (contents.charAt(oldLength - 1 - commonEnd) == newContents.charAt(newLength - 1 - commonEnd))) {
+      commonEnd++;
+    }
+    return new PageAnalysis(
+        this, newContents,
+        beginIndex, oldLength - commonEnd, newLength - commonEnd);
+  }
+
+  /**
+   * Reuse the elements of a previous analysis outside of the modified part.
+   * 
+   * <p>The region analyzed again is made of full lines and is not crossed
+   * by any element of the previous analysis. The elements before the region
+   * are reused, the elements after the region are moved, and the region is
+   * analyzed on its own. The result is rejected if the elements found
+   * in the region would have been different in a full analysis: element
+   * crossing the limits of the region, or element which couldn't be
+   * analyzed before and that can now be analyzed with the new text.</p>
+   * 
+   * <p>Only the first four levels of analysis are reused, the fifth level
+   * (ISBN, ISSN, ...) is simply performed again when needed.</p>
+   * 
+   * @param previous Previous analysis of the page.
+   * @param beginIndex Beginning of the modified part.
+   * @param oldEndIndex End of the modified part in the previous contents.
+   * @param newEndIndex End of the modified part in the modified contents.
+   * @return True if the analysis has been updated.
+   */
+  private boolean updateAnalysis(
+      PageAnalysis previous,
+      int beginIndex, int oldEndIndex, int newEndIndex) {
+
+    // Check that the previous analysis is available
+    String oldContents = previous.contents;
+    if ((contents == null) || (oldContents == null)) {
+      return false;
+    }
+    synchronized (previous.fourthLevelLock) {
+      if (previous.externalLinks == null) {
+        return false;
+      }
+    }
+    Performance perf = null;
+    if (traceTime) {
+      perf = Performance.getInstance(
+          "PageAnalysis.updateAnalysis", TRACE_THRESHOLD);
+    }
+
+    try {
+      // Find the region to analyze again
+      List<List<? extends PageElement>> oldElements = previous.getReusableElements();
+      int regionBegin = oldContents.lastIndexOf('\n', beginIndex - 1) + 1;
+      int regionEnd = oldContents.indexOf('\n', oldEndIndex) + 1;
+      if (regionEnd <= 0) {
+        regionEnd = oldContents.length();
+      }
+      boolean stable = false;
+      while (!stable) {
+        stable = true;
+        for (List<? extends PageElement> elements : oldElements) {
+          for (PageElement element : elements) {
+            int elementBegin = element.getBeginIndex();
+            int elementEnd = element.getEndIndex();
+            if ((elementBegin < regionBegin) && (elementEnd > regionBegin)) {
+              regionBegin = oldContents.lastIndexOf('\n', elementBegin - 1) + 1;
+              stable = false;
+            }
+            if ((elementBegin < regionEnd) && (elementEnd > regionEnd)) {
+              regionEnd = oldContents.indexOf('\n', elementEnd - 1) + 1;
+              if (regionEnd <= 0) {
+                regionEnd = oldContents.length();
+              }
+              stable = false;
+            }
+          }
+        }
+        for (PageElementTag tag : previous.tags) {
+          if (!tag.isEndTag() && (tag.getMatchingTag() != null)) {
+            int tagBegin = tag.getBeginIndex();
+            int tagEnd = tag.getMatchingTag().getEndIndex();
+            if ((tagBegin < regionBegin) && (tagEnd > regionBegin)) {
+              regionBegin = oldContents.lastIndexOf('\n', tagBegin - 1) + 1;
+              stable = false;
+            }
+            if ((tagBegin < regionEnd) && (tagEnd > regionEnd)) {
+              regionEnd = oldContents.indexOf('\n', tagEnd - 1) + 1;
+              if (regionEnd <= 0) {
+                regionEnd = oldContents.length();
+              }
+              stable = false;
+            }
+          }
+        }
+      }
+      if ((regionBegin == 0) && (regionEnd == oldContents.length())) {
+        return false;
+      }
+      int offset = newEndIndex - oldEndIndex;
+      int newRegionEnd = regionEnd + offset;
+      if (perf != null) {
+        perf.printStep("Region");
+      }
+
+      // Analyze the region
+      PageAnalysis region = new PageAnalysis(page, contents.substring(regionBegin, newRegionEnd));
+      region.fourthLevelAnalysis();
+      if (perf != null) {
+        perf.printStep("Region analysis");
+      }
+
+      // Merge the elements
+      comments = mergeElements(previous.comments, region.comments, regionBegin, regionEnd, offset, false);
+      commentFailures = Positions.merge(previous.commentFailures, region.commentFailures, regionBegin, regionEnd, offset);
+      tags = mergeElements(previous.tags, region.tags, regionBegin, regionEnd, offset, true);
+      tagFailures = Positions.merge(previous.tagFailures, region.tagFailures, regionBegin, regionEnd, offset);
+      if ((comments == null) || (tags == null)) {
+        return false;
+      }
+      for (int i = 0; i < tags.size(); i++) {
+        matchTag(tags, i, tags.get(i));
+      }
+      internalLinks = mergeElements(previous.internalLinks, region.internalLinks, regionBegin, regionEnd, offset, false);
+      images = mergeElements(previous.images, region.images, regionBegin, regionEnd, offset, false);
+      categories = mergeElements(previous.categories, region.categories, regionBegin, regionEnd, offset, false);
+      interwikiLinks = mergeElements(previous.interwikiLinks, region.interwikiLinks, regionBegin, regionEnd, offset, false);
+      languageLinks = mergeElements(previous.languageLinks, region.languageLinks, regionBegin, regionEnd, offset, false);
+      functions = mergeElements(previous.functions, region.functions, regionBegin, regionEnd, offset, false);
+      magicWords = mergeElements(previous.magicWords, region.magicWords, regionBegin, regionEnd, offset, false);
+      templates = mergeElements(previous.templates, region.templates, regionBegin, regionEnd, offset, false);
+      parameters = mergeElements(previous.parameters, region.parameters, regionBegin, regionEnd, offset, false);
+      titles = mergeElements(previous.titles, region.titles, regionBegin, regionEnd, offset, false);
+      wikiFailures = Positions.merge(previous.wikiFailures, region.wikiFailures, regionBegin, regionEnd, offset);
+      externalLinks = mergeElements(previous.externalLinks, region.externalLinks, regionBegin, regionEnd, offset, false);
+      externalLinkFailures = Positions.merge(previous.externalLinkFailures, region.externalLinkFailures, regionBegin, regionEnd, offset);
+      for (List<? extends PageElement> elements : getReusableElements()) {
+        if (elements == null) {
+          return false;
+        }
+      }
+      if (perf != null) {
+        perf.printStep("Merge");
+      }
+
+      // Check that no tag is matching a tag on the other side of a limit of the region
+      for (PageElementTag tag : tags) {
+        if (!tag.isEndTag() && (tag.getMatchingTag() != null)) {
+          int tagBegin = tag.getBeginIndex();
+          int tagEnd = tag.getMatchingTag().getEndIndex();
+          if (((tagBegin < regionBegin) && (tagEnd > regionBegin)) ||
+              ((tagBegin < newRegionEnd) && (tagEnd > newRegionEnd))) {
+            return false;
+          }
+        }
+      }
+
+      // Check that failed analysis before and in the region still fail
+      EnumWikipedia wiki = getWikipedia();
+      for (int i = 0; i < commentFailures.size(); i++) {
+        int index = commentFailures.get(i);
+        if (index >= newRegionEnd) {
+          break;
+        }
+        if (PageElementComment.analyzeBlock(wiki, contents, index) != null) {
+          return false;
+        }
+      }
+      for (int i = 0; i < tagFailures.size(); i++) {
+        int index = tagFailures.get(i);
+        if (index >= newRegionEnd) {
+          break;
+        }
+        if (PageElementTag.analyzeBlock(contents, index) != null) {
+          return false;
+        }
+      }
+      for (int i = 0; i < wikiFailures.size(); i++) {
+        int index = wikiFailures.get(i);
+        if (index >= newRegionEnd) {
+          break;
+        }
+        if (isWikiElement(wiki, index)) {
+          return false;
+        }
+      }
+      for (int i = 0; i < externalLinkFailures.size(); i++) {
+        int index = externalLinkFailures.get(i);
+        if (index >= newRegionEnd) {
+          break;
+        }
+        if (PageElementExternalLink.analyzeBlock(wiki, contents, index, this) != null) {
+          return false;
+        }
+      }
+      if (perf != null) {
+        perf.printStep("Checks");
+      }
+
+      // Update areas of non wiki text
+      areas.addComments(comments);
+      areas.addTags(tags);
+      areas.addInternalLinks(internalLinks);
+      areas.addImages(images);
+      areas.addCategories(categories);
+      areas.addInterwikiLinks(interwikiLinks);
+      areas.addLanguageLinks(languageLinks);
+      areas.addTemplates(templates);
+      areas.addFunctions(functions);
+      areas.addMagicWords(magicWords);
+      areas.addParameters(parameters);
+      areas.addTitles(titles);
+      areas.addExternalLinks(externalLinks);
+
+      if (perf != null) {
+        perf.printEnd();
+      }
+      return true;
+    } finally {
+      if (perf != null) {
+        perf.release();
+      }
+    }
+  }
+
+  /**
+   * @return Lists of elements that can be reused by an incremental analysis.
+   */
+  private List<List<? extends PageElement>> getReusableElements() {
+    List<List<? extends PageElement>> result = new ArrayList<List<? extends PageElement>>();
+    result.add(comments);
+    result.add(tags);
+    result.add(internalLinks);
+    result.add(images);
+    result.add(categories);
+    result.add(interwikiLinks);
+    result.add(languageLinks);
+    result.add(functions);
+    result.add(magicWords);
+    result.add(templates);
+    result.add(parameters);
+    result.add(titles);
+    result.add(externalLinks);
+    return result;
+  }
+
+  /**
+   * @param wiki Wiki.
+   * @param index Index in the text.
+   * @return True if an element beginning with [[, {{ or {{{ can be analyzed at the index.
+   */
+  private boolean isWikiElement(EnumWikipedia wiki, int index) {
+    if (contents.startsWith("[[", index)) {
+      return (PageElementInternalLink.analyzeBlock(wiki, contents, index) != null) ||
+             (PageElementImage.analyzeBlock(wiki, contents, index) != null) ||
+             (PageElementCategory.analyzeBlock(wiki, contents, index) != null) ||
+             (PageElementInterwikiLink.analyzeBlock(wiki, contents, index) != null) ||
+             (PageElementLanguageLink.analyzeBlock(wiki, contents, index) != null);
+    }
+    if (contents.startsWith("{{{", index)) {
+      return (PageElementParameter.analyzeBlock(wiki, contents, index, getLookup()) != null);
+    }
+    if (contents.startsWith("{{", index)) {
+      return (PageElementFunction.analyzeBlock(wiki, contents, index, getLookup()) != null) ||
+             (PageElementTemplate.analyzeBlock(wiki, contents, index, getLookup()) != null);
+    }
+    return false;
+  }
+
+  /**
+   * Merge elements of a previous analysis with the elements of a region analyzed again.
+   * 
+   * @param oldElements Elements of the previous analysis.
+   * @param regionElements Elements of the region.
+   * @param regionBegin Beginning of the region.
+   * @param regionEnd End of the region in the previous contents.
+   * @param offset Offset between the previous contents and the new contents after the region.
+   * @param copy True if elements before the region should be copied.
+   * @return Merged elements (null if an element can't be moved).
+   */
+  private static <T extends PageElement> List<T> mergeElements(
+      List<T> oldElements, List<T> regionElements,
+      int regionBegin, int regionEnd, int offset, boolean copy) {
+    List<T> result = new ArrayList<T>(oldElements.size() + regionElements.size());
+    int index = 0;
+    while ((index < oldElements.size()) &&
+           (oldElements.get(index).getBeginIndex() < regionBegin)) {
+      T element = oldElements.get(index);
+      if (copy) {
+        element = moveElement(element, 0);
+        if (element == null) {
+          return null;
+        }
+      }
+      result.add(element);
+      index++;
+    }
+    for (T element : regionElements) {
+      T movedElement = moveElement(element, regionBegin);
+      if (movedElement == null) {
+        return null;
+      }
+      result.add(movedElement);
+    }
+    while ((index < oldElements.size()) &&
+           (oldElements.get(index).getBeginIndex() < regionEnd)) {
+      index++;
+    }
+    while (index < oldElements.size()) {
+      T element = oldElements.get(index);
+      if ((offset != 0) || copy) {
+        element = moveElement(element, offset);
+        if (element == null) {
+          return null;
+        }
+      }
+      result.add(element);
+      index++;
+    }
+    return result;
+  }
+
+  /**
+   * @param element Element.
+   * @param offset Offset added to every index of the element.
+   * @return Moved copy of the element (null if the element can't be moved).
+   */
+  @SuppressWarnings("unchecked")
+  private static <T extends PageElement> T moveElement(T element, int offset) {
+    return (T) element.moveBy(offset);
+  }
+
+  /**
+   * Sorted list of positions in the text.
+   */
+  private static class Positions {
+
+    /** Positions */
+    private int[] values;
+
+    /** Number of positions */
+    private int count;
+
+    /**
+     * Create an empty list of positions.
+     */
+    Positions() {
+      this.values = new int[16];
+      this.count = 0;
+    }
+
+    /**
+     * @param position Position, after all the positions already in the list.
+     */
+    void add(int position) {
+      if (count >= values.length) {
+        values = Arrays.copyOf(values, values.length * 2);
+      }
+      values[count] = position;
+      count++;
+    }
+
+    /**
+     * @return Number of positions.
+     */
+    int size() {
+      return count;
+    }
+
+    /**
+     * @param index Index in the list.
+     * @return Position.
+     */
+    int get(int index) {
+      return values[index];
+    }
+
+    /**
+     * Merge positions of a previous analysis with the positions of a region analyzed again.
+     * 
+     * @param oldPositions Positions of the previous analysis.
+     * @param regionPositions Positions of the region.
+     * @param regionBegin Beginning of the region.
+     * @param regionEnd End of the region in the previous contents.
+     * @param offset Offset between the previous contents and the new contents after the region.
+     * @return Merged positions.
+     */
+    static Positions merge(
+        Positions oldPositions, Positions regionPositions,
+        int regionBegin, int regionEnd, int offset) {
+      Positions result = new Positions();
+      int index = 0;
+      while ((index < oldPositions.count) && (oldPositions.values[index] < regionBegin)) {
+        result.add(oldPositions.values[index]);
+        index++;
+      }
+      for (int i = 0; i < regionPositions.count; i++) {
+        result.add(regionPositions.values[i] + regionBegin);
+      }
+      while ((index < oldPositions.count) && (oldPositions.values[index] < regionEnd)) {
+        index++;
+      }
+      while (index < oldPositions.count) {
+        result.add(oldPositions.values[index] + offset);
+        index++;
+      }
+      return result;
+    }
+  }
+
   // ==========================================================================
   // Comments management
   // ==========================================================================
@@ -973,14 +1510,50 @@ public class PageAnalysis {
    * @return Comment if the current index is inside a comment.
    */
   public PageElementComment isInComment(int currentIndex) {
-    List<PageElementComment> tmpComments = getComments();
-    for (PageElementComment comment : tmpComments) {
-      if ((comment.getBeginIndex() <= currentIndex) &&
-          (comment.getEndIndex() > currentIndex)) {
-        return comment;
+    return getIndex(getComments()).getFirstContaining(currentIndex);
+  }
+
+  // ==========================================================================
+  // Positional indexes management
+  // ==========================================================================
+
+  /**
+   * Positional indexes on lists of elements, by list.
+   */
+  private final Map<List<?>, PageElementIndex<?>> indexes =
+      new IdentityHashMap<List<?>, PageElementIndex<?>>();
+
+  /**
+   * @param elements List of elements.
+   * @return Positional index on the list of elements.
+   */
+  @SuppressWarnings("unchecked")
+  private <T extends PageElement> PageElementIndex<T> getIndex(List<T> elements) {
+    synchronized (indexes) {
+      PageElementIndex<T> index = (PageElementIndex<T>) indexes.get(elements);
+      if ((index == null) || !index.isIndexOf(elements)) {
+        index = new PageElementIndex<T>(elements);
+        indexes.put(elements, index);
       }
+      return index;
+    }
+  }
+
+  /**
+   * Lookup of comments and tags by position.
+   */
+  private PageElementLookup lookup;
+
+  /**
+   * @return Lookup of comments and tags by position.
+   */
+  private PageElementLookup getLookup() {
+    synchronized (indexes) {
+      if ((lookup == null) || !lookup.isLookupOf(comments, tags)) {
+        lookup = new PageElementLookup(comments, tags);
+      }
+      return lookup;
     }
-    return null;
   }
 
   // ==========================================================================
@@ -1005,13 +1578,7 @@ public class PageAnalysis {
    * @return Next title.
    */
   public PageElementTitle getNextTitle(int currentIndex) {
-    List<PageElementTitle> tmpTitles = getTitles();
-    for (PageElementTitle title : tmpTitles) {
-      if (title.getBeginIndex() >= currentIndex) {
-        return title;
-      }
-    }
-    return null;
+    return getIndex(getTitles()).getNext(currentIndex);
   }
 
   /**
@@ -1019,14 +1586,7 @@ public class PageAnalysis {
    * @return Title if the current index is inside a title.
    */
   public PageElementTitle isInTitle(int currentIndex) {
-    List<PageElementTitle> tmpTitles = getTitles();
-    for (PageElementTitle title : tmpTitles) {
-      if ((title.getBeginIndex() <= currentIndex) &&
-          (title.getEndIndex() > currentIndex)) {
-        return title;
-      }
-    }
-    return null;
+    return getIndex(getTitles()).getFirstContaining(currentIndex);
   }
 
   /**
@@ -1067,13 +1627,7 @@ public class PageAnalysis {
    * @return Next internal link.
    */
   public PageElementInternalLink getNextInternalLink(int currentIndex) {
-    List<PageElementInternalLink> tmpInternalLinks = getInternalLinks();
-    for (PageElementInternalLink link : tmpInternalLinks) {
-      if (link.getBeginIndex() >= currentIndex) {
-        return link;
-      }
-    }
-    return null;
+    return getIndex(getInternalLinks()).getNext(currentIndex);
   }
 
   /**
@@ -1081,14 +1635,7 @@ public class PageAnalysis {
    * @return Internal link if the current index is inside an internal link.
    */
   public PageElementInternalLink isInInternalLink(int currentIndex) {
-    List<PageElementInternalLink> tmpLinks = getInternalLinks();
-    for (PageElementInternalLink link : tmpLinks) {
-      if ((link.getBeginIndex() <= currentIndex) &&
-          (link.getEndIndex() > currentIndex)) {
-        return link;
-      }
-    }
-    return null;
+    return getIndex(getInternalLinks()).getFirstContaining(currentIndex);
   }
 
   /**
@@ -1154,13 +1701,7 @@ public class PageAnalysis {
    * @return Next image.
    */
   public PageElementImage getNextImage(int currentIndex) {
-    List<PageElementImage> tmpImages = getImages();
-    for (PageElementImage image : tmpImages) {
-      if (image.getBeginIndex() >= currentIndex) {
-        return image;
-      }
-    }
-    return null;
+    return getIndex(getImages()).getNext(currentIndex);
   }
 
   /**
@@ -1168,18 +1709,7 @@ public class PageAnalysis {
    * @return Image if the current index is inside an image.
    */
   public PageElementImage isInImage(int currentIndex) {
-    List<PageElementImage> tmpImages = getImages();
-    PageElementImage result = null;
-    for (PageElementImage image : tmpImages) {
-      if ((image.getBeginIndex() <= currentIndex) &&
-          (image.getEndIndex() > currentIndex)) {
-        if ((result == null) ||
-            (image.getBeginIndex() > result.getBeginIndex())) {
-          result = image;
-        }
-      }
-    }
-    return result;
+    return getIndex(getImages()).getInnermostContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1204,13 +1734,7 @@ public class PageAnalysis {
    * @return Next external link.
    */
   public PageElementExternalLink getNextExternalLink(int currentIndex) {
-    List<PageElementExternalLink> tmpExternalLinks = getExternalLinks();
-    for (PageElementExternalLink link : tmpExternalLinks) {
-      if (link.getBeginIndex() >= currentIndex) {
-        return link;
-      }
-    }
-    return null;
+    return getIndex(getExternalLinks()).getNext(currentIndex);
   }
 
   /**
@@ -1218,14 +1742,7 @@ public class PageAnalysis {
    * @return External link if the current index is inside an external link.
    */
   public PageElementExternalLink isInExternalLink(int currentIndex) {
-    List<PageElementExternalLink> tmpLinks = getExternalLinks();
-    for (PageElementExternalLink link : tmpLinks) {
-      if ((link.getBeginIndex() <= currentIndex) &&
-          (link.getEndIndex() > currentIndex)) {
-        return link;
-      }
-    }
-    return null;
+    return getIndex(getExternalLinks()).getFirstContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1237,6 +1754,16 @@ public class PageAnalysis {
    */
   private List<PageElementTemplate> templates;
 
+  /**
+   * Lock for updating the templates categorized by name.
+   */
+  private final Object lockTemplatesByName = new Object();
+
+  /**
+   * All templates in the page categorized by normalized name.
+   */
+  private Map<String, List<PageElementTemplate>> templatesByName;
+
   /**
    * @return All templates in the page.
    */
@@ -1254,15 +1781,27 @@ public class PageAnalysis {
       return null;
     }
     List<PageElementTemplate> tmpTemplates = getTemplates();
-    List<PageElementTemplate> result = new ArrayList<PageElementTemplate>();
-    if (tmpTemplates != null) {
-      for (PageElementTemplate template : tmpTemplates) {
-        if (Page.areSameTitle(name, template.getTemplateName())) {
-          result.add(template);
+    synchronized (lockTemplatesByName) {
+      if (templatesByName == null) {
+        templatesByName = new HashMap<String, List<PageElementTemplate>>();
+        if (tmpTemplates != null) {
+          for (PageElementTemplate template : tmpTemplates) {
+            String templateName = Page.normalizeTitle(template.getTemplateName());
+            List<PageElementTemplate> list = templatesByName.get(templateName);
+            if (list == null) {
+              list = new ArrayList<PageElementTemplate>(1);
+              templatesByName.put(templateName, list);
+            }
+            list.add(template);
+          }
         }
       }
+      List<PageElementTemplate> list = templatesByName.get(Page.normalizeTitle(name));
+      if (list == null) {
+        return new ArrayList<PageElementTemplate>();
+      }
+      return new ArrayList<PageElementTemplate>(list);
     }
-    return result;
   }
 
   /**
@@ -1270,13 +1809,7 @@ public class PageAnalysis {
    * @return Next template.
    */
   public PageElementTemplate getNextTemplate(int currentIndex) {
-    List<PageElementTemplate> tmpTemplates = getTemplates();
-    for (PageElementTemplate template : tmpTemplates) {
-      if (template.getBeginIndex() >= currentIndex) {
-        return template;
-      }
-    }
-    return null;
+    return getIndex(getTemplates()).getNext(currentIndex);
   }
 
   /**
@@ -1284,15 +1817,7 @@ public class PageAnalysis {
    * @return Template if the current index is inside a template.
    */
   public PageElementTemplate isInTemplate(int currentIndex) {
-    List<PageElementTemplate> tmpTemplates = getTemplates();
-    PageElementTemplate result = null;
-    for (PageElementTemplate template : tmpTemplates) {
-      if ((template.getBeginIndex() <= currentIndex) &&
-          (template.getEndIndex() > currentIndex)) {
-        result = template;
-      }
-    }
-    return result;
+    return getIndex(getTemplates()).getLastContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1317,15 +1842,7 @@ public class PageAnalysis {
    * @return Parameter if the current index is inside a parameter.
    */
   public PageElementParameter isInParameter(int currentIndex) {
-    List<PageElementParameter> tmpParameters = getParameters();
-    PageElementParameter result = null;
-    for (PageElementParameter parameter : tmpParameters) {
-      if ((parameter.getBeginIndex() <= currentIndex) &&
-          (parameter.getEndIndex() > currentIndex)) {
-        result = parameter;
-      }
-    }
-    return result;
+    return getIndex(getParameters()).getLastContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1337,6 +1854,16 @@ public class PageAnalysis {
    */
   private List<PageElementFunction> functions;
 
+  /**
+   * Lock for updating the functions categorized by magic word.
+   */
+  private final Object lockFunctionsByName = new Object();
+
+  /**
+   * All functions in the page categorized by magic word name.
+   */
+  private Map<String, List<PageElementFunction>> functionsByName;
+
   /**
    * @return All functions in the page.
    */
@@ -1346,19 +1873,43 @@ public class PageAnalysis {
   }
 
   /**
-   * @param currentIndex Current index.
-   * @return Function if the current index is inside a function.
+   * @param name Magic word name.
+   * @return All functions using this magic word in the page.
    */
-  public PageElementFunction isInFunction(int currentIndex) {
+  public List<PageElementFunction> getFunctions(String name) {
+    if (name == null) {
+      return null;
+    }
     List<PageElementFunction> tmpFunctions = getFunctions();
-    PageElementFunction result = null;
-    for (PageElementFunction function : tmpFunctions) {
-      if ((function.getBeginIndex() <= currentIndex) &&
-          (function.getEndIndex() > currentIndex)) {
-        result = function;
+    synchronized (lockFunctionsByName) {
+      if (functionsByName == null) {
+        functionsByName = new HashMap<String, List<PageElementFunction>>();
+        if (tmpFunctions != null) {
+          for (PageElementFunction function : tmpFunctions) {
+            String functionName = function.getMagicWord().getName();
+            List<PageElementFunction> list = functionsByName.get(functionName);
+            if (list == null) {
+              list = new ArrayList<PageElementFunction>(1);
+              functionsByName.put(functionName, list);
+            }
+            list.add(function);
+          }
+        }
+      }
+      List<PageElementFunction> list = functionsByName.get(name);
+      if (list == null) {
+        return new ArrayList<PageElementFunction>();
       }
+      return new ArrayList<PageElementFunction>(list);
     }
-    return result;
+  }
+
+  /**
+   * @param currentIndex Current index.
+   * @return Function if the current index is inside a function.
+   */
+  public PageElementFunction isInFunction(int currentIndex) {
+    return getIndex(getFunctions()).getLastContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1383,15 +1934,7 @@ public class PageAnalysis {
    * @return Magic word if the current index is inside a magic word.
    */
   public PageElementMagicWord isInMagicWord(int currentIndex) {
-    List<PageElementMagicWord> tmpMagicWords = getMagicWords();
-    PageElementMagicWord result = null;
-    for (PageElementMagicWord magicWord : tmpMagicWords) {
-      if ((magicWord.getBeginIndex() <= currentIndex) &&
-          (magicWord.getEndIndex() > currentIndex)) {
-        result = magicWord;
-      }
-    }
-    return result;
+    return getIndex(getMagicWords()).getLastContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1514,13 +2057,7 @@ public class PageAnalysis {
    * @return Next tag.
    */
   public PageElementTag getNextTag(int currentIndex) {
-    List<PageElementTag> tmpTags = getTags();
-    for (PageElementTag tag : tmpTags) {
-      if (tag.getBeginIndex() >= currentIndex) {
-        return tag;
-      }
-    }
-    return null;
+    return getIndex(getTags()).getNext(currentIndex);
   }
 
   /**
@@ -1528,14 +2065,7 @@ public class PageAnalysis {
    * @return Tag if the current index is inside a tag.
    */
   public PageElementTag isInTag(int currentIndex) {
-    List<PageElementTag> tmpTags = getTags();
-    for (PageElementTag tag : tmpTags) {
-      if ((tag.getBeginIndex() <= currentIndex) &&
-          (tag.getEndIndex() > currentIndex)) {
-        return tag;
-      }
-    }
-    return null;
+    return getIndex(getTags()).getFirstContaining(currentIndex);
   }
 
   /**
@@ -1544,14 +2074,7 @@ public class PageAnalysis {
    * @return Tag if the current index is inside a tag.
    */
   public PageElementTag isInTag(int currentIndex, String tagName) {
-    List<PageElementTag> tmpTags = getTags(tagName);
-    for (PageElementTag tag : tmpTags) {
-      if ((tag.getBeginIndex() <= currentIndex) &&
-          (tag.getEndIndex() > currentIndex)) {
-        return tag;
-      }
-    }
-    return null;
+    return getIndex(getTags(tagName)).getFirstContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1562,17 +2085,7 @@ public class PageAnalysis {
    * @return All DEFAULTSORT in the page.
    */
   public List<PageElementFunction> getDefaultSorts() {
-    List<PageElementFunction> tmpFunctions = getFunctions();
-    if (tmpFunctions == null) {
-      return null;
-    }
-    List<PageElementFunction> defaultSorts = new ArrayList<PageElementFunction>();
-    for (PageElementFunction function : tmpFunctions) {
-      if (MagicWord.DEFAULT_SORT.equals(function.getMagicWord().getName())) {
-        defaultSorts.add(function);
-      }
-    }
-    return defaultSorts;
+    return getFunctions(MagicWord.DEFAULT_SORT);
   }
 
   /**
@@ -1612,13 +2125,7 @@ public class PageAnalysis {
    * @return Next category.
    */
   public PageElementCategory getNextCategory(int currentIndex) {
-    List<PageElementCategory> tmpCategories = getCategories();
-    for (PageElementCategory category : tmpCategories) {
-      if (category.getBeginIndex() >= currentIndex) {
-        return category;
-      }
-    }
-    return null;
+    return getIndex(getCategories()).getNext(currentIndex);
   }
 
   /**
@@ -1626,14 +2133,7 @@ public class PageAnalysis {
    * @return Category if the current index is inside a category.
    */
   public PageElementCategory isInCategory(int currentIndex) {
-    List<PageElementCategory> tmpCategories = getCategories();
-    for (PageElementCategory category : tmpCategories) {
-      if ((category.getBeginIndex() <= currentIndex) &&
-          (category.getEndIndex() > currentIndex)) {
-        return category;
-      }
-    }
-    return null;
+    return getIndex(getCategories()).getFirstContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1658,13 +2158,7 @@ public class PageAnalysis {
    * @return Next interwiki link.
    */
   public PageElementInterwikiLink getNextInterwikiLink(int currentIndex) {
-    List<PageElementInterwikiLink> tmpLinks = getInterwikiLinks();
-    for (PageElementInterwikiLink link : tmpLinks) {
-      if (link.getBeginIndex() >= currentIndex) {
-        return link;
-      }
-    }
-    return null;
+    return getIndex(getInterwikiLinks()).getNext(currentIndex);
   }
 
   /**
@@ -1672,14 +2166,7 @@ public class PageAnalysis {
    * @return Interwiki link if the current index is inside an interwiki link.
    */
   public PageElementInterwikiLink isInInterwikiLink(int currentIndex) {
-    List<PageElementInterwikiLink> tmpLinks = getInterwikiLinks();
-    for (PageElementInterwikiLink link : tmpLinks) {
-      if ((link.getBeginIndex() <= currentIndex) &&
-          (link.getEndIndex() > currentIndex)) {
-        return link;
-      }
-    }
-    return null;
+    return getIndex(getInterwikiLinks()).getFirstContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1704,13 +2191,7 @@ public class PageAnalysis {
    * @return Next language link.
    */
   public PageElementLanguageLink getNextLanguageLink(int currentIndex) {
-    List<PageElementLanguageLink> tmpLinks = getLanguageLinks();
-    for (PageElementLanguageLink link : tmpLinks) {
-      if (link.getBeginIndex() >= currentIndex) {
-        return link;
-      }
-    }
-    return null;
+    return getIndex(getLanguageLinks()).getNext(currentIndex);
   }
 
   /**
@@ -1718,14 +2199,7 @@ public class PageAnalysis {
    * @return Language link if the current index is inside a language link.
    */
   public PageElementLanguageLink isInLanguageLink(int currentIndex) {
-    List<PageElementLanguageLink> tmpLinks = getLanguageLinks();
-    for (PageElementLanguageLink link : tmpLinks) {
-      if ((link.getBeginIndex() <= currentIndex) &&
-          (link.getEndIndex() > currentIndex)) {
-        return link;
-      }
-    }
-    return null;
+    return getIndex(getLanguageLinks()).getFirstContaining(currentIndex);
   }
 
   // ==========================================================================
@@ -1750,14 +2224,7 @@ public class PageAnalysis {
    * @return ISBN if the current index is inside an ISBN.
    */
   public PageElementISBN isInISBN(int currentIndex) {
-    List<PageElementISBN> tmpIsbns = getISBNs();
-    for (PageElementISBN isbn : tmpIsbns) {
-      if ((isbn.getBeginIndex() <= currentIndex) &&
-          (isbn.getEndIndex() > currentIndex)) {
-        return isbn;
-      }
-    }
-    return null;
+    return getIndex(getISBNs()).getFirstContaining(currentIndex);
   }
 
 
@@ -1779,14 +2246,7 @@ public class PageAnalysis {
    * @return ISSN if the current index is inside an ISSN.
    */
   public PageElementISSN isInISSN(int currentIndex) {
-    List<PageElementISSN> tmpIsbns = getISSNs();
-    for (PageElementISSN issn : tmpIsbns) {
-      if ((issn.getBeginIndex() <= currentIndex) &&
-          (issn.getEndIndex() > currentIndex)) {
-        return issn;
-      }
-    }
-    return null;
+    return getIndex(getISSNs()).getFirstContaining(currentIndex);
   }
 
   
@@ -1808,14 +2268,7 @@ public class PageAnalysis {
    * @return PMID if the current index is inside a PMID.
    */
   public PageElementPMID isInPMID(int currentIndex) {
-    List<PageElementPMID> tmpPmids = getPMIDs();
-    for (PageElementPMID pmid : tmpPmids) {
-      if ((pmid.getBeginIndex() <= currentIndex) &&
-          (pmid.getEndIndex() > currentIndex)) {
-        return pmid;
-      }
-    }
-    return null;
+    return getIndex(getPMIDs()).getFirstContaining(currentIndex);
   }
 
   
@@ -1837,14 +2290,7 @@ public class PageAnalysis {
    * @return RFC if the current index is inside a RFC.
    */
   public PageElementRFC isInRFC(int currentIndex) {
-    List<PageElementRFC> tmpRfcs = getRFCs();
-    for (PageElementRFC rfc : tmpRfcs) {
-      if ((rfc.getBeginIndex() <= currentIndex) &&
-          (rfc.getEndIndex() > currentIndex)) {
-        return rfc;
-      }
-    }
-    return null;
+    return getIndex(getRFCs()).getFirstContaining(currentIndex);
   }
 
   // ==========================================================================
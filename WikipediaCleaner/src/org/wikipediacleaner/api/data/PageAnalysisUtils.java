@@ -8,9 +8,12 @@
 package org.wikipediacleaner.api.data;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.constants.WPCConfigurationStringList;
 import org.wikipediacleaner.api.data.PageElementTemplate.Parameter;
@@ -80,98 +83,99 @@ public class PageAnalysisUtils {
     MagicWord redirect = pageAnalysis.getWikiConfiguration().getMagicWordByName(MagicWord.REDIRECT);
     String contents = pageAnalysis.getContents();
     int maxSize = contents.length();
+    EnumWikipedia wiki = pageAnalysis.getWikipedia();
+    Map<String, List<Page>> linksByTitle = indexLinksByTitle(wiki, links);
     boolean firstLink = true;
     for (PageElementInternalLink internalLink : internalLinks) {
-      for (Page link : links) {
-        if (Page.areSameTitle(link.getTitle(), internalLink.getLink())) {
-          int currentPos = internalLink.getEndIndex();
-          while ((currentPos < maxSize) && (contents.charAt(currentPos) == ' ')) {
-            currentPos++;
-          }
+      List<Page> matchingLinks = getLinksWithTitle(wiki, linksByTitle, internalLink.getLink());
+      for (Page link : matchingLinks) {
+        int currentPos = internalLink.getEndIndex();
+        while ((currentPos < maxSize) && (contents.charAt(currentPos) == ' ')) {
+          currentPos++;
+        }
 
-          // Check if link is marked as needing help
-          boolean helpNeeded = false;
-          if (templatesAfter != null) {
-            if ((currentPos < maxSize) && (contents.charAt(currentPos) == '{')) {
-              PageElementTemplate nextTemplate = pageAnalysis.isInTemplate(currentPos);
-              if (nextTemplate != null) {
-                for (String templateAfter : templatesAfter) {
-                  if (Page.areSameTitle(templateAfter, nextTemplate.getTemplateName())) {
-                    helpNeeded = true;
-                  }
+        // Check if link is marked as needing help
+        boolean helpNeeded = false;
+        if (templatesAfter != null) {
+          if ((currentPos < maxSize) && (contents.charAt(currentPos) == '{')) {
+            PageElementTemplate nextTemplate = pageAnalysis.isInTemplate(currentPos);
+            if (nextTemplate != null) {
+              for (String templateAfter : templatesAfter) {
+                if (Page.areSameTitle(templateAfter, nextTemplate.getTemplateName())) {
+                  helpNeeded = true;
                 }
               }
             }
           }
+        }
 
-          // Check if link is marked as normal
-          boolean good = false;
-          if ((currentPos < maxSize) && (contents.charAt(currentPos) == '<')) {
-            PageElementComment nextComment = pageAnalysis.isInComment(currentPos);
-            if ((nextComment != null) && (nextComment.getComment() != null)) {
-              if (commentsAfter != null) {
-                for (String commentAfter : commentsAfter) {
-                  if (nextComment.getComment().length() >= commentAfter.length()) {
-                    String comment = nextComment.getComment().substring(0, commentAfter.length());
-                    if (comment.equalsIgnoreCase(commentAfter)) {
-                      good = true;
-                    }
+        // Check if link is marked as normal
+        boolean good = false;
+        if ((currentPos < maxSize) && (contents.charAt(currentPos) == '<')) {
+          PageElementComment nextComment = pageAnalysis.isInComment(currentPos);
+          if ((nextComment != null) && (nextComment.getComment() != null)) {
+            if (commentsAfter != null) {
+              for (String commentAfter : commentsAfter) {
+                if (nextComment.getComment().length() >= commentAfter.length()) {
+                  String comment = nextComment.getComment().substring(0, commentAfter.length());
+                  if (comment.equalsIgnoreCase(commentAfter)) {
+                    good = true;
                   }
                 }
               }
             }
           }
-          if (!good &&
-              (templatesIgnoreDab != null) &&
-              !templatesIgnoreDab.isEmpty()) {
-            PageElementTemplate template = pageAnalysis.isInTemplate(currentPos);
-            if (template != null) {
-              for (String[] currentTemplate : templatesIgnoreDab) {
-                if ((currentTemplate != null) &&
-                    (currentTemplate.length > 1) &&
-                    Page.areSameTitle(currentTemplate[0], template.getTemplateName())) {
-                  Parameter parameter = template.getParameterAtIndex(currentPos);
-                  if (parameter != null) {
-                    for (int index = 1; index < currentTemplate.length; index++) {
-                      if (parameter.getComputedName().equals(currentTemplate[index])) {
-                        good = true;
-                      }
+        }
+        if (!good &&
+            (templatesIgnoreDab != null) &&
+            !templatesIgnoreDab.isEmpty()) {
+          PageElementTemplate template = pageAnalysis.isInTemplate(currentPos);
+          if (template != null) {
+            for (String[] currentTemplate : templatesIgnoreDab) {
+              if ((currentTemplate != null) &&
+                  (currentTemplate.length > 1) &&
+                  Page.areSameTitle(currentTemplate[0], template.getTemplateName())) {
+                Parameter parameter = template.getParameterAtIndex(currentPos);
+                if (parameter != null) {
+                  for (int index = 1; index < currentTemplate.length; index++) {
+                    if (parameter.getComputedName().equals(currentTemplate[index])) {
+                      good = true;
                     }
                   }
                 }
               }
             }
           }
+        }
 
-          // Check if link is in fact a redirection
-          if (firstLink && (redirect != null)) {
-            int tmpPos = 0;
-            while ((contents.charAt(tmpPos) == ' ') &&
-                   (tmpPos < internalLink.getBeginIndex())) {
-              tmpPos++;
-            }
-            String redirectTag = null;
-            for (String alias : redirect.getAliases()) {
-              if (contents.startsWith(alias, tmpPos)) {
-                char next = contents.charAt(tmpPos + alias.length());
-                if ((next == ' ') || (next == '[')) {
-                  redirectTag = alias;
-                }
+        // Check if link is in fact a redirection
+        if (firstLink && (redirect != null)) {
+          int tmpPos = 0;
+          while ((contents.charAt(tmpPos) == ' ') &&
+                 (tmpPos < internalLink.getBeginIndex())) {
+            tmpPos++;
+          }
+          String redirectTag = null;
+          for (String alias : redirect.getAliases()) {
+            if (contents.startsWith(alias, tmpPos)) {
+              char next = contents.charAt(tmpPos + alias.length());
+              if ((next == ' ') || (next == '[')) {
+                redirectTag = alias;
               }
             }
-            if (redirectTag != null) {
-              tmpPos += redirectTag.length();
-              while (contents.charAt(tmpPos) == ' ') {
-                tmpPos++;
-              }
-              if (tmpPos == internalLink.getBeginIndex()) {
-                good = true;
-              }
+          }
+          if (redirectTag != null) {
+            tmpPos += redirectTag.length();
+            while (contents.charAt(tmpPos) == ' ') {
+              tmpPos++;
+            }
+            if (tmpPos == internalLink.getBeginIndex()) {
+              good = true;
             }
           }
-
-          notification.linkFound(link, internalLink, good, helpNeeded);
         }
+
+        notification.linkFound(link, internalLink, good, helpNeeded);
       }
       firstLink = false;
     }
@@ -187,10 +191,8 @@ public class PageAnalysisUtils {
           for (TemplateMatcher matcher : matchers) {
             String linkTo = matcher.linksTo(pageAnalysis.getPage(), template);
             if (linkTo != null) {
-              for (Page link : links) {
-                if (Page.areSameTitle(link.getTitle(), linkTo)) {
-                  notification.linkFound(link, template, matcher);
-                }
+              for (Page link : getLinksWithTitle(wiki, linksByTitle, linkTo)) {
+                notification.linkFound(link, template, matcher);
               }
             }
           }
@@ -199,6 +201,58 @@ public class PageAnalysisUtils {
     }
   }
 
+  /**
+   * @param wiki Wiki.
+   * @param title Title.
+   * @return Normalized title.
+   */
+  private static String normalizeTitle(EnumWikipedia wiki, String title) {
+    if (wiki != null) {
+      return wiki.normalizeTitle(title);
+    }
+    return Page.normalizeTitle(title);
+  }
+
+  /**
+   * @param wiki Wiki.
+   * @param links Links.
+   * @return Links grouped by normalized title.
+   */
+  private static Map<String, List<Page>> indexLinksByTitle(
+      EnumWikipedia wiki, List<Page> links) {
+    Map<String, List<Page>> result = new HashMap<String, List<Page>>();
+    for (Page link : links) {
+      if ((link != null) && (link.getTitle() != null)) {
+        String title = normalizeTitle(wiki, link.getTitle());
+        List<Page> list = result.get(title);
+        if (list == null) {
+          list = new ArrayList<Page>(1);
+          result.put(title, list);
+        }
+        list.add(link);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param wiki Wiki.
+   * @param linksByTitle Links grouped by normalized title.
+   * @param title Title.
+   * @return Links matching the title.
+   */
+  private static List<Page> getLinksWithTitle(
+      EnumWikipedia wiki, Map<String, List<Page>> linksByTitle, String title) {
+    if (title == null) {
+      return Collections.emptyList();
+    }
+    List<Page> result = linksByTitle.get(normalizeTitle(wiki, title));
+    if (result == null) {
+      return Collections.emptyList();
+    }
+    return result;
+  }
+
   /**
    * Get anchors in internal links.
    * 
@@ -218,23 +272,22 @@ public class PageAnalysisUtils {
     }
 
     // Check each internal link
+    EnumWikipedia wiki = pageAnalysis.getWikipedia();
+    Map<String, List<Page>> linksByTitle = indexLinksByTitle(wiki, pageLinks);
     List<PageElementInternalLink> links = pageAnalysis.getInternalLinks();
     for (PageElementInternalLink internalLink : links) {
       String anchor = internalLink.getAnchor();
       if ((anchor != null) && (anchor.trim().length() > 0)) {
         String fullAnchor = internalLink.getFullLink();
         // Check if the internal link is for one of the links
-        for (Page link : pageLinks) {
-          if ((link != null) &&
-              (Page.areSameTitle(link.getTitle(), internalLink.getLink()))) {
-            List<String> listAnchors = anchors.get(link);
-            if (listAnchors == null) {
-              listAnchors = new ArrayList<String>();
-              anchors.put(link, listAnchors);
-            }
-            if (!listAnchors.contains(fullAnchor)) {
-              listAnchors.add(fullAnchor);
-            }
+        for (Page link : getLinksWithTitle(wiki, linksByTitle, internalLink.getLink())) {
+          List<String> listAnchors = anchors.get(link);
+          if (listAnchors == null) {
+            listAnchors = new ArrayList<String>();
+            anchors.put(link, listAnchors);
+          }
+          if (!listAnchors.contains(fullAnchor)) {
+            listAnchors.add(fullAnchor);
           }
         }
       }
@@ -0,0 +1,167 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import java.util.Arrays;
+
+
+/**
+ * Single pass scanner of the page contents.
+ * 
+ * <p>Each character is classified with a lookup table, and the positions where
+ * an element of each analysis level may begin are memorized. The analysis
+ * levels then only try to analyze elements at these positions, instead of
+ * going through all the text of the page.</p>
+ */
+class PageContentsScanner {
+
+  /** Flag for a possible tag or comment: <code>&lt;</code> */
+  private final static int TAG = 1;
+
+  /** Flag for a possible wiki element when the character is doubled: <code>[[ {{ __</code> */
+  private final static int WIKI_DOUBLE = 2;
+
+  /** Flag for a possible wiki element: <code>=</code> */
+  private final static int WIKI = 4;
+
+  /** Flag for a possible external link */
+  private final static int EXTERNAL_LINK = 8;
+
+  /** Classification of ASCII characters */
+  private final static int[] CLASSES = new int[128];
+
+  static {
+    CLASSES['<'] = TAG;
+    CLASSES['['] = WIKI_DOUBLE | EXTERNAL_LINK;
+    CLASSES['{'] = WIKI_DOUBLE;
+    CLASSES['_'] = WIKI_DOUBLE;
+    CLASSES['='] = WIKI;
+    for (char c = 0; c < CLASSES.length; c++) {
+      if (PageElementExternalLink.isPossibleProtocolStart(c)) {
+        CLASSES[c] |= EXTERNAL_LINK;
+      }
+    }
+  }
+
+  /** Positions where a tag or a comment may begin */
+  private final int[] tags;
+
+  /** Positions where a link, template, function, parameter, title or magic word may begin */
+  private final int[] wikiElements;
+
+  /** Positions where an external link may begin */
+  private final int[] externalLinks;
+
+  /**
+   * Scan the page contents.
+   * 
+   * @param contents Page contents.
+   */
+  PageContentsScanner(String contents) {
+    int length = (contents != null) ? contents.length() : 0;
+    int[] tmpTags = new int[64];
+    int tagsCount = 0;
+    int[] tmpWiki = new int[256];
+    int wikiCount = 0;
+    int[] tmpExternal = new int[256];
+    int externalCount = 0;
+    for (int index = 0; index < length; index++) {
+      char c = contents.charAt(index);
+      int flags = 0;
+      if (c < 128) {
+        flags = CLASSES[c];
+      } else if (PageElementExternalLink.isPossibleProtocolStart(c)) {
+        flags = EXTERNAL_LINK;
+      }
+      if (flags != 0) {
+        if ((flags & TAG) != 0) {
+          if (tagsCount >= tmpTags.length) {
+            tmpTags = Arrays.copyOf(tmpTags, tmpTags.length * 2);
+          }
+          tmpTags[tagsCount++] = index;
+        }
+        if (((flags & WIKI) != 0) ||
+            (((flags & WIKI_DOUBLE) != 0) &&
+             (index + 1 < length) && (contents.charAt(index + 1) == c))) {
+          if (wikiCount >= tmpWiki.length) {
+            tmpWiki = Arrays.copyOf(tmpWiki, tmpWiki.length * 2);
+          }
+          tmpWiki[wikiCount++] = index;
+        }
+        if ((flags & EXTERNAL_LINK) != 0) {
+          if (externalCount >= tmpExternal.length) {
+            tmpExternal = Arrays.copyOf(tmpExternal, tmpExternal.length * 2);
+          }
+          tmpExternal[externalCount++] = index;
+        }
+      }
+    }
+    tags = Arrays.copyOf(tmpTags, tagsCount);
+    wikiElements = Arrays.copyOf(tmpWiki, wikiCount);
+    externalLinks = Arrays.copyOf(tmpExternal, externalCount);
+  }
+
+  /**
+   * @return Cursor on the positions where a tag or a comment may begin.
+   */
+  Cursor getTags() {
+    return new Cursor(tags);
+  }
+
+  /**
+   * @return Cursor on the positions where a link, template, function,
+   *         parameter, title or magic word may begin.
+   */
+  Cursor getWikiElements() {
+    return new Cursor(wikiElements);
+  }
+
+  /**
+   * @return Cursor on the positions where an external link may begin.
+   */
+  Cursor getExternalLinks() {
+    return new Cursor(externalLinks);
+  }
+
+  /**
+   * Cursor on sorted positions.
+   */
+  static class Cursor {
+
+    /** Sorted positions */
+    private final int[] positions;
+
+    /** Index of the current position */
+    private int current;
+
+    /**
+     * @param positions Sorted positions.
+     */
+    Cursor(int[] positions) {
+      this.positions = positions;
+      this.current = 0;
+    }
+
+    /**
+     * @param index Index.
+     * @return First position at or after the index (-1 if none).
+     */
+    int next(int index) {
+      if ((current > 0) && (positions[current - 1] >= index)) {
+        current = Arrays.binarySearch(positions, 0, current, index);
+        if (current < 0) {
+          current = -current - 1;
+        }
+      }
+      while ((current < positions.length) && (positions[current] < index)) {
+        current++;
+      }
+      return (current < positions.length) ? positions[current] : -1;
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+
+/**
+ * View on a part of the page contents, without copying the characters.
+ *
+ * <p>Elements found by the analysis keep their parts as views,
+ * a string is created only when it's requested, and then kept.</p>
+ */
+class PageContentsSlice implements CharSequence {
+
+  /** Page contents */
+  private final String contents;
+
+  /** Begin index of the part in the page contents */
+  private final int beginIndex;
+
+  /** End index of the part in the page contents */
+  private final int endIndex;
+
+  /** Part of the page contents as a string, created when requested */
+  private String string;
+
+  /**
+   * @param contents Page contents.
+   * @param beginIndex Begin index of the part in the page contents.
+   * @param endIndex End index of the part in the page contents.
+   */
+  PageContentsSlice(String contents, int beginIndex, int endIndex) {
+    if ((beginIndex < 0) || (endIndex > contents.length()) || (beginIndex > endIndex)) {
+      throw new StringIndexOutOfBoundsException(
+          "Slice [" + beginIndex + "," + endIndex + "] of " + contents.length());
+    }
+    this.contents = contents;
+    this.beginIndex = beginIndex;
+    this.endIndex = endIndex;
+  }
+
+  /**
+   * @param text Text (may be null).
+   * @return Text as a string.
+   */
+  static String toString(CharSequence text) {
+    return (text != null) ? text.toString() : null;
+  }
+
+  /**
+   * @return Number of characters.
+   * @see java.lang.CharSequence#length()
+   */
+  @Override
+  public int length() {
+    return endIndex - beginIndex;
+  }
+
+  /**
+   * @return True if the part is empty.
+   */
+  public boolean isEmpty() {
+    return (endIndex == beginIndex);
+  }
+
+  /**
+   * @param index Index in the part.
+   * @return Character at the index.
+   * @see java.lang.CharSequence#charAt(int)
+   */
+  @Override
+  public char charAt(int index) {
+    if ((index < 0) || (index >= endIndex - beginIndex)) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    return contents.charAt(beginIndex + index);
+  }
+
+  /**
+   * @param start Begin index in the part.
+   * @param end End index in the part.
+   * @return View on a sub part.
+   * @see java.lang.CharSequence#subSequence(int, int)
+   */
+  @Override
+  public PageContentsSlice subSequence(int start, int end) {
+    if ((start < 0) || (end > endIndex - beginIndex) || (start > end)) {
+      throw new StringIndexOutOfBoundsException(
+          "Sub sequence [" + start + "," + end + "] of " + (endIndex - beginIndex));
+    }
+    if ((start == 0) && (end == endIndex - beginIndex)) {
+      return this;
+    }
+    return new PageContentsSlice(contents, beginIndex + start, beginIndex + end);
+  }
+
+  /**
+   * @param start Begin index in the part.
+   * @return View on the end of the part.
+   */
+  public PageContentsSlice subSequence(int start) {
+    return subSequence(start, endIndex - beginIndex);
+  }
+
+  /**
+   * @return View without leading and trailing whitespace, as with String.trim().
+   */
+  public PageContentsSlice trim() {
+    int begin = beginIndex;
+    int end = endIndex;
+    while ((begin < end) && (contents.charAt(begin) <= ' ')) {
+      begin++;
+    }
+    while ((end > begin) && (contents.charAt(end - 1) <= ' ')) {
+      end--;
+    }
+    if ((begin == beginIndex) && (end == endIndex)) {
+      return this;
+    }
+    return new PageContentsSlice(contents, begin, end);
+  }
+
+  /**
+   * @param c Character.
+   * @return Index of the first occurrence of the character in the part (-1 if none).
+   */
+  public int indexOf(char c) {
+    for (int index = beginIndex; index < endIndex; index++) {
+      if (contents.charAt(index) == c) {
+        return index - beginIndex;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param text Text.
+   * @return Index of the first occurrence of the text in the part (-1 if none).
+   */
+  public int indexOf(String text) {
+    int textLength = text.length();
+    if (textLength == 0) {
+      return 0;
+    }
+    char first = text.charAt(0);
+    int lastIndex = endIndex - textLength;
+    for (int index = beginIndex; index <= lastIndex; index++) {
+      if ((contents.charAt(index) == first) &&
+          contents.regionMatches(index, text, 0, textLength)) {
+        return index - beginIndex;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param prefix Prefix.
+   * @return True if the part begins with the prefix.
+   */
+  public boolean startsWith(String prefix) {
+    return (prefix.length() <= endIndex - beginIndex) &&
+           contents.startsWith(prefix, beginIndex);
+  }
+
+  /**
+   * @return Part of the page contents as a string.
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    String result = string;
+    if (result == null) {
+      if ((beginIndex == 0) && (endIndex == contents.length())) {
+        result = contents;
+      } else {
+        result = contents.substring(beginIndex, endIndex);
+      }
+      string = result;
+    }
+    return result;
+  }
+}
@@ -41,6 +41,16 @@ public abstract class PageElement {
     return endIndex;
   }
 
+  /**
+   * Create a copy of the element moved in the page contents.
+   *
+   * @param offset Offset added to every index of the element.
+   * @return Moved copy of the element (null if the element can't be moved).
+   */
+  PageElement moveBy(int offset) {
+    return null;
+  }
+
   /**
    * Group consecutive elements.
    * 
@@ -7,35 +7,84 @@
 
 package org.wikipediacleaner.api.data;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 
 /**
  * Management of non wiki text areas.
+ * 
+ * <p>Areas are kept merged and sorted in arrays of begin and end indexes,
+ * so that finding the area containing an index is a binary search.</p>
  */
 public class PageElementAreas {
 
   /** Flag to activate areas checking */
   private static boolean CHECK_AREAS = false;
 
-  /** List of non wiki text areas */
-  private final List<Area> areas;
+  /** Begin indexes of the non wiki text areas, sorted */
+  private int[] beginIndexes;
+
+  /** End indexes of the non wiki text areas, sorted */
+  private int[] endIndexes;
+
+  /** Number of non wiki text areas */
+  private int count;
+
+  /** Number of modifications of the areas, used to detect outdated cursors */
+  private int modificationCount;
+
+  /** List of areas, computed on demand */
+  private List<Area> areas;
 
   /**
    * Initialize areas.
    */
   public PageElementAreas() {
-    areas = new LinkedList<PageElementAreas.Area>();
+    beginIndexes = new int[64];
+    endIndexes = new int[64];
+    count = 0;
+    modificationCount = 0;
+    areas = null;
   }
 
   /**
    * @return List of areas.
    */
   public List<Area> getAreas() {
-    return Collections.unmodifiableList(areas);
+    if (areas == null) {
+      List<Area> tmpAreas = new ArrayList<Area>(count);
+      for (int i = 0; i < count; i++) {
+        tmpAreas.add(new Area(beginIndexes[i], endIndexes[i]));
+      }
+      areas = Collections.unmodifiableList(tmpAreas);
+    }
+    return areas;
+  }
+
+  /**
+   * @return Number of areas.
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * @param areaIndex Index of the area.
+   * @return Begin index of the area.
+   */
+  public int getBeginIndex(int areaIndex) {
+    return beginIndexes[areaIndex];
+  }
+
+  /**
+   * @param areaIndex Index of the area.
+   * @return End index of the area.
+   */
+  public int getEndIndex(int areaIndex) {
+    return endIndexes[areaIndex];
   }
 
   /**
@@ -43,17 +92,20 @@ public class PageElementAreas {
    * @return First index after area.
    */
   public int getEndArea(int index) {
-    for (Area area : areas) {
-      if (area.beginIndex > index) {
-        return index;
-      }
-      if (area.endIndex > index) {
-        return area.endIndex;
-      }
+    int areaIndex = findArea(index);
+    if ((areaIndex >= 0) && (endIndexes[areaIndex] > index)) {
+      return endIndexes[areaIndex];
     }
     return index;
   }
 
+  /**
+   * @return Cursor for scanning the areas forward.
+   */
+  public Cursor getCursor() {
+    return new Cursor();
+  }
+
   /**
    * Add comments to non wiki text areas.
    * 
@@ -358,67 +410,145 @@ public class PageElementAreas {
    * @param endIndex End index.
    */
   private void addArea(int beginIndex, int endIndex) {
-    Iterator<PageElementAreas.Area> itArea = areas.iterator();
-    int currentIndex = 0;
-    while (itArea.hasNext()) {
-      Area area = itArea.next();
-      if (beginIndex <= area.endIndex) {
-        if (endIndex < area.beginIndex) {
-          areas.add(currentIndex, new Area(beginIndex, endIndex));
-          if (CHECK_AREAS) {
-            checkAreas();
-          }
-          return;
-        }
-        area.beginIndex = Math.min(area.beginIndex, beginIndex);
-        if (endIndex <= area.endIndex) {
-          return;
-        }
-        area.endIndex = endIndex;
-        while (itArea.hasNext()) {
-          Area tmpArea = itArea.next();
-          if (tmpArea.beginIndex > endIndex) {
-            if (CHECK_AREAS) {
-              checkAreas();
-            }
-            return;
-          }
-          area.endIndex = Math.max(area.endIndex, tmpArea.endIndex);
-          itArea.remove();
-        }
-        if (CHECK_AREAS) {
-          checkAreas();
+    modificationCount++;
+    areas = null;
+
+    // Find the first area which is not before the new area
+    int first = 0;
+    if ((count > 0) && (endIndexes[count - 1] < beginIndex)) {
+      first = count;
+    } else {
+      int high = count;
+      while (first < high) {
+        int middle = (first + high) >>> 1;
+        if (endIndexes[middle] < beginIndex) {
+          first = middle + 1;
+        } else {
+          high = middle;
         }
-        return;
       }
-      currentIndex++;
     }
-    areas.add(new Area(beginIndex, endIndex));
+
+    // Insert a new area
+    if ((first >= count) || (endIndex < beginIndexes[first])) {
+      if (count >= beginIndexes.length) {
+        beginIndexes = Arrays.copyOf(beginIndexes, beginIndexes.length * 2);
+        endIndexes = Arrays.copyOf(endIndexes, endIndexes.length * 2);
+      }
+      if (first < count) {
+        System.arraycopy(beginIndexes, first, beginIndexes, first + 1, count - first);
+        System.arraycopy(endIndexes, first, endIndexes, first + 1, count - first);
+      }
+      beginIndexes[first] = beginIndex;
+      endIndexes[first] = endIndex;
+      count++;
+      if (CHECK_AREAS) {
+        checkAreas();
+      }
+      return;
+    }
+
+    // Merge with the existing areas overlapping the new area
+    beginIndexes[first] = Math.min(beginIndexes[first], beginIndex);
+    int last = first;
+    while ((last + 1 < count) && (beginIndexes[last + 1] <= endIndex)) {
+      last++;
+    }
+    endIndexes[first] = Math.max(endIndex, endIndexes[last]);
+    if (last > first) {
+      System.arraycopy(beginIndexes, last + 1, beginIndexes, first + 1, count - last - 1);
+      System.arraycopy(endIndexes, last + 1, endIndexes, first + 1, count - last - 1);
+      count -= last - first;
+    }
     if (CHECK_AREAS) {
       checkAreas();
     }
   }
 
+  /**
+   * @param index Index.
+   * @return Index of the last area beginning before or at the index (-1 if none).
+   */
+  private int findArea(int index) {
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (beginIndexes[middle] <= index) {
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return high;
+  }
+
   /**
    * Internal checking of the areas.
    */
   public void checkAreas() {
     int previousEnd = -1;
-    for (PageElementAreas.Area area : areas) {
-      if (area.beginIndex >= area.endIndex) {
-        System.err.println("Error " + area);
+    for (int i = 0; i < count; i++) {
+      if (beginIndexes[i] >= endIndexes[i]) {
+        System.err.println("Error " + new Area(beginIndexes[i], endIndexes[i]));
       }
-      if (previousEnd >= area.beginIndex) {
-        System.err.println("Error " + area + "/" + previousEnd);
+      if (previousEnd >= beginIndexes[i]) {
+        System.err.println("Error " + new Area(beginIndexes[i], endIndexes[i]) + "/" + previousEnd);
       }
-      previousEnd = area.endIndex;
+      previousEnd = endIndexes[i];
     }
   }
 
   public void printAreas(String text) {
     System.err.println("Areas " + text + " :");
-    for (Area area : areas) {
-      System.err.println(" " + area.getBeginIndex() + "->" + area.getEndIndex());
+    for (int i = 0; i < count; i++) {
+      System.err.println(" " + beginIndexes[i] + "->" + endIndexes[i]);
+    }
+  }
+
+  /**
+   * Cursor for scanning the areas with increasing indexes.
+   * 
+   * <p>Each call is amortized constant time as long as indexes don't decrease,
+   * a binary search is used otherwise or when areas have been modified.</p>
+   */
+  public class Cursor {
+
+    /** Index of the current area */
+    private int areaIndex;
+
+    /** Last index requested */
+    private int lastIndex;
+
+    /** Number of modifications of the areas when the cursor was last positioned */
+    private int expectedModificationCount;
+
+    /**
+     * Create a cursor at the beginning of the text.
+     */
+    Cursor() {
+      areaIndex = 0;
+      lastIndex = 0;
+      expectedModificationCount = modificationCount;
+    }
+
+    /**
+     * @param index Current index.
+     * @return First index after area.
+     */
+    public int getEndArea(int index) {
+      if ((expectedModificationCount != modificationCount) || (index < lastIndex)) {
+        areaIndex = Math.max(findArea(index), 0);
+        expectedModificationCount = modificationCount;
+      }
+      lastIndex = index;
+      while ((areaIndex < count) && (endIndexes[areaIndex] <= index)) {
+        areaIndex++;
+      }
+      if ((areaIndex < count) && (beginIndexes[areaIndex] <= index)) {
+        return endIndexes[areaIndex];
+      }
+      return index;
     }
   }
 
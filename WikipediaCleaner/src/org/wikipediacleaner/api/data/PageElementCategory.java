@@ -145,6 +145,30 @@ public class PageElementCategory extends PageElement {
     this.sort = (sort != null) ? sort.trim() : null;
   }
 
+  /**
+   * @param category Category.
+   * @param offset Offset added to every index.
+   */
+  private PageElementCategory(PageElementCategory category, int offset) {
+    super(category.getBeginIndex() + offset, category.getEndIndex() + offset);
+    this.categoryNotTrimmed = category.categoryNotTrimmed;
+    this.category = category.category;
+    this.nameNotTrimmed = category.nameNotTrimmed;
+    this.name = category.name;
+    this.sortNotTrimmed = category.sortNotTrimmed;
+    this.sort = category.sort;
+  }
+
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the category.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementCategory moveBy(int offset) {
+    return new PageElementCategory(this, offset);
+  }
+
   /* (non-Javadoc)
    * @see java.lang.Object#toString()
    */
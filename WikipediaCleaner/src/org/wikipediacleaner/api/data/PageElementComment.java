@@ -99,6 +99,26 @@ public class PageElementComment extends PageElement {
     this.comment = (comment != null) ? comment.trim() : null;
   }
 
+  /**
+   * @param comment Comment.
+   * @param offset Offset added to every index.
+   */
+  private PageElementComment(PageElementComment comment, int offset) {
+    super(comment.getBeginIndex() + offset, comment.getEndIndex() + offset);
+    this.commentNotTrimmed = comment.commentNotTrimmed;
+    this.comment = comment.comment;
+  }
+
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the comment.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementComment moveBy(int offset) {
+    return new PageElementComment(this, offset);
+  }
+
   /**
    * @return Comment.
    */
@@ -18,10 +18,10 @@ import org.wikipediacleaner.api.constants.EnumWikipedia;
  */
 public class PageElementExternalLink extends PageElement {
 
-  private final String linkNotTrimmed;
-  private final String link;
-  private final String textNotTrimmed;
-  private final String text;
+  private final PageContentsSlice linkNotTrimmed;
+  private final CharSequence link;
+  private final PageContentsSlice textNotTrimmed;
+  private final PageContentsSlice text;
   private final int    textOffset;
   private final boolean hasSquare;
   private final boolean hasSecondSquare;
@@ -115,14 +115,14 @@ public class PageElementExternalLink extends PageElement {
         (UNACCEPTABLE.indexOf(contents.charAt(endUrlIndex)) >= 0)) {
       return new PageElementExternalLink(
           beginUrlIndex, endUrlIndex,
-          contents.substring(beginUrlIndex, endUrlIndex),
+          new PageContentsSlice(contents, beginUrlIndex, endUrlIndex),
           null, -1, false, false);
     }
     if ((endUrlIndex < maxLength) &&
         (contents.charAt(endUrlIndex) == ']')) {
       return new PageElementExternalLink(
           index, endUrlIndex + 1,
-          contents.substring(beginUrlIndex, endUrlIndex),
+          new PageContentsSlice(contents, beginUrlIndex, endUrlIndex),
           null, -1, true, true);
     }
 
@@ -160,19 +160,19 @@ public class PageElementExternalLink extends PageElement {
         if (prematureEndIndex < 0) {
           return new PageElementExternalLink(
               index, endTextIndex + 1,
-              contents.substring(beginUrlIndex, endUrlIndex),
-              contents.substring(beginTextIndex, endTextIndex),
+              new PageContentsSlice(contents, beginUrlIndex, endUrlIndex),
+              new PageContentsSlice(contents, beginTextIndex, endTextIndex),
               beginTextIndex - index, true, true);
         }
         return new PageElementExternalLink(
             index, prematureEndIndex,
-            contents.substring(beginUrlIndex, endUrlIndex),
-            contents.substring(beginTextIndex, prematureEndIndex),
+            new PageContentsSlice(contents, beginUrlIndex, endUrlIndex),
+            new PageContentsSlice(contents, beginTextIndex, prematureEndIndex),
             beginTextIndex - index, true, false);
       } else if (UNACCEPTABLE.indexOf(contents.charAt(endTextIndex)) >= 0) {
         return new PageElementExternalLink(
             beginUrlIndex, endUrlIndex,
-            contents.substring(beginUrlIndex, endUrlIndex),
+            new PageContentsSlice(contents, beginUrlIndex, endUrlIndex),
             null, -1, false, false);
       } else {
         PageElementComment comment = null;
@@ -194,7 +194,7 @@ public class PageElementExternalLink extends PageElement {
     // No end found
     return new PageElementExternalLink(
         beginUrlIndex, endUrlIndex,
-        contents.substring(beginUrlIndex, endUrlIndex),
+        new PageContentsSlice(contents, beginUrlIndex, endUrlIndex),
         null, -1, false, false);
   }
 
@@ -203,7 +203,7 @@ public class PageElementExternalLink extends PageElement {
    * @param offset Offset in the text.
    * @return True if the offset in the text is a possible protocol.
    */
-  public static boolean isPossibleProtocol(String text, int offset) {
+  public static boolean isPossibleProtocol(CharSequence text, int offset) {
     for (String protocol : privateProtocols) {
       int pos = 0;
       boolean same = true;
@@ -223,18 +223,32 @@ public class PageElementExternalLink extends PageElement {
     return false;
   }
 
+  /**
+   * @param c Character.
+   * @return True if a protocol may begin with this character.
+   */
+  public static boolean isPossibleProtocolStart(char c) {
+    char lowerCase = Character.toLowerCase(c);
+    for (String protocol : privateProtocols) {
+      if (protocol.charAt(0) == lowerCase) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * @return External link.
    */
   public String getLink() {
-    return link;
+    return PageContentsSlice.toString(link);
   }
 
   /**
    * @return Text.
    */
   public String getText() {
-    return text;
+    return PageContentsSlice.toString(text);
   }
 
   /**
@@ -248,7 +262,7 @@ public class PageElementExternalLink extends PageElement {
    * @return Text.
    */
   public String getTextNotTrimmed() {
-    return textNotTrimmed;
+    return PageContentsSlice.toString(textNotTrimmed);
   }
 
   /**
@@ -256,9 +270,9 @@ public class PageElementExternalLink extends PageElement {
    */
   public String getDisplayedText() {
     if (text != null) {
-      return text;
+      return text.toString();
     }
-    return linkNotTrimmed;
+    return linkNotTrimmed.toString();
   }
 
   /**
@@ -277,18 +291,20 @@ public class PageElementExternalLink extends PageElement {
 
   private PageElementExternalLink(
       int beginIndex, int endIndex,
-      String link, String text, int textOffset,
+      PageContentsSlice link, PageContentsSlice text, int textOffset,
       boolean hasSquare, boolean hasSecondSquare) {
     super(beginIndex, endIndex);
     this.linkNotTrimmed = link;
-    String tmpLink = (link != null) ? link.trim() : null;
+    PageContentsSlice tmpLink = (link != null) ? link.trim() : null;
     if ((tmpLink != null) && (tmpLink.startsWith("//"))) {
-      tmpLink = "http:" + tmpLink;
+      this.link = "http:" + tmpLink;
+    } else {
+      this.link = tmpLink;
     }
-    this.link = tmpLink;
-    if ((text != null) && (text.trim().length() > 0)) {
+    PageContentsSlice tmpText = (text != null) ? text.trim() : null;
+    if ((tmpText != null) && !tmpText.isEmpty()) {
       this.textNotTrimmed = text;
-      this.text = text.trim();
+      this.text = tmpText;
     } else {
       this.textNotTrimmed = null;
       this.text = null;
@@ -298,6 +314,31 @@ public class PageElementExternalLink extends PageElement {
     this.hasSecondSquare = hasSecondSquare;
   }
 
+  /**
+   * @param link External link.
+   * @param offset Offset added to every index.
+   */
+  private PageElementExternalLink(PageElementExternalLink link, int offset) {
+    super(link.getBeginIndex() + offset, link.getEndIndex() + offset);
+    this.linkNotTrimmed = link.linkNotTrimmed;
+    this.link = link.link;
+    this.textNotTrimmed = link.textNotTrimmed;
+    this.text = link.text;
+    this.textOffset = link.textOffset;
+    this.hasSquare = link.hasSquare;
+    this.hasSecondSquare = link.hasSecondSquare;
+  }
+
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the external link.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementExternalLink moveBy(int offset) {
+    return new PageElementExternalLink(this, offset);
+  }
+
   /* (non-Javadoc)
    * @see java.lang.Object#toString()
    */
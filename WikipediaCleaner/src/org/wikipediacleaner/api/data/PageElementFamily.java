@@ -0,0 +1,76 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+
+/**
+ * Families of elements found by the analysis of a page.
+ *
+ * <p>Each family is found by one level of analysis, and each level of analysis
+ * requires the previous levels.</p>
+ */
+public enum PageElementFamily {
+
+  COMMENT(1),
+  TAG(2),
+  CATEGORY(3),
+  FUNCTION(3),
+  IMAGE(3),
+  INTERNAL_LINK(3),
+  INTERWIKI_LINK(3),
+  LANGUAGE_LINK(3),
+  MAGIC_WORD(3),
+  PARAMETER(3),
+  TEMPLATE(3),
+  TITLE(3),
+  EXTERNAL_LINK(4),
+  ISBN(5),
+  ISSN(5),
+  PMID(5),
+  RFC(5);
+
+  /** All families of elements */
+  public final static Set<PageElementFamily> ALL =
+      Collections.unmodifiableSet(EnumSet.allOf(PageElementFamily.class));
+
+  /** Level of analysis finding the elements */
+  private final int level;
+
+  /**
+   * @param level Level of analysis finding the elements.
+   */
+  private PageElementFamily(int level) {
+    this.level = level;
+  }
+
+  /**
+   * @return Level of analysis finding the elements.
+   */
+  int getLevel() {
+    return level;
+  }
+
+  /**
+   * @param families Families of elements.
+   * @return Level of analysis required to find all the families of elements.
+   */
+  static int getLevel(Collection<PageElementFamily> families) {
+    int result = 0;
+    if (families != null) {
+      for (PageElementFamily family : families) {
+        result = Math.max(result, family.level);
+      }
+    }
+    return result;
+  }
+}
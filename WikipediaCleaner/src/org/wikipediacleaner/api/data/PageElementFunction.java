@@ -56,6 +56,17 @@ public class PageElementFunction extends PageElement {
       this.valueStartIndex = valueStartIndex;
     }
 
+    /**
+     * @param offset Offset added to every index.
+     * @return Moved copy of the parameter.
+     */
+    Parameter moveBy(int offset) {
+      return new Parameter(
+          separatorIndex + offset,
+          name, nameStartIndex + offset,
+          valueNotTrimmed, valueStartIndex + offset);
+    }
+
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
      */
@@ -74,15 +85,13 @@ public class PageElementFunction extends PageElement {
    * @param wiki Wiki.
    * @param contents Contents.
    * @param index Block start index.
-   * @param comments Comments in the page.
-   * @param tags Tags in the page.
+   * @param lookup Lookup of comments and tags in the page.
    * @return Block details it there's a block.
    */
   public static PageElementFunction analyzeBlock(
       EnumWikipedia wiki,
       String contents, int index,
-      List<PageElementComment> comments,
-      List<PageElementTag> tags) {
+      PageElementLookup lookup) {
     // Verify arguments
     if (contents == null) {
       return null;
@@ -112,14 +121,7 @@ public class PageElementFunction extends PageElement {
   
       // Possible comment
       if ((tmpIndex < contents.length()) && (contents.charAt(tmpIndex) == '<')) {
-        PageElementComment comment = null;
-        if (comments != null) {
-          for (PageElementComment tmpComment : comments) {
-            if (tmpComment.getBeginIndex() == tmpIndex) {
-              comment = tmpComment;
-            }
-          }
-        }
+        PageElementComment comment = lookup.getCommentBeginningAt(tmpIndex);
         if (comment == null) {
           return null;
         }
@@ -158,14 +160,7 @@ public class PageElementFunction extends PageElement {
 
       // Possible comment
       if ((tmpIndex < contents.length()) && (contents.charAt(tmpIndex) == '<')) {
-        PageElementComment comment = null;
-        if (comments != null) {
-          for (PageElementComment tmpComment : comments) {
-            if (tmpComment.getBeginIndex() == tmpIndex) {
-              comment = tmpComment;
-            }
-          }
-        }
+        PageElementComment comment = lookup.getCommentBeginningAt(tmpIndex);
         if (comment == null) {
           return null;
         }
@@ -199,7 +194,7 @@ public class PageElementFunction extends PageElement {
     List<Parameter> parameters = new ArrayList<Parameter>();
     int endIndex = analyzeFunctionParameters(
         wiki, contents, beginIndex, tmpIndex - 1, tmpIndex, parameters,
-        comments, tags);
+        lookup);
     if (endIndex < 0) {
       return null;
     }
@@ -217,16 +212,14 @@ public class PageElementFunction extends PageElement {
    * @param separatorIndex Index of the previous separator.
    * @param parametersBeginIndex Start index of the parameters in the page.
    * @param parameters Parameters.
-   * @param comments Comments in the page.
-   * @param tags Tags in the page.
+   * @param lookup Lookup of comments and tags in the page.
    * @return Position of the end of the function, or -1 if no function was found.
    */
   private static int analyzeFunctionParameters(
       EnumWikipedia wiki, String contents,
       int functionBeginIndex, int separatorIndex, int parametersBeginIndex,
       List<Parameter> parameters,
-      List<PageElementComment> comments,
-      List<PageElementTag> tags) {
+      PageElementLookup lookup) {
     if (contents == null) {
       return -1;
     }
@@ -294,14 +287,7 @@ public class PageElementFunction extends PageElement {
         }
       } else if (contents.startsWith("<", tmpIndex)) {
         // Possible start of a tag
-        PageElementTag tag = null;
-        if (tags != null) {
-          for (PageElementTag tmpTag : tags) {
-            if (tmpTag.getBeginIndex() == tmpIndex) {
-              tag = tmpTag;
-            }
-          }
-        }
+        PageElementTag tag = lookup.getTagBeginningAt(tmpIndex);
         if (tag != null) {
           int count = 0;
           if (tag.isFullTag()) {
@@ -327,14 +313,7 @@ public class PageElementFunction extends PageElement {
           tmpIndex = tag.getEndIndex();
         } else {
           // Possible start of a comment
-          PageElementComment comment = null;
-          if (comments != null) {
-            for (PageElementComment tmpComment : comments) {
-              if (tmpComment.getBeginIndex() == tmpIndex) {
-                comment = tmpComment;
-              }
-            }
-          }
+          PageElementComment comment = lookup.getCommentBeginningAt(tmpIndex);
           if (comment != null) {
             tmpIndex = comment.getEndIndex();
           } else {
@@ -551,6 +530,26 @@ public class PageElementFunction extends PageElement {
     this.parameters = parameters;
   }
 
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the function.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementFunction moveBy(int offset) {
+    List<Parameter> movedParameters = null;
+    if (parameters != null) {
+      movedParameters = new ArrayList<Parameter>(parameters.size());
+      for (Parameter parameter : parameters) {
+        movedParameters.add(parameter.moveBy(offset));
+      }
+    }
+    return new PageElementFunction(
+        magicWord, functionNameNotTrimmed,
+        getBeginIndex() + offset, getEndIndex() + offset,
+        movedParameters);
+  }
+
   private void addPartBeforeParameters(StringBuilder sb) {
     sb.append("{{");
     sb.append(functionNameNotTrimmed);
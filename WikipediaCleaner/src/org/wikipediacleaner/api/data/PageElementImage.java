@@ -298,6 +298,21 @@ public class PageElementImage extends PageElement {
     this.parameters = parameters;
   }
 
+  /**
+   * Parameters offsets are relative to the image, so they are shared with the copy.
+   *
+   * @param offset Offset added to every index.
+   * @return Moved copy of the image.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementImage moveBy(int offset) {
+    return new PageElementImage(
+        wiki, getBeginIndex() + offset, getEndIndex() + offset,
+        namespaceNotTrimmed, imageNotTrimmed,
+        firstPipeOffset, parameters);
+  }
+
   /**
    * Change image to have a different description.
    * 
@@ -0,0 +1,202 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Positional index on a list of page elements.
+ * 
+ * <p>Elements are sorted by begin index, with a tree of the maximum end index
+ * in each range of elements, so that finding the next element or the elements
+ * containing an index doesn't require to scan the full list.
+ * Results are the same as scanning the list in its original order.</p>
+ * 
+ * @param <T> Type of page elements.
+ */
+class PageElementIndex<T extends PageElement> {
+
+  /** Selection of the first element in the list */
+  private final static int FIRST = 0;
+
+  /** Selection of the last element in the list */
+  private final static int LAST = 1;
+
+  /** Selection of the element with the greatest begin index */
+  private final static int INNERMOST = 2;
+
+  /** Indexed elements */
+  private final List<T> elements;
+
+  /** Begin indexes of the elements, sorted */
+  private final int[] beginIndexes;
+
+  /** Positions in the list of the elements, in the order of begin indexes */
+  private final int[] positions;
+
+  /** Minimum position in the list of the elements after each sorted element (included) */
+  private final int[] minPositionsAfter;
+
+  /** Number of leaves in the tree */
+  private final int leavesCount;
+
+  /** Tree of the maximum end index in each range of sorted elements */
+  private final int[] maxEndIndexes;
+
+  /**
+   * @param elements Elements to index.
+   */
+  PageElementIndex(List<T> elements) {
+    this.elements = elements;
+    int count = elements.size();
+
+    // Sort elements by begin index, keeping the list order for equal begin indexes
+    long[] keys = new long[count];
+    for (int i = 0; i < count; i++) {
+      keys[i] = (((long) elements.get(i).getBeginIndex()) << 32) | i;
+    }
+    Arrays.sort(keys);
+    beginIndexes = new int[count];
+    positions = new int[count];
+    for (int i = 0; i < count; i++) {
+      beginIndexes[i] = (int) (keys[i] >> 32);
+      positions[i] = (int) keys[i];
+    }
+    minPositionsAfter = new int[count];
+    for (int i = count - 1; i >= 0; i--) {
+      minPositionsAfter[i] = (i + 1 < count) ?
+          Math.min(positions[i], minPositionsAfter[i + 1]) : positions[i];
+    }
+
+    // Build the tree of maximum end indexes
+    int tmpCount = 1;
+    while (tmpCount < count) {
+      tmpCount *= 2;
+    }
+    leavesCount = tmpCount;
+    maxEndIndexes = new int[2 * leavesCount];
+    Arrays.fill(maxEndIndexes, Integer.MIN_VALUE);
+    for (int i = 0; i < count; i++) {
+      maxEndIndexes[leavesCount + i] = elements.get(positions[i]).getEndIndex();
+    }
+    for (int node = leavesCount - 1; node > 0; node--) {
+      maxEndIndexes[node] = Math.max(maxEndIndexes[2 * node], maxEndIndexes[2 * node + 1]);
+    }
+  }
+
+  /**
+   * @param list List of elements.
+   * @return True if the index has been built on this list and is still valid.
+   */
+  boolean isIndexOf(List<?> list) {
+    return (list == elements) && (list.size() == positions.length);
+  }
+
+  /**
+   * @param currentIndex Current index.
+   * @return First element in the list beginning at or after the current index.
+   */
+  T getNext(int currentIndex) {
+    int sortedIndex = countBeginningBefore(currentIndex - 1);
+    if (sortedIndex >= positions.length) {
+      return null;
+    }
+    return elements.get(minPositionsAfter[sortedIndex]);
+  }
+
+  /**
+   * @param currentIndex Current index.
+   * @return First element in the list containing the current index.
+   */
+  T getFirstContaining(int currentIndex) {
+    return getContaining(currentIndex, FIRST);
+  }
+
+  /**
+   * @param currentIndex Current index.
+   * @return Last element in the list containing the current index.
+   */
+  T getLastContaining(int currentIndex) {
+    return getContaining(currentIndex, LAST);
+  }
+
+  /**
+   * @param currentIndex Current index.
+   * @return Element containing the current index with the greatest begin index
+   *         (first one in the list if several).
+   */
+  T getInnermostContaining(int currentIndex) {
+    return getContaining(currentIndex, INNERMOST);
+  }
+
+  /**
+   * @param currentIndex Current index.
+   * @param mode Selection among the elements containing the current index.
+   * @return Element containing the current index.
+   */
+  private T getContaining(int currentIndex, int mode) {
+    int sortedIndex = findContaining(
+        1, 0, leavesCount, countBeginningBefore(currentIndex), currentIndex, mode);
+    return (sortedIndex >= 0) ? elements.get(positions[sortedIndex]) : null;
+  }
+
+  /**
+   * @param index Index.
+   * @return Number of elements beginning at or before the index.
+   */
+  private int countBeginningBefore(int index) {
+    int low = 0;
+    int high = beginIndexes.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (beginIndexes[middle] <= index) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Find among the first sorted elements the ones ending after the current index.
+   * 
+   * @param node Node of the tree.
+   * @param low First sorted element covered by the node.
+   * @param high Last sorted element (excluded) covered by the node.
+   * @param limit Number of sorted elements to consider.
+   * @param currentIndex Current index.
+   * @param mode Selection among the elements found.
+   * @return Sorted index of the element selected (-1 if none).
+   */
+  private int findContaining(
+      int node, int low, int high, int limit, int currentIndex, int mode) {
+    if ((low >= limit) || (maxEndIndexes[node] <= currentIndex)) {
+      return -1;
+    }
+    if (high - low == 1) {
+      return low;
+    }
+    int middle = (low + high) >>> 1;
+    int left = findContaining(2 * node, low, middle, limit, currentIndex, mode);
+    int right = findContaining(2 * node + 1, middle, high, limit, currentIndex, mode);
+    if ((left < 0) || (right < 0)) {
+      return Math.max(left, right);
+    }
+    switch (mode) {
+    case FIRST:
+      return (positions[left] < positions[right]) ? left : right;
+    case LAST:
+      return (positions[left] > positions[right]) ? left : right;
+    default:
+      return (beginIndexes[right] > beginIndexes[left]) ? right : left;
+    }
+  }
+}
@@ -15,12 +15,12 @@ import org.wikipediacleaner.api.constants.EnumWikipedia;
  */
 public class PageElementInternalLink extends PageElement {
 
-  private final String linkNotTrimmed;
+  private final PageContentsSlice linkNotTrimmed;
   private final String link;
-  private final String anchorNotTrimmed;
-  private final String anchor;
-  private final String textNotTrimmed;
-  private final String text;
+  private final PageContentsSlice anchorNotTrimmed;
+  private final PageContentsSlice anchor;
+  private final PageContentsSlice textNotTrimmed;
+  private final PageContentsSlice text;
   private final int    textOffset;
 
   /**
@@ -155,31 +155,31 @@ public class PageElementInternalLink extends PageElement {
     }
 
     // Extract link elements
-    String link = null;
-    String anchor = null;
-    String text = null;
+    PageContentsSlice link = null;
+    PageContentsSlice anchor = null;
+    PageContentsSlice text = null;
     int textOffset = -1;
     if ((pipeIndex >= 0) && (pipeIndex < endIndex)) {
       if ((anchorIndex >= 0) && (anchorIndex < pipeIndex)) {
-        link = contents.substring(beginIndex, anchorIndex);
-        anchor = contents.substring(anchorIndex + 1, pipeIndex);
+        link = new PageContentsSlice(contents, beginIndex, anchorIndex);
+        anchor = new PageContentsSlice(contents, anchorIndex + 1, pipeIndex);
       } else {
-        link = contents.substring(beginIndex, pipeIndex);
+        link = new PageContentsSlice(contents, beginIndex, pipeIndex);
       }
-      text = contents.substring(pipeIndex + 1, endIndex);
+      text = new PageContentsSlice(contents, pipeIndex + 1, endIndex);
       textOffset = pipeIndex + 1 - index;
     } else if ((anchorIndex >= 0) && (anchorIndex < endIndex)) {
-      link = contents.substring(beginIndex, anchorIndex);
-      anchor = contents.substring(anchorIndex + 1, endIndex);
+      link = new PageContentsSlice(contents, beginIndex, anchorIndex);
+      anchor = new PageContentsSlice(contents, anchorIndex + 1, endIndex);
     } else {
-      link = contents.substring(beginIndex, endIndex);
+      link = new PageContentsSlice(contents, beginIndex, endIndex);
     }
 
     // Check that it is really an internal link
-    String linkTrimmed = link.trim();
+    PageContentsSlice linkTrimmed = link.trim();
     int colonIndex = linkTrimmed.indexOf(':');
     if (colonIndex > 0) {
-      String namespaceName = linkTrimmed.substring(0, colonIndex);
+      String namespaceName = linkTrimmed.subSequence(0, colonIndex).toString();
 
       // Is it a category ?
       Namespace category = wiki.getWikiConfiguration().getNamespace(Namespace.CATEGORY);
@@ -205,13 +205,13 @@ public class PageElementInternalLink extends PageElement {
       String namespaceName = null;
       if (colonIndex == 0) {
         if (linkTrimmed.length() > 1) {
-          colonIndex = linkTrimmed.indexOf(':', 1);
+          colonIndex = linkTrimmed.subSequence(1).indexOf(':') + 1;
           if (colonIndex > 1) {
-            namespaceName = linkTrimmed.substring(1, colonIndex);
+            namespaceName = linkTrimmed.subSequence(1, colonIndex).toString();
           }
         }
       } else {
-        namespaceName = linkTrimmed.substring(0, colonIndex);
+        namespaceName = linkTrimmed.subSequence(0, colonIndex).toString();
       }
       if ((namespaceName != null) &&
           (wiki.getWikiConfiguration() != null) &&
@@ -241,11 +241,11 @@ public class PageElementInternalLink extends PageElement {
   }
 
   public String getLinkNotNormalized() {
-    return (linkNotTrimmed != null) ? linkNotTrimmed.trim() : null;
+    return (linkNotTrimmed != null) ? linkNotTrimmed.trim().toString() : null;
   }
 
   public String getAnchor() {
-    return anchor;
+    return PageContentsSlice.toString(anchor);
   }
 
   public String getFullLink() {
@@ -256,7 +256,7 @@ public class PageElementInternalLink extends PageElement {
   }
 
   public String getText() {
-    return text;
+    return PageContentsSlice.toString(text);
   }
 
   public int getTextOffset() {
@@ -265,20 +265,20 @@ public class PageElementInternalLink extends PageElement {
 
   public String getDisplayedText() {
     if (text != null) {
-      return text;
+      return text.toString();
     }
     if (anchor == null) {
-      return linkNotTrimmed;
+      return linkNotTrimmed.toString();
     }
     return linkNotTrimmed + "#" + anchorNotTrimmed;
   }
 
   public String getDisplayedTextNotTrimmed() {
     if (textNotTrimmed != null) {
-      return textNotTrimmed;
+      return textNotTrimmed.toString();
     }
     if (anchor == null) {
-      return linkNotTrimmed;
+      return linkNotTrimmed.toString();
     }
     return linkNotTrimmed + "#" + anchorNotTrimmed;
   }
@@ -286,11 +286,11 @@ public class PageElementInternalLink extends PageElement {
   private PageElementInternalLink(
       EnumWikipedia wikipedia,
       int beginIndex, int endIndex,
-      String link, String anchor,
-      String text, int textOffset) {
+      PageContentsSlice link, PageContentsSlice anchor,
+      PageContentsSlice text, int textOffset) {
     super(beginIndex, endIndex);
     this.linkNotTrimmed = link;
-    this.link = (link != null) ? wikipedia.normalizeTitle(link) : null;
+    this.link = (link != null) ? wikipedia.normalizeTitle(link.toString()) : null;
     this.anchorNotTrimmed = anchor;
     this.anchor = (anchor != null) ? anchor.trim() : null;
     this.textNotTrimmed = text;
@@ -298,12 +298,40 @@ public class PageElementInternalLink extends PageElement {
     this.textOffset = textOffset;
   }
 
+  /**
+   * @param link Internal link.
+   * @param offset Offset added to every index.
+   */
+  private PageElementInternalLink(PageElementInternalLink link, int offset) {
+    super(link.getBeginIndex() + offset, link.getEndIndex() + offset);
+    this.linkNotTrimmed = link.linkNotTrimmed;
+    this.link = link.link;
+    this.anchorNotTrimmed = link.anchorNotTrimmed;
+    this.anchor = link.anchor;
+    this.textNotTrimmed = link.textNotTrimmed;
+    this.text = link.text;
+    this.textOffset = link.textOffset;
+  }
+
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the internal link.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementInternalLink moveBy(int offset) {
+    return new PageElementInternalLink(this, offset);
+  }
+
   /* (non-Javadoc)
    * @see java.lang.Object#toString()
    */
   @Override
   public String toString() {
-    return createInternalLink(linkNotTrimmed, anchorNotTrimmed, textNotTrimmed);
+    return createInternalLink(
+        PageContentsSlice.toString(linkNotTrimmed),
+        PageContentsSlice.toString(anchorNotTrimmed),
+        PageContentsSlice.toString(textNotTrimmed));
   }
 
   /**
@@ -199,6 +199,34 @@ public class PageElementInterwikiLink extends PageElement {
     this.textOffset = textOffset;
   }
 
+  /**
+   * @param link Interwiki link.
+   * @param offset Offset added to every index.
+   */
+  private PageElementInterwikiLink(PageElementInterwikiLink link, int offset) {
+    super(link.getBeginIndex() + offset, link.getEndIndex() + offset);
+    this.interwiki = link.interwiki;
+    this.interwikiTextNotTrimmed = link.interwikiTextNotTrimmed;
+    this.interwikiText = link.interwikiText;
+    this.linkNotTrimmed = link.linkNotTrimmed;
+    this.link = link.link;
+    this.anchorNotTrimmed = link.anchorNotTrimmed;
+    this.anchor = link.anchor;
+    this.textNotTrimmed = link.textNotTrimmed;
+    this.text = link.text;
+    this.textOffset = link.textOffset;
+  }
+
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the interwiki link.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementInterwikiLink moveBy(int offset) {
+    return new PageElementInterwikiLink(this, offset);
+  }
+
   /* (non-Javadoc)
    * @see java.lang.Object#toString()
    */
@@ -131,6 +131,30 @@ public class PageElementLanguageLink extends PageElement {
     this.text = (text != null) ? text.trim() : null;
   }
 
+  /**
+   * @param link Language link.
+   * @param offset Offset added to every index.
+   */
+  private PageElementLanguageLink(PageElementLanguageLink link, int offset) {
+    super(link.getBeginIndex() + offset, link.getEndIndex() + offset);
+    this.languageNotTrimmed = link.languageNotTrimmed;
+    this.language = link.language;
+    this.linkNotTrimmed = link.linkNotTrimmed;
+    this.link = link.link;
+    this.textNotTrimmed = link.textNotTrimmed;
+    this.text = link.text;
+  }
+
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the language link.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementLanguageLink moveBy(int offset) {
+    return new PageElementLanguageLink(this, offset);
+  }
+
   /* (non-Javadoc)
    * @see java.lang.Object#toString()
    */
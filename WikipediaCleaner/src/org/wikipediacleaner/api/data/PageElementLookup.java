@@ -0,0 +1,180 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Lookup of comments and tags by position, used when analyzing elements
+ * that may contain comments and tags (templates, functions, parameters, titles).
+ *
+ * <p>When several elements match a position, the last one in the list is used,
+ * as when scanning the lists.</p>
+ */
+public class PageElementLookup {
+
+  /** Comments in the page */
+  private final List<PageElementComment> comments;
+
+  /** Tags in the page */
+  private final List<PageElementTag> tags;
+
+  /** Number of comments when the lookup was built */
+  private final int commentsCount;
+
+  /** Number of tags when the lookup was built */
+  private final int tagsCount;
+
+  /** Comments by begin index */
+  private final Map<Integer, PageElementComment> commentsByBeginIndex;
+
+  /** Comments by end index */
+  private final Map<Integer, PageElementComment> commentsByEndIndex;
+
+  /** Tags by begin index */
+  private final Map<Integer, PageElementTag> tagsByBeginIndex;
+
+  /** Complete begin indexes of the references, sorted */
+  private final int[] refBeginIndexes;
+
+  /** Complete end indexes of the references, in the order of begin indexes */
+  private final int[] refEndIndexes;
+
+  /** Maximum complete end index of the references up to each reference (included) */
+  private final int[] refMaxEndIndexes;
+
+  /**
+   * @param comments Comments in the page.
+   * @param tags Tags in the page.
+   */
+  public PageElementLookup(
+      List<PageElementComment> comments,
+      List<PageElementTag> tags) {
+    this.comments = comments;
+    this.tags = tags;
+
+    // Index comments
+    commentsCount = (comments != null) ? comments.size() : 0;
+    commentsByBeginIndex = new HashMap<Integer, PageElementComment>(commentsCount * 2);
+    commentsByEndIndex = new HashMap<Integer, PageElementComment>(commentsCount * 2);
+    if (comments != null) {
+      for (PageElementComment comment : comments) {
+        commentsByBeginIndex.put(Integer.valueOf(comment.getBeginIndex()), comment);
+        commentsByEndIndex.put(Integer.valueOf(comment.getEndIndex()), comment);
+      }
+    }
+
+    // Index tags
+    tagsCount = (tags != null) ? tags.size() : 0;
+    tagsByBeginIndex = new HashMap<Integer, PageElementTag>(tagsCount * 2);
+    List<PageElementTag> refs = new ArrayList<PageElementTag>();
+    if (tags != null) {
+      for (PageElementTag tag : tags) {
+        tagsByBeginIndex.put(Integer.valueOf(tag.getBeginIndex()), tag);
+        if (PageElementTag.TAG_WIKI_REF.equals(tag.getName())) {
+          refs.add(tag);
+        }
+      }
+    }
+
+    // Index references
+    Collections.sort(refs, new Comparator<PageElementTag>() {
+      @Override
+      public int compare(PageElementTag o1, PageElementTag o2) {
+        return Integer.compare(o1.getCompleteBeginIndex(), o2.getCompleteBeginIndex());
+      }
+    });
+    refBeginIndexes = new int[refs.size()];
+    refEndIndexes = new int[refs.size()];
+    refMaxEndIndexes = new int[refs.size()];
+    for (int i = 0; i < refs.size(); i++) {
+      PageElementTag ref = refs.get(i);
+      refBeginIndexes[i] = ref.getCompleteBeginIndex();
+      refEndIndexes[i] = ref.getCompleteEndIndex();
+      refMaxEndIndexes[i] = (i > 0) ?
+          Math.max(refMaxEndIndexes[i - 1], refEndIndexes[i]) : refEndIndexes[i];
+    }
+  }
+
+  /**
+   * @param comments Comments in the page.
+   * @param tags Tags in the page.
+   * @return True if the lookup has been built on these lists and is still valid.
+   */
+  boolean isLookupOf(List<PageElementComment> comments, List<PageElementTag> tags) {
+    return (comments == this.comments) &&
+           ((comments == null) || (comments.size() == commentsCount)) &&
+           (tags == this.tags) &&
+           ((tags == null) || (tags.size() == tagsCount));
+  }
+
+  /**
+   * @return Comments in the page.
+   */
+  public List<PageElementComment> getComments() {
+    return comments;
+  }
+
+  /**
+   * @param index Index in the page.
+   * @return Comment beginning at the index.
+   */
+  public PageElementComment getCommentBeginningAt(int index) {
+    return commentsByBeginIndex.get(Integer.valueOf(index));
+  }
+
+  /**
+   * @param index Index in the page.
+   * @return Comment ending at the index.
+   */
+  public PageElementComment getCommentEndingAt(int index) {
+    return commentsByEndIndex.get(Integer.valueOf(index));
+  }
+
+  /**
+   * @param index Index in the page.
+   * @return Tag beginning at the index.
+   */
+  public PageElementTag getTagBeginningAt(int index) {
+    return tagsByBeginIndex.get(Integer.valueOf(index));
+  }
+
+  /**
+   * @param index Index in the page.
+   * @param defaultIndex Index to return if no reference contains the index.
+   * @return Minimum complete end index of the references strictly containing the index.
+   */
+  public int getRefCompleteEndIndex(int index, int defaultIndex) {
+    int result = defaultIndex;
+
+    // References beginning before the index, and possibly ending after it
+    int i = Arrays.binarySearch(refBeginIndexes, index);
+    if (i < 0) {
+      i = -i - 1;
+    } else {
+      while ((i > 0) && (refBeginIndexes[i - 1] == index)) {
+        i--;
+      }
+    }
+    i--;
+    while ((i >= 0) && (refMaxEndIndexes[i] > index)) {
+      if (refEndIndexes[i] > index) {
+        result = Math.min(result, refEndIndexes[i]);
+      }
+      i--;
+    }
+    return result;
+  }
+}
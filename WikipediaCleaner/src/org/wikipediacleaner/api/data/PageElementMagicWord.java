@@ -83,6 +83,18 @@ public class PageElementMagicWord extends PageElement {
     this.magicWord = magicWord;
   }
 
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the magic word.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementMagicWord moveBy(int offset) {
+    return new PageElementMagicWord(
+        getBeginIndex() + offset, getEndIndex() + offset,
+        text, magicWord);
+  }
+
   /* (non-Javadoc)
    * @see java.lang.Object#toString()
    */
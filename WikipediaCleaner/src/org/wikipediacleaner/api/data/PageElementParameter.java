@@ -53,6 +53,17 @@ public class PageElementParameter extends PageElement {
       this.valueStartIndex = valueStartIndex;
     }
 
+    /**
+     * @param offset Offset added to every index.
+     * @return Moved copy of the parameter.
+     */
+    Parameter moveBy(int offset) {
+      return new Parameter(
+          pipeIndex + offset,
+          name, nameStartIndex + offset,
+          value, valueStartIndex + offset);
+    }
+
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
      */
@@ -71,15 +82,13 @@ public class PageElementParameter extends PageElement {
    * @param wiki Wiki.
    * @param contents Contents.
    * @param index Block start index.
-   * @param comments Comments in the page.
-   * @param tags Tags in the page.
+   * @param lookup Lookup of comments and tags in the page.
    * @return Block details it there's a block.
    */
   public static PageElementParameter analyzeBlock(
       EnumWikipedia wiki,
       String contents, int index,
-      List<PageElementComment> comments,
-      List<PageElementTag> tags) {
+      PageElementLookup lookup) {
     // Verify arguments
     if (contents == null) {
       return null;
@@ -110,14 +119,7 @@ public class PageElementParameter extends PageElement {
   
       // Possible comment
       if ((tmpIndex < contents.length()) && (contents.charAt(tmpIndex) == '<')) {
-        PageElementComment comment = null;
-        if (comments != null) {
-          for (PageElementComment tmpComment : comments) {
-            if (tmpComment.getBeginIndex() == tmpIndex) {
-              comment = tmpComment;
-            }
-          }
-        }
+        PageElementComment comment = lookup.getCommentBeginningAt(tmpIndex);
         if (comment == null) {
           return null;
         }
@@ -149,14 +151,7 @@ public class PageElementParameter extends PageElement {
 
       // Possible comment
       if ((tmpIndex < contents.length()) && (contents.charAt(tmpIndex) == '<')) {
-        PageElementComment comment = null;
-        if (comments != null) {
-          for (PageElementComment tmpComment : comments) {
-            if (tmpComment.getBeginIndex() == tmpIndex) {
-              comment = tmpComment;
-            }
-          }
-        }
+        PageElementComment comment = lookup.getCommentBeginningAt(tmpIndex);
         if (comment == null) {
           return null;
         }
@@ -181,7 +176,8 @@ public class PageElementParameter extends PageElement {
     }
 
     // Check if it's a parameter
-    if (contents.charAt(tmpIndex) != '|') {
+    if ((tmpIndex >= contents.length()) ||
+        (contents.charAt(tmpIndex) != '|')) {
       return null;
     }
 
@@ -190,7 +186,7 @@ public class PageElementParameter extends PageElement {
     List<Parameter> parameters = new ArrayList<Parameter>();
     int endIndex = analyzeParameterParameters(
         wiki, contents, beginIndex, tmpIndex - 1, tmpIndex, parameters,
-        comments, tags);
+        lookup);
     if (endIndex < 0) {
       return null;
     }
@@ -208,16 +204,14 @@ public class PageElementParameter extends PageElement {
    * @param pipeIndex Index of the previous pipe.
    * @param parametersBeginIndex Start index of the parameters in the page.
    * @param parameters Parameters.
-   * @param comments Comments in the page.
-   * @param tags Tags in the page.
+   * @param lookup Lookup of comments and tags in the page.
    * @return Position of the end of the parameter, or -1 if no parameter was found.
    */
   private static int analyzeParameterParameters(
       EnumWikipedia wiki, String contents,
       int beginIndex, int pipeIndex, int parametersBeginIndex,
       List<Parameter> parameters,
-      List<PageElementComment> comments,
-      List<PageElementTag> tags) {
+      PageElementLookup lookup) {
     if (contents == null) {
       return -1;
     }
@@ -292,14 +286,7 @@ public class PageElementParameter extends PageElement {
         }
       } else if (contents.startsWith("<", tmpIndex)) {
         // Possible start of a tag
-        PageElementTag tag = null;
-        if (tags != null) {
-          for (PageElementTag tmpTag : tags) {
-            if (tmpTag.getBeginIndex() == tmpIndex) {
-              tag = tmpTag;
-            }
-          }
-        }
+        PageElementTag tag = lookup.getTagBeginningAt(tmpIndex);
         if (tag != null) {
           int count = 0;
           if (tag.isFullTag()) {
@@ -325,14 +312,7 @@ public class PageElementParameter extends PageElement {
           tmpIndex = tag.getEndIndex();
         } else {
           // Possible start of a comment
-          PageElementComment comment = null;
-          if (comments != null) {
-            for (PageElementComment tmpComment : comments) {
-              if (tmpComment.getBeginIndex() == tmpIndex) {
-                comment = tmpComment;
-              }
-            }
-          }
+          PageElementComment comment = lookup.getCommentBeginningAt(tmpIndex);
           if (comment != null) {
             tmpIndex = comment.getEndIndex();
           } else {
@@ -530,6 +510,26 @@ public class PageElementParameter extends PageElement {
     this.parameters = parameters;
   }
 
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the parameter.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementParameter moveBy(int offset) {
+    List<Parameter> movedParameters = null;
+    if (parameters != null) {
+      movedParameters = new ArrayList<Parameter>(parameters.size());
+      for (Parameter parameter : parameters) {
+        movedParameters.add(parameter.moveBy(offset));
+      }
+    }
+    return new PageElementParameter(
+        parameterNameNotTrimmed,
+        getBeginIndex() + offset, getEndIndex() + offset,
+        movedParameters);
+  }
+
   private void addPartBeforeParameters(StringBuilder sb) {
     sb.append("{{");
     sb.append(parameterNameNotTrimmed);
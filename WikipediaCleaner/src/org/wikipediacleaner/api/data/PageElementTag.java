@@ -539,6 +539,33 @@ public class PageElementTag extends PageElement {
     this.endWithSpace = endWithSpace;
   }
 
+  /**
+   * @param tag Tag.
+   * @param offset Offset added to every index.
+   */
+  private PageElementTag(PageElementTag tag, int offset) {
+    super(tag.getBeginIndex() + offset, tag.getEndIndex() + offset);
+    this.name = tag.name;
+    this.normalizedName = tag.normalizedName;
+    this.parameters = tag.parameters;
+    this.endTag = tag.endTag;
+    this.fullTag = tag.fullTag;
+    this.endWithSpace = tag.endWithSpace;
+  }
+
+  /**
+   * Parameters offsets are relative to the tag, so they are shared with the copy.
+   * The matching tag is not copied.
+   *
+   * @param offset Offset added to every index.
+   * @return Moved copy of the tag.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementTag moveBy(int offset) {
+    return new PageElementTag(this, offset);
+  }
+
   /**
    * Create a tag.
    * 
@@ -35,9 +35,9 @@ public class PageElementTemplate extends PageElement {
     final String nameNotTrimmed;
     final String computedName;
     final int nameStartIndex;
-    final String value;
-    final String strippedValue;
-    final String valueNotTrimmed;
+    final CharSequence value;
+    final CharSequence strippedValue;
+    final CharSequence valueNotTrimmed;
     final int valueStartIndex;
 
     /**
@@ -66,6 +66,53 @@ public class PageElementTemplate extends PageElement {
       this.valueStartIndex = valueStartIndex;
     }
 
+    /**
+     * @param pipeIndex Index of the pipe "|" in page contents.
+     * @param endIndex Index of the end of the parameter.
+     * @param name Parameter name.
+     * @param computedName Computed name.
+     * @param nameStartIndex Index of parameter name in page contents.
+     * @param value Parameter value, as a view on page contents.
+     * @param strippedValue Parameter stripped value.
+     * @param valueStartIndex Index of parameter value in page contents.
+     */
+    Parameter(
+        int pipeIndex, int endIndex,
+        String name, String computedName, int nameStartIndex,
+        PageContentsSlice value, CharSequence strippedValue, int valueStartIndex) {
+      this.pipeIndex = pipeIndex;
+      this.endIndex = endIndex;
+      this.nameNotTrimmed = name;
+      this.name = (name != null) ? name.trim() : null;
+      this.computedName = (computedName != null) ? computedName : this.name;
+      this.nameStartIndex = nameStartIndex;
+      this.valueNotTrimmed = value;
+      this.value = (value != null) ? value.trim() : null;
+      if (strippedValue == value) {
+        this.strippedValue = this.value;
+      } else {
+        this.strippedValue = (strippedValue != null) ? strippedValue.toString().trim() : null;
+      }
+      this.valueStartIndex = valueStartIndex;
+    }
+
+    /**
+     * @param parameter Parameter.
+     * @param offset Offset added to every index.
+     */
+    private Parameter(Parameter parameter, int offset) {
+      this.pipeIndex = parameter.pipeIndex + offset;
+      this.endIndex = parameter.endIndex + offset;
+      this.nameNotTrimmed = parameter.nameNotTrimmed;
+      this.name = parameter.name;
+      this.computedName = parameter.computedName;
+      this.nameStartIndex = parameter.nameStartIndex + offset;
+      this.valueNotTrimmed = parameter.valueNotTrimmed;
+      this.value = parameter.value;
+      this.strippedValue = parameter.strippedValue;
+      this.valueStartIndex = parameter.valueStartIndex + offset;
+    }
+
     /**
      * @return Parameter pipe index.
      */
@@ -112,21 +159,21 @@ public class PageElementTemplate extends PageElement {
      * @return Parameter value.
      */
     public String getValueNotTrimmed() {
-      return valueNotTrimmed;
+      return PageContentsSlice.toString(valueNotTrimmed);
     }
 
     /**
      * @return Parameter value.
      */
     public String getValue() {
-      return value;
+      return PageContentsSlice.toString(value);
     }
 
     /**
      * @return Parameter stripped value.
      */
     public String getStrippedValue() {
-      return strippedValue;
+      return PageContentsSlice.toString(strippedValue);
     }
 
     /**
@@ -136,12 +183,20 @@ public class PageElementTemplate extends PageElement {
       return valueStartIndex;
     }
 
+    /**
+     * @param offset Offset added to every index.
+     * @return Moved copy of the parameter.
+     */
+    Parameter moveBy(int offset) {
+      return new Parameter(this, offset);
+    }
+
     @Override
     public String toString() {
       if ((name != null) && (!name.isEmpty())) {
         return name + "=" + value;
       }
-      return value;
+      return getValue();
     }
   }
 
@@ -151,15 +206,13 @@ public class PageElementTemplate extends PageElement {
    * @param wiki Wiki.
    * @param contents Contents.
    * @param index Block start index.
-   * @param comments Comments in the page.
-   * @param tags Tags in the page.
+   * @param lookup Lookup of comments and tags in the page.
    * @return Block details it there's a block.
    */
   public static PageElementTemplate analyzeBlock(
       EnumWikipedia wiki,
       String contents, int index,
-      List<PageElementComment> comments,
-      List<PageElementTag> tags) {
+      PageElementLookup lookup) {
     // Verify arguments
     if (contents == null) {
       return null;
@@ -189,14 +242,7 @@ public class PageElementTemplate extends PageElement {
   
       // Possible comment
       if ((tmpIndex < contents.length()) && (contents.charAt(tmpIndex) == '<')) {
-        PageElementComment comment = null;
-        if (comments != null) {
-          for (PageElementComment tmpComment : comments) {
-            if (tmpComment.getBeginIndex() == tmpIndex) {
-              comment = tmpComment;
-            }
-          }
-        }
+        PageElementComment comment = lookup.getCommentBeginningAt(tmpIndex);
         if (comment == null) {
           return null;
         }
@@ -240,14 +286,7 @@ public class PageElementTemplate extends PageElement {
 
       // Possible comment
       if ((tmpIndex < contents.length()) && (contents.charAt(tmpIndex) == '<')) {
-        PageElementComment comment = null;
-        if (comments != null) {
-          for (PageElementComment tmpComment : comments) {
-            if (tmpComment.getBeginIndex() == tmpIndex) {
-              comment = tmpComment;
-            }
-          }
-        }
+        PageElementComment comment = lookup.getCommentBeginningAt(tmpIndex);
         if (comment == null) {
           return null;
         }
@@ -281,7 +320,7 @@ public class PageElementTemplate extends PageElement {
     List<Parameter> parameters = new ArrayList<Parameter>();
     int endIndex = analyzeTemplateParameters(
         wiki, contents, beginIndex, tmpIndex - 1, tmpIndex, parameters,
-        comments, tags);
+        lookup);
     if (endIndex < 0) {
       return null;
     }
@@ -299,31 +338,20 @@ public class PageElementTemplate extends PageElement {
    * @param pipeIndex Index of the previous pipe.
    * @param parametersBeginIndex Start index of the parameters in the page.
    * @param parameters Parameters.
-   * @param comments Comments in the page.
-   * @param tags Tags in the page.
+   * @param lookup Lookup of comments and tags in the page.
    * @return Position of the end of the template, or -1 if no template was found.
    */
   private static int analyzeTemplateParameters(
       EnumWikipedia wiki, String contents,
       int templateBeginIndex, int pipeIndex, int parametersBeginIndex,
       List<Parameter> parameters,
-      List<PageElementComment> comments,
-      List<PageElementTag> tags) {
+      PageElementLookup lookup) {
     if (contents == null) {
       return -1;
     }
 
     // Compute max length
-    int maxLength = contents.length();
-    if (tags != null) {
-      for (PageElementTag tag : tags) {
-        if ((tag.getCompleteBeginIndex() < parametersBeginIndex) &&
-            (tag.getCompleteEndIndex() > parametersBeginIndex) &&
-            (PageElementTag.TAG_WIKI_REF.equals(tag.getName()))) {
-          maxLength = Math.min(maxLength, tag.getCompleteEndIndex());
-        }
-      }
-    }
+    int maxLength = lookup.getRefCompleteEndIndex(parametersBeginIndex, contents.length());
 
     int tmpIndex = parametersBeginIndex;
     int depth2CurlyBrackets = 0;
@@ -355,10 +383,10 @@ public class PageElementTemplate extends PageElement {
           } else {
             addParameter(
                 parameters, pipeIndex, tmpIndex - 2,
-                contents.substring(parameterBeginIndex, tmpIndex - 2),
+                new PageContentsSlice(contents, parameterBeginIndex, tmpIndex - 2),
                 equalIndex - parameterBeginIndex,
                 parameterBeginIndex,
-                comments);
+                lookup.getComments());
             return tmpIndex;
           }
         }
@@ -376,14 +404,7 @@ public class PageElementTemplate extends PageElement {
         }
       } else if (contents.startsWith("<", tmpIndex)) {
         // Possible start of a tag
-        PageElementTag tag = null;
-        if (tags != null) {
-          for (PageElementTag tmpTag : tags) {
-            if (tmpTag.getBeginIndex() == tmpIndex) {
-              tag = tmpTag;
-            }
-          }
-        }
+        PageElementTag tag = lookup.getTagBeginningAt(tmpIndex);
         if (tag != null) {
           String tagName = tag.getName();
           if (PageElementTag.TAG_WIKI_NOWIKI.equals(tagName) ||
@@ -397,14 +418,7 @@ public class PageElementTemplate extends PageElement {
           }
         } else {
           // Possible start of a comment
-          PageElementComment comment = null;
-          if (comments != null) {
-            for (PageElementComment tmpComment : comments) {
-              if (tmpComment.getBeginIndex() == tmpIndex) {
-                comment = tmpComment;
-              }
-            }
-          }
+          PageElementComment comment = lookup.getCommentBeginningAt(tmpIndex);
           if (comment != null) {
             tmpIndex = comment.getEndIndex();
           } else {
@@ -423,10 +437,10 @@ public class PageElementTemplate extends PageElement {
             depth2SquareBrackets = 0;
             addParameter(
                 parameters, pipeIndex, tmpIndex,
-                contents.substring(parameterBeginIndex, tmpIndex),
+                new PageContentsSlice(contents, parameterBeginIndex, tmpIndex),
                 equalIndex - parameterBeginIndex,
                 parameterBeginIndex,
-                comments);
+                lookup.getComments());
             pipeIndex = tmpIndex;
             tmpIndex++;
             parameterBeginIndex = tmpIndex;
@@ -475,7 +489,7 @@ public class PageElementTemplate extends PageElement {
    */
   private static void addParameter(
       List<Parameter> parameters,
-      int pipeIndex, int endIndex, String parameter,
+      int pipeIndex, int endIndex, PageContentsSlice parameter,
       int equalIndex, int offset,
       List<PageElementComment> comments) {
 
@@ -505,7 +519,7 @@ public class PageElementTemplate extends PageElement {
           paramNum++;
         }
       }
-      String strippedValue = PageElementComment.stripComments(comments, parameter, offset);
+      CharSequence strippedValue = stripComments(comments, parameter, offset);
       parameters.add(new Parameter(
           pipeIndex, endIndex,
           "", Integer.toString(paramNum), offset + spaces,
@@ -519,13 +533,28 @@ public class PageElementTemplate extends PageElement {
       while ((spacesValue < parameter.length()) && (Character.isWhitespace(parameter.charAt(spacesValue)))) {
         spacesValue++;
       }
-      String value = parameter.substring(equalIndex + 1);
-      String strippedValue = PageElementComment.stripComments(comments, value, offset + equalIndex + 1);
+      PageContentsSlice value = parameter.subSequence(equalIndex + 1);
+      CharSequence strippedValue = stripComments(comments, value, offset + equalIndex + 1);
       parameters.add(new Parameter(
           pipeIndex, endIndex,
-          parameter.substring(0, equalIndex), null, offset + spacesName,
-          parameter.substring(equalIndex + 1), strippedValue, offset + spacesValue));
+          parameter.subSequence(0, equalIndex).toString(), null, offset + spacesName,
+          value, strippedValue, offset + spacesValue));
+    }
+  }
+
+  /**
+   * @param comments Comments in the page.
+   * @param text Text.
+   * @param offset Index of the start of the text.
+   * @return Text stripped of its comments (the same text if it has no comments).
+   */
+  private static CharSequence stripComments(
+      List<PageElementComment> comments,
+      PageContentsSlice text, int offset) {
+    if (text.indexOf("<!--") < 0) {
+      return text;
     }
+    return PageElementComment.stripComments(comments, text.toString(), offset);
   }
 
   /**
@@ -657,7 +686,7 @@ public class PageElementTemplate extends PageElement {
    */
   public String getParameterValue(int index) {
     if ((index >= 0) && (index < parameters.size())) {
-      return parameters.get(index).value;
+      return parameters.get(index).getValue();
     }
     return null;
   }
@@ -687,7 +716,7 @@ public class PageElementTemplate extends PageElement {
     }
     int index = getParameterIndex(name);
     if ((index >= 0) && (index < parameters.size())) {
-      return parameters.get(index).value;
+      return parameters.get(index).getValue();
     }
     return null;
   }
@@ -709,6 +738,43 @@ public class PageElementTemplate extends PageElement {
     }*/
   }
 
+  /**
+   * @param template Template.
+   * @param offset Offset added to every index.
+   */
+  private PageElementTemplate(PageElementTemplate template, int offset) {
+    super(template.getBeginIndex() + offset, template.getEndIndex() + offset);
+    this.templateNameNotTrimmed = template.templateNameNotTrimmed;
+    this.templateName = template.templateName;
+    this.parameters = moveParameters(template.parameters, offset);
+  }
+
+  /**
+   * @param parameters Parameters.
+   * @param offset Offset added to every index.
+   * @return Moved copies of the parameters.
+   */
+  private static List<Parameter> moveParameters(List<Parameter> parameters, int offset) {
+    if (parameters == null) {
+      return null;
+    }
+    List<Parameter> result = new ArrayList<Parameter>(parameters.size());
+    for (Parameter parameter : parameters) {
+      result.add(parameter.moveBy(offset));
+    }
+    return result;
+  }
+
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the template.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementTemplate moveBy(int offset) {
+    return new PageElementTemplate(this, offset);
+  }
+
   private void addPartBeforeParameters(StringBuilder sb) {
     sb.append("{{");
     sb.append(templateNameNotTrimmed);
@@ -716,7 +782,7 @@ public class PageElementTemplate extends PageElement {
 
   private void addPartFromParameters(StringBuilder sb) {
     for (Parameter parameter : parameters) {
-      addParameter(sb, parameter.name, parameter.value);
+      addParameter(sb, parameter.name, parameter.getValue());
     }
     sb.append("}}");
   }
@@ -800,7 +866,7 @@ public class PageElementTemplate extends PageElement {
             spaces++;
           }
           if ((spaces > 0) && (tmpParameterValue != null)) {
-            tmpParameterValue = parameter.valueNotTrimmed.substring(0, spaces) + parameterValue;
+            tmpParameterValue = parameter.getValueNotTrimmed().substring(0, spaces) + parameterValue;
           }
   
           // Whitespace characters after value
@@ -810,7 +876,7 @@ public class PageElementTemplate extends PageElement {
             spaces--;
           }
           if ((spaces < parameter.valueNotTrimmed.length()) && (tmpParameterValue != null)) {
-            tmpParameterValue += parameter.valueNotTrimmed.substring(spaces);
+            tmpParameterValue += parameter.getValueNotTrimmed().substring(spaces);
           }
         }
   
@@ -823,12 +889,12 @@ public class PageElementTemplate extends PageElement {
           parameterAdded = true;
         } else if ((!parameterExist) &&
                    (currentParameterName.equals(previousParameter))) {
-          addParameter(sb, parameter.nameNotTrimmed, parameter.valueNotTrimmed);
+          addParameter(sb, parameter.nameNotTrimmed, parameter.getValueNotTrimmed());
           addParameter(sb, tmpParameterName, tmpParameterValue);
           paramNum = tmpParamNum;
           parameterAdded = true;
         } else {
-          addParameter(sb, parameter.nameNotTrimmed, parameter.valueNotTrimmed);
+          addParameter(sb, parameter.nameNotTrimmed, parameter.getValueNotTrimmed());
           paramNum = tmpParamNum;
         }
       }
@@ -921,8 +987,8 @@ public class PageElementTemplate extends PageElement {
           spaces++;
         }
         if (spaces > 0) {
-          tmpParameterValue1 = parameter.valueNotTrimmed.substring(0, spaces) + parameterValue1;
-          tmpParameterValue2 = parameter.valueNotTrimmed.substring(0, spaces) + parameterValue2;
+          tmpParameterValue1 = parameter.getValueNotTrimmed().substring(0, spaces) + parameterValue1;
+          tmpParameterValue2 = parameter.getValueNotTrimmed().substring(0, spaces) + parameterValue2;
         }
 
         // Whitespace characters after value
@@ -932,8 +998,8 @@ public class PageElementTemplate extends PageElement {
           spaces--;
         }
         if (spaces < parameter.valueNotTrimmed.length()) {
-          tmpParameterValue1 += parameter.valueNotTrimmed.substring(spaces);
-          tmpParameterValue2 += parameter.valueNotTrimmed.substring(spaces);
+          tmpParameterValue1 += parameter.getValueNotTrimmed().substring(spaces);
+          tmpParameterValue2 += parameter.getValueNotTrimmed().substring(spaces);
         }
       }
 
@@ -953,7 +1019,7 @@ public class PageElementTemplate extends PageElement {
         addParameter(sb, parameter.nameNotTrimmed, tmpParameterValue2);
         parameterAdded2 = true;
       } else {
-        addParameter(sb, parameter.nameNotTrimmed, parameter.valueNotTrimmed);
+        addParameter(sb, parameter.nameNotTrimmed, parameter.getValueNotTrimmed());
       }
     }
     if (!parameterAdded1) {
@@ -7,8 +7,6 @@
 
 package org.wikipediacleaner.api.data;
 
-import java.util.List;
-
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 
 
@@ -30,14 +28,12 @@ public class PageElementTitle extends PageElement {
    * @param wikipedia Wikipedia.
    * @param contents Contents.
    * @param index Block start index.
-   * @param comments Comments in the page.
-   * @param tags Tags in the page.
+   * @param lookup Lookup of comments and tags in the page.
    * @return Block details it there's a block.
    */
   public static PageElementTitle analyzeBlock(
       EnumWikipedia wikipedia, String contents, int index,
-      List<PageElementComment> comments,
-      List<PageElementTag> tags) {
+      PageElementLookup lookup) {
     // Verify arguments
     if (contents == null) {
       return null;
@@ -54,12 +50,7 @@ public class PageElementTitle extends PageElement {
       } else if (contents.charAt(index) == '\n') {
         hasNewLine = true;
       } else if (contents.charAt(index) == '>') {
-        PageElementComment comment = null;
-        for (PageElementComment tmpComment : comments) {
-          if (tmpComment.getEndIndex() == index + 1) {
-            comment = tmpComment;
-          }
-        }
+        PageElementComment comment = lookup.getCommentEndingAt(index + 1);
         if (comment == null) {
           return null;
         }
@@ -102,20 +93,12 @@ public class PageElementTitle extends PageElement {
         secondLevel++;
         lastEqualIndex = index;
       } else if (currentChar == '<') {
-        PageElementComment comment = null;
-        for (PageElementComment tmpComment : comments) {
-          if (tmpComment.getBeginIndex() == index) {
-            comment = tmpComment;
-          }
-        }
+        PageElementComment comment = lookup.getCommentBeginningAt(index);
         if (comment == null) {
-          PageElementTag ref = null;
-          for (PageElementTag tmpTag : tags) {
-            if ((tmpTag.getBeginIndex() == index) &&
-                PageElementTag.TAG_WIKI_REF.equals(tmpTag.getName()) &&
-                (tmpTag.isComplete())) {
-              ref = tmpTag;
-            }
+          PageElementTag ref = lookup.getTagBeginningAt(index);
+          if ((ref != null) &&
+              (!PageElementTag.TAG_WIKI_REF.equals(ref.getName()) || !ref.isComplete())) {
+            ref = null;
           }
           if (ref == null) {
             endFound = false;
@@ -233,6 +216,19 @@ public class PageElementTitle extends PageElement {
     this.multiline = multiline;
   }
 
+  /**
+   * @param offset Offset added to every index.
+   * @return Moved copy of the title.
+   * @see org.wikipediacleaner.api.data.PageElement#moveBy(int)
+   */
+  @Override
+  PageElementTitle moveBy(int offset) {
+    return new PageElementTitle(
+        getBeginIndex() + offset, getEndIndex() + offset,
+        firstLevel, secondLevel,
+        titleNotTrimmed, afterTitleNotTrimmed, multiline);
+  }
+
   /* (non-Javadoc)
    * @see java.lang.Object#toString()
    */
@@ -163,6 +163,13 @@ public class Suggestion implements Comparable<Suggestion> {
     return pattern.pattern();
   }
 
+  /**
+   * @return Regular expression pattern.
+   */
+  public Pattern getPattern() {
+    return pattern;
+  }
+
   /**
    * Add a possible replacement.
    * 
@@ -210,7 +217,7 @@ public class Suggestion implements Comparable<Suggestion> {
    * @param text Text to look at.
    * @return A matcher for the pattern
    */
-  public Matcher initMatcher(String text) {
+  public Matcher initMatcher(CharSequence text) {
     Matcher matcher = pattern.matcher(text);
     matcher.useAnchoringBounds(false);
     matcher.useTransparentBounds(true);
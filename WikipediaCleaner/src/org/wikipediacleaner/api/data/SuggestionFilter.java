@@ -0,0 +1,918 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+
+/**
+ * Filter finding where suggestions may match in a text.
+ *
+ * <p>For each suggestion, a literal text that any match of its pattern must
+ * contain is extracted from the pattern when possible. All the literal texts
+ * are then searched in a single pass over the text (Aho-Corasick automaton),
+ * so that patterns are only run where their literal text has been found.
+ * When the length of the matches of a pattern is bounded, the pattern is
+ * only run in small windows around the occurrences of its literal text.
+ * Suggestions without such a literal text are always run.</p>
+ */
+public class SuggestionFilter {
+
+  /** Minimum length of a literal text to be worth searching */
+  private final static int MIN_LITERAL_LENGTH = 4;
+
+  /** Maximum length of the matches for a pattern to be run in windows */
+  private final static int MAX_MATCH_LENGTH = 1000;
+
+  /** Literal texts */
+  private final List<String> literals;
+
+  /** Index of the literal text for each suggestion having one */
+  private final Map<Suggestion, Integer> literalBySuggestion;
+
+  /** Maximum length of the matches for each suggestion having a literal text and a bounded length */
+  private final Map<Suggestion, Integer> maxLengthBySuggestion;
+
+  /** Automaton transitions: keys (state and character) */
+  private final long[] transitionKeys;
+
+  /** Automaton transitions: next states */
+  private final int[] transitionStates;
+
+  /** Automaton failure links */
+  private final int[] failures;
+
+  /** Index of the literal text ending at each state (-1 if none) */
+  private final int[] outputs;
+
+  /** Next state in the failure chain ending a literal text (0 if none) */
+  private final int[] outputLinks;
+
+  /**
+   * @param suggestions Suggestions.
+   */
+  public SuggestionFilter(Collection<Suggestion> suggestions) {
+
+    // Extract literal texts
+    literals = new ArrayList<String>();
+    literalBySuggestion = new IdentityHashMap<Suggestion, Integer>();
+    maxLengthBySuggestion = new IdentityHashMap<Suggestion, Integer>();
+    Map<String, Integer> literalIndexes = new HashMap<String, Integer>();
+    if (suggestions != null) {
+      for (Suggestion suggestion : suggestions) {
+        String literal = getRequiredLiteral(suggestion.getPatternText());
+        if (literal != null) {
+          Integer index = literalIndexes.get(literal);
+          if (index == null) {
+            index = Integer.valueOf(literals.size());
+            literals.add(literal);
+            literalIndexes.put(literal, index);
+          }
+          literalBySuggestion.put(suggestion, index);
+          int maxLength = getMaxLength(suggestion.getPatternText());
+          if (maxLength >= 0) {
+            maxLengthBySuggestion.put(suggestion, Integer.valueOf(maxLength));
+          }
+        }
+      }
+    }
+
+    // Build the trie of literal texts
+    List<Map<Character, Integer>> children = new ArrayList<Map<Character, Integer>>();
+    List<Integer> tmpOutputs = new ArrayList<Integer>();
+    children.add(new HashMap<Character, Integer>());
+    tmpOutputs.add(Integer.valueOf(-1));
+    for (int literalIndex = 0; literalIndex < literals.size(); literalIndex++) {
+      String literal = literals.get(literalIndex);
+      int state = 0;
+      for (int i = 0; i < literal.length(); i++) {
+        Character c = Character.valueOf(literal.charAt(i));
+        Integer next = children.get(state).get(c);
+        if (next == null) {
+          next = Integer.valueOf(children.size());
+          children.add(new HashMap<Character, Integer>());
+          tmpOutputs.add(Integer.valueOf(-1));
+          children.get(state).put(c, next);
+        }
+        state = next.intValue();
+      }
+      tmpOutputs.set(state, Integer.valueOf(literalIndex));
+    }
+    int statesCount = children.size();
+    outputs = new int[statesCount];
+    for (int state = 0; state < statesCount; state++) {
+      outputs[state] = tmpOutputs.get(state).intValue();
+    }
+
+    // Compute failure links, breadth first
+    failures = new int[statesCount];
+    outputLinks = new int[statesCount];
+    LinkedList<Integer> queue = new LinkedList<Integer>();
+    queue.add(Integer.valueOf(0));
+    while (!queue.isEmpty()) {
+      int state = queue.removeFirst().intValue();
+      for (Map.Entry<Character, Integer> child : children.get(state).entrySet()) {
+        int next = child.getValue().intValue();
+        int failure = 0;
+        if (state != 0) {
+          int tmpState = failures[state];
+          while (true) {
+            Integer tmpNext = children.get(tmpState).get(child.getKey());
+            if (tmpNext != null) {
+              failure = tmpNext.intValue();
+              break;
+            }
+            if (tmpState == 0) {
+              break;
+            }
+            tmpState = failures[tmpState];
+          }
+        }
+        failures[next] = failure;
+        outputLinks[next] = (outputs[failure] >= 0) ? failure : outputLinks[failure];
+        queue.add(Integer.valueOf(next));
+      }
+    }
+
+    // Store transitions in an open addressing hash table
+    int transitionsCount = statesCount - 1;
+    int capacity = 16;
+    while (capacity < transitionsCount * 2) {
+      capacity *= 2;
+    }
+    transitionKeys = new long[capacity];
+    transitionStates = new int[capacity];
+    Arrays.fill(transitionStates, -1);
+    for (int state = 0; state < statesCount; state++) {
+      for (Map.Entry<Character, Integer> child : children.get(state).entrySet()) {
+        long key = getKey(state, child.getKey().charValue());
+        int slot = getSlot(key);
+        while (transitionStates[slot] >= 0) {
+          slot = (slot + 1) & (capacity - 1);
+        }
+        transitionKeys[slot] = key;
+        transitionStates[slot] = child.getValue().intValue();
+      }
+    }
+  }
+
+  /**
+   * @param contents Text.
+   * @return Positions of the literal texts in the text.
+   */
+  public Hits find(CharSequence contents) {
+    Hits hits = new Hits(this);
+    if (contents == null) {
+      return hits;
+    }
+    int state = 0;
+    for (int index = 0; index < contents.length(); index++) {
+      char c = contents.charAt(index);
+      while (true) {
+        int next = getTransition(state, c);
+        if (next >= 0) {
+          state = next;
+          break;
+        }
+        if (state == 0) {
+          break;
+        }
+        state = failures[state];
+      }
+      int output = (outputs[state] >= 0) ? state : outputLinks[state];
+      while (output > 0) {
+        int literalIndex = outputs[output];
+        hits.add(literalIndex, index + 1 - literals.get(literalIndex).length());
+        output = outputLinks[output];
+      }
+    }
+    return hits;
+  }
+
+  /**
+   * @param state State.
+   * @param c Character.
+   * @return Next state (-1 if none).
+   */
+  private int getTransition(int state, char c) {
+    long key = getKey(state, c);
+    int slot = getSlot(key);
+    while (transitionStates[slot] >= 0) {
+      if (transitionKeys[slot] == key) {
+        return transitionStates[slot];
+      }
+      slot = (slot + 1) & (transitionKeys.length - 1);
+    }
+    return -1;
+  }
+
+  /**
+   * @param state State.
+   * @param c Character.
+   * @return Key for the transition.
+   */
+  private static long getKey(int state, char c) {
+    return (((long) state) << 16) | c;
+  }
+
+  /**
+   * @param key Key for the transition.
+   * @return First slot to try in the hash table.
+   */
+  private int getSlot(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32) & (transitionKeys.length - 1);
+  }
+
+  /**
+   * Positions of the literal texts found in a text.
+   */
+  public static class Hits {
+
+    /** Filter */
+    private final SuggestionFilter filter;
+
+    /** Begin index of each occurrence, for each literal text */
+    private final int[][] positions;
+
+    /** Number of occurrences, for each literal text */
+    private final int[] counts;
+
+    /**
+     * @param filter Filter.
+     */
+    Hits(SuggestionFilter filter) {
+      this.filter = filter;
+      this.positions = new int[filter.literals.size()][];
+      this.counts = new int[filter.literals.size()];
+    }
+
+    /**
+     * @param literalIndex Index of the literal text.
+     * @param position Begin index of the occurrence.
+     */
+    void add(int literalIndex, int position) {
+      int[] tmp = positions[literalIndex];
+      int count = counts[literalIndex];
+      if (tmp == null) {
+        tmp = new int[4];
+        positions[literalIndex] = tmp;
+      } else if (count >= tmp.length) {
+        tmp = Arrays.copyOf(tmp, tmp.length * 2);
+        positions[literalIndex] = tmp;
+      }
+      tmp[count] = position;
+      counts[literalIndex] = count + 1;
+    }
+
+    /**
+     * @param suggestion Suggestion.
+     * @return True if the suggestion may match somewhere in the text.
+     */
+    public boolean mayMatch(Suggestion suggestion) {
+      Integer literalIndex = filter.literalBySuggestion.get(suggestion);
+      if (literalIndex == null) {
+        return true;
+      }
+      return (counts[literalIndex.intValue()] > 0);
+    }
+
+    /**
+     * @param suggestion Suggestion.
+     * @param begin Begin index of the region.
+     * @param end End index of the region.
+     * @return True if the suggestion may match inside the region.
+     */
+    public boolean mayMatch(Suggestion suggestion, int begin, int end) {
+      Integer literalIndex = filter.literalBySuggestion.get(suggestion);
+      if (literalIndex == null) {
+        return true;
+      }
+      int index = literalIndex.intValue();
+      int count = counts[index];
+      if (count == 0) {
+        return false;
+      }
+      int[] tmp = positions[index];
+      int low = 0;
+      int high = count;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (tmp[middle] < begin) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return (low < count) &&
+             (tmp[low] + filter.literals.get(index).length() <= end);
+    }
+
+    /**
+     * Compute the windows of a region where a suggestion may match.
+     *
+     * <p>Every match of the suggestion inside the region begins in one
+     * of the windows, between its begin index and its last begin index,
+     * and ends before the end index of the window.</p>
+     *
+     * @param suggestion Suggestion.
+     * @param begin Begin index of the region.
+     * @param end End index of the region.
+     * @return Windows sorted by position, or null if the suggestion
+     *         has to be run on the whole region.
+     */
+    public List<Window> getWindows(Suggestion suggestion, int begin, int end) {
+      Integer literalIndex = filter.literalBySuggestion.get(suggestion);
+      Integer maxLength = filter.maxLengthBySuggestion.get(suggestion);
+      if ((literalIndex == null) || (maxLength == null)) {
+        return null;
+      }
+      int index = literalIndex.intValue();
+      int literalLength = filter.literals.get(index).length();
+      int length = maxLength.intValue();
+      int count = counts[index];
+      int[] tmp = positions[index];
+      List<Window> result = new ArrayList<Window>();
+      Window window = null;
+      int low = 0;
+      int high = count;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (tmp[middle] < begin) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      for (int hit = low; (hit < count) && (tmp[hit] + literalLength <= end); hit++) {
+        int position = tmp[hit];
+        int firstBegin = Math.max(begin, position + literalLength - length);
+        int windowEnd = Math.min(end, position + length);
+        if ((window != null) && (firstBegin <= window.lastBegin + 1)) {
+          window.lastBegin = position;
+          window.end = Math.max(window.end, windowEnd);
+        } else {
+          window = new Window(firstBegin, position, windowEnd);
+          result.add(window);
+        }
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Window of the text where a suggestion may match.
+   */
+  public static class Window {
+
+    /** First possible begin index of a match */
+    final int begin;
+
+    /** Last possible begin index of a match */
+    int lastBegin;
+
+    /** End index of the window */
+    int end;
+
+    /**
+     * @param begin First possible begin index of a match.
+     * @param lastBegin Last possible begin index of a match.
+     * @param end End index of the window.
+     */
+    Window(int begin, int lastBegin, int end) {
+      this.begin = begin;
+      this.lastBegin = lastBegin;
+      this.end = end;
+    }
+
+    /**
+     * @return First possible begin index of a match.
+     */
+    public int getBegin() {
+      return begin;
+    }
+
+    /**
+     * @return Last possible begin index of a match.
+     */
+    public int getLastBegin() {
+      return lastBegin;
+    }
+
+    /**
+     * @return End index of the window.
+     */
+    public int getEnd() {
+      return end;
+    }
+  }
+
+  /**
+   * Finder of the matches of a suggestion in a region of the text.
+   *
+   * <p>When the windows where the suggestion may match are known,
+   * the pattern is only run in these windows instead of the whole region.
+   * The matcher must use transparent bounds, so that the matches are the same.</p>
+   */
+  public static class Finder {
+
+    /** Matcher of the suggestion */
+    private final Matcher matcher;
+
+    /** Windows where the suggestion may match (null to search the whole region) */
+    private List<Window> windows;
+
+    /** Index of the current window */
+    private int windowIndex;
+
+    /** Position where to search for the next match */
+    private int position;
+
+    /**
+     * @param matcher Matcher of the suggestion.
+     */
+    public Finder(Matcher matcher) {
+      this.matcher = matcher;
+    }
+
+    /**
+     * @param begin Begin index of the region.
+     * @param end End index of the region.
+     * @param regionWindows Windows of the region where the suggestion may match (null if unknown).
+     */
+    public void reset(int begin, int end, List<Window> regionWindows) {
+      this.windows = regionWindows;
+      this.windowIndex = 0;
+      this.position = begin;
+      if (regionWindows == null) {
+        matcher.region(begin, end);
+      }
+    }
+
+    /**
+     * @return True if a new match has been found, available in the matcher.
+     */
+    public boolean find() {
+      if (windows == null) {
+        return matcher.find();
+      }
+      while (windowIndex < windows.size()) {
+        Window window = windows.get(windowIndex);
+        position = Math.max(position, window.getBegin());
+        if (position <= window.getLastBegin()) {
+          matcher.region(position, window.getEnd());
+          if (matcher.find() && (matcher.start() <= window.getLastBegin())) {
+            position = (matcher.end() > matcher.start()) ? matcher.end() : matcher.end() + 1;
+            return true;
+          }
+        }
+        windowIndex++;
+      }
+      return false;
+    }
+  }
+
+  // ==========================================================================
+  // Literal texts extraction
+  // ==========================================================================
+
+  /**
+   * Extract from a pattern a literal text that any match must contain.
+   *
+   * <p>Only the top level of the pattern is used: groups, character classes,
+   * escaped letters, optional elements... interrupt the literal text.
+   * Patterns that are too complex to analyze safely give no literal text.</p>
+   *
+   * @param pattern Regular expression.
+   * @return Literal text, or null if none could be found.
+   */
+  public static String getRequiredLiteral(String pattern) {
+    if ((pattern == null) || pattern.contains("\\Q")) {
+      return null;
+    }
+    String best = "";
+    StringBuilder current = new StringBuilder();
+    int length = pattern.length();
+    int index = 0;
+    while (index < length) {
+      char c = pattern.charAt(index);
+      boolean literal = false;
+      String literalText = null;
+      int atomEnd = index + 1;
+      switch (c) {
+      case '\\':
+        if (index + 1 >= length) {
+          return null;
+        }
+        char escaped = pattern.charAt(index + 1);
+        if (Character.isLetterOrDigit(escaped)) {
+          atomEnd = skipEscape(pattern, index);
+          if (atomEnd < 0) {
+            return null;
+          }
+        } else {
+          literal = true;
+          literalText = String.valueOf(escaped);
+          atomEnd = index + 2;
+        }
+        break;
+      case '[':
+        atomEnd = skipClass(pattern, index);
+        if (atomEnd < 0) {
+          return null;
+        }
+        break;
+      case '(':
+        if (pattern.startsWith("(?", index) &&
+            (index + 2 < length) &&
+            ("idmsuxU-".indexOf(pattern.charAt(index + 2)) >= 0)) {
+          // Flags may change the meaning of the literal texts
+          return null;
+        }
+        atomEnd = skipGroup(pattern, index);
+        if (atomEnd < 0) {
+          return null;
+        }
+        break;
+      case ')':
+      case '|':
+      case '*':
+      case '+':
+      case '?':
+      case '{':
+        return null;
+      case '.':
+      case '^':
+      case '$':
+        break;
+      default:
+        literal = true;
+        if (Character.isHighSurrogate(c) &&
+            (index + 1 < length) &&
+            Character.isLowSurrogate(pattern.charAt(index + 1))) {
+          literalText = pattern.substring(index, index + 2);
+          atomEnd = index + 2;
+        } else {
+          literalText = String.valueOf(c);
+        }
+      }
+
+      // Quantifier
+      boolean optional = false;
+      boolean repeated = false;
+      index = atomEnd;
+      if (index < length) {
+        char quantifier = pattern.charAt(index);
+        if ((quantifier == '?') || (quantifier == '*')) {
+          optional = true;
+          index++;
+        } else if (quantifier == '+') {
+          repeated = true;
+          index++;
+        } else if (quantifier == '{') {
+          int closing = pattern.indexOf('}', index);
+          if (closing < 0) {
+            return null;
+          }
+          String minimum = pattern.substring(index + 1, closing);
+          int comma = minimum.indexOf(',');
+          if (comma >= 0) {
+            minimum = minimum.substring(0, comma);
+          }
+          try {
+            if (Integer.parseInt(minimum.trim()) == 0) {
+              optional = true;
+            } else {
+              repeated = true;
+            }
+          } catch (NumberFormatException e) {
+            return null;
+          }
+          index = closing + 1;
+        }
+        if ((optional || repeated) && (index < length) &&
+            ((pattern.charAt(index) == '?') || (pattern.charAt(index) == '+'))) {
+          index++;
+        }
+      }
+
+      // Update literal text
+      if (literal && !optional) {
+        current.append(literalText);
+      }
+      if (!literal || optional || repeated) {
+        if (current.length() > best.length()) {
+          best = current.toString();
+        }
+        current.setLength(0);
+      }
+    }
+    if (current.length() > best.length()) {
+      best = current.toString();
+    }
+    return (best.length() >= MIN_LITERAL_LENGTH) ? best : null;
+  }
+
+  /**
+   * Compute the maximum length of the text matched by a pattern.
+   *
+   * <p>Characters matched by dots, character classes or escaped classes
+   * are counted as two characters, as they may be supplementary code points.
+   * Lookarounds and boundaries don't match any text.</p>
+   *
+   * @param pattern Regular expression.
+   * @return Maximum length of a match, or -1 if unbounded, too long or not understood.
+   */
+  public static int getMaxLength(String pattern) {
+    if ((pattern == null) || pattern.contains("\\Q") || pattern.contains("\\G")) {
+      return -1;
+    }
+    return getMaxLength(pattern, 0, pattern.length());
+  }
+
+  /**
+   * Compute the maximum length of the text matched by a part of a pattern.
+   *
+   * @param pattern Regular expression.
+   * @param begin Begin index of the part.
+   * @param end End index of the part.
+   * @return Maximum length of a match, or -1 if unbounded or not understood.
+   */
+  private static int getMaxLength(String pattern, int begin, int end) {
+    int result = 0;
+    int current = 0;
+    int index = begin;
+    while (index < end) {
+      char c = pattern.charAt(index);
+      int atomLength = 1;
+      int atomEnd = index + 1;
+      switch (c) {
+      case '\\':
+        if (index + 1 >= end) {
+          return -1;
+        }
+        char escaped = pattern.charAt(index + 1);
+        if (Character.isLetterOrDigit(escaped)) {
+          atomEnd = skipEscape(pattern, index);
+          if ((atomEnd < 0) || (atomEnd > end)) {
+            return -1;
+          }
+          if ("bBAzZ".indexOf(escaped) >= 0) {
+            atomLength = 0;
+          } else if ((escaped == 'k') || (escaped == 'X') ||
+                     (Character.isDigit(escaped) && (escaped != '0'))) {
+            return -1;
+          } else {
+            atomLength = 2;
+          }
+        } else {
+          atomEnd = index + 2;
+        }
+        break;
+      case '[':
+        atomEnd = skipClass(pattern, index);
+        if ((atomEnd < 0) || (atomEnd > end)) {
+          return -1;
+        }
+        atomLength = 2;
+        break;
+      case '(':
+        atomEnd = skipGroup(pattern, index);
+        if ((atomEnd < 0) || (atomEnd > end)) {
+          return -1;
+        }
+        int innerBegin = index + 1;
+        if (pattern.startsWith("(?", index)) {
+          if (pattern.startsWith("(?:", index) || pattern.startsWith("(?>", index)) {
+            innerBegin = index + 3;
+          } else if (pattern.startsWith("(?=", index) || pattern.startsWith("(?!", index) ||
+                     pattern.startsWith("(?<=", index) || pattern.startsWith("(?<!", index)) {
+            innerBegin = -1;
+          } else if (pattern.startsWith("(?<", index)) {
+            innerBegin = pattern.indexOf('>', index) + 1;
+            if ((innerBegin <= 0) || (innerBegin >= atomEnd)) {
+              return -1;
+            }
+          } else {
+            // Flags may change the meaning of the pattern
+            return -1;
+          }
+        }
+        if (innerBegin < 0) {
+          atomLength = 0;
+        } else {
+          atomLength = getMaxLength(pattern, innerBegin, atomEnd - 1);
+          if (atomLength < 0) {
+            return -1;
+          }
+        }
+        break;
+      case '|':
+        result = Math.max(result, current);
+        current = 0;
+        index++;
+        continue;
+      case ')':
+      case '*':
+      case '+':
+      case '?':
+      case '{':
+        return -1;
+      case '^':
+      case '$':
+        atomLength = 0;
+        break;
+      case '.':
+        atomLength = 2;
+        break;
+      default:
+        if (Character.isHighSurrogate(c) &&
+            (index + 1 < end) &&
+            Character.isLowSurrogate(pattern.charAt(index + 1))) {
+          atomLength = 2;
+          atomEnd = index + 2;
+        }
+      }
+
+      // Quantifier
+      index = atomEnd;
+      if (index < end) {
+        char quantifier = pattern.charAt(index);
+        if ((quantifier == '*') || (quantifier == '+')) {
+          return -1;
+        }
+        if (quantifier == '?') {
+          index++;
+        } else if (quantifier == '{') {
+          int closing = pattern.indexOf('}', index);
+          if ((closing < 0) || (closing >= end)) {
+            return -1;
+          }
+          String maximum = pattern.substring(index + 1, closing);
+          int comma = maximum.indexOf(',');
+          if (comma >= 0) {
+            maximum = maximum.substring(comma + 1);
+          }
+          try {
+            int maxCount = Integer.parseInt(maximum.trim());
+            if (maxCount > MAX_MATCH_LENGTH) {
+              return -1;
+            }
+            atomLength *= maxCount;
+          } catch (NumberFormatException e) {
+            return -1;
+          }
+          index = closing + 1;
+        }
+        if ((quantifier == '?') || (quantifier == '{')) {
+          if ((index < end) &&
+              ((pattern.charAt(index) == '?') || (pattern.charAt(index) == '+'))) {
+            index++;
+          }
+        }
+      }
+      current += atomLength;
+      if (current > MAX_MATCH_LENGTH) {
+        return -1;
+      }
+    }
+    return Math.max(result, current);
+  }
+
+  /**
+   * @param pattern Regular expression.
+   * @param index Index of the backslash of an escaped letter or digit.
+   * @return Index after the escape sequence (-1 if unknown).
+   */
+  private static int skipEscape(String pattern, int index) {
+    int length = pattern.length();
+    char c = pattern.charAt(index + 1);
+    int result = index + 2;
+    switch (c) {
+    case 'p':
+    case 'P':
+    case 'N':
+    case 'x':
+      if ((result < length) && (pattern.charAt(result) == '{')) {
+        int closing = pattern.indexOf('}', result);
+        return (closing < 0) ? -1 : closing + 1;
+      }
+      if (c == 'x') {
+        return result + 2;
+      }
+      return (c == 'N') ? -1 : result + 1;
+    case 'u':
+      return result + 4;
+    case 'c':
+      return result + 1;
+    case 'k':
+      if ((result < length) && (pattern.charAt(result) == '<')) {
+        int closing = pattern.indexOf('>', result);
+        return (closing < 0) ? -1 : closing + 1;
+      }
+      return -1;
+    case '0':
+      int count = 0;
+      while ((count < 3) && (result < length) &&
+             (pattern.charAt(result) >= '0') && (pattern.charAt(result) <= '7')) {
+        result++;
+        count++;
+      }
+      return result;
+    default:
+      if ((c >= '1') && (c <= '9')) {
+        while ((result < length) && Character.isDigit(pattern.charAt(result))) {
+          result++;
+        }
+        return result;
+      }
+      if (Character.isDigit(c)) {
+        return -1;
+      }
+      if ((c == 'b') && (result < length) && (pattern.charAt(result) == '{')) {
+        return -1;
+      }
+      return result;
+    }
+  }
+
+  /**
+   * @param pattern Regular expression.
+   * @param index Index of the opening bracket of a character class.
+   * @return Index after the character class (-1 if not understood).
+   */
+  private static int skipClass(String pattern, int index) {
+    int length = pattern.length();
+    int current = index + 1;
+    if ((current < length) && (pattern.charAt(current) == '^')) {
+      current++;
+    }
+    if ((current < length) && (pattern.charAt(current) == ']')) {
+      return -1;
+    }
+    int depth = 1;
+    while (current < length) {
+      char c = pattern.charAt(current);
+      if (c == '\\') {
+        current += 2;
+      } else {
+        if (c == '[') {
+          depth++;
+        } else if (c == ']') {
+          depth--;
+          if (depth == 0) {
+            return current + 1;
+          }
+        }
+        current++;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param pattern Regular expression.
+   * @param index Index of the opening parenthesis of a group.
+   * @return Index after the group (-1 if not understood).
+   */
+  private static int skipGroup(String pattern, int index) {
+    int length = pattern.length();
+    int current = index;
+    int depth = 0;
+    while (current < length) {
+      char c = pattern.charAt(current);
+      if (c == '\\') {
+        current += 2;
+      } else if (c == '[') {
+        current = skipClass(pattern, current);
+        if (current < 0) {
+          return -1;
+        }
+      } else {
+        if (c == '(') {
+          depth++;
+        } else if (c == ')') {
+          depth--;
+          if (depth == 0) {
+            return current + 1;
+          }
+        }
+        current++;
+      }
+    }
+    return -1;
+  }
+}
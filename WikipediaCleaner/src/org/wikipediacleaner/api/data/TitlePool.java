@@ -0,0 +1,99 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Pool of canonical instances of normalized titles.
+ *
+ * <p>The pool remembers the normalized title of each title given to it,
+ * so a title met again (in nested loops comparing titles for example)
+ * is not normalized again. Normalized titles are shared between all
+ * the titles with the same normalization.</p>
+ *
+ * <p>The pool is bounded: it is emptied when it reaches its maximum size.
+ * Titles obtained from the pool should still be compared with
+ * <code>equals()</code>, which begins with a reference comparison.</p>
+ */
+public class TitlePool {
+
+  /** Default maximum number of titles in the pool */
+  private final static int DEFAULT_MAX_SIZE = 100000;
+
+  /** Canonical instances of normalized titles, by title */
+  private final ConcurrentHashMap<String, String> titles;
+
+  /** Maximum number of titles in the pool */
+  private final int maxSize;
+
+  /**
+   * Create a pool with the default maximum size.
+   */
+  public TitlePool() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * @param maxSize Maximum number of titles in the pool.
+   */
+  public TitlePool(int maxSize) {
+    this.titles = new ConcurrentHashMap<String, String>();
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @param title Title.
+   * @return Canonical instance of the normalized title if known, null otherwise.
+   */
+  public String get(String title) {
+    if (title == null) {
+      return null;
+    }
+    return titles.get(title);
+  }
+
+  /**
+   * Register the normalized title of a title.
+   *
+   * @param title Title.
+   * @param normalized Normalized title.
+   * @return Canonical instance of the normalized title.
+   */
+  public String put(String title, String normalized) {
+    if ((title == null) || (normalized == null)) {
+      return normalized;
+    }
+    if (titles.size() >= maxSize) {
+      titles.clear();
+    }
+    String result = titles.putIfAbsent(normalized, normalized);
+    if (result == null) {
+      result = normalized;
+    }
+    if (!title.equals(result)) {
+      titles.put(title, result);
+    }
+    return result;
+  }
+
+  /**
+   * @return Number of titles in the pool.
+   */
+  public int size() {
+    return titles.size();
+  }
+
+  /**
+   * Remove all titles from the pool.
+   */
+  public void clear() {
+    titles.clear();
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+
+package org.wikipediacleaner.api.dump;
+
+
+/**
+ * Filter accepting pages accepted by all of its filters.
+ */
+public class CombinedPageFilter implements PageFilter {
+
+  /** Filters */
+  private final PageFilter[] filters;
+
+  /**
+   * @param filters Filters (null filters are ignored).
+   */
+  public CombinedPageFilter(PageFilter... filters) {
+    this.filters = filters;
+  }
+
+  /**
+   * @param namespace Name space of the page (may be null if unknown).
+   * @param title Title of the page.
+   * @return True if the page is accepted by all filters.
+   * @see org.wikipediacleaner.api.dump.PageFilter#accept(java.lang.Integer, java.lang.String)
+   */
+  @Override
+  public boolean accept(Integer namespace, String title) {
+    if (filters != null) {
+      for (PageFilter filter : filters) {
+        if ((filter != null) && !filter.accept(namespace, title)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
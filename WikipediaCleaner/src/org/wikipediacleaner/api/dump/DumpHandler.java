@@ -38,6 +38,15 @@ public class DumpHandler extends DefaultHandler {
     }
   }
 
+  /**
+   * @param pageId Pages with an id lower or equal are skipped (null to process all pages).
+   */
+  public void setStartPageId(Integer pageId) {
+    if (pageHandler != null) {
+      pageHandler.setStartPageId(pageId);
+    }
+  }
+
   /**
    * Receive notification of the start of an element.
    *
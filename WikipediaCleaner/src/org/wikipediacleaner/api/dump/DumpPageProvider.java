@@ -0,0 +1,82 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+
+package org.wikipediacleaner.api.dump;
+
+import java.io.IOException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wikipediacleaner.api.constants.EnumWikipedia;
+import org.wikipediacleaner.api.data.Page;
+import org.wikipediacleaner.api.dataaccess.PageProvider;
+
+
+/**
+ * A page provider reading the page from an offline store of pages.
+ * The page is read from the dump the first time it is requested.
+ */
+public class DumpPageProvider implements PageProvider {
+
+  /** Logger */
+  private final static Log log = LogFactory.getLog(DumpPageProvider.class);
+
+  /** Wiki */
+  private final EnumWikipedia wiki;
+
+  /** Offline store of pages */
+  private final DumpPageStore store;
+
+  /** Title of the page to provide */
+  private final String title;
+
+  /** Page read from the dump */
+  private Page page;
+
+  /** True if the page has already been read from the dump */
+  private boolean loaded;
+
+  /**
+   * @param wiki Wiki.
+   * @param store Offline store of pages.
+   * @param title Title of the page to provide.
+   */
+  public DumpPageProvider(EnumWikipedia wiki, DumpPageStore store, String title) {
+    this.wiki = wiki;
+    this.store = store;
+    this.title = title;
+    this.page = null;
+    this.loaded = false;
+  }
+
+  /**
+   * @return Page (null if the page is not in the dump).
+   * @see org.wikipediacleaner.api.dataaccess.PageProvider#getPage()
+   */
+  @Override
+  public synchronized Page getPage() {
+    if (!loaded) {
+      loaded = true;
+      try {
+        page = store.getPage(wiki, title);
+      } catch (IOException e) {
+        log.error("Error reading page " + title + " from dump", e);
+      }
+    }
+    return page;
+  }
+
+  /**
+   * @return Wiki.
+   * @see org.wikipediacleaner.api.dataaccess.WikiProvider#getWiki()
+   */
+  @Override
+  public EnumWikipedia getWiki() {
+    return wiki;
+  }
+}
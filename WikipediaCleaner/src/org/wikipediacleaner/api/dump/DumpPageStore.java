@@ -0,0 +1,423 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+
+package org.wikipediacleaner.api.dump;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wikipediacleaner.api.constants.EnumWikipedia;
+import org.wikipediacleaner.api.data.Page;
+import org.wikipediacleaner.api.dataaccess.PageProvider;
+import org.xml.sax.InputSource;
+
+
+/**
+ * Offline store of pages, giving random access to pages of a multistream dump.
+ *
+ * <p>The index of the multistream dump is loaded in memory to find for each
+ * title the stream containing the page.
+ * Retrieving a page then only requires to decompress and parse its stream.</p>
+ *
+ * <p>To keep the index compact, only the hash of each title is kept with its stream,
+ * in a sorted array of longs. Titles sharing a hash only cause an additional stream
+ * to be parsed, the pages being filtered on their exact title.</p>
+ */
+public class DumpPageStore {
+
+  /** Logger */
+  private final static Log log = LogFactory.getLog(DumpPageStore.class);
+
+  /** File containing the multistream wiki dump */
+  private final File file;
+
+  /** Offsets of the beginning of each stream, sorted */
+  private long[] streamOffsets;
+
+  /** Location of each page, sorted: hash of the title in the high 32 bits, stream index in the low 32 bits */
+  private long[] locations;
+
+  /** Number of pages in the index */
+  private int nbLocations;
+
+  /**
+   * Create an offline store of pages by loading the index of a multistream dump.
+   *
+   * @param file File containing the multistream wiki dump.
+   * @param index File containing the index of the multistream wiki dump.
+   * @param titles Titles of the pages to keep in the store (null to keep all pages).
+   * @throws IOException Error reading the index.
+   */
+  public DumpPageStore(File file, File index, Collection<String> titles) throws IOException {
+    this.file = file;
+    this.streamOffsets = new long[1024];
+    this.locations = new long[1024];
+    this.nbLocations = 0;
+    loadIndex(index, (titles != null) ? new HashSet<>(titles) : null);
+  }
+
+  /**
+   * Create an offline store of pages for a multistream dump.
+   *
+   * @param file File containing the multistream wiki dump.
+   * @return Offline store of pages (null if the index of the dump is not available).
+   * @throws IOException Error reading the index.
+   */
+  public static DumpPageStore create(File file) throws IOException {
+    return create(file, null);
+  }
+
+  /**
+   * Create an offline store of some pages of a multistream dump.
+   *
+   * @param file File containing the multistream wiki dump.
+   * @param titles Titles of the pages to keep in the store (null to keep all pages).
+   * @return Offline store of pages (null if the index of the dump is not available).
+   * @throws IOException Error reading the index.
+   */
+  public static DumpPageStore create(File file, Collection<String> titles) throws IOException {
+    File index = DumpProcessor.getMultistreamIndex(file);
+    if (index == null) {
+      return null;
+    }
+    return new DumpPageStore(file, index, titles);
+  }
+
+  /**
+   * @param wiki Wiki.
+   * @param title Page title.
+   * @return Provider for the page.
+   */
+  public PageProvider getPageProvider(EnumWikipedia wiki, String title) {
+    return new DumpPageProvider(wiki, this, title);
+  }
+
+  /**
+   * Retrieve a page from the dump.
+   *
+   * @param wiki Wiki.
+   * @param title Page title.
+   * @return Page with its contents (null if the page is not in the dump).
+   * @throws IOException Error reading the dump.
+   */
+  public Page getPage(EnumWikipedia wiki, String title) throws IOException {
+    return getPages(wiki, Collections.singleton(title)).get(title);
+  }
+
+  /**
+   * Retrieve pages from the dump.
+   *
+   * <p>Pages are grouped by stream, so that each stream is decompressed only once.</p>
+   *
+   * @param wiki Wiki.
+   * @param titles Page titles.
+   * @return Pages with their contents, by title (pages not in the dump are missing).
+   * @throws IOException Error reading the dump.
+   */
+  public Map<String, Page> getPages(EnumWikipedia wiki, Collection<String> titles) throws IOException {
+    Map<String, Page> result = new HashMap<>();
+    processPages(titles, new StorePageProcessor(wiki, result));
+    return result;
+  }
+
+  /**
+   * Give pages from the dump to a page processor.
+   *
+   * <p>Pages are grouped by stream, so that each stream is decompressed only once,
+   * and they are given to the page processor as soon as they are read,
+   * so that their contents are not kept in memory.</p>
+   *
+   * @param titles Page titles.
+   * @param processor Page processor (its filter is also applied).
+   * @throws IOException Error reading the dump.
+   */
+  public void processPages(Collection<String> titles, PageProcessor processor) throws IOException {
+    Map<Integer, List<String>> titlesByStream = new TreeMap<>();
+    for (String title : titles) {
+      if (title != null) {
+        long hash = ((long) title.hashCode()) << 32;
+        int index = Arrays.binarySearch(locations, 0, nbLocations, hash);
+        if (index < 0) {
+          index = -index - 1;
+        }
+        while ((index < nbLocations) && ((locations[index] & 0xFFFFFFFF00000000L) == hash)) {
+          Integer stream = Integer.valueOf((int) locations[index]);
+          List<String> streamTitles = titlesByStream.get(stream);
+          if (streamTitles == null) {
+            streamTitles = new ArrayList<>();
+            titlesByStream.put(stream, streamTitles);
+          }
+          streamTitles.add(title);
+          index++;
+        }
+      }
+    }
+    for (Map.Entry<Integer, List<String>> entry : titlesByStream.entrySet()) {
+      readStream(entry.getKey().intValue(), entry.getValue(), processor);
+    }
+  }
+
+  /**
+   * Decompress and parse a stream to retrieve some of its pages.
+   *
+   * @param stream Index of the stream.
+   * @param titles Titles of the pages to retrieve.
+   * @param processor Page processor.
+   * @throws IOException Error reading the dump.
+   */
+  private void readStream(int stream, List<String> titles, PageProcessor processor) throws IOException {
+    long offset = streamOffsets[stream];
+    long end = (stream + 1 < streamOffsets.length) ? streamOffsets[stream + 1] : -1;
+    FileInputStream fis = new FileInputStream(file);
+    try {
+      Reader reader = DumpProcessor.openStream(fis, offset, end);
+      SAXParserFactory factory = SAXParserFactory.newInstance();
+      SAXParser parser = factory.newSAXParser();
+      DumpHandler dh = new DumpHandler();
+      dh.setPageProcessor(new StreamPageProcessor(titles, processor));
+      parser.parse(new InputSource(reader), dh);
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("Error parsing stream at offset " + offset, e);
+    } finally {
+      try {
+        fis.close();
+      } catch (IOException e) {
+        log.error("Error closing dump file", e);
+      }
+    }
+  }
+
+  /**
+   * Load the index of the multistream dump.
+   *
+   * <p>Each line of the index is formatted as <code>offset:page id:title</code>,
+   * with one line for each page and the same offset for pages in the same stream.
+   * Titles are XML escaped in the index.</p>
+   *
+   * @param index File containing the index of the multistream wiki dump.
+   * @param titles Titles of the pages to keep (null to keep all pages).
+   * @throws IOException Error reading the index.
+   */
+  private void loadIndex(File index, Set<String> titles) throws IOException {
+    int nbStreams = 0;
+    BufferedReader reader = DumpProcessor.openIndex(index);
+    try {
+      String line = null;
+      while ((line = reader.readLine()) != null) {
+        int colonIndex = line.indexOf(':');
+        int colonIndex2 = (colonIndex > 0) ? line.indexOf(':', colonIndex + 1) : -1;
+        if (colonIndex2 > 0) {
+          try {
+            long offset = Long.parseLong(line.substring(0, colonIndex));
+            if ((nbStreams == 0) || (streamOffsets[nbStreams - 1] != offset)) {
+              if ((nbStreams > 0) && (streamOffsets[nbStreams - 1] > offset)) {
+                throw new IOException("Index file " + index.getName() + " is not sorted by offset");
+              }
+              if (nbStreams >= streamOffsets.length) {
+                streamOffsets = Arrays.copyOf(streamOffsets, streamOffsets.length * 2);
+              }
+              streamOffsets[nbStreams] = offset;
+              nbStreams++;
+            }
+            String title = unescapeTitle(line.substring(colonIndex2 + 1));
+            if ((titles == null) || titles.contains(title)) {
+              if (nbLocations >= locations.length) {
+                locations = Arrays.copyOf(locations, locations.length * 2);
+              }
+              locations[nbLocations] = (((long) title.hashCode()) << 32) | (nbStreams - 1);
+              nbLocations++;
+            }
+          } catch (NumberFormatException e) {
+            log.warn("Incorrect line in index file: " + line);
+          }
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    streamOffsets = Arrays.copyOf(streamOffsets, nbStreams);
+    locations = Arrays.copyOf(locations, nbLocations);
+    Arrays.sort(locations);
+  }
+
+  /**
+   * Unescape a title from the index of the multistream dump.
+   *
+   * @param title XML escaped title.
+   * @return Title as decoded from the dump itself.
+   */
+  static String unescapeTitle(String title) {
+    int ampersandIndex = title.indexOf('&');
+    if (ampersandIndex < 0) {
+      return title;
+    }
+    StringBuilder result = new StringBuilder(title.length());
+    int currentIndex = 0;
+    while (ampersandIndex >= 0) {
+      result.append(title, currentIndex, ampersandIndex);
+      currentIndex = ampersandIndex;
+      int semicolonIndex = title.indexOf(';', ampersandIndex);
+      if (semicolonIndex > ampersandIndex) {
+        String entity = title.substring(ampersandIndex + 1, semicolonIndex);
+        String value = null;
+        if ("amp".equals(entity)) {
+          value = "&";
+        } else if ("quot".equals(entity)) {
+          value = "\"";
+        } else if ("apos".equals(entity)) {
+          value = "'";
+        } else if ("lt".equals(entity)) {
+          value = "<";
+        } else if ("gt".equals(entity)) {
+          value = ">";
+        } else if ((entity.length() > 1) && (entity.charAt(0) == '#')) {
+          try {
+            int codePoint = ((entity.charAt(1) == 'x') || (entity.charAt(1) == 'X')) ?
+                Integer.parseInt(entity.substring(2), 16) :
+                Integer.parseInt(entity.substring(1));
+            if (Character.isValidCodePoint(codePoint)) {
+              value = new String(Character.toChars(codePoint));
+            }
+          } catch (NumberFormatException e) {
+            // Not a numeric entity
+          }
+        }
+        if (value != null) {
+          result.append(value);
+          currentIndex = semicolonIndex + 1;
+        }
+      }
+      if (currentIndex == ampersandIndex) {
+        result.append('&');
+        currentIndex++;
+      }
+      ampersandIndex = title.indexOf('&', currentIndex);
+    }
+    result.append(title, currentIndex, title.length());
+    return result.toString();
+  }
+
+  /**
+   * Page processor restricting another page processor to the requested pages of a stream.
+   */
+  private class StreamPageProcessor implements PageProcessor {
+
+    /** Filter on the requested pages */
+    private final PageFilter filter;
+
+    /** Page processor */
+    private final PageProcessor processor;
+
+    /**
+     * @param titles Titles of the requested pages.
+     * @param processor Page processor.
+     */
+    public StreamPageProcessor(Collection<String> titles, PageProcessor processor) {
+      this.filter = new CombinedPageFilter(
+          new TitlePageFilter(titles), processor.getPageFilter());
+      this.processor = processor;
+    }
+
+    /**
+     * @return Wiki.
+     * @see org.wikipediacleaner.api.dump.PageProcessor#getWiki()
+     */
+    @Override
+    public EnumWikipedia getWiki() {
+      return processor.getWiki();
+    }
+
+    /**
+     * @return Filter on the requested pages.
+     * @see org.wikipediacleaner.api.dump.PageProcessor#getPageFilter()
+     */
+    @Override
+    public PageFilter getPageFilter() {
+      return filter;
+    }
+
+    /**
+     * @param page Page.
+     * @see org.wikipediacleaner.api.dump.PageProcessor#processPage(org.wikipediacleaner.api.data.Page)
+     */
+    @Override
+    public void processPage(Page page) {
+      processor.processPage(page);
+    }
+  }
+
+  /**
+   * Page processor memorizing the pages it is given.
+   */
+  private static class StorePageProcessor implements PageProcessor {
+
+    /** Wiki */
+    private final EnumWikipedia wiki;
+
+    /** Pages retrieved, by title */
+    private final Map<String, Page> result;
+
+    /**
+     * @param wiki Wiki.
+     * @param result Pages retrieved, by title.
+     */
+    public StorePageProcessor(EnumWikipedia wiki, Map<String, Page> result) {
+      this.wiki = wiki;
+      this.result = result;
+    }
+
+    /**
+     * @return Wiki.
+     * @see org.wikipediacleaner.api.dump.PageProcessor#getWiki()
+     */
+    @Override
+    public EnumWikipedia getWiki() {
+      return wiki;
+    }
+
+    /**
+     * @return Filter on pages (all pages are accepted).
+     * @see org.wikipediacleaner.api.dump.PageProcessor#getPageFilter()
+     */
+    @Override
+    public PageFilter getPageFilter() {
+      return null;
+    }
+
+    /**
+     * @param page Page.
+     * @see org.wikipediacleaner.api.dump.PageProcessor#processPage(org.wikipediacleaner.api.data.Page)
+     */
+    @Override
+    public void processPage(Page page) {
+      if (page != null) {
+        result.put(page.getTitle(), page);
+      }
+    }
+  }
+}
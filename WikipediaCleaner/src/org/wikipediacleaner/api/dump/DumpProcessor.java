@@ -9,15 +9,30 @@
 package org.wikipediacleaner.api.dump;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.utils.BoundedInputStream;
+import org.apache.commons.compress.utils.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.xml.sax.InputSource;
@@ -31,12 +46,36 @@ public class DumpProcessor {
   /** Logger */
   private final Log log = LogFactory.getLog(DumpProcessor.class);
 
+  /** Suffix of multistream dumps */
+  private final static String MULTISTREAM_SUFFIX = "-multistream.xml.bz2";
+
+  /** Suffix of multistream dump indexes */
+  private final static String MULTISTREAM_INDEX_SUFFIX = "-multistream-index.txt.bz2";
+
+  /** Root element used to wrap the pages of a single stream */
+  private final static String STREAM_ROOT = "mediawiki";
+
   /** Page processor */
   private PageProcessor pageProcessor;
 
+  /** Pages with an id lower or equal are skipped */
+  private Integer startPageId;
+
+  /** Handler used for a single stream dump */
+  private DumpHandler currentHandler;
+
+  /** Streams of a multistream dump */
+  private List<StreamInformation> streams;
+
+  /** Index of the first stream of a multistream dump not completely processed */
+  private int firstIncompleteStream;
+
+  /** Number of threads for processing a multistream dump (0 or 1 to process it sequentially) */
+  private int nbThreads;
+
   /**
    * Create a wiki dumps processor.
-   * 
+   *
    * @param pageProcessor Page processor.
    */
   public DumpProcessor(PageProcessor pageProcessor) {
@@ -44,14 +83,73 @@ public class DumpProcessor {
   }
 
   /**
-   * Process a wiki dump.
+   * Restart processing after a given page.
+   * 
+   * @param pageId Pages with an id lower or equal are skipped (null to process all pages).
+   */
+  public void setStartPageId(Integer pageId) {
+    this.startPageId = pageId;
+  }
+
+  /**
+   * Process multistream dumps in parallel.
    * 
+   * @param nbThreads Number of threads decompressing and parsing streams
+   *        (0 or 1 to process dumps sequentially).
+   */
+  public void setThreads(int nbThreads) {
+    this.nbThreads = nbThreads;
+  }
+
+  /**
+   * Pages are sorted by page id in dumps, this gives a position in the
+   * dump that can be used to restart processing with {@link #setStartPageId(Integer)}.
+   * 
+   * @return Page id such as all pages with a lower or equal id have been given to the page processor.
+   */
+  public Integer getLastProcessedPageId() {
+    synchronized (this) {
+      if (streams != null) {
+        if (firstIncompleteStream >= streams.size()) {
+          return Integer.valueOf(Integer.MAX_VALUE);
+        }
+        int pageId = streams.get(firstIncompleteStream).firstPageId - 1;
+        if ((startPageId != null) && (startPageId.intValue() > pageId)) {
+          return startPageId;
+        }
+        return (pageId >= 0) ? Integer.valueOf(pageId) : null;
+      }
+    }
+    DumpHandler handler = currentHandler;
+    if ((handler != null) && (handler.pageHandler != null)) {
+      Integer pageId = handler.pageHandler.getLastPageId();
+      if (pageId != null) {
+        return pageId;
+      }
+    }
+    return startPageId;
+  }
+
+  /**
+   * Process a wiki dump.
+   *
+   * <p>If several threads have been requested with {@link #setThreads(int)}
+   * and the dump is a multistream dump with its index file available
+   * next to it, the streams are decompressed and parsed in parallel.</p>
+   *
    * @param file File containing the wiki dump.
    */
   public void processDump(File file) {
     if (file == null) {
       return;
     }
+    if (nbThreads > 1) {
+      File index = getMultistreamIndex(file);
+      if (index != null) {
+        processMultistreamDump(file, index, nbThreads);
+        return;
+      }
+    }
     FileInputStream fis = null;
     BufferedInputStream bis = null;
     BZip2CompressorInputStream bzis = null;
@@ -62,9 +160,11 @@ public class DumpProcessor {
       bis = new BufferedInputStream(fis);
       bzis = new BZip2CompressorInputStream(bis);
       Reader reader = new InputStreamReader(bzis, "UTF-8");
-      InputSource is = new InputSource(reader); 
+      InputSource is = new InputSource(reader);
       DumpHandler dh = new DumpHandler();
       dh.setPageProcessor(pageProcessor);
+      dh.setStartPageId(startPageId);
+      currentHandler = dh;
       parser.parse(is, dh);
     } catch (Exception e) {
       log.error("Error processing dump file", e);
@@ -84,4 +184,274 @@ public class DumpProcessor {
       }
     }
   }
+
+  /**
+   * Process a multistream wiki dump with several threads.
+   *
+   * <p>Processing stops at the first stream that fails, so that
+   * {@link #getLastProcessedPageId()} gives the position to restart from.</p>
+   *
+   * @param file File containing the multistream wiki dump.
+   * @param index File containing the index of the multistream wiki dump.
+   * @param nbThreads Number of threads decompressing and parsing streams.
+   */
+  public void processMultistreamDump(File file, File index, int nbThreads) {
+    if ((file == null) || (index == null)) {
+      return;
+    }
+    List<StreamInformation> tmpStreams = null;
+    try {
+      tmpStreams = readStreams(index);
+    } catch (IOException e) {
+      log.error("Error reading index file " + index.getName(), e);
+      return;
+    }
+    if (tmpStreams.isEmpty()) {
+      return;
+    }
+    synchronized (this) {
+      streams = tmpStreams;
+      firstIncompleteStream = 0;
+    }
+
+    // Process each stream in a separate task
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(nbThreads, 1));
+    try {
+      List<Future<?>> results = new ArrayList<>(tmpStreams.size());
+      for (int i = 0; i < tmpStreams.size(); i++) {
+        StreamInformation stream = tmpStreams.get(i);
+        StreamInformation next = (i + 1 < tmpStreams.size()) ? tmpStreams.get(i + 1) : null;
+        if ((startPageId != null) && (next != null) &&
+            (next.firstPageId - 1 <= startPageId.intValue())) {
+          streamCompleted(stream);
+        } else {
+          long end = (next != null) ? next.offset : -1;
+          results.add(executor.submit(new StreamCallable(file, stream, end)));
+        }
+      }
+      for (Future<?> result : results) {
+        try {
+          result.get();
+        } catch (ExecutionException e) {
+          log.error("Error processing stream in dump file, stopping processing", e.getCause());
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      log.error("Interrupted while processing dump file", e);
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * @param file File containing the wiki dump.
+   * @return Index file if the dump is a multistream dump with an available index.
+   */
+  public static File getMultistreamIndex(File file) {
+    if (file == null) {
+      return null;
+    }
+    String name = file.getName();
+    if (!name.endsWith(MULTISTREAM_SUFFIX)) {
+      return null;
+    }
+    File index = new File(
+        file.getParentFile(),
+        name.substring(0, name.length() - MULTISTREAM_SUFFIX.length()) + MULTISTREAM_INDEX_SUFFIX);
+    if (!index.isFile() || !index.canRead()) {
+      return null;
+    }
+    return index;
+  }
+
+  /**
+   * Memorize that a stream of a multistream dump has been completely processed.
+   * 
+   * @param stream Stream.
+   */
+  synchronized void streamCompleted(StreamInformation stream) {
+    stream.completed = true;
+    while ((firstIncompleteStream < streams.size()) &&
+           streams.get(firstIncompleteStream).completed) {
+      firstIncompleteStream++;
+    }
+  }
+
+  /**
+   * Read the list of streams from a multistream index.
+   *
+   * <p>Each line of the index is formatted as <code>offset:page id:title</code>,
+   * with one line for each page and the same offset for pages in the same stream.</p>
+   *
+   * @param index File containing the index of the multistream wiki dump.
+   * @return List of streams sorted by offset.
+   * @throws IOException Error reading the index.
+   */
+  private List<StreamInformation> readStreams(File index) throws IOException {
+    List<StreamInformation> tmpStreams = new ArrayList<>();
+    BufferedReader reader = openIndex(index);
+    try {
+      String line = null;
+      long lastOffset = -1;
+      while ((line = reader.readLine()) != null) {
+        int colonIndex = line.indexOf(':');
+        int colonIndex2 = (colonIndex > 0) ? line.indexOf(':', colonIndex + 1) : -1;
+        if (colonIndex2 > 0) {
+          try {
+            long offset = Long.parseLong(line.substring(0, colonIndex));
+            if (offset != lastOffset) {
+              int pageId = Integer.parseInt(line.substring(colonIndex + 1, colonIndex2));
+              tmpStreams.add(new StreamInformation(offset, pageId));
+              lastOffset = offset;
+            }
+          } catch (NumberFormatException e) {
+            log.warn("Incorrect line in index file: " + line);
+          }
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    Collections.sort(tmpStreams);
+    return tmpStreams;
+  }
+
+  /**
+   * Open the index of a multistream dump.
+   *
+   * @param index File containing the index of the multistream wiki dump.
+   * @return Reader for the lines of the index.
+   * @throws IOException Error opening the index.
+   */
+  static BufferedReader openIndex(File index) throws IOException {
+    InputStream is = new BufferedInputStream(new FileInputStream(index));
+    if (index.getName().endsWith(".bz2")) {
+      is = new BZip2CompressorInputStream(is, true);
+    }
+    return new BufferedReader(new InputStreamReader(is, "UTF-8"));
+  }
+
+  /**
+   * Open a single stream of a multistream dump.
+   *
+   * <p>A stream only contains a sequence of pages,
+   * they are wrapped in a root element so that the stream can be parsed.</p>
+   *
+   * @param fis Input stream on the file containing the wiki dump.
+   * @param offset Offset of the beginning of the stream.
+   * @param end Offset of the end of the stream (-1 if last stream).
+   * @return Reader for the decompressed stream.
+   * @throws IOException Error opening the stream.
+   */
+  static Reader openStream(FileInputStream fis, long offset, long end) throws IOException {
+    IOUtils.skip(fis, offset);
+    InputStream is = new BufferedInputStream(fis);
+    if (end > offset) {
+      is = new BoundedInputStream(is, end - offset);
+    }
+    is = new SequenceInputStream(
+        new ByteArrayInputStream(("<" + STREAM_ROOT + ">").getBytes("UTF-8")),
+        new SequenceInputStream(
+            new BZip2CompressorInputStream(is, false),
+            new ByteArrayInputStream(("</" + STREAM_ROOT + ">").getBytes("UTF-8"))));
+    return new InputStreamReader(is, "UTF-8");
+  }
+
+  /**
+   * Bean for holding information about a stream of a multistream dump.
+   */
+  static class StreamInformation implements Comparable<StreamInformation> {
+
+    /** Offset of the beginning of the stream */
+    final long offset;
+
+    /** Id of the first page in the stream */
+    final int firstPageId;
+
+    /** True when all pages of the stream have been processed */
+    boolean completed;
+
+    /**
+     * @param offset Offset of the beginning of the stream.
+     * @param firstPageId Id of the first page in the stream.
+     */
+    StreamInformation(long offset, int firstPageId) {
+      this.offset = offset;
+      this.firstPageId = firstPageId;
+      this.completed = false;
+    }
+
+    /**
+     * @param o Other stream.
+     * @return Comparison on offsets.
+     * @see java.lang.Comparable#compareTo(java.lang.Object)
+     */
+    @Override
+    public int compareTo(StreamInformation o) {
+      if (offset == o.offset) {
+        return 0;
+      }
+      return (offset < o.offset) ? -1 : 1;
+    }
+  }
+
+  /**
+   * Background task processing a single stream of a multistream dump.
+   */
+  private class StreamCallable implements Callable<Void> {
+
+    /** File containing the wiki dump */
+    private final File file;
+
+    /** Stream */
+    private final StreamInformation stream;
+
+    /** Offset of the end of the stream (-1 if last stream) */
+    private final long end;
+
+    /**
+     * @param file File containing the wiki dump.
+     * @param stream Stream.
+     * @param end Offset of the end of the stream (-1 if last stream).
+     */
+    public StreamCallable(File file, StreamInformation stream, long end) {
+      this.file = file;
+      this.stream = stream;
+      this.end = end;
+    }
+
+    /**
+     * Decompress and parse the stream.
+     *
+     * @return Nothing.
+     * @throws Exception Error processing the stream.
+     * @see java.util.concurrent.Callable#call()
+     */
+    @Override
+    public Void call() throws Exception {
+      FileInputStream fis = null;
+      try {
+        fis = new FileInputStream(file);
+        Reader reader = openStream(fis, stream.offset, end);
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        SAXParser parser = factory.newSAXParser();
+        DumpHandler dh = new DumpHandler();
+        dh.setPageProcessor(pageProcessor);
+        dh.setStartPageId(startPageId);
+        parser.parse(new InputSource(reader), dh);
+        streamCompleted(stream);
+      } finally {
+        if (fis != null) {
+          try {
+            fis.close();
+          } catch (IOException e) {
+            log.error("Error closing dump file", e);
+          }
+        }
+      }
+      return null;
+    }
+  }
 }
@@ -0,0 +1,432 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+
+package org.wikipediacleaner.api.dump;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Compact graph of the internal links between pages.
+ *
+ * <p>Each title is given an integer id, and the links are stored as
+ * adjacency arrays in compressed sparse row format: the links of the
+ * page with id <code>i</code> are the ids between
+ * <code>offsets[i]</code> and <code>offsets[i + 1]</code>.</p>
+ *
+ * <p>Pages are added in any order while the graph is built,
+ * the arrays are compacted the first time the graph is queried.</p>
+ */
+public class LinkGraph {
+
+  /** Version of the file format */
+  private final static int VERSION = 1;
+
+  /** Title ids, by title */
+  private final Map<String, Integer> titleIds;
+
+  /** Titles, by title id */
+  private final List<String> titles;
+
+  /** Title ids of pages which are redirects */
+  private final BitSet redirects;
+
+  /** Title ids of pages whose links are known */
+  private final BitSet knownPages;
+
+  /** Pages added since the last compaction, in the order they were added */
+  private int[] addedPages;
+
+  /** Offsets of the links of each added page in <code>addedLinks</code> */
+  private int[] addedOffsets;
+
+  /** Links of the added pages */
+  private int[] addedLinks;
+
+  /** Number of pages added since the last compaction */
+  private int addedCount;
+
+  /** Offsets of the links of each title id (compacted graph) */
+  private int[] offsets;
+
+  /** Links (compacted graph) */
+  private int[] links;
+
+  /**
+   * Create an empty graph.
+   */
+  public LinkGraph() {
+    this.titleIds = new HashMap<>();
+    this.titles = new ArrayList<>();
+    this.redirects = new BitSet();
+    this.knownPages = new BitSet();
+    this.addedPages = new int[1024];
+    this.addedOffsets = new int[1025];
+    this.addedLinks = new int[16384];
+    this.addedCount = 0;
+    this.offsets = new int[1];
+    this.links = new int[0];
+  }
+
+  /**
+   * Add a page and its links to the graph.
+   *
+   * @param title Page title.
+   * @param pageLinks Titles of the pages linked from the page.
+   * @param redirect True if the page is a redirect to its single link.
+   */
+  public synchronized void addPage(String title, Collection<String> pageLinks, boolean redirect) {
+    if (title == null) {
+      return;
+    }
+    int pageId = getOrCreateId(title);
+    if (knownPages.get(pageId)) {
+      return;
+    }
+    knownPages.set(pageId);
+    redirects.set(pageId, redirect);
+    if (addedCount + 1 >= addedOffsets.length) {
+      addedPages = Arrays.copyOf(addedPages, addedPages.length * 2);
+      addedOffsets = Arrays.copyOf(addedOffsets, addedOffsets.length * 2);
+    }
+    int start = addedOffsets[addedCount];
+    int count = 0;
+    if (pageLinks != null) {
+      if (start + pageLinks.size() > addedLinks.length) {
+        addedLinks = Arrays.copyOf(
+            addedLinks, Math.max(addedLinks.length * 2, start + pageLinks.size()));
+      }
+      for (String link : pageLinks) {
+        if (link != null) {
+          addedLinks[start + count] = getOrCreateId(link);
+          count++;
+        }
+      }
+
+      // Remove duplicate links
+      Arrays.sort(addedLinks, start, start + count);
+      int unique = 0;
+      for (int i = 0; i < count; i++) {
+        if ((i == 0) || (addedLinks[start + i] != addedLinks[start + i - 1])) {
+          addedLinks[start + unique] = addedLinks[start + i];
+          unique++;
+        }
+      }
+      count = unique;
+    }
+    addedPages[addedCount] = pageId;
+    addedCount++;
+    addedOffsets[addedCount] = start + count;
+  }
+
+  /**
+   * @return Number of titles in the graph.
+   */
+  public synchronized int getTitlesCount() {
+    return titles.size();
+  }
+
+  /**
+   * @return Number of pages whose links are known.
+   */
+  public synchronized int getPagesCount() {
+    return knownPages.cardinality();
+  }
+
+  /**
+   * @param title Page title.
+   * @return True if the links of the page are known.
+   */
+  public synchronized boolean containsPage(String title) {
+    Integer id = (title != null) ? titleIds.get(title) : null;
+    return (id != null) && knownPages.get(id.intValue());
+  }
+
+  /**
+   * @param title Page title.
+   * @return True if the page is a redirect.
+   */
+  public synchronized boolean isRedirect(String title) {
+    Integer id = (title != null) ? titleIds.get(title) : null;
+    return (id != null) && redirects.get(id.intValue());
+  }
+
+  /**
+   * @param title Page title.
+   * @return Titles of the pages linked from the page (null if the page is unknown).
+   */
+  public synchronized List<String> getLinks(String title) {
+    Integer id = (title != null) ? titleIds.get(title) : null;
+    if ((id == null) || !knownPages.get(id.intValue())) {
+      return null;
+    }
+    compact();
+    int pageId = id.intValue();
+    List<String> result = new ArrayList<>(offsets[pageId + 1] - offsets[pageId]);
+    for (int i = offsets[pageId]; i < offsets[pageId + 1]; i++) {
+      result.add(titles.get(links[i]));
+    }
+    return result;
+  }
+
+  /**
+   * @param title Page title.
+   * @return Destination of the redirect (null if the page is not a redirect).
+   */
+  public synchronized String getRedirectDestination(String title) {
+    Integer id = (title != null) ? titleIds.get(title) : null;
+    if ((id == null) || !redirects.get(id.intValue())) {
+      return null;
+    }
+    compact();
+    int target = getRedirectTarget(id.intValue());
+    return (target >= 0) ? titles.get(target) : null;
+  }
+
+  /**
+   * Find the pages linking to some target pages, directly or through a redirect.
+   *
+   * @param targets Titles of the target pages (for example disambiguation pages).
+   * @return For each page linking to target pages, the titles of the targets.
+   */
+  public synchronized Map<String, List<String>> getPagesLinkingTo(Collection<String> targets) {
+    compact();
+    BitSet targetIds = resolveTargets(targets);
+    Map<String, List<String>> result = new TreeMap<>();
+    for (int pageId = 0; pageId < offsets.length - 1; pageId++) {
+      if (!redirects.get(pageId)) {
+        List<String> pageTargets = null;
+        for (int i = offsets[pageId]; i < offsets[pageId + 1]; i++) {
+          int target = resolveRedirect(links[i]);
+          if ((target >= 0) && targetIds.get(target)) {
+            if (pageTargets == null) {
+              pageTargets = new ArrayList<>();
+            }
+            String targetTitle = titles.get(target);
+            if (!pageTargets.contains(targetTitle)) {
+              pageTargets.add(targetTitle);
+            }
+          }
+        }
+        if (pageTargets != null) {
+          result.put(titles.get(pageId), pageTargets);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Count the pages linking to some target pages, directly or through a redirect.
+   *
+   * @param targets Titles of the target pages (for example disambiguation pages).
+   * @return For each target page with at least one backlink, the number of pages linking to it.
+   */
+  public synchronized Map<String, Integer> getBacklinkCounts(Collection<String> targets) {
+    compact();
+    BitSet targetIds = resolveTargets(targets);
+    int[] counts = new int[titles.size()];
+    BitSet pageTargets = new BitSet();
+    for (int pageId = 0; pageId < offsets.length - 1; pageId++) {
+      if (!redirects.get(pageId)) {
+        pageTargets.clear();
+        for (int i = offsets[pageId]; i < offsets[pageId + 1]; i++) {
+          int target = resolveRedirect(links[i]);
+          if ((target >= 0) && targetIds.get(target) && !pageTargets.get(target)) {
+            pageTargets.set(target);
+            counts[target]++;
+          }
+        }
+      }
+    }
+    Map<String, Integer> result = new TreeMap<>();
+    for (int target = targetIds.nextSetBit(0); target >= 0; target = targetIds.nextSetBit(target + 1)) {
+      if (counts[target] > 0) {
+        result.put(titles.get(target), Integer.valueOf(counts[target]));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Write the graph to a file.
+   *
+   * @param file File.
+   * @throws IOException Error writing the graph.
+   */
+  public synchronized void write(File file) throws IOException {
+    compact();
+    DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+        new GZIPOutputStream(new FileOutputStream(file, false))));
+    try {
+      dos.writeInt(VERSION);
+      dos.writeInt(titles.size());
+      for (String title : titles) {
+        dos.writeUTF(title);
+      }
+      for (int i = 0; i < titles.size(); i++) {
+        dos.writeByte((knownPages.get(i) ? 1 : 0) | (redirects.get(i) ? 2 : 0));
+        dos.writeInt(offsets[i + 1] - offsets[i]);
+        for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+          dos.writeInt(links[j]);
+        }
+      }
+    } finally {
+      dos.close();
+    }
+  }
+
+  /**
+   * Read a graph from a file.
+   *
+   * @param file File.
+   * @return Graph (null if the file doesn't exist).
+   * @throws IOException Error reading the graph.
+   */
+  public static LinkGraph read(File file) throws IOException {
+    if ((file == null) || !file.isFile()) {
+      return null;
+    }
+    DataInputStream dis = new DataInputStream(new BufferedInputStream(
+        new GZIPInputStream(new FileInputStream(file))));
+    try {
+      int version = dis.readInt();
+      if (version != VERSION) {
+        throw new IOException("Unknown link graph version " + version);
+      }
+      LinkGraph graph = new LinkGraph();
+      int nbTitles = dis.readInt();
+      for (int i = 0; i < nbTitles; i++) {
+        graph.getOrCreateId(dis.readUTF());
+      }
+      int[] tmpOffsets = new int[nbTitles + 1];
+      int[] tmpLinks = new int[1024];
+      for (int i = 0; i < nbTitles; i++) {
+        int flags = dis.readByte();
+        graph.knownPages.set(i, (flags & 1) != 0);
+        graph.redirects.set(i, (flags & 2) != 0);
+        int count = dis.readInt();
+        if (tmpOffsets[i] + count > tmpLinks.length) {
+          tmpLinks = Arrays.copyOf(tmpLinks, Math.max(tmpLinks.length * 2, tmpOffsets[i] + count));
+        }
+        for (int j = 0; j < count; j++) {
+          tmpLinks[tmpOffsets[i] + j] = dis.readInt();
+        }
+        tmpOffsets[i + 1] = tmpOffsets[i] + count;
+      }
+      graph.offsets = tmpOffsets;
+      graph.links = Arrays.copyOf(tmpLinks, tmpOffsets[nbTitles]);
+      return graph;
+    } finally {
+      dis.close();
+    }
+  }
+
+  /**
+   * @param title Title.
+   * @return Id of the title.
+   */
+  private int getOrCreateId(String title) {
+    Integer id = titleIds.get(title);
+    if (id == null) {
+      id = Integer.valueOf(titles.size());
+      titleIds.put(title, id);
+      titles.add(title);
+    }
+    return id.intValue();
+  }
+
+  /**
+   * Merge the pages added since the last compaction into the compacted graph.
+   */
+  private void compact() {
+    int nbTitles = titles.size();
+    if ((addedCount == 0) && (offsets.length == nbTitles + 1)) {
+      return;
+    }
+
+    // Count links of each page
+    int[] counts = new int[nbTitles];
+    for (int pageId = 0; pageId < offsets.length - 1; pageId++) {
+      counts[pageId] = offsets[pageId + 1] - offsets[pageId];
+    }
+    for (int i = 0; i < addedCount; i++) {
+      counts[addedPages[i]] = addedOffsets[i + 1] - addedOffsets[i];
+    }
+
+    // Compute offsets and copy links
+    int[] newOffsets = new int[nbTitles + 1];
+    for (int pageId = 0; pageId < nbTitles; pageId++) {
+      newOffsets[pageId + 1] = newOffsets[pageId] + counts[pageId];
+    }
+    int[] newLinks = new int[newOffsets[nbTitles]];
+    for (int pageId = 0; pageId < offsets.length - 1; pageId++) {
+      System.arraycopy(
+          links, offsets[pageId], newLinks, newOffsets[pageId],
+          offsets[pageId + 1] - offsets[pageId]);
+    }
+    for (int i = 0; i < addedCount; i++) {
+      System.arraycopy(
+          addedLinks, addedOffsets[i], newLinks, newOffsets[addedPages[i]],
+          addedOffsets[i + 1] - addedOffsets[i]);
+    }
+    offsets = newOffsets;
+    links = newLinks;
+    addedCount = 0;
+  }
+
+  /**
+   * @param targets Titles of the target pages.
+   * @return Ids of the target pages.
+   */
+  private BitSet resolveTargets(Collection<String> targets) {
+    BitSet result = new BitSet(titles.size());
+    if (targets != null) {
+      for (String target : targets) {
+        Integer id = (target != null) ? titleIds.get(target) : null;
+        if (id != null) {
+          result.set(id.intValue());
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param pageId Title id of a redirect.
+   * @return Title id of the destination of the redirect (-1 if not available).
+   */
+  private int getRedirectTarget(int pageId) {
+    return (offsets[pageId + 1] > offsets[pageId]) ? links[offsets[pageId]] : -1;
+  }
+
+  /**
+   * @param pageId Title id.
+   * @return Title id of the page when a redirect is followed (-1 if the redirect is broken).
+   */
+  private int resolveRedirect(int pageId) {
+    return redirects.get(pageId) ? getRedirectTarget(pageId) : pageId;
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+
+package org.wikipediacleaner.api.dump;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.wikipediacleaner.api.constants.EnumWikipedia;
+import org.wikipediacleaner.api.data.Interwiki;
+import org.wikipediacleaner.api.data.MagicWord;
+import org.wikipediacleaner.api.data.Namespace;
+import org.wikipediacleaner.api.data.Page;
+import org.wikipediacleaner.api.data.PageAnalysis;
+import org.wikipediacleaner.api.data.PageElementInternalLink;
+
+
+/**
+ * Page processor building a graph of the links between articles from a dump.
+ */
+public class LinkGraphBuilder implements PageProcessor {
+
+  /** Wiki */
+  private final EnumWikipedia wiki;
+
+  /** Graph being built */
+  private final LinkGraph graph;
+
+  /** Filter on articles */
+  private final PageFilter filter;
+
+  /** Magic word for redirects */
+  private final MagicWord redirect;
+
+  /** Name spaces of the wiki */
+  private final List<Namespace> namespaces;
+
+  /** Interwiki prefixes of the wiki, in lower case */
+  private final Set<String> interwikis;
+
+  /**
+   * @param wiki Wiki.
+   * @param graph Graph to be filled.
+   */
+  public LinkGraphBuilder(EnumWikipedia wiki, LinkGraph graph) {
+    this.wiki = wiki;
+    this.graph = graph;
+    this.filter = new NamespacePageFilter(Namespace.MAIN);
+    this.redirect = wiki.getWikiConfiguration().getMagicWordByName(MagicWord.REDIRECT);
+    this.namespaces = wiki.getWikiConfiguration().getNamespaces();
+    this.interwikis = new HashSet<>();
+    List<Interwiki> tmpInterwikis = wiki.getWikiConfiguration().getInterwikis();
+    if (tmpInterwikis != null) {
+      for (Interwiki interwiki : tmpInterwikis) {
+        if (interwiki.getPrefix() != null) {
+          interwikis.add(interwiki.getPrefix().toLowerCase());
+        }
+      }
+    }
+  }
+
+  /**
+   * Build the graph of the links between articles from a dump.
+   *
+   * @param wiki Wiki.
+   * @param dumpFile File containing the wiki dump.
+   * @return Graph of the links between articles.
+   */
+  public static LinkGraph build(EnumWikipedia wiki, File dumpFile) {
+    LinkGraph graph = new LinkGraph();
+    DumpProcessor processor = new DumpProcessor(new LinkGraphBuilder(wiki, graph));
+    processor.processDump(dumpFile);
+    return graph;
+  }
+
+  /**
+   * @return Wiki.
+   * @see org.wikipediacleaner.api.dump.PageProcessor#getWiki()
+   */
+  @Override
+  public EnumWikipedia getWiki() {
+    return wiki;
+  }
+
+  /**
+   * @return Filter on articles.
+   * @see org.wikipediacleaner.api.dump.PageProcessor#getPageFilter()
+   */
+  @Override
+  public PageFilter getPageFilter() {
+    return filter;
+  }
+
+  /**
+   * @param page Page.
+   * @see org.wikipediacleaner.api.dump.PageProcessor#processPage(org.wikipediacleaner.api.data.Page)
+   */
+  @Override
+  public void processPage(Page page) {
+    if ((page == null) || (page.getContents() == null)) {
+      return;
+    }
+    PageAnalysis analysis = page.getAnalysis(page.getContents(), false);
+    List<PageElementInternalLink> internalLinks = analysis.getInternalLinks();
+    boolean isRedirect = isRedirect(page.getContents());
+    List<String> links = new ArrayList<>(internalLinks.size());
+    for (PageElementInternalLink internalLink : internalLinks) {
+      String link = internalLink.getLink();
+      if ((link != null) && (link.length() > 0) && isInMainNamespace(link)) {
+        links.add(link);
+        if (isRedirect) {
+          break;
+        }
+      }
+    }
+    graph.addPage(page.getTitle(), links, isRedirect);
+  }
+
+  /**
+   * @param contents Page contents.
+   * @return True if the page is a redirect.
+   */
+  private boolean isRedirect(String contents) {
+    if (redirect == null) {
+      return false;
+    }
+    int beginIndex = 0;
+    while ((beginIndex < contents.length()) &&
+           Character.isWhitespace(contents.charAt(beginIndex))) {
+      beginIndex++;
+    }
+    if ((beginIndex >= contents.length()) || (contents.charAt(beginIndex) != '#')) {
+      return false;
+    }
+    int endIndex = contents.indexOf('[', beginIndex);
+    if (endIndex < 0) {
+      return false;
+    }
+    String text = contents.substring(beginIndex, endIndex).trim();
+    if (text.endsWith(":")) {
+      text = text.substring(0, text.length() - 1).trim();
+    }
+    return redirect.isPossibleAlias(text);
+  }
+
+  /**
+   * @param title Page title.
+   * @return True if the page is in the main name space of the wiki (not an interwiki).
+   */
+  private boolean isInMainNamespace(String title) {
+    int colonIndex = title.indexOf(':');
+    if (colonIndex <= 0) {
+      return true;
+    }
+    String prefix = title.substring(0, colonIndex).trim();
+    if (interwikis.contains(prefix.toLowerCase())) {
+      return false;
+    }
+    if (namespaces == null) {
+      return true;
+    }
+    Namespace namespace = wiki.getWikiConfiguration().getNamespaceByName(prefix);
+    return (namespace == null) || Integer.valueOf(Namespace.MAIN).equals(namespace.getId());
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+
+package org.wikipediacleaner.api.dump;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * Filter accepting pages from a set of name spaces.
+ */
+public class NamespacePageFilter implements PageFilter {
+
+  /** Accepted name spaces */
+  private final Set<Integer> namespaces;
+
+  /**
+   * @param namespaces Accepted name spaces.
+   */
+  public NamespacePageFilter(Collection<Integer> namespaces) {
+    this.namespaces = new HashSet<>(namespaces);
+  }
+
+  /**
+   * @param namespace Accepted name space.
+   */
+  public NamespacePageFilter(int namespace) {
+    this.namespaces = new HashSet<>();
+    this.namespaces.add(Integer.valueOf(namespace));
+  }
+
+  /**
+   * @param namespace Name space of the page (may be null if unknown).
+   * @param title Title of the page.
+   * @return True if the page is in one of the accepted name spaces.
+   * @see org.wikipediacleaner.api.dump.PageFilter#accept(java.lang.Integer, java.lang.String)
+   */
+  @Override
+  public boolean accept(Integer namespace, String title) {
+    return (namespace != null) && namespaces.contains(namespace);
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+
+package org.wikipediacleaner.api.dump;
+
+
+/**
+ * Interface to select pages from dumps before their text is read.
+ */
+public interface PageFilter {
+
+  /**
+   * Tell if a page should be processed.
+   * 
+   * @param namespace Name space of the page (may be null if unknown).
+   * @param title Title of the page.
+   * @return True if the page should be processed.
+   */
+  public boolean accept(Integer namespace, String title);
+}
@@ -56,9 +56,21 @@ public class PageHandler extends DefaultHandler {
   /** Revision text */
   private StringBuilder revisionText;
 
+  /** True when the current page has been rejected by the filter */
+  private boolean isSkippedPage;
+
   /** Page processor */
   private PageProcessor processor;
 
+  /** Filter to select pages */
+  private PageFilter filter;
+
+  /** Pages with an id lower or equal are skipped */
+  private Integer startPageId;
+
+  /** Id of the last page completely processed */
+  private volatile Integer lastPageId;
+
   /**
    * Constructor.
    */
@@ -77,6 +89,21 @@ public class PageHandler extends DefaultHandler {
    */
   public void setPageProcessor(PageProcessor processor) {
     this.processor = processor;
+    this.filter = (processor != null) ? processor.getPageFilter() : null;
+  }
+
+  /**
+   * @param pageId Pages with an id lower or equal are skipped (null to process all pages).
+   */
+  public void setStartPageId(Integer pageId) {
+    this.startPageId = pageId;
+  }
+
+  /**
+   * @return Id of the last page completely processed.
+   */
+  public Integer getLastPageId() {
+    return lastPageId;
   }
 
   /**
@@ -105,7 +132,7 @@ public class PageHandler extends DefaultHandler {
           isInRevisionId = true;
           revisionId.setLength(0);
         } else if (qName.equals("text")) {
-          isInRevisionText = true;
+          isInRevisionText = !isSkippedPage;
           revisionText.setLength(0);
         }
       } else if (qName.equalsIgnoreCase("title")) {
@@ -149,7 +176,7 @@ public class PageHandler extends DefaultHandler {
   public void endElement(String uri, String localName, String qName) throws SAXException {
     if (isInPage) {
       if (qName.equalsIgnoreCase("page")) {
-        if (processor != null) {
+        if ((processor != null) && !isSkippedPage) {
           try {
             Page page = DataManager.getPage(
                 processor.getWiki(), title.toString(),
@@ -161,6 +188,14 @@ public class PageHandler extends DefaultHandler {
           } catch (NumberFormatException e) {
             System.err.println("Problem in endElement: " + e.getMessage());
           }
+          if (Thread.currentThread().isInterrupted()) {
+            throw new SAXException("Dump processing interrupted");
+          }
+        }
+        try {
+          lastPageId = Integer.valueOf(pageId.toString(), 10);
+        } catch (NumberFormatException e) {
+          // Nothing to do
         }
         isInPage = false;
         cleanPageInformation();
@@ -177,8 +212,26 @@ public class PageHandler extends DefaultHandler {
         isInTitle = false;
       } else if (qName.equalsIgnoreCase("ns")) {
         isInNamespace = false;
+        if (filter != null) {
+          Integer namespaceId = null;
+          try {
+            namespaceId = Integer.valueOf(namespace.toString().trim());
+          } catch (NumberFormatException e) {
+            // Nothing to do
+          }
+          isSkippedPage |= !filter.accept(namespaceId, title.toString());
+        }
       } else if (qName.equalsIgnoreCase("id")) {
         isInPageId = false;
+        if (startPageId != null) {
+          try {
+            if (Integer.parseInt(pageId.toString().trim()) <= startPageId.intValue()) {
+              isSkippedPage = true;
+            }
+          } catch (NumberFormatException e) {
+            // Nothing to do
+          }
+        }
       }
     }
   }
@@ -228,5 +281,6 @@ public class PageHandler extends DefaultHandler {
     revisionId.setLength(0);
     isInRevisionText = false;
     revisionText.setLength(0);
+    isSkippedPage = false;
   }
 }
@@ -22,6 +22,11 @@ public interface PageProcessor {
    */
   public EnumWikipedia getWiki();
 
+  /**
+   * @return Filter to select pages before their text is read (null to process all pages).
+   */
+  public PageFilter getPageFilter();
+
   /**
    * Process a page.
    * 
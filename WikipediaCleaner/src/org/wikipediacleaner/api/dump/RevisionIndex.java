@@ -0,0 +1,298 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+
+package org.wikipediacleaner.api.dump;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Persistent index of the revisions analyzed in a dump.
+ *
+ * <p>For each page, the index keeps the id of the last analyzed revision
+ * and the set of flags (for example error numbers) detected in it,
+ * so that a later analysis can skip pages that haven't changed.</p>
+ */
+public class RevisionIndex {
+
+  /** Version of the file format */
+  private final static int VERSION = 1;
+
+  /** Flags covered by the index */
+  private final BitSet coveredFlags;
+
+  /** Entries: page id in the high 32 bits, revision id in the low 32 bits */
+  private long[] entries;
+
+  /** Number of entries */
+  private int count;
+
+  /** True if entries are sorted by page id */
+  private boolean sorted;
+
+  /** Flags for pages having at least one flag, by page id */
+  private final Map<Integer, BitSet> flags;
+
+  /**
+   * @param coveredFlags Flags covered by the index.
+   */
+  public RevisionIndex(BitSet coveredFlags) {
+    this.coveredFlags = (BitSet) coveredFlags.clone();
+    this.entries = new long[1024];
+    this.count = 0;
+    this.sorted = true;
+    this.flags = new HashMap<>();
+  }
+
+  /**
+   * @return Flags covered by the index.
+   */
+  public BitSet getCoveredFlags() {
+    return (BitSet) coveredFlags.clone();
+  }
+
+  /**
+   * @param requestedFlags Flags.
+   * @return True if all the requested flags are covered by the index.
+   */
+  public boolean covers(BitSet requestedFlags) {
+    BitSet tmp = (BitSet) requestedFlags.clone();
+    tmp.andNot(coveredFlags);
+    return tmp.isEmpty();
+  }
+
+  /**
+   * @return Number of pages in the index.
+   */
+  public synchronized int size() {
+    return count;
+  }
+
+  /**
+   * Memorize the analysis of a page.
+   *
+   * @param pageId Page id.
+   * @param revisionId Revision id.
+   * @param pageFlags Flags detected in the revision (only covered flags are kept).
+   */
+  public synchronized void record(int pageId, int revisionId, BitSet pageFlags) {
+    if (count >= entries.length) {
+      entries = Arrays.copyOf(entries, entries.length * 2);
+    }
+    long entry = createEntry(pageId, revisionId);
+    if (sorted && (count > 0) && (entries[count - 1] > entry)) {
+      sorted = false;
+    }
+    entries[count] = entry;
+    count++;
+    Integer key = Integer.valueOf(pageId);
+    BitSet tmpFlags = null;
+    if (pageFlags != null) {
+      tmpFlags = (BitSet) pageFlags.clone();
+      tmpFlags.and(coveredFlags);
+    }
+    if ((tmpFlags != null) && !tmpFlags.isEmpty()) {
+      flags.put(key, tmpFlags);
+    } else {
+      flags.remove(key);
+    }
+  }
+
+  /**
+   * Retrieve the flags of a page if the same revision has already been analyzed.
+   *
+   * @param pageId Page id.
+   * @param revisionId Revision id.
+   * @return Flags detected in the revision (null if the revision hasn't been analyzed).
+   */
+  public synchronized BitSet getFlags(int pageId, int revisionId) {
+    int index = findPage(pageId);
+    if ((index < 0) || ((int) entries[index] != revisionId)) {
+      return null;
+    }
+    BitSet pageFlags = flags.get(Integer.valueOf(pageId));
+    return (pageFlags != null) ? (BitSet) pageFlags.clone() : new BitSet();
+  }
+
+  /**
+   * Add the pages of an other index which are not in this index.
+   *
+   * <p>Nothing is added if both indexes don't cover the same flags.</p>
+   *
+   * @param other Other index.
+   */
+  public synchronized void addMissingPages(RevisionIndex other) {
+    if ((other == null) || !coveredFlags.equals(other.coveredFlags)) {
+      return;
+    }
+    synchronized (other) {
+      sort();
+      int initialCount = count;
+      for (int i = 0; i < other.count; i++) {
+        int pageId = (int) (other.entries[i] >> 32);
+        if (findPage(pageId, initialCount) < 0) {
+          record(pageId, (int) other.entries[i], other.flags.get(Integer.valueOf(pageId)));
+        }
+      }
+    }
+  }
+
+  /**
+   * Write the index to a file.
+   *
+   * @param file File.
+   * @throws IOException Error writing the index.
+   */
+  public synchronized void write(File file) throws IOException {
+    sort();
+    DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+        new GZIPOutputStream(new FileOutputStream(file, false))));
+    try {
+      dos.writeInt(VERSION);
+      writeFlags(dos, coveredFlags);
+      dos.writeInt(count);
+      for (int i = 0; i < count; i++) {
+        dos.writeLong(entries[i]);
+      }
+      dos.writeInt(flags.size());
+      for (Map.Entry<Integer, BitSet> entry : flags.entrySet()) {
+        dos.writeInt(entry.getKey().intValue());
+        writeFlags(dos, entry.getValue());
+      }
+    } finally {
+      dos.close();
+    }
+  }
+
+  /**
+   * Read an index from a file.
+   *
+   * @param file File.
+   * @return Index (null if the file doesn't exist).
+   * @throws IOException Error reading the index.
+   */
+  public static RevisionIndex read(File file) throws IOException {
+    if ((file == null) || !file.isFile()) {
+      return null;
+    }
+    DataInputStream dis = new DataInputStream(new BufferedInputStream(
+        new GZIPInputStream(new FileInputStream(file))));
+    try {
+      int version = dis.readInt();
+      if (version != VERSION) {
+        throw new IOException("Unknown revision index version " + version);
+      }
+      RevisionIndex index = new RevisionIndex(readFlags(dis));
+      int nbEntries = dis.readInt();
+      index.entries = new long[Math.max(nbEntries, 1)];
+      for (int i = 0; i < nbEntries; i++) {
+        index.entries[i] = dis.readLong();
+      }
+      index.count = nbEntries;
+      index.sorted = false;
+      index.sort();
+      int nbFlags = dis.readInt();
+      for (int i = 0; i < nbFlags; i++) {
+        int pageId = dis.readInt();
+        index.flags.put(Integer.valueOf(pageId), readFlags(dis));
+      }
+      return index;
+    } finally {
+      dis.close();
+    }
+  }
+
+  /**
+   * @param pageId Page id.
+   * @param revisionId Revision id.
+   * @return Entry for the page and revision.
+   */
+  private static long createEntry(int pageId, int revisionId) {
+    return (((long) pageId) << 32) | (revisionId & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Sort entries by page id.
+   */
+  private void sort() {
+    if (!sorted) {
+      Arrays.sort(entries, 0, count);
+      sorted = true;
+    }
+  }
+
+  /**
+   * @param pageId Page id.
+   * @return Index of the entry for the page (-1 if not found).
+   */
+  private int findPage(int pageId) {
+    sort();
+    return findPage(pageId, count);
+  }
+
+  /**
+   * @param pageId Page id.
+   * @param limit Number of sorted entries to search.
+   * @return Index of the entry for the page (-1 if not found).
+   */
+  private int findPage(int pageId, int limit) {
+    int low = 0;
+    int high = limit - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int middleId = (int) (entries[middle] >> 32);
+      if (middleId < pageId) {
+        low = middle + 1;
+      } else if (middleId > pageId) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param dos Output stream.
+   * @param value Flags.
+   * @throws IOException Error writing the flags.
+   */
+  private static void writeFlags(DataOutputStream dos, BitSet value) throws IOException {
+    long[] words = value.toLongArray();
+    dos.writeShort(words.length);
+    for (long word : words) {
+      dos.writeLong(word);
+    }
+  }
+
+  /**
+   * @param dis Input stream.
+   * @return Flags.
+   * @throws IOException Error reading the flags.
+   */
+  private static BitSet readFlags(DataInputStream dis) throws IOException {
+    long[] words = new long[dis.readShort()];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = dis.readLong();
+    }
+    return BitSet.valueOf(words);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+
+package org.wikipediacleaner.api.dump;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * Filter accepting pages from a set of titles.
+ */
+public class TitlePageFilter implements PageFilter {
+
+  /** Accepted titles */
+  private final Set<String> titles;
+
+  /**
+   * @param titles Accepted titles.
+   */
+  public TitlePageFilter(Collection<String> titles) {
+    this.titles = new HashSet<>(titles);
+  }
+
+  /**
+   * @param namespace Name space of the page (may be null if unknown).
+   * @param title Title of the page.
+   * @return True if the page has one of the accepted titles.
+   * @see org.wikipediacleaner.api.dump.PageFilter#accept(java.lang.Integer, java.lang.String)
+   */
+  @Override
+  public boolean accept(Integer namespace, String title) {
+    return (title != null) && titles.contains(title);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.execution;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+
+/**
+ * A bounded queue of tasks executed by a fixed pool of worker threads.
+ *
+ * <p>Producers are blocked when the queue is full, so that the number of
+ * pending tasks (and the memory they hold) stays bounded.</p>
+ */
+public class BlockingTaskQueue {
+
+  /** Logger */
+  private final static Log log = LogFactory.getLog(BlockingTaskQueue.class);
+
+  /** Marker telling a worker thread to stop */
+  private final static Callable<Object> END_MARKER = new Callable<Object>() {
+
+    @Override
+    public Object call() {
+      return null;
+    }
+  };
+
+  /** Pending tasks */
+  private final BlockingQueue<Callable<?>> tasks;
+
+  /** Worker threads */
+  private final Thread[] workers;
+
+  /** Latch counted down by each worker thread when it stops */
+  private final CountDownLatch done;
+
+  /** True when no more tasks will be added */
+  private boolean finished;
+
+  /**
+   * Create a queue of tasks and start its worker threads.
+   *
+   * @param name Name of the worker threads.
+   * @param nbThreads Number of worker threads.
+   * @param capacity Maximum number of pending tasks.
+   */
+  public BlockingTaskQueue(String name, int nbThreads, int capacity) {
+    nbThreads = Math.max(nbThreads, 1);
+    this.tasks = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+    this.workers = new Thread[nbThreads];
+    this.done = new CountDownLatch(nbThreads);
+    this.finished = false;
+    for (int i = 0; i < nbThreads; i++) {
+      workers[i] = new Thread(new Worker(), name + "-" + i);
+      workers[i].setDaemon(true);
+      workers[i].start();
+    }
+  }
+
+  /**
+   * Add a task, waiting for free space in the queue if necessary.
+   *
+   * @param task Task to be executed.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  public void addTask(Callable<?> task) throws InterruptedException {
+    if (task == null) {
+      return;
+    }
+    synchronized (this) {
+      if (finished) {
+        throw new IllegalStateException("No more tasks can be added");
+      }
+    }
+    tasks.put(task);
+  }
+
+  /**
+   * Signal that no more tasks will be added and wait for all tasks to be completed.
+   *
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  public void finish() throws InterruptedException {
+    synchronized (this) {
+      if (!finished) {
+        finished = true;
+        for (int i = 0; i < workers.length; i++) {
+          tasks.put(END_MARKER);
+        }
+      }
+    }
+    done.await();
+  }
+
+  /**
+   * @return Number of pending tasks.
+   */
+  public int getPendingTasksCount() {
+    return tasks.size();
+  }
+
+  /**
+   * Worker thread executing tasks from the queue.
+   */
+  private class Worker implements Runnable {
+
+    /**
+     * Execute tasks until the end marker is found.
+     *
+     * @see java.lang.Runnable#run()
+     */
+    @Override
+    public void run() {
+      try {
+        while (true) {
+          Callable<?> task = tasks.take();
+          if (task == END_MARKER) {
+            return;
+          }
+          try {
+            task.call();
+          } catch (Throwable e) {
+            // Errors (StackOverflowError, ...) are also caught to keep the worker alive
+            log.error("Error executing task", e);
+          }
+        }
+      } catch (InterruptedException e) {
+        log.warn("Worker thread interrupted");
+      } finally {
+        done.countDown();
+      }
+    }
+  }
+}
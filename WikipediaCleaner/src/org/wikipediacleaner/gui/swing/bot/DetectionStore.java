@@ -0,0 +1,473 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.gui.swing.bot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+
+/**
+ * Store for detections, spilling sorted runs of detections to disk.
+ *
+ * <p>Detections are kept in memory until a limit is reached, they are then
+ * sorted and written to a temporary run file. Iterating over the store
+ * merges the runs and the detections still in memory, so that the memory
+ * used doesn't depend on the number of detections. When there are too many
+ * runs to be merged at once, they are first merged by groups into bigger
+ * runs, so that the number of files opened at once stays bounded.</p>
+ */
+class DetectionStore {
+
+  /**
+   * Iterator on detections, which must be closed to release the run files.
+   */
+  static interface DetectionIterator extends Iterator<ListCWWorker.Detection>, Closeable {
+    // Nothing more
+  }
+
+  /**
+   * Error reading detections from a run file while iterating.
+   */
+  static class ReadException extends RuntimeException {
+
+    /**
+     * Serialization.
+     */
+    private static final long serialVersionUID = 7428302218641032771L;
+
+    /**
+     * @param cause Error reading the run file.
+     */
+    ReadException(IOException cause) {
+      super(cause);
+    }
+
+    /**
+     * @return Error reading the run file.
+     * @see java.lang.Throwable#getCause()
+     */
+    @Override
+    public synchronized IOException getCause() {
+      return (IOException) super.getCause();
+    }
+  }
+
+  /** Logger */
+  private final static Log log = LogFactory.getLog(DetectionStore.class);
+
+  /** Maximum number of detections kept in memory */
+  private final static int MAX_IN_MEMORY = 10000;
+
+  /** Maximum number of run files merged at once */
+  private final static int MAX_FAN_IN = 64;
+
+  /** Prefix for the names of the run files */
+  private final String prefix;
+
+  /** Detections not yet written to a run file */
+  private List<ListCWWorker.Detection> buffer;
+
+  /** Run files */
+  private final List<File> runs;
+
+  /** Number of distinct detections (-1 if not computed since the last detection was added) */
+  private int count;
+
+  /**
+   * @param prefix Prefix for the names of the run files.
+   */
+  DetectionStore(String prefix) {
+    this.prefix = prefix;
+    this.buffer = new ArrayList<>();
+    this.runs = new ArrayList<>();
+    this.count = 0;
+  }
+
+  /**
+   * Add a detection.
+   *
+   * @param detection Detection.
+   */
+  synchronized void add(ListCWWorker.Detection detection) {
+    if (detection == null) {
+      return;
+    }
+    buffer.add(detection);
+    count = -1;
+    if (buffer.size() >= MAX_IN_MEMORY) {
+      try {
+        writeRun();
+      } catch (IOException e) {
+        log.error("Unable to write detections to disk, keeping them in memory", e);
+      }
+    }
+  }
+
+  /**
+   * @return Number of distinct detections.
+   */
+  synchronized int size() {
+    if (count < 0) {
+      int tmpCount = 0;
+      DetectionIterator itDetections = null;
+      try {
+        itDetections = iterator();
+        while (itDetections.hasNext()) {
+          itDetections.next();
+          tmpCount++;
+        }
+        count = tmpCount;
+      } catch (IOException e) {
+        log.error("Unable to count detections", e);
+        return tmpCount;
+      } catch (ReadException e) {
+        log.error("Unable to count detections", e.getCause());
+        return tmpCount;
+      } finally {
+        close(itDetections);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return Iterator on all detections, sorted and without duplicates.
+   *         It must be closed when it's not used any more.
+   *         Its methods throw a {@link ReadException} if a run file can't be read.
+   * @throws IOException Error reading the run files.
+   */
+  synchronized DetectionIterator iterator() throws IOException {
+    while (runs.size() > MAX_FAN_IN) {
+      mergeRuns();
+    }
+    List<ListCWWorker.Detection> tmpBuffer = new ArrayList<>(buffer);
+    Collections.sort(tmpBuffer);
+    return new MergeIterator(new ArrayList<>(runs), tmpBuffer);
+  }
+
+  /**
+   * @param itDetections Iterator on detections (may be null).
+   */
+  static void close(DetectionIterator itDetections) {
+    if (itDetections != null) {
+      try {
+        itDetections.close();
+      } catch (IOException e) {
+        log.warn("Unable to close detections", e);
+      }
+    }
+  }
+
+  /**
+   * Delete the run files and the detections in memory.
+   * Only the number of distinct detections is kept.
+   */
+  synchronized void release() {
+    size();
+    for (File run : runs) {
+      if (!run.delete()) {
+        log.warn("Unable to delete " + run.getAbsolutePath());
+      }
+    }
+    runs.clear();
+    buffer = new ArrayList<>();
+  }
+
+  /**
+   * Sort the detections in memory and write them to a new run file.
+   *
+   * @throws IOException Error writing the run file.
+   */
+  private void writeRun() throws IOException {
+    Collections.sort(buffer);
+    runs.add(writeRun(buffer.iterator()));
+    buffer = new ArrayList<>();
+  }
+
+  /**
+   * Write sorted detections to a new run file.
+   *
+   * <p>Each detection is preceded by a boolean set to true,
+   * and the run ends with a boolean set to false.</p>
+   *
+   * @param detections Sorted detections.
+   * @return Run file.
+   * @throws IOException Error writing the run file.
+   */
+  private File writeRun(Iterator<ListCWWorker.Detection> detections) throws IOException {
+    File run = File.createTempFile(prefix, ".run");
+    run.deleteOnExit();
+    boolean ok = false;
+    DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+        new FileOutputStream(run, false)));
+    try {
+      while (detections.hasNext()) {
+        dos.writeBoolean(true);
+        detections.next().write(dos);
+      }
+      dos.writeBoolean(false);
+      ok = true;
+    } finally {
+      dos.close();
+      if (!ok && !run.delete()) {
+        log.warn("Unable to delete " + run.getAbsolutePath());
+      }
+    }
+    return run;
+  }
+
+  /**
+   * Merge the run files by groups of {@link #MAX_FAN_IN} runs.
+   *
+   * @throws IOException Error reading or writing the run files.
+   */
+  private void mergeRuns() throws IOException {
+    int index = 0;
+    while (index < runs.size()) {
+      int end = Math.min(index + MAX_FAN_IN, runs.size());
+      if (end - index > 1) {
+        List<File> group = new ArrayList<>(runs.subList(index, end));
+        MergeIterator itDetections = new MergeIterator(
+            group, Collections.<ListCWWorker.Detection>emptyList());
+        File run = null;
+        try {
+          run = writeRun(itDetections);
+        } catch (ReadException e) {
+          throw e.getCause();
+        } finally {
+          itDetections.close();
+        }
+        runs.subList(index, end).clear();
+        runs.add(index, run);
+        for (File oldRun : group) {
+          if (!oldRun.delete()) {
+            log.warn("Unable to delete " + oldRun.getAbsolutePath());
+          }
+        }
+      }
+      index++;
+    }
+  }
+
+  /**
+   * Source of sorted detections: either a run file or a list in memory.
+   */
+  private static class Source implements Comparable<Source> {
+
+    /** Input stream for a run file */
+    private final DataInputStream dis;
+
+    /** Iterator for a list in memory */
+    private final Iterator<ListCWWorker.Detection> iterator;
+
+    /** Current detection */
+    ListCWWorker.Detection current;
+
+    /**
+     * @param run Run file.
+     * @throws IOException Error reading the run file.
+     */
+    Source(File run) throws IOException {
+      this.dis = new DataInputStream(new BufferedInputStream(new FileInputStream(run)));
+      this.iterator = null;
+    }
+
+    /**
+     * @param detections Sorted list of detections.
+     */
+    Source(List<ListCWWorker.Detection> detections) {
+      this.dis = null;
+      this.iterator = detections.iterator();
+    }
+
+    /**
+     * Move to the next detection.
+     *
+     * @return True if a detection is available.
+     * @throws IOException Error reading the run file.
+     */
+    boolean advance() throws IOException {
+      if (iterator != null) {
+        current = iterator.hasNext() ? iterator.next() : null;
+      } else if (dis.readBoolean()) {
+        current = ListCWWorker.Detection.read(dis);
+      } else {
+        current = null;
+        dis.close();
+      }
+      return (current != null);
+    }
+
+    /**
+     * Release the run file.
+     *
+     * @throws IOException Error closing the run file.
+     */
+    void close() throws IOException {
+      current = null;
+      if (dis != null) {
+        dis.close();
+      }
+    }
+
+    /**
+     * @param o Other source.
+     * @return Comparison of the current detections.
+     * @see java.lang.Comparable#compareTo(java.lang.Object)
+     */
+    @Override
+    public int compareTo(Source o) {
+      return current.compareTo(o.current);
+    }
+  }
+
+  /**
+   * Iterator merging several sorted sources of detections.
+   */
+  private static class MergeIterator implements DetectionIterator {
+
+    /** Sources with an available detection */
+    private final PriorityQueue<Source> sources;
+
+    /** Last detection returned */
+    private ListCWWorker.Detection last;
+
+    /**
+     * @param runs Run files.
+     * @param detections Sorted list of detections in memory.
+     * @throws IOException Error reading the run files.
+     */
+    MergeIterator(List<File> runs, List<ListCWWorker.Detection> detections) throws IOException {
+      this.sources = new PriorityQueue<>(runs.size() + 1);
+      try {
+        for (File run : runs) {
+          Source source = new Source(run);
+          try {
+            if (source.advance()) {
+              sources.add(source);
+            }
+          } catch (IOException e) {
+            source.close();
+            throw e;
+          }
+        }
+      } catch (IOException e) {
+        close();
+        throw e;
+      }
+      Source source = new Source(detections);
+      if (source.advance()) {
+        sources.add(source);
+      }
+      skipDuplicates();
+    }
+
+    /**
+     * @return True if there are more detections.
+     * @see java.util.Iterator#hasNext()
+     */
+    @Override
+    public boolean hasNext() {
+      return !sources.isEmpty();
+    }
+
+    /**
+     * @return Next detection.
+     * @see java.util.Iterator#next()
+     */
+    @Override
+    public ListCWWorker.Detection next() {
+      Source source = sources.poll();
+      if (source == null) {
+        throw new NoSuchElementException();
+      }
+      last = source.current;
+      advance(source);
+      skipDuplicates();
+      return last;
+    }
+
+    /**
+     * @see java.util.Iterator#remove()
+     */
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Release the run files which haven't been completely read.
+     *
+     * @throws IOException Error closing a run file.
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+      IOException exception = null;
+      for (Source source : sources) {
+        try {
+          source.close();
+        } catch (IOException e) {
+          exception = e;
+        }
+      }
+      sources.clear();
+      if (exception != null) {
+        throw exception;
+      }
+    }
+
+    /**
+     * Move a source to its next detection.
+     *
+     * @param source Source.
+     * @throws ReadException Error reading the run file.
+     */
+    private void advance(Source source) {
+      try {
+        if (source.advance()) {
+          sources.add(source);
+        }
+      } catch (IOException e) {
+        try {
+          source.close();
+          close();
+        } catch (IOException e2) {
+          log.warn("Unable to close detections", e2);
+        }
+        throw new ReadException(e);
+      }
+    }
+
+    /**
+     * Skip detections identical to the last one returned.
+     */
+    private void skipDuplicates() {
+      while ((last != null) && !sources.isEmpty() &&
+             (sources.peek().current.compareTo(last) == 0)) {
+        advance(sources.poll());
+      }
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.gui.swing.bot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Checkpoint of a dump analysis, allowing to resume an interrupted analysis.
+ */
+class ListCWCheckpoint {
+
+  /** Version of the file format */
+  private final static int VERSION = 3;
+
+  /** Name of the dump file */
+  final String dumpName;
+
+  /** All pages with a lower or equal id have been analyzed */
+  final int pageId;
+
+  /** Ids of pages with a greater id which have also been analyzed */
+  final List<Integer> finishedPages;
+
+  /** Count of pages analyzed */
+  final int countAnalyzed;
+
+  /** Count of pages found with errors */
+  final int countDetections;
+
+  /** Detections for each algorithm, by error number */
+  final Map<Integer, DetectionStore> detections;
+
+  /**
+   * @param dumpName Name of the dump file.
+   * @param pageId All pages with a lower or equal id have been analyzed.
+   * @param finishedPages Ids of pages with a greater id which have also been analyzed.
+   * @param countAnalyzed Count of pages analyzed.
+   * @param countDetections Count of pages found with errors.
+   * @param detections Detections for each algorithm, by error number.
+   */
+  private ListCWCheckpoint(
+      String dumpName, int pageId, List<Integer> finishedPages,
+      int countAnalyzed, int countDetections,
+      Map<Integer, DetectionStore> detections) {
+    this.dumpName = dumpName;
+    this.pageId = pageId;
+    this.finishedPages = finishedPages;
+    this.countAnalyzed = countAnalyzed;
+    this.countDetections = countDetections;
+    this.detections = detections;
+  }
+
+  /**
+   * Write a checkpoint.
+   *
+   * <p>The checkpoint is first written to a temporary file, which then replaces
+   * the previous checkpoint, so that an interruption during the writing
+   * doesn't lose the previous checkpoint.</p>
+   *
+   * @param file File in which the checkpoint is written.
+   * @param dumpName Name of the dump file.
+   * @param pageId All pages with a lower or equal id have been analyzed.
+   * @param finishedPages Ids of pages with a greater id which have also been analyzed.
+   * @param countAnalyzed Count of pages analyzed.
+   * @param countDetections Count of pages found with errors.
+   * @param algorithms Information about processing for each algorithm.
+   * @throws IOException Error writing the checkpoint.
+   */
+  static void write(
+      File file, String dumpName, int pageId, List<Integer> finishedPages,
+      int countAnalyzed, int countDetections,
+      List<ListCWWorker.AlgorithmInformation> algorithms) throws IOException {
+    File tmpFile = new File(file.getAbsolutePath() + ".tmp");
+    DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+        new GZIPOutputStream(new FileOutputStream(tmpFile, false))));
+    try {
+      dos.writeInt(VERSION);
+      dos.writeUTF(dumpName);
+      dos.writeInt(pageId);
+      dos.writeInt(finishedPages.size());
+      for (Integer finishedPage : finishedPages) {
+        dos.writeInt(finishedPage.intValue());
+      }
+      dos.writeInt(countAnalyzed);
+      dos.writeInt(countDetections);
+      dos.writeInt(algorithms.size());
+      for (ListCWWorker.AlgorithmInformation algorithm : algorithms) {
+        dos.writeInt(algorithm.algorithm.getErrorNumber());
+        DetectionStore.DetectionIterator itDetections = algorithm.getDetections().iterator();
+        try {
+          while (itDetections.hasNext()) {
+            dos.writeBoolean(true);
+            itDetections.next().write(dos);
+          }
+        } finally {
+          DetectionStore.close(itDetections);
+        }
+        dos.writeBoolean(false);
+      }
+    } finally {
+      dos.close();
+    }
+    if (file.exists() && !file.delete()) {
+      throw new IOException("Unable to replace checkpoint file " + file.getAbsolutePath());
+    }
+    if (!tmpFile.renameTo(file)) {
+      throw new IOException("Unable to rename checkpoint file " + tmpFile.getAbsolutePath());
+    }
+  }
+
+  /**
+   * Read a checkpoint.
+   *
+   * @param file File from which the checkpoint is read.
+   * @return Checkpoint (null if the file doesn't exist).
+   * @throws IOException Error reading the checkpoint.
+   */
+  static ListCWCheckpoint read(File file) throws IOException {
+    if ((file == null) || !file.isFile()) {
+      return null;
+    }
+    DataInputStream dis = new DataInputStream(new BufferedInputStream(
+        new GZIPInputStream(new FileInputStream(file))));
+    try {
+      int version = dis.readInt();
+      if (version != VERSION) {
+        throw new IOException("Unknown checkpoint version " + version);
+      }
+      String dumpName = dis.readUTF();
+      int pageId = dis.readInt();
+      int nbFinishedPages = dis.readInt();
+      List<Integer> finishedPages = new ArrayList<>(nbFinishedPages);
+      for (int i = 0; i < nbFinishedPages; i++) {
+        finishedPages.add(Integer.valueOf(dis.readInt()));
+      }
+      int countAnalyzed = dis.readInt();
+      int countDetections = dis.readInt();
+      Map<Integer, DetectionStore> detections = new HashMap<>();
+      int nbAlgorithms = dis.readInt();
+      for (int i = 0; i < nbAlgorithms; i++) {
+        int errorNumber = dis.readInt();
+        DetectionStore tmpDetections = new DetectionStore("WPCleaner_CP_" + errorNumber + "_");
+        while (dis.readBoolean()) {
+          tmpDetections.add(ListCWWorker.Detection.read(dis));
+        }
+        detections.put(Integer.valueOf(errorNumber), tmpDetections);
+      }
+      return new ListCWCheckpoint(
+          dumpName, pageId, finishedPages, countAnalyzed, countDetections, detections);
+    } finally {
+      dis.close();
+    }
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.gui.swing.bot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
+import org.wikipediacleaner.api.data.PageElementInternalLink;
+
+
+/**
+ * Builder for the report of a dump analysis.
+ *
+ * <p>The size in bytes of each line is memorized, so that the largest part
+ * of the report fitting in a given size can be found in a single pass.</p>
+ */
+class ListCWReport {
+
+  /** Characters escaped in notices, sorted */
+  private final static char[] ESCAPED_CHARS = {
+    '\n', '<', '\u007F', '\u00A0', '\u00AD',
+    '\u2004', '\u2005', '\u2006', '\u2007', '\u2008',
+    '\u200B', '\u200E', '\u2028', '\u202A', '\u202C',
+    '\uFEFF',
+  };
+
+  /** Replacements for escaped characters, in the same order */
+  private final static String[] ESCAPED_VALUES = {
+    "\u21b5", // Replace \n by a visual character
+    "&lt;", // Replace "<" by its HTML element
+    "[DEL]", // Replace control characters by visible text
+    "[NBSP]", "[SHY]",
+    "[3EM]", "[4EM]", "[6EM]", "[FS]", "[PS]",
+    "[0WS]", "[LRM]", "[LS]", "[LRE]", "[POPD]",
+    "[BOM]",
+  };
+
+  /** Header of the report */
+  private final String header;
+
+  /** Size in bytes of the header */
+  private final long headerSize;
+
+  /** Lines of the report */
+  private final List<String> lines;
+
+  /** Cumulated size in bytes of the lines */
+  private long[] cumulatedSizes;
+
+  /** Error level of the last detection */
+  private ErrorLevel lastLevel;
+
+  /** Buffer for formatting a line */
+  private final StringBuilder line;
+
+  /**
+   * @param header Header of the report.
+   */
+  ListCWReport(String header) {
+    this.header = header;
+    this.headerSize = getSize(header);
+    this.lines = new ArrayList<>();
+    this.cumulatedSizes = new long[16];
+    this.lastLevel = null;
+    this.line = new StringBuilder();
+  }
+
+  /**
+   * Add a detection to the report.
+   *
+   * @param detection Detection.
+   */
+  void addDetection(ListCWWorker.Detection detection) {
+    line.setLength(0);
+    lastLevel = appendDetection(line, detection, lastLevel);
+    String value = line.toString();
+    int count = lines.size();
+    if (count >= cumulatedSizes.length) {
+      cumulatedSizes = Arrays.copyOf(cumulatedSizes, cumulatedSizes.length * 2);
+    }
+    cumulatedSizes[count] = getSize(value) + ((count > 0) ? cumulatedSizes[count - 1] : headerSize);
+    lines.add(value);
+  }
+
+  /**
+   * @return Number of lines in the report.
+   */
+  int getLinesCount() {
+    return lines.size();
+  }
+
+  /**
+   * @return Size in bytes of the full report.
+   */
+  long getSize() {
+    return lines.isEmpty() ? headerSize : cumulatedSizes[lines.size() - 1];
+  }
+
+  /**
+   * @param maxSize Maximum size in bytes.
+   * @return Largest number of lines so that the report fits in the maximum size.
+   */
+  int getLinesFitting(long maxSize) {
+    int count = lines.size();
+    if ((count == 0) || (cumulatedSizes[count - 1] <= maxSize)) {
+      return count;
+    }
+    int index = Arrays.binarySearch(cumulatedSizes, 0, count, maxSize);
+    return (index >= 0) ? index + 1 : -index - 1;
+  }
+
+  /**
+   * @param nbLines Number of lines.
+   * @return Report limited to the first lines.
+   */
+  String getText(int nbLines) {
+    nbLines = Math.min(nbLines, lines.size());
+    StringBuilder buffer = new StringBuilder(
+        (int) Math.min(Integer.MAX_VALUE, (nbLines > 0) ? cumulatedSizes[nbLines - 1] : headerSize));
+    buffer.append(header);
+    for (int i = 0; i < nbLines; i++) {
+      buffer.append(lines.get(i));
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Format a detection.
+   *
+   * @param buffer Buffer in which the detection is formatted.
+   * @param detection Detection.
+   * @param lastLevel Error level of the previous detection.
+   * @return Error level of the detection.
+   */
+  static ErrorLevel appendDetection(
+      StringBuilder buffer, ListCWWorker.Detection detection, ErrorLevel lastLevel) {
+    if ((detection.maxLevel != null) &&
+        !detection.maxLevel.equals(lastLevel)) {
+      lastLevel = detection.maxLevel;
+      buffer.append("<!-- ");
+      buffer.append(lastLevel.toString());
+      buffer.append(" -->\n");
+    }
+    buffer.append("* ");
+    buffer.append(PageElementInternalLink.createInternalLink(
+        detection.pageName, null));
+    buffer.append(": ");
+    if (detection.notices != null) {
+      boolean first = true;
+      for (String notice : detection.notices) {
+        if (!first) {
+          buffer.append(", ");
+        }
+        first = false;
+        buffer.append("<nowiki>");
+        appendEscaped(buffer, notice);
+        buffer.append("</nowiki>");
+      }
+    }
+    buffer.append("\n");
+    return lastLevel;
+  }
+
+  /**
+   * Append a notice, replacing invisible or special characters by visible text.
+   *
+   * @param buffer Buffer.
+   * @param notice Notice.
+   */
+  static void appendEscaped(StringBuilder buffer, String notice) {
+    int length = notice.length();
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      char c = notice.charAt(i);
+      if ((c == '\n') || (c == '<') || (c >= '\u007F')) {
+        int index = Arrays.binarySearch(ESCAPED_CHARS, c);
+        if (index >= 0) {
+          buffer.append(notice, start, i);
+          buffer.append(ESCAPED_VALUES[index]);
+          start = i + 1;
+        }
+      }
+    }
+    buffer.append(notice, start, length);
+  }
+
+  /**
+   * @param text Text.
+   * @return Size in bytes of the text encoded in UTF-8.
+   */
+  static long getSize(CharSequence text) {
+    long size = 0;
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (c < 0x80) {
+        size++;
+      } else if (c < 0x800) {
+        size += 2;
+      } else if (Character.isHighSurrogate(c) &&
+                 (i + 1 < length) && Character.isLowSurrogate(text.charAt(i + 1))) {
+        size += 4;
+        i++;
+      } else {
+        size += 3;
+      }
+    }
+    return size;
+  }
+}
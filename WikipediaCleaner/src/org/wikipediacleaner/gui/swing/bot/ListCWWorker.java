@@ -8,42 +8,61 @@
 package org.wikipediacleaner.gui.swing.bot;
 
 import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
-import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.wikipediacleaner.api.API;
 import org.wikipediacleaner.api.APIException;
 import org.wikipediacleaner.api.APIFactory;
-import org.wikipediacleaner.api.MediaWikiController;
 import org.wikipediacleaner.api.MediaWikiListener;
 import org.wikipediacleaner.api.check.CheckErrorResult;
 import org.wikipediacleaner.api.check.CheckErrorResult.ErrorLevel;
 import org.wikipediacleaner.api.check.algorithm.CheckErrorAlgorithm;
+import org.wikipediacleaner.api.check.algorithm.CheckErrorAlgorithms;
+import org.wikipediacleaner.api.check.algorithm.CheckErrorPrefilters;
 import org.wikipediacleaner.api.constants.EnumQueryResult;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.data.DataManager;
+import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementComment;
-import org.wikipediacleaner.api.data.PageElementInternalLink;
+import org.wikipediacleaner.api.data.PageElementFamily;
+import org.wikipediacleaner.api.dump.CombinedPageFilter;
+import org.wikipediacleaner.api.dump.DumpPageStore;
 import org.wikipediacleaner.api.dump.DumpProcessor;
+import org.wikipediacleaner.api.dump.NamespacePageFilter;
+import org.wikipediacleaner.api.dump.PageFilter;
 import org.wikipediacleaner.api.dump.PageProcessor;
+import org.wikipediacleaner.api.dump.RevisionIndex;
+import org.wikipediacleaner.api.dump.TitlePageFilter;
+import org.wikipediacleaner.api.execution.BlockingTaskQueue;
 import org.wikipediacleaner.api.execution.MediaWikiCallable;
+import org.wikipediacleaner.api.request.ApiRequest;
 import org.wikipediacleaner.gui.swing.basic.BasicWindow;
 import org.wikipediacleaner.gui.swing.basic.BasicWorker;
 import org.wikipediacleaner.gui.swing.basic.Utilities;
 import org.wikipediacleaner.i18n.GT;
+import org.wikipediacleaner.utils.RegexExecution;
 
 
 /**
@@ -69,14 +88,71 @@ public class ListCWWorker extends BasicWorker {
   /** True to just check the pages that have been previously reported */
   final boolean onlyRecheck;
 
+  /** Families of elements used by the selected algorithms */
+  final Set<PageElementFamily> requiredFamilies;
+
+  /** Prefilters of the selected algorithms */
+  final CheckErrorPrefilters prefilters;
+
   /** Time spent in analysis. */
   PageAnalysis.AnalysisPerformance analysisTime;
 
   /** Count of pages analyzed */
-  int countAnalyzed;
+  final AtomicInteger countAnalyzed;
 
   /** Count of pages found with errors */
-  int countDetections;
+  final AtomicInteger countDetections;
+
+  /** Minimum delay between two checkpoints (in milliseconds) */
+  private final static long CHECKPOINT_DELAY = 10 * 60 * 1000;
+
+  /** File in which checkpoints are written */
+  private File checkpointFile;
+
+  /** True to resume the analysis from the checkpoint */
+  private boolean resume;
+
+  /** Time of the last checkpoint */
+  private long lastCheckpointTime;
+
+  /** Processor for the dump */
+  DumpProcessor dumpProcessor;
+
+  /** Number of threads for processing a multistream dump (0 to process it sequentially) */
+  private int dumpThreads;
+
+  /** Ids of pages given for analysis and not yet analyzed */
+  final Set<Integer> pagesInProgress = new TreeSet<>();
+
+  /** Ids of pages analyzed after the position that a checkpoint can record */
+  final TreeSet<Integer> pagesDone = new TreeSet<>();
+
+  /** Lock for memorizing the results of a page (read lock) or writing a checkpoint (write lock) */
+  final ReadWriteLock resultsLock = new ReentrantReadWriteLock();
+
+  /** File containing the index of analyzed revisions */
+  private File revisionIndexFile;
+
+  /** Index of revisions analyzed in a previous run */
+  RevisionIndex previousRevisionIndex;
+
+  /** Index of revisions analyzed in this run */
+  RevisionIndex revisionIndex;
+
+  /** Error numbers of the selected algorithms */
+  BitSet selectedFlags;
+
+  /** Count of pages skipped because they haven't changed since the previous run */
+  final AtomicInteger countUnchanged = new AtomicInteger();
+
+  /** Count of pages not analyzed because no algorithm can find errors in them */
+  final AtomicInteger countPrefiltered = new AtomicInteger();
+
+  /** True when the analysis has been stopped before the end of the dump */
+  volatile boolean stopped;
+
+  /** Batcher for confirming detections on wiki */
+  CWConfirmationBatcher confirmationBatcher;
 
   /**
    * @param wiki Wiki.
@@ -96,9 +172,11 @@ public class ListCWWorker extends BasicWorker {
     this.output = output;
     this.pageName = null;
     this.selectedAlgorithms = AlgorithmInformation.createList(selectedAlgorithms);
+    this.requiredFamilies = CheckErrorAlgorithms.getRequiredFamilies(selectedAlgorithms);
+    this.prefilters = new CheckErrorPrefilters(selectedAlgorithms);
     this.analysisTime = new PageAnalysis.AnalysisPerformance();
-    this.countAnalyzed = 0;
-    this.countDetections = 0;
+    this.countAnalyzed = new AtomicInteger();
+    this.countDetections = new AtomicInteger();
     this.checkWiki = checkWiki;
     this.onlyRecheck = false;
   }
@@ -122,13 +200,39 @@ public class ListCWWorker extends BasicWorker {
     this.output = null;
     this.pageName = pageName;
     this.selectedAlgorithms = AlgorithmInformation.createList(selectedAlgorithms);
+    this.requiredFamilies = CheckErrorAlgorithms.getRequiredFamilies(selectedAlgorithms);
+    this.prefilters = new CheckErrorPrefilters(selectedAlgorithms);
     this.analysisTime = new PageAnalysis.AnalysisPerformance();
-    this.countAnalyzed = 0;
-    this.countDetections = 0;
+    this.countAnalyzed = new AtomicInteger();
+    this.countDetections = new AtomicInteger();
     this.checkWiki = checkWiki;
     this.onlyRecheck = onlyRecheck;
   }
 
+  /**
+   * @param file File in which checkpoints are regularly written (null for no checkpoint).
+   * @param resumeAnalysis True to resume the analysis from the checkpoint.
+   */
+  public void setCheckpoint(File file, boolean resumeAnalysis) {
+    this.checkpointFile = file;
+    this.resume = resumeAnalysis;
+  }
+
+  /**
+   * @param file File containing the index of analyzed revisions (null for no index).
+   */
+  public void setRevisionIndex(File file) {
+    this.revisionIndexFile = file;
+  }
+
+  /**
+   * @param nbThreads Number of threads for processing a multistream dump
+   *        (0 to process it sequentially).
+   */
+  public void setDumpThreads(int nbThreads) {
+    this.dumpThreads = nbThreads;
+  }
+
   /** 
    * Compute the value to be returned by the <code>get</code> method. 
    * 
@@ -154,6 +258,7 @@ public class ListCWWorker extends BasicWorker {
     if ((selectedAlgorithms == null) || selectedAlgorithms.isEmpty()) {
       return null;
     }
+    RegexExecution.resetStatistics();
     CWPageProcessor pageProcessor = new CWPageProcessor(getWikipedia(), this);
     if (onlyRecheck) {
       try {
@@ -177,34 +282,225 @@ public class ListCWWorker extends BasicWorker {
         // Nothing to do
       }
     }
-    DumpProcessor dumpProcessor = new DumpProcessor(pageProcessor);
-    dumpProcessor.processDump(dumpFile);
-    while (!pageProcessor.hasFinished()) {
+    if (revisionIndexFile != null) {
+      initializeRevisionIndex();
+    }
+    dumpProcessor = new DumpProcessor(pageProcessor);
+    dumpProcessor.setThreads(dumpThreads);
+    if (resume) {
+      restoreCheckpoint();
+    }
+    lastCheckpointTime = System.currentTimeMillis();
+    if (checkWiki) {
+      confirmationBatcher = new CWConfirmationBatcher(
+          getWikipedia(), APIFactory.getAPI(), Runtime.getRuntime().availableProcessors());
+    }
+    if (!onlyRecheck || !processPagesFromStore(pageProcessor)) {
+      dumpProcessor.processDump(dumpFile);
+    }
+    if (!stopped) {
+      pageProcessor.finish();
+    }
+    if ((confirmationBatcher != null) && !stopped) {
+      confirmationBatcher.finish();
+    }
+    if (stopped) {
+      reportProgress();
+      System.err.println("Analysis stopped before the end of the dump");
+      return null;
+    }
+    for (AlgorithmInformation algorithm : selectedAlgorithms) {
+      outputResult(algorithm.algorithm, algorithm.getDetections());
+      algorithm.getDetections().release();
+    }
+    reportProgress();
+    if (revisionIndex != null) {
+      revisionIndex.addMissingPages(previousRevisionIndex);
       try {
-        Thread.sleep(100);
-      } catch (InterruptedException e) {
-        // Nothing to do
+        revisionIndex.write(revisionIndexFile);
+      } catch (IOException e) {
+        System.err.println("Unable to write revision index: " + e.getMessage());
       }
     }
-    for (AlgorithmInformation algorithm : selectedAlgorithms) {
-      Map<String, Detection> pages = algorithm.getDetections();
-      if (pages == null) {
-        pages = new HashMap<>();
+    if ((checkpointFile != null) && checkpointFile.exists()) {
+      if (!checkpointFile.delete()) {
+        System.err.println("Unable to delete checkpoint " + checkpointFile.getAbsolutePath());
       }
-      outputResult(algorithm.algorithm, pages.values());
     }
-    reportProgress();
+    for (String quarantined : RegexExecution.getQuarantinedStatistics()) {
+      System.err.println("Regular expression quarantined: " + quarantined);
+    }
 
     return null;
   }
 
+  /**
+   * Initialize the indexes of analyzed revisions.
+   */
+  private void initializeRevisionIndex() {
+    selectedFlags = new BitSet();
+    for (AlgorithmInformation algorithm : selectedAlgorithms) {
+      selectedFlags.set(algorithm.algorithm.getErrorNumber());
+    }
+    revisionIndex = new RevisionIndex(selectedFlags);
+    try {
+      previousRevisionIndex = RevisionIndex.read(revisionIndexFile);
+    } catch (IOException e) {
+      System.err.println("Unable to read revision index: " + e.getMessage());
+    }
+    if ((previousRevisionIndex != null) && !previousRevisionIndex.covers(selectedFlags)) {
+      System.err.println("Revision index ignored because it doesn't cover all selected algorithms");
+      previousRevisionIndex = null;
+    }
+  }
+
+  /**
+   * Restore the analysis from the checkpoint.
+   */
+  private void restoreCheckpoint() {
+    if (checkpointFile == null) {
+      return;
+    }
+    ListCWCheckpoint checkpoint = null;
+    try {
+      checkpoint = ListCWCheckpoint.read(checkpointFile);
+    } catch (IOException e) {
+      System.err.println("Unable to read checkpoint: " + e.getMessage());
+    }
+    if (checkpoint == null) {
+      return;
+    }
+    if (!dumpFile.getName().equals(checkpoint.dumpName)) {
+      System.err.println(
+          "Checkpoint ignored because it was created for " + checkpoint.dumpName);
+      return;
+    }
+    for (AlgorithmInformation algorithm : selectedAlgorithms) {
+      DetectionStore detections = checkpoint.detections.get(
+          Integer.valueOf(algorithm.algorithm.getErrorNumber()));
+      if (detections != null) {
+        DetectionStore.DetectionIterator itDetections = null;
+        try {
+          itDetections = detections.iterator();
+          while (itDetections.hasNext()) {
+            algorithm.addDetection(itDetections.next());
+          }
+        } catch (IOException e) {
+          System.err.println("Unable to read detections from checkpoint: " + e.getMessage());
+        } catch (DetectionStore.ReadException e) {
+          System.err.println("Unable to read detections from checkpoint: " + e.getCause().getMessage());
+        } finally {
+          DetectionStore.close(itDetections);
+        }
+      }
+    }
+    for (DetectionStore detections : checkpoint.detections.values()) {
+      detections.release();
+    }
+    countAnalyzed.set(checkpoint.countAnalyzed);
+    countDetections.set(checkpoint.countDetections);
+    synchronized (pagesInProgress) {
+      pagesDone.addAll(checkpoint.finishedPages);
+    }
+    dumpProcessor.setStartPageId(Integer.valueOf(checkpoint.pageId));
+    System.out.println("Resuming analysis after page id " + checkpoint.pageId);
+  }
+
+  /**
+   * Write a checkpoint if the last one is old enough.
+   */
+  synchronized void checkpointIfNeeded() {
+    if ((checkpointFile == null) || (dumpProcessor == null)) {
+      return;
+    }
+    long currentTime = System.currentTimeMillis();
+    if (currentTime < lastCheckpointTime + CHECKPOINT_DELAY) {
+      return;
+    }
+    lastCheckpointTime = currentTime;
+
+    // Results are not modified while the checkpoint is written,
+    // so that detections and counters match the pages recorded as analyzed
+    resultsLock.writeLock().lock();
+    try {
+      int lastPageId = getCheckpointPageId();
+      if (lastPageId < 0) {
+        return;
+      }
+      List<Integer> finishedPages = null;
+      synchronized (pagesInProgress) {
+        finishedPages = new ArrayList<>(pagesDone.tailSet(Integer.valueOf(lastPageId), false));
+      }
+      ListCWCheckpoint.write(
+          checkpointFile, dumpFile.getName(), lastPageId, finishedPages,
+          countAnalyzed.get(), countDetections.get(), selectedAlgorithms);
+      System.out.println("Checkpoint written after page id " + lastPageId);
+    } catch (IOException e) {
+      System.err.println("Unable to write checkpoint: " + e.getMessage());
+    } finally {
+      resultsLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Analyze only the pages to be rechecked, by random access in a multistream dump.
+   * 
+   * @param pageProcessor Page processor.
+   * @return True if the pages have been analyzed, false if the dump has to be read sequentially.
+   */
+  private boolean processPagesFromStore(CWPageProcessor pageProcessor) {
+    Set<String> titles = pageProcessor.getPagesList();
+    if (titles == null) {
+      return false;
+    }
+    try {
+      DumpPageStore store = DumpPageStore.create(dumpFile, titles);
+      if (store == null) {
+        return false;
+      }
+      store.processPages(titles, pageProcessor);
+      return true;
+    } catch (IOException e) {
+      if (stopped) {
+        return true;
+      }
+      System.err.println(
+          "Unable to read pages to be rechecked from the dump index, " +
+          "reading the full dump: " + e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * @return Page id such as all pages with a lower or equal id have been
+   *         given for analysis and analyzed (-1 if none).
+   */
+  private int getCheckpointPageId() {
+    Integer pageId = (dumpProcessor != null) ? dumpProcessor.getLastProcessedPageId() : null;
+    if (pageId == null) {
+      return -1;
+    }
+    int lastPageId = pageId.intValue();
+    synchronized (pagesInProgress) {
+      if (!pagesInProgress.isEmpty()) {
+        Integer firstInProgress = pagesInProgress.iterator().next();
+        lastPageId = Math.min(lastPageId, firstInProgress.intValue() - 1);
+      }
+    }
+    return lastPageId;
+  }
+
   /**
    * Report progress.
    */
   void reportProgress() {
     System.out.println(
-        "Pages processed: " + countAnalyzed +
-        " / errors detected: " + countDetections);
+        "Pages processed: " + countAnalyzed.get() +
+        " / errors detected: " + countDetections.get());
+    if (revisionIndex != null) {
+      System.out.println(" Unchanged pages skipped: " + countUnchanged.get());
+    }
+    System.out.println(" Pages without possible errors: " + countPrefiltered.get());
     System.out.println(" Analysis: " + analysisTime.toString());
     for (AlgorithmInformation algorithm : selectedAlgorithms) {
       System.out.println(
@@ -214,87 +510,23 @@ public class ListCWWorker extends BasicWorker {
   }
 
   /**
-   * @param pages List of detections.
-   * @return Formatted result.
+   * @return Header of the formatted result.
    */
-  private String generateResult(List<Detection> pages, Long maxSize) {
-    StringBuilder buffer = new StringBuilder();
-    buffer.append("<!-- Generated using ");
-    buffer.append(dumpFile.getName());
-    buffer.append(" -->\n");
-    ErrorLevel lastLevel = null;
-    StringBuilder line = new StringBuilder();
-    List<Detection> pagesToRemove = new ArrayList<>();
-    for (Detection detection : pages) {
-      line.setLength(0);
-      if ((detection.maxLevel != null) &&
-          !detection.maxLevel.equals(lastLevel)) {
-        lastLevel = detection.maxLevel;
-        line.append("<!-- ");
-        line.append(lastLevel.toString());
-        line.append(" -->\n");
-      }
-      line.append("* ");
-      line.append(PageElementInternalLink.createInternalLink(
-          detection.pageName, null));
-      line.append(": ");
-      if (detection.notices != null) {
-        boolean first = true;
-        for (String notice : detection.notices) {
-          if (!first) {
-            line.append(", ");
-          }
-          first = false;
-          line.append("<nowiki>");
-          notice = notice.replaceAll("\n", "\u21b5"); // Replace \n by a visual character
-          notice = notice.replaceAll("\\<", "&lt;"); // Replace "<" by its HTML element
-          notice = notice.replaceAll("\u007F", "[DEL]"); // Replace control characters by visible text
-          notice = notice.replaceAll("\u00A0", "[NBSP]");
-          notice = notice.replaceAll("\u00AD", "[SHY]");
-          notice = notice.replaceAll("\u2004", "[3EM]");
-          notice = notice.replaceAll("\u2005", "[4EM]");
-          notice = notice.replaceAll("\u2006", "[6EM]");
-          notice = notice.replaceAll("\u2007", "[FS]");
-          notice = notice.replaceAll("\u2008", "[PS]");
-          notice = notice.replaceAll("\u2004", "[3EM]");
-          notice = notice.replaceAll("\u200B", "[0WS]");
-          notice = notice.replaceAll("\u200E", "[LRM]");
-          notice = notice.replaceAll("\u2028", "[LS]");
-          notice = notice.replaceAll("\u202A", "[LRE]");
-          notice = notice.replaceAll("\u202C", "[POPD]");
-          notice = notice.replaceAll("\uFEFF", "[BOM]");
-          line.append(notice);
-          line.append("</nowiki>");
-        }
-      }
-      line.append("\n");
-      if ((maxSize == null) ||
-          (buffer.length() + line.length() < maxSize)) {
-        buffer.append(line);
-      } else {
-        pagesToRemove.add(detection);
-      }
-    }
-    pages.removeAll(pagesToRemove);
-    return buffer.toString();
+  private String generateHeader() {
+    return "<!-- Generated using " + dumpFile.getName() + " -->\n";
   }
 
   /**
    * Output result of the analysis.
    * 
    * @param algorithm Algorithm.
-   * @param pages List of pages with detections.
+   * @param pages Pages with detections.
    */
-  private void outputResult(CheckErrorAlgorithm algorithm, Collection<Detection> pages) {
+  private void outputResult(CheckErrorAlgorithm algorithm, DetectionStore pages) {
     if ((algorithm == null) || (pages == null)) {
       return;
     }
-
-    // Prepare result
-    List<Detection> tmpPages = new ArrayList<>(pages);
-    Collections.sort(tmpPages);
-    int nbPages = tmpPages.size();
-    String result = generateResult(tmpPages, null);
+    int nbPages = pages.size();
 
     // Output to file
     if (output != null) {
@@ -307,12 +539,26 @@ public class ListCWWorker extends BasicWorker {
         outputFile = new File(MessageFormat.format(output.getAbsolutePath(), algorithm.getErrorNumberString()));
       }
       BufferedWriter writer = null;
+      DetectionStore.DetectionIterator itDetections = null;
+      boolean truncated = false;
       try {
         writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputFile, false), "UTF8"));
-        writer.write(result);
+        writer.write(generateHeader());
+        StringBuilder line = new StringBuilder();
+        ErrorLevel lastLevel = null;
+        itDetections = pages.iterator();
+        while (itDetections.hasNext()) {
+          line.setLength(0);
+          lastLevel = ListCWReport.appendDetection(line, itDetections.next(), lastLevel);
+          writer.write(line.toString());
+        }
       } catch (IOException e) {
         // Nothing to do
+      } catch (DetectionStore.ReadException e) {
+        System.err.println("Unable to read detections: " + e.getCause().getMessage());
+        truncated = true;
       } finally {
+        DetectionStore.close(itDetections);
         if (writer != null) {
           try {
             writer.close();
@@ -321,10 +567,37 @@ public class ListCWWorker extends BasicWorker {
           }
         }
       }
+
+      // Don't leave a truncated list of detections
+      if (truncated && !outputFile.delete()) {
+        System.err.println("Unable to delete " + outputFile.getAbsolutePath());
+      }
     }
 
     // Output to a page
     if (pageName != null) {
+
+      // Only keep the detections that may fit in the page
+      Long maxSize = getWikipedia().getWikiConfiguration().getMaxArticleSize();
+      ListCWReport report = new ListCWReport(generateHeader());
+      DetectionStore.DetectionIterator itDetections = null;
+      try {
+        itDetections = pages.iterator();
+        while (itDetections.hasNext() &&
+               ((maxSize == null) || (report.getSize() < maxSize.longValue()))) {
+          report.addDetection(itDetections.next());
+        }
+      } catch (IOException e) {
+        System.err.println("Unable to read detections: " + e.getMessage());
+        return;
+      } catch (DetectionStore.ReadException e) {
+        System.err.println("Unable to read detections: " + e.getCause().getMessage());
+        return;
+      } finally {
+        DetectionStore.close(itDetections);
+      }
+      int nbLines = report.getLinesCount();
+
       boolean finished = false;
       while (!finished) {
         try {
@@ -348,25 +621,14 @@ public class ListCWWorker extends BasicWorker {
               }
             }
             if ((begin >= 0) && (end > begin)) {
-              String text = null;
-              finished = false;
-              while (!finished) {
-                StringBuilder newText = new StringBuilder();
-                newText.append(contents.substring(0, begin));
-                newText.append("\n");
-                newText.append(result);
-                newText.append(contents.substring(end));
-                text = newText.toString();
-                if (!getWikipedia().getWikiConfiguration().isArticleTooLong(text) ||
-                    tmpPages.isEmpty()) {
-                  finished = true; 
-                } else {
-                  tmpPages.remove(tmpPages.size() - 1);
-                  result = generateResult(
-                      tmpPages,
-                      getWikipedia().getWikiConfiguration().getMaxArticleSize());
-                }
+              String prefix = contents.substring(0, begin) + "\n";
+              String suffix = contents.substring(end);
+              if (maxSize != null) {
+                nbLines = Math.min(nbLines, report.getLinesFitting(
+                    maxSize.longValue() -
+                    ListCWReport.getSize(prefix) - ListCWReport.getSize(suffix)));
               }
+              String text = prefix + report.getText(nbLines) + suffix;
               try {
                 api.updatePage(
                     getWikipedia(), page, text,
@@ -374,15 +636,10 @@ public class ListCWWorker extends BasicWorker {
                     true, false);
               } catch (APIException e) {
                 if (EnumQueryResult.CONTENT_TOO_BIG.equals(e.getQueryResult())) {
-                  for (int i = 0; i < 100; i++) {
-                    if (!tmpPages.isEmpty()) {
-                      finished = false;
-                      tmpPages.remove(tmpPages.size() - 1);
-                    }
+                  if (nbLines > 0) {
+                    finished = false;
+                    nbLines = Math.max(0, nbLines - 100);
                   }
-                  result = generateResult(
-                      tmpPages,
-                      getWikipedia().getWikiConfiguration().getMaxArticleSize());
                 } else {
                   throw e;
                 }
@@ -414,16 +671,16 @@ public class ListCWWorker extends BasicWorker {
       message.append(GT.__(
           "{0} page has been analyzed",
           "{0} pages have been analyzed",
-          countAnalyzed, Integer.toString(countAnalyzed)));
+          countAnalyzed.get(), Integer.toString(countAnalyzed.get())));
       for (AlgorithmInformation algorithmInfo : selectedAlgorithms) {
         CheckErrorAlgorithm algorithm = algorithmInfo.algorithm;
-        Map<String, Detection> pages = algorithmInfo.getDetections();
+        int nbPages = algorithmInfo.getDetections().size();
         message.append("\n");
         message.append(GT.__(
             "{0} page has been detected for algorithm {1}",
             "{0} pages have been detected for algorithm {1}",
-            pages.size(), new Object[] {
-              pages.size(),
+            nbPages, new Object[] {
+              nbPages,
               algorithm.getErrorNumberString() + " - " + algorithm.getShortDescription()}));
       }
       Utilities.displayInformationMessage(
@@ -431,42 +688,6 @@ public class ListCWWorker extends BasicWorker {
     }
   }
 
-  /**
-   * Controller for background tasks.
-   */
-  private class CWController extends MediaWikiController {
-
-    /**
-     * @param listener Listener to MediaWiki events.
-     */
-    public CWController(MediaWikiListener listener) {
-      super(listener);
-    }
-
-    /**
-     * @param task Task to be performed in background.
-     * @see org.wikipediacleaner.api.MediaWikiController#addTask(java.util.concurrent.Callable)
-     */
-    @Override
-    public void addTask(Callable<?> task) {
-      hasFinished(); // To clean up done tasks
-      super.addTask(task);
-    }
-
-    /**
-     * @return True if all tasks are completed.
-     */
-    public boolean hasFinished() {
-      if (hasRemainingTask()) {
-        Future<?> result = getNextDoneResult();
-        if (result == null) {
-          return false;
-        }
-      }
-      return !hasRemainingTask();
-    }
-  }
-
   /**
    * Background task.
    */
@@ -494,15 +715,55 @@ public class ListCWWorker extends BasicWorker {
      */
     @Override
     public Page call() throws APIException {
-      EnumWikipedia wiki = getWikipedia();
-      PageAnalysis analysis = page.getAnalysis(page.getContents(), false);
-      analysis.performFullPageAnalysis(analysisTime);
-      Page currentPage = null;
-      PageAnalysis currentAnalysis = null; 
+      CWConfirmation detections = null;
+      boolean waitingConfirmation = false;
+      try {
+        detections = analyzePage();
+
+        // Confirm detections on wiki
+        if (!detections.algorithms.isEmpty() && (confirmationBatcher != null)) {
+          try {
+            confirmationBatcher.add(detections);
+          } catch (InterruptedException e) {
+            // The page stays in progress, so that it's analyzed again when resuming
+            stopped = true;
+            Thread.currentThread().interrupt();
+          }
+          waitingConfirmation = true;
+        }
+      } finally {
+        if (!waitingConfirmation) {
+          pageDone(page, detections);
+        }
+      }
+      return page;
+    }
+
+    /**
+     * Analyze the page.
+     * 
+     * @return Detections found in the page.
+     */
+    private CWConfirmation analyzePage() {
+
+      // Analyze the page only for the algorithms which may find errors in it
+      Set<CheckErrorAlgorithm> possibleAlgorithms = new HashSet<>(
+          prefilters.getPossibleAlgorithms(page.getContents()));
+      PageAnalysis analysis = null;
+      if (possibleAlgorithms.isEmpty()) {
+        countPrefiltered.incrementAndGet();
+      } else {
+        analysis = page.getAnalysis(page.getContents(), false);
+        analysis.performPageAnalysis(
+            CheckErrorAlgorithms.getRequiredFamilies(possibleAlgorithms), analysisTime);
+      }
+      CWConfirmation confirmation = new CWConfirmation(page);
+      BitSet detectedFlags = new BitSet();
       for (AlgorithmInformation algorithm : selectedAlgorithms) {
         List<CheckErrorResult> errors = new ArrayList<>();
         boolean detected = false;
-        if (!algorithm.algorithm.isInWhiteList(page.getTitle())) {
+        if (possibleAlgorithms.contains(algorithm.algorithm) &&
+            !algorithm.algorithm.isInWhiteList(page.getTitle())) {
           long beginTime = System.nanoTime();
           if (algorithm.algorithm.analyze(analysis, errors, false)) {
             detected = true;
@@ -511,61 +772,337 @@ public class ListCWWorker extends BasicWorker {
           algorithm.addTimeSpent(endTime - beginTime);
         }
         if (detected) {
-          boolean detectionConfirmed = false;
+          detectedFlags.set(algorithm.algorithm.getErrorNumber());
+          confirmation.add(algorithm, errors);
+        }
+      }
+      if ((revisionIndex != null) &&
+          (page.getPageId() != null) && (page.getRevisionId() != null)) {
+        revisionIndex.record(
+            page.getPageId().intValue(), page.getRevisionId().intValue(),
+            detectedFlags);
+      }
+      return confirmation;
+    }
+  }
 
-          // Confirm detection
-          if (checkWiki) {
-            try {
-              if (currentPage == null) {
-                currentPage = DataManager.getPage(wiki, page.getTitle(), null, null, null);
-              }
-              if (currentAnalysis == null) {
-                api.retrieveContents(wiki, Collections.singleton(currentPage), false, false);
-                if (currentPage.getContents().equals(page.getContents())) {
-                  currentAnalysis = analysis; 
-                } else {
-                  currentAnalysis = currentPage.getAnalysis(currentPage.getContents(), false);
-                  currentAnalysis.performFullPageAnalysis(analysisTime);
-                }
+  /**
+   * Memorize a confirmed detection.
+   * 
+   * @param page Page.
+   * @param algorithm Algorithm.
+   * @param errors List of errors.
+   */
+  void memorizeDetection(
+      Page page, AlgorithmInformation algorithm, List<CheckErrorResult> errors) {
+    System.out.println(
+        "Detection confirmed for " + page.getTitle() +
+        ": " + algorithm.algorithm.getErrorNumberString() +
+        " - " + algorithm.algorithm.getShortDescription());
+    algorithm.addDetection(page, errors);
+    countDetections.incrementAndGet();
+  }
+
+  /**
+   * Memorize that the processing of a page is finished.
+   * 
+   * <p>Detections and the page are memorized together, so that a checkpoint
+   * never contains detections for a page which would be analyzed again
+   * when resuming.</p>
+   * 
+   * @param page Page.
+   * @param detections Confirmed detections for the page (null if none).
+   */
+  void pageDone(Page page, CWConfirmation detections) {
+    int analyzed = 0;
+    resultsLock.readLock().lock();
+    try {
+      if (detections != null) {
+        for (int i = 0; i < detections.algorithms.size(); i++) {
+          memorizeDetection(
+              detections.page, detections.algorithms.get(i), detections.errors.get(i));
+        }
+      }
+      if (page.getPageId() != null) {
+        synchronized (pagesInProgress) {
+          pagesInProgress.remove(page.getPageId());
+          pagesDone.add(page.getPageId());
+        }
+      }
+      analyzed = countAnalyzed.incrementAndGet();
+    } finally {
+      resultsLock.readLock().unlock();
+    }
+
+    // Forget pages that a checkpoint doesn't need to record
+    int lastPageId = getCheckpointPageId();
+    if (lastPageId >= 0) {
+      synchronized (pagesInProgress) {
+        pagesDone.headSet(Integer.valueOf(lastPageId), true).clear();
+      }
+    }
+
+    if (analyzed % 100000 == 0) {
+      reportProgress();
+    }
+    if (analyzed % 1000 == 0) {
+      setText(GT._("{0} pages processed", Integer.toString(analyzed)));
+    }
+  }
+
+  /**
+   * Bean for holding detections waiting for a confirmation on wiki.
+   */
+  static class CWConfirmation {
+
+    /** Page from the dump */
+    final Page page;
+
+    /** Algorithms which have detected errors */
+    final List<AlgorithmInformation> algorithms;
+
+    /** Errors detected by each algorithm */
+    final List<List<CheckErrorResult>> errors;
+
+    /** Current version of the page on wiki */
+    Page currentPage;
+
+    /**
+     * @param page Page from the dump.
+     */
+    CWConfirmation(Page page) {
+      this.page = page;
+      this.algorithms = new ArrayList<>();
+      this.errors = new ArrayList<>();
+    }
+
+    /**
+     * @param algorithm Algorithm which has detected errors.
+     * @param algorithmErrors Errors detected by the algorithm.
+     */
+    void add(AlgorithmInformation algorithm, List<CheckErrorResult> algorithmErrors) {
+      algorithms.add(algorithm);
+      errors.add(algorithmErrors);
+    }
+  }
+
+  /**
+   * Background task confirming detections on the current version of a page.
+   */
+  private class CWConfirmationCallable implements Callable<Page> {
+
+    /** Detections to confirm */
+    private final CWConfirmation confirmation;
+
+    /**
+     * @param confirmation Detections to confirm.
+     */
+    public CWConfirmationCallable(CWConfirmation confirmation) {
+      this.confirmation = confirmation;
+    }
+
+    /* (non-Javadoc)
+     * @see java.util.concurrent.Callable#call()
+     */
+    @Override
+    public Page call() {
+      CWConfirmation confirmed = null;
+      try {
+        Page page = confirmation.page;
+        Page currentPage = confirmation.currentPage;
+        String contents = currentPage.getContents();
+        if (contents == null) {
+          return page;
+        }
+        confirmed = new CWConfirmation(currentPage);
+        if (contents.equals(page.getContents())) {
+          for (int i = 0; i < confirmation.algorithms.size(); i++) {
+            confirmed.add(confirmation.algorithms.get(i), confirmation.errors.get(i));
+          }
+          return page;
+        }
+        PageAnalysis currentAnalysis = currentPage.getAnalysis(contents, false);
+        currentAnalysis.performPageAnalysis(requiredFamilies, analysisTime);
+        for (AlgorithmInformation algorithm : confirmation.algorithms) {
+          List<CheckErrorResult> errors = new ArrayList<>();
+          long beginTime = System.nanoTime();
+          boolean detected = algorithm.algorithm.analyze(currentAnalysis, errors, false);
+          long endTime = System.nanoTime();
+          algorithm.addTimeSpent(endTime - beginTime);
+          if (detected) {
+            confirmed.add(algorithm, errors);
+          }
+        }
+        return page;
+      } finally {
+        pageDone(confirmation.page, confirmed);
+      }
+    }
+  }
+
+  /**
+   * Batcher retrieving the current version of pages for confirming detections.
+   * 
+   * <p>Pages are retrieved by groups of {@link ApiRequest#MAX_PAGES_PER_QUERY}
+   * or after a short delay, and the confirmations are then given to workers.</p>
+   */
+  private class CWConfirmationBatcher implements Runnable {
+
+    /** Maximum delay before retrieving pages waiting for a confirmation (in milliseconds) */
+    private final static long FLUSH_DELAY = 5000;
+
+    /** Maximum number of attempts for retrieving the pages of a batch */
+    private final static int MAX_ATTEMPTS = 3;
+
+    /** Delay before a new attempt for retrieving the pages of a batch (in milliseconds) */
+    private final static long RETRY_DELAY = 10000;
+
+    /** Wiki */
+    private final EnumWikipedia wiki;
+
+    /** API */
+    private final API api;
+
+    /** Detections waiting for a confirmation */
+    private final BlockingQueue<CWConfirmation> pending;
+
+    /** Marker for the end of the detections */
+    private final CWConfirmation endMarker;
+
+    /** Queue of confirmations to be analyzed */
+    private final BlockingTaskQueue queue;
+
+    /** Thread retrieving pages */
+    private final Thread thread;
+
+    /**
+     * @param wiki Wiki.
+     * @param api API.
+     * @param nbThreads Number of threads for analyzing confirmations.
+     */
+    public CWConfirmationBatcher(EnumWikipedia wiki, API api, int nbThreads) {
+      this.wiki = wiki;
+      this.api = api;
+      this.pending = new ArrayBlockingQueue<>(ApiRequest.MAX_PAGES_PER_QUERY * 2);
+      this.endMarker = new CWConfirmation(null);
+      this.queue = new BlockingTaskQueue(
+          "ListCWConfirm", nbThreads, ApiRequest.MAX_PAGES_PER_QUERY * 2);
+      this.thread = new Thread(this, "ListCWBatcher");
+      this.thread.setDaemon(true);
+      this.thread.start();
+    }
+
+    /**
+     * Add detections waiting for a confirmation, waiting for free space if necessary.
+     * 
+     * @param confirmation Detections waiting for a confirmation.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public void add(CWConfirmation confirmation) throws InterruptedException {
+      pending.put(confirmation);
+    }
+
+    /**
+     * Retrieve the remaining pages and wait for all confirmations to be analyzed.
+     */
+    public void finish() {
+      try {
+        pending.put(endMarker);
+        thread.join();
+        queue.finish();
+      } catch (InterruptedException e) {
+        stopped = true;
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Group detections waiting for a confirmation and retrieve pages.
+     * 
+     * @see java.lang.Runnable#run()
+     */
+    @Override
+    public void run() {
+      List<CWConfirmation> batch = new ArrayList<>();
+      boolean finished = false;
+      try {
+        while (!finished) {
+          long deadline = 0;
+          while (!finished && (batch.size() < ApiRequest.MAX_PAGES_PER_QUERY)) {
+            CWConfirmation confirmation = null;
+            if (batch.isEmpty()) {
+              confirmation = pending.take();
+              deadline = System.currentTimeMillis() + FLUSH_DELAY;
+            } else {
+              long delay = deadline - System.currentTimeMillis();
+              if (delay <= 0) {
+                break;
               }
-              if (currentAnalysis == analysis) {
-                detectionConfirmed = true;
-              } else {
-                errors.clear();
-                long beginTime = System.nanoTime();
-                if (algorithm.algorithm.analyze(currentAnalysis, errors, false)) {
-                  detectionConfirmed = true;
-                }
-                long endTime = System.nanoTime();
-                algorithm.addTimeSpent(endTime - beginTime);
+              confirmation = pending.poll(delay, TimeUnit.MILLISECONDS);
+              if (confirmation == null) {
+                break;
               }
-            } catch (APIException e) {
-              // Nothing to do
             }
-          } else {
-            detectionConfirmed = true;
-            currentPage = page;
+            if (confirmation == endMarker) {
+              finished = true;
+            } else {
+              batch.add(confirmation);
+            }
           }
+          flush(batch);
+          batch.clear();
+        }
+      } catch (InterruptedException e) {
+        for (CWConfirmation confirmation : batch) {
+          pageDone(confirmation.page, null);
+        }
+      }
+    }
 
-          // Memorize detection
-          if (detectionConfirmed) {
-            System.out.println(
-                "Detection confirmed for " + page.getTitle() +
-                ": " + algorithm.algorithm.getErrorNumberString() +
-                " - " + algorithm.algorithm.getShortDescription());
-            algorithm.addDetection(currentPage, errors);
-            countDetections++;
+    /**
+     * Retrieve the current version of pages and give the confirmations to workers.
+     * 
+     * <p>If the pages can't be retrieved after several attempts,
+     * the detections made on the dump are kept without confirmation.</p>
+     * 
+     * @param batch Detections waiting for a confirmation.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    private void flush(List<CWConfirmation> batch) throws InterruptedException {
+      if (batch.isEmpty()) {
+        return;
+      }
+      List<Page> pages = new ArrayList<>(batch.size());
+      for (CWConfirmation confirmation : batch) {
+        confirmation.currentPage = DataManager.getPage(
+            wiki, confirmation.page.getTitle(), null, null, null);
+        pages.add(confirmation.currentPage);
+      }
+      int attempt = 0;
+      while (true) {
+        try {
+          attempt++;
+          api.retrieveContents(wiki, pages, false, false);
+          break;
+        } catch (APIException e) {
+          if (attempt >= MAX_ATTEMPTS) {
+            System.err.println(
+                "Unable to retrieve " + pages.size() + " pages for confirming detections, " +
+                "keeping detections from the dump: " + e.getMessage());
+            for (CWConfirmation confirmation : batch) {
+              pageDone(confirmation.page, confirmation);
+            }
+            return;
           }
+          System.err.println(
+              "Unable to retrieve " + pages.size() + " pages for confirming detections, " +
+              "trying again: " + e.getMessage());
+          Thread.sleep(RETRY_DELAY * attempt);
         }
       }
-      countAnalyzed++;
-      if (countAnalyzed % 100000 == 0) {
-        reportProgress();
-      }
-      if (countAnalyzed % 1000 == 0) {
-        setText(GT._("{0} pages processed", Integer.toString(countAnalyzed)));
+      for (CWConfirmation confirmation : batch) {
+        queue.addTask(new CWConfirmationCallable(confirmation));
       }
-      return page;
     }
   }
 
@@ -574,20 +1111,26 @@ public class ListCWWorker extends BasicWorker {
    */
   private class CWPageProcessor implements PageProcessor {
 
+    /** Number of pages waiting for analysis for each thread */
+    private final static int QUEUE_SIZE_PER_THREAD = 20;
+
     /** Wiki */
     private final EnumWikipedia wiki;
 
     /** Listener */
     private final MediaWikiListener listener;
 
-    /** Controller for background tasks */
-    private final CWController controller;
+    /** Bounded queue of pages waiting for analysis */
+    private final BlockingTaskQueue queue;
 
     /** API */
     private final API api;
 
     /** Restrict the processing to this list of pages */
-    private List<String> pagesList;
+    private Set<String> pagesList;
+
+    /** Filter to select pages */
+    private PageFilter filter;
 
     /**
      * @param wiki Wiki.
@@ -596,7 +1139,8 @@ public class ListCWWorker extends BasicWorker {
     public CWPageProcessor(EnumWikipedia wiki, MediaWikiListener listener) {
       this.wiki = wiki;
       this.listener = listener;
-      this.controller = new CWController(null);
+      int nbThreads = Runtime.getRuntime().availableProcessors();
+      this.queue = new BlockingTaskQueue("ListCW", nbThreads, nbThreads * QUEUE_SIZE_PER_THREAD);
       this.api = APIFactory.getAPI();
     }
 
@@ -620,11 +1164,32 @@ public class ListCWWorker extends BasicWorker {
       }
       String title = page.getTitle();
       if (pagesList == null) {
-        pagesList = new ArrayList<>();
+        pagesList = new HashSet<>();
       }
-      if (!pagesList.contains(title)) {
-        pagesList.add(title);
+      pagesList.add(title);
+      filter = null;
+    }
+
+    /**
+     * @return List of pages to check (null if all pages are checked).
+     */
+    public Set<String> getPagesList() {
+      return pagesList;
+    }
+
+    /**
+     * @return Filter to select pages before their text is read.
+     * @see org.wikipediacleaner.api.dump.PageProcessor#getPageFilter()
+     */
+    @Override
+    public synchronized PageFilter getPageFilter() {
+      if (filter == null) {
+        filter = new NamespacePageFilter(Namespace.MAIN);
+        if (pagesList != null) {
+          filter = new CombinedPageFilter(filter, new TitlePageFilter(pagesList));
+        }
       }
+      return filter;
     }
 
     /**
@@ -633,18 +1198,95 @@ public class ListCWWorker extends BasicWorker {
      */
     @Override
     public void processPage(Page page) {
+      if (stopped || shouldStop()) {
+        stop();
+        return;
+      }
       if ((page != null) && page.isInMainNamespace()) {
         if ((pagesList == null) || pagesList.contains(page.getTitle())) {
-          controller.addTask(new CWPageCallable(wiki, listener, api, page));
+          if (isFinished(page)) {
+            return;
+          }
+          if (isUnchanged(page)) {
+            countUnchanged.incrementAndGet();
+            return;
+          }
+          if (page.getPageId() != null) {
+            synchronized (pagesInProgress) {
+              pagesInProgress.add(page.getPageId());
+            }
+          }
+          try {
+            queue.addTask(new CWPageCallable(wiki, listener, api, page));
+          } catch (InterruptedException e) {
+            if (page.getPageId() != null) {
+              synchronized (pagesInProgress) {
+                pagesInProgress.remove(page.getPageId());
+              }
+            }
+            stop();
+            return;
+          }
         }
       }
+      checkpointIfNeeded();
     }
 
     /**
-     * @return True if all tasks are completed.
+     * Check if a page has already been analyzed before resuming from a checkpoint.
+     * 
+     * @param page Page.
+     * @return True if the page can be skipped.
      */
-    public boolean hasFinished() {
-      return controller.hasFinished();
+    private boolean isFinished(Page page) {
+      if (page.getPageId() == null) {
+        return false;
+      }
+      synchronized (pagesInProgress) {
+        return pagesDone.contains(page.getPageId());
+      }
+    }
+
+    /**
+     * Check if a page has already been analyzed without detection in a previous run.
+     * 
+     * @param page Page.
+     * @return True if the page can be skipped.
+     */
+    private boolean isUnchanged(Page page) {
+      if ((previousRevisionIndex == null) ||
+          (page.getPageId() == null) || (page.getRevisionId() == null)) {
+        return false;
+      }
+      int pageId = page.getPageId().intValue();
+      int revisionId = page.getRevisionId().intValue();
+      BitSet previousFlags = previousRevisionIndex.getFlags(pageId, revisionId);
+      if ((previousFlags == null) ||
+          previousFlags.intersects(selectedFlags)) {
+        return false;
+      }
+      revisionIndex.record(pageId, revisionId, previousFlags);
+      return true;
+    }
+
+    /**
+     * Stop the analysis: the dump processing is interrupted.
+     */
+    private void stop() {
+      stopped = true;
+      Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Wait for all pages to be analyzed.
+     */
+    public void finish() {
+      try {
+        queue.finish();
+      } catch (InterruptedException e) {
+        stopped = true;
+        Thread.currentThread().interrupt();
+      }
     }
   }
 
@@ -653,6 +1295,12 @@ public class ListCWWorker extends BasicWorker {
    */
   static class Detection implements Comparable<Detection> {
 
+    /** Maximum number of notices kept for a detection */
+    private final static int MAX_NOTICES = 20;
+
+    /** Maximum length of a notice */
+    private final static int MAX_NOTICE_LENGTH = 200;
+
     /** Page name */
     public final String pageName;
 
@@ -662,6 +1310,17 @@ public class ListCWWorker extends BasicWorker {
     /** Maximum level for the errors */
     public final ErrorLevel maxLevel;
 
+    /**
+     * @param pageName Page name.
+     * @param notices List of notices.
+     * @param maxLevel Maximum level for the errors.
+     */
+    public Detection(String pageName, List<String> notices, ErrorLevel maxLevel) {
+      this.pageName = pageName;
+      this.notices = notices;
+      this.maxLevel = maxLevel;
+    }
+
     /**
      * @param page Page.
      * @param errors List of errors.
@@ -673,9 +1332,12 @@ public class ListCWWorker extends BasicWorker {
       if (errors != null) {
         for (CheckErrorResult error : errors) {
           String contents = page.getContents();
-          if (contents != null) {
+          if ((contents != null) && (notices.size() < MAX_NOTICES)) {
+            int endIndex = Math.min(
+                error.getEndPosition(),
+                error.getStartPosition() + MAX_NOTICE_LENGTH);
             notices.add(new String(contents.substring(
-                error.getStartPosition(), error.getEndPosition())));
+                error.getStartPosition(), endIndex)));
           }
           ErrorLevel currentLevel = error.getErrorLevel();
           if (currentLevel.ordinal() < tmpLevel.ordinal()) {
@@ -717,6 +1379,65 @@ public class ListCWWorker extends BasicWorker {
       }
       return pageName.compareTo(o.pageName);
     }
+
+    /**
+     * Write the detection in a compact binary format.
+     * 
+     * @param dos Output stream.
+     * @throws IOException Error writing the detection.
+     */
+    void write(DataOutputStream dos) throws IOException {
+      writeString(dos, pageName);
+      dos.writeByte(maxLevel.ordinal());
+      dos.writeShort(notices.size());
+      for (String notice : notices) {
+        writeString(dos, notice);
+      }
+    }
+
+    /**
+     * Read a detection written by {@link #write(DataOutputStream)}.
+     * 
+     * @param dis Input stream.
+     * @return Detection.
+     * @throws IOException Error reading the detection.
+     */
+    static Detection read(DataInputStream dis) throws IOException {
+      String pageName = readString(dis);
+      ErrorLevel maxLevel = ErrorLevel.values()[dis.readByte()];
+      int nbNotices = dis.readShort();
+      List<String> notices = new ArrayList<>(nbNotices);
+      for (int i = 0; i < nbNotices; i++) {
+        notices.add(readString(dis));
+      }
+      return new Detection(pageName, notices, maxLevel);
+    }
+
+    /**
+     * Write a string without the size limitation of writeUTF.
+     * 
+     * @param dos Output stream.
+     * @param value String.
+     * @throws IOException Error writing the string.
+     */
+    private static void writeString(DataOutputStream dos, String value) throws IOException {
+      byte[] bytes = value.getBytes("UTF-8");
+      dos.writeInt(bytes.length);
+      dos.write(bytes);
+    }
+
+    /**
+     * Read a string written by writeString.
+     * 
+     * @param dis Input stream.
+     * @return String.
+     * @throws IOException Error reading the string.
+     */
+    private static String readString(DataInputStream dis) throws IOException {
+      byte[] bytes = new byte[dis.readInt()];
+      dis.readFully(bytes);
+      return new String(bytes, "UTF-8");
+    }
   }
 
   /**
@@ -728,7 +1449,7 @@ public class ListCWWorker extends BasicWorker {
     final CheckErrorAlgorithm algorithm;
 
     /** Errors found. */
-    private final Map<String, Detection> detections;
+    private final DetectionStore detections;
 
     /** Time spent in analysis. */
     private long timeSpent;
@@ -738,7 +1459,7 @@ public class ListCWWorker extends BasicWorker {
      */
     private AlgorithmInformation(CheckErrorAlgorithm algorithm) {
       this.algorithm = algorithm;
-      this.detections = new HashMap<>();
+      this.detections = new DetectionStore("WPCleaner_CW_" + algorithm.getErrorNumberString() + "_");
       this.timeSpent = 0;
     }
 
@@ -759,7 +1480,7 @@ public class ListCWWorker extends BasicWorker {
     /**
      * @return Errors found.
      */
-    public Map<String, Detection> getDetections() {
+    public DetectionStore getDetections() {
       return detections;
     }
 
@@ -768,20 +1489,27 @@ public class ListCWWorker extends BasicWorker {
      * @param errors List of errors.
      */
     public void addDetection(Page page, List<CheckErrorResult> errors) {
-      detections.put(page.getTitle(), new Detection(page, errors));
+      detections.add(new Detection(page, errors));
+    }
+
+    /**
+     * @param detection Detection.
+     */
+    public void addDetection(Detection detection) {
+      detections.add(detection);
     }
 
     /**
      * @param time Time spent.
      */
-    public void addTimeSpent(long time) {
+    public synchronized void addTimeSpent(long time) {
       timeSpent += time;
     }
 
     /**
      * @return Time spent.
      */
-    public long getTimeSpent() {
+    public synchronized long getTimeSpent() {
       return timeSpent;
     }
   }
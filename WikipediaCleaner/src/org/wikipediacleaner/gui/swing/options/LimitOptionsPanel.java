@@ -199,6 +199,23 @@ public class LimitOptionsPanel extends OptionsPanel {
     add(spin, constraints);
     constraints.gridy++;
 
+    // Add budget for regular expressions
+    spin = createJSpinner(
+        ConfigurationValueInteger.REGEXP_BUDGET,
+        0, 1000000, 1000);
+    JLabel labelBudget = Utilities.createJLabel(GT._("Budget for a regular expression on a page (ms)"));
+    labelBudget.setLabelFor(spin);
+    labelBudget.setHorizontalAlignment(SwingConstants.TRAILING);
+    constraints.gridwidth = 2;
+    constraints.gridx = 0;
+    constraints.weightx = 0;
+    add(labelBudget, constraints);
+    constraints.gridwidth = 1;
+    constraints.gridx = 2;
+    constraints.weightx = 1;
+    add(spin, constraints);
+    constraints.gridy++;
+
     // Maximum number of category members
     spin = createJSpinner(
         ConfigurationValueInteger.MAX_CATEGORY_MEMBERS,
@@ -7,6 +7,7 @@
 
 package org.wikipediacleaner.gui.swing.worker;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -14,6 +15,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -22,11 +24,14 @@ import org.wikipediacleaner.api.MediaWiki;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.constants.WPCConfigurationBoolean;
 import org.wikipediacleaner.api.constants.WPCConfigurationString;
+import org.wikipediacleaner.api.data.DataManager;
 import org.wikipediacleaner.api.data.InternalLinkCount;
 import org.wikipediacleaner.api.data.Namespace;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageAnalysis;
 import org.wikipediacleaner.api.data.PageElementTemplate;
+import org.wikipediacleaner.api.dump.DumpPageStore;
+import org.wikipediacleaner.api.dump.LinkGraph;
 import org.wikipediacleaner.gui.swing.basic.BasicWindow;
 import org.wikipediacleaner.gui.swing.basic.BasicWorker;
 import org.wikipediacleaner.i18n.GT;
@@ -48,6 +53,12 @@ public class UpdateDabWarningTools extends UpdateWarningTools {
   /** True if disambiguation information is already available in pages. */
   private boolean dabInformationAvailable;
 
+  /** Graph of links built from a dump, used instead of the API when available. */
+  private LinkGraph linkGraph;
+
+  /** Offline store of pages of the dump, used instead of the API when available. */
+  private DumpPageStore pageStore;
+
   /**
    * @param wiki Wiki.
    * @param worker Worker.
@@ -92,6 +103,20 @@ public class UpdateDabWarningTools extends UpdateWarningTools {
     this.linksAvailable = available;
   }
 
+  /**
+   * @param graph Graph of links built from a dump, used instead of the API when available.
+   */
+  public void setLinkGraph(LinkGraph graph) {
+    this.linkGraph = graph;
+  }
+
+  /**
+   * @param store Offline store of pages of the dump, used instead of the API when available.
+   */
+  public void setPageStore(DumpPageStore store) {
+    this.pageStore = store;
+  }
+
   /**
    * @param available True if disambiguation information is already available in pages.
    */
@@ -112,6 +137,95 @@ public class UpdateDabWarningTools extends UpdateWarningTools {
     }
   }
 
+  /**
+   * Count the articles linking to disambiguation pages.
+   * 
+   * @param titles Titles of the disambiguation pages.
+   * @return For each disambiguation page with at least one backlink, the number of articles linking to it.
+   * @throws APIException
+   */
+  public Map<String, Integer> retrieveBacklinkCounts(Collection<String> titles) throws APIException {
+    if (linkGraph != null) {
+      return linkGraph.getBacklinkCounts(titles);
+    }
+    List<Page> pages = new ArrayList<Page>(titles.size());
+    for (String title : titles) {
+      pages.add(DataManager.getPage(wiki, title, null, null, null));
+    }
+    MediaWiki mw = MediaWiki.getMediaWikiAccess(worker);
+    mw.retrieveAllLinksToPages(wiki, pages, true);
+    Map<String, Integer> result = new TreeMap<String, Integer>();
+    for (Page page : pages) {
+      Integer count = page.getBacklinksCountInMainNamespace();
+      if ((count != null) && (count.intValue() > 0)) {
+        result.put(page.getTitle(), count);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Retrieve links of a page from the graph of links.
+   * 
+   * @param page Page.
+   * @return True if links were retrieved from the graph.
+   */
+  private boolean retrieveLinksFromGraph(Page page) {
+    if (linkGraph == null) {
+      return false;
+    }
+    List<String> titles = linkGraph.getLinks(page.getTitle());
+    if (titles == null) {
+      return false;
+    }
+    List<Page> links = new ArrayList<Page>(titles.size());
+    for (String title : titles) {
+      Page link = DataManager.getPage(wiki, title, null, null, null);
+      String destination = linkGraph.getRedirectDestination(title);
+      if (destination != null) {
+        link.addRedirect(DataManager.getPage(wiki, destination, null, null, null));
+      }
+      links.add(link);
+    }
+    page.setLinks(links);
+    return true;
+  }
+
+  /**
+   * Retrieve contents of pages from the offline store of pages.
+   * 
+   * @param pages List of pages.
+   * @return Pages missing from the offline store.
+   */
+  private List<Page> retrieveContentsFromStore(List<Page> pages) {
+    if (pageStore == null) {
+      return pages;
+    }
+    List<String> titles = new ArrayList<String>(pages.size());
+    for (Page page : pages) {
+      titles.add(page.getTitle());
+    }
+    Map<String, Page> storedPages = null;
+    try {
+      storedPages = pageStore.getPages(wiki, titles);
+    } catch (IOException e) {
+      log.error("Error reading pages from dump", e);
+      return pages;
+    }
+    List<Page> missingPages = new ArrayList<Page>();
+    for (Page page : pages) {
+      Page storedPage = storedPages.get(page.getTitle());
+      if (storedPage != null) {
+        page.setContents(storedPage.getContents());
+        page.setRevisionId(storedPage.getRevisionId().toString());
+        page.setExisting(Boolean.TRUE);
+      } else {
+        missingPages.add(page);
+      }
+    }
+    return missingPages;
+  }
+
   /**
    * Retrieve information in the pages to construct the warning.
    * 
@@ -127,7 +241,9 @@ public class UpdateDabWarningTools extends UpdateWarningTools {
     // Retrieving links in each page
     if (!linksAvailable) {
       for (Page page : pages) {
-        mw.retrieveAllLinks(wiki, page, Namespace.MAIN, null, false, false);
+        if (!retrieveLinksFromGraph(page)) {
+          mw.retrieveAllLinks(wiki, page, Namespace.MAIN, null, false, false);
+        }
       }
       mw.block(true);
       if (shouldStop()) {
@@ -197,6 +313,7 @@ public class UpdateDabWarningTools extends UpdateWarningTools {
           tmpPages.add(page);
         }
       }
+      tmpPages = retrieveContentsFromStore(tmpPages);
       if (!tmpPages.isEmpty()) {
         mw.retrieveContents(wiki, tmpPages, true, false, false, false);
       }
@@ -9,18 +9,24 @@ package org.wikipediacleaner.gui.swing.worker;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import javax.swing.JOptionPane;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wikipediacleaner.api.APIException;
 import org.wikipediacleaner.api.constants.EnumWikipedia;
 import org.wikipediacleaner.api.constants.WPCConfiguration;
 import org.wikipediacleaner.api.constants.WPCConfigurationString;
+import org.wikipediacleaner.api.data.DataManager;
 import org.wikipediacleaner.api.data.Page;
 import org.wikipediacleaner.api.data.PageComparator;
+import org.wikipediacleaner.api.dump.DumpPageStore;
+import org.wikipediacleaner.api.dump.LinkGraph;
 import org.wikipediacleaner.gui.swing.basic.BasicWindow;
 import org.wikipediacleaner.gui.swing.worker.UpdateWarningTools.Stats;
 import org.wikipediacleaner.i18n.GT;
@@ -33,9 +39,20 @@ import org.wikipediacleaner.utils.ConfigurationValueString;
  */
 public class UpdateDabWarningWorker extends UpdateWarningWorker {
 
+  private final static Log log = LogFactory.getLog(UpdateDabWarningWorker.class);
+
+  /** Maximum number of disambiguation pages logged with their number of backlinks */
+  private final static int MAX_LOGGED_BACKLINK_COUNTS = 50;
+
   private final boolean linksAvailable;
   private final boolean dabInformationAvailable;
 
+  /** Graph of links built from a dump, used instead of the API when available. */
+  private LinkGraph linkGraph;
+
+  /** Offline store of pages of the dump, used instead of the API when available. */
+  private DumpPageStore pageStore;
+
   /**
    * @param wikipedia Wikipedia.
    * @param window Window.
@@ -77,6 +94,20 @@ public class UpdateDabWarningWorker extends UpdateWarningWorker {
     this.dabInformationAvailable = dabInformationAvailable;
   }
 
+  /**
+   * @param graph Graph of links built from a dump, used instead of the API when available.
+   */
+  public void setLinkGraph(LinkGraph graph) {
+    this.linkGraph = graph;
+  }
+
+  /**
+   * @param store Offline store of pages of the dump, used instead of the API when available.
+   */
+  public void setPageStore(DumpPageStore store) {
+    this.pageStore = store;
+  }
+
   /* (non-Javadoc)
    * @see org.wikipediacleaner.gui.swing.basic.BasicWorker#construct()
    */
@@ -90,6 +121,8 @@ public class UpdateDabWarningWorker extends UpdateWarningWorker {
 
     Stats stats = new Stats();
     UpdateDabWarningTools tools = new UpdateDabWarningTools(wikipedia, this, true, automaticEdit);
+    tools.setLinkGraph(linkGraph);
+    tools.setPageStore(pageStore);
     try {
       if (!useList) {
         listWarningPages(tools);
@@ -121,7 +154,7 @@ public class UpdateDabWarningWorker extends UpdateWarningWorker {
       tools.setContentsAvailable(contentsAvailable);
       tools.setLinksAvailable(linksAvailable);
       tools.setDabInformationAvailable(dabInformationAvailable);
-      if (!useList) {
+      if (!useList && (linkGraph == null)) {
         setText(GT._("Retrieving disambiguation pages"));
         tools.preloadDabPages();
       }
@@ -183,6 +216,7 @@ public class UpdateDabWarningWorker extends UpdateWarningWorker {
         Configuration config = Configuration.getConfiguration();
         config.setString(null, ConfigurationValueString.LAST_DAB_WARNING, (String) null);
       }
+      logBacklinkCounts(tools);
     } catch (APIException e) {
       return e;
     }
@@ -191,6 +225,40 @@ public class UpdateDabWarningWorker extends UpdateWarningWorker {
     return Integer.valueOf(stats.getUpdatedPagesCount());
   }
 
+  /**
+   * Log the number of articles linking to the disambiguation pages found in warnings.
+   * 
+   * @param tools Update warning tools.
+   * @throws APIException
+   */
+  private void logBacklinkCounts(UpdateDabWarningTools tools) throws APIException {
+    Map<String, List<String>> errors = tools.getErrorsMap();
+    if ((errors == null) || errors.isEmpty()) {
+      return;
+    }
+    setText(GT._("Counting links to disambiguation pages"));
+    final Map<String, Integer> counts = tools.retrieveBacklinkCounts(errors.keySet());
+    List<String> titles = new ArrayList<String>(counts.keySet());
+    Collections.sort(titles, new Comparator<String>() {
+
+      /**
+       * Sort by decreasing number of backlinks.
+       * 
+       * @param o1 First title.
+       * @param o2 Second title.
+       * @return Comparison.
+       */
+      @Override
+      public int compare(String o1, String o2) {
+        return counts.get(o2).compareTo(counts.get(o1));
+      }
+    });
+    for (int i = 0; (i < titles.size()) && (i < MAX_LOGGED_BACKLINK_COUNTS); i++) {
+      String title = titles.get(i);
+      log.info(title + ": " + counts.get(title) + " articles");
+    }
+  }
+
   /**
    * Generate the list of warning pages.
    * 
@@ -206,6 +274,22 @@ public class UpdateDabWarningWorker extends UpdateWarningWorker {
         WPCConfigurationString.DAB_WARNING_TEMPLATE,
         tmpWarningPages);
 
+    // Add articles linking to disambiguation pages according to the graph of links
+    if (linkGraph != null) {
+      EnumWikipedia wiki = getWikipedia();
+      setText(GT._("Retrieving disambiguation pages"));
+      ((UpdateDabWarningTools) tools).preloadDabPages();
+      if (wiki.isDisambiguationPagesLoaded()) {
+        Map<String, List<String>> dabLinks = linkGraph.getPagesLinkingTo(
+            wiki.getDisambiguationPages());
+        for (String title : dabLinks.keySet()) {
+          if (!tmpWarningPages.containsKey(title)) {
+            tmpWarningPages.put(title, DataManager.getPage(wiki, title, null, null, null));
+          }
+        }
+      }
+    }
+
     // Fill up the list    
     warningPages.clear();
     warningPages.addAll(tmpWarningPages.values());
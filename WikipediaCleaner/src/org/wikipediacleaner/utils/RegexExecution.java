@@ -0,0 +1,310 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+
+/**
+ * Execution of a regular expression on a text with a budget of time.
+ *
+ * <p>The regular expression is run on a view of the text which interrupts
+ * the matching when the budget is exhausted.
+ * A pattern exceeding its budget is quarantined for the rest of the run:
+ * further executions are refused until the statistics are reset.</p>
+ *
+ * <pre>
+ * RegexExecution execution = RegexExecution.start(pattern, text);
+ * if (execution != null) {
+ *   try {
+ *     Matcher matcher = pattern.matcher(execution.getText());
+ *     ...
+ *   } catch (RegexExecution.BudgetExceededException e) {
+ *     ...
+ *   } finally {
+ *     execution.end();
+ *   }
+ * }
+ * </pre>
+ */
+public class RegexExecution {
+
+  private final static Log log = LogFactory.getLog(RegexExecution.class);
+
+  /** Number of accesses to the text between two checks of the time */
+  private final static int CHECK_INTERVAL = 4096;
+
+  /** Statistics for each pattern */
+  private final static ConcurrentHashMap<String, Statistics> statistics =
+      new ConcurrentHashMap<String, Statistics>();
+
+  /** Statistics for the pattern */
+  private final Statistics patternStatistics;
+
+  /** Text with the budget */
+  private final BudgetedText text;
+
+  /** Initial time */
+  private final long initialTime;
+
+  /**
+   * @param patternStatistics Statistics for the pattern.
+   * @param text Text.
+   * @param budget Budget in milliseconds (0 for no budget).
+   */
+  private RegexExecution(Statistics patternStatistics, CharSequence text, long budget) {
+    this.patternStatistics = patternStatistics;
+    this.initialTime = System.nanoTime();
+    this.text = new BudgetedText(
+        text, (budget > 0) ? initialTime + budget * 1000000L : 0);
+  }
+
+  /**
+   * Start an execution of a regular expression with the configured budget.
+   *
+   * @param pattern Pattern.
+   * @param text Text.
+   * @return Execution, or null if the pattern is quarantined.
+   */
+  public static RegexExecution start(Pattern pattern, CharSequence text) {
+    Configuration config = Configuration.getConfiguration();
+    int budget = config.getInt(null, ConfigurationValueInteger.REGEXP_BUDGET);
+    return start(pattern, text, budget);
+  }
+
+  /**
+   * Start an execution of a regular expression.
+   *
+   * @param pattern Pattern.
+   * @param text Text.
+   * @param budget Budget in milliseconds (0 for no budget).
+   * @return Execution, or null if the pattern is quarantined.
+   */
+  public static RegexExecution start(Pattern pattern, CharSequence text, long budget) {
+    Statistics patternStatistics = statistics.get(pattern.pattern());
+    if (patternStatistics == null) {
+      patternStatistics = new Statistics(pattern.pattern());
+      Statistics existing = statistics.putIfAbsent(pattern.pattern(), patternStatistics);
+      if (existing != null) {
+        patternStatistics = existing;
+      }
+    }
+    if (patternStatistics.quarantined) {
+      patternStatistics.refusedCount.incrementAndGet();
+      return null;
+    }
+    return new RegexExecution(patternStatistics, text, budget);
+  }
+
+  /**
+   * @param pattern Pattern.
+   * @return True if the pattern is quarantined.
+   */
+  public static boolean isQuarantined(Pattern pattern) {
+    Statistics patternStatistics = statistics.get(pattern.pattern());
+    return (patternStatistics != null) && patternStatistics.quarantined;
+  }
+
+  /**
+   * Reset the statistics and lift the quarantine of every pattern,
+   * for example at the beginning of a new run.
+   */
+  public static void resetStatistics() {
+    statistics.clear();
+  }
+
+  /**
+   * @return Statistics for the quarantined patterns.
+   */
+  public static List<String> getQuarantinedStatistics() {
+    List<String> result = new ArrayList<String>();
+    for (Statistics patternStatistics : statistics.values()) {
+      if (patternStatistics.quarantined) {
+        synchronized (patternStatistics) {
+          result.add(patternStatistics.toString());
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return Text to use for matching the regular expression.
+   */
+  public CharSequence getText() {
+    return text;
+  }
+
+  /**
+   * End the execution and record its statistics.
+   */
+  public void end() {
+    long now = System.nanoTime();
+    long duration = now - initialTime;
+    boolean quarantine = false;
+    synchronized (patternStatistics) {
+      patternStatistics.count++;
+      patternStatistics.totalTime += duration;
+      patternStatistics.maxTime = Math.max(patternStatistics.maxTime, duration);
+      if (text.exceeded) {
+        patternStatistics.exceededCount++;
+        if (!patternStatistics.quarantined) {
+          patternStatistics.quarantined = true;
+          quarantine = true;
+        }
+      }
+    }
+    if (quarantine) {
+      log.warn("Regular expression quarantined: " + patternStatistics);
+    }
+  }
+
+  /**
+   * Exception thrown when the budget of an execution is exhausted.
+   */
+  public static class BudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 4829172305837126813L;
+
+    /**
+     * Constructor.
+     */
+    BudgetExceededException() {
+      super("Budget exceeded for regular expression");
+    }
+  }
+
+  /**
+   * Text interrupting the matching when the budget is exhausted.
+   */
+  private static class BudgetedText implements CharSequence {
+
+    /** Text */
+    private final CharSequence text;
+
+    /** Time limit (0 for no limit) */
+    private final long deadline;
+
+    /** Number of accesses before the next check of the time */
+    private int remaining;
+
+    /** True if the budget has been exceeded */
+    boolean exceeded;
+
+    /**
+     * @param text Text.
+     * @param deadline Time limit (0 for no limit).
+     */
+    BudgetedText(CharSequence text, long deadline) {
+      this.text = text;
+      this.deadline = deadline;
+      this.remaining = CHECK_INTERVAL;
+    }
+
+    /**
+     * @return Number of characters.
+     * @see java.lang.CharSequence#length()
+     */
+    @Override
+    public int length() {
+      return text.length();
+    }
+
+    /**
+     * @param index Index in the text.
+     * @return Character at the index.
+     * @see java.lang.CharSequence#charAt(int)
+     */
+    @Override
+    public char charAt(int index) {
+      if (--remaining <= 0) {
+        remaining = CHECK_INTERVAL;
+        if (exceeded || ((deadline != 0) && (System.nanoTime() - deadline > 0))) {
+          exceeded = true;
+          throw new BudgetExceededException();
+        }
+      }
+      return text.charAt(index);
+    }
+
+    /**
+     * @param start Begin index.
+     * @param end End index.
+     * @return Part of the text, without budget.
+     * @see java.lang.CharSequence#subSequence(int, int)
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return text.subSequence(start, end);
+    }
+
+    /**
+     * @return Text.
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+      return text.toString();
+    }
+  }
+
+  /**
+   * Statistics about the executions of a pattern.
+   */
+  private static class Statistics {
+
+    /** Pattern */
+    final String pattern;
+
+    /** Number of executions */
+    int count;
+
+    /** Number of executions exceeding their budget */
+    int exceededCount;
+
+    /** Number of executions refused because of the quarantine */
+    final AtomicInteger refusedCount = new AtomicInteger();
+
+    /** Total time of the executions (ns) */
+    long totalTime;
+
+    /** Maximum time of an execution (ns) */
+    long maxTime;
+
+    /** True if the pattern is quarantined */
+    volatile boolean quarantined;
+
+    /**
+     * @param pattern Pattern.
+     */
+    Statistics(String pattern) {
+      this.pattern = pattern;
+    }
+
+    /**
+     * @return Textual description of the statistics.
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+      return
+          pattern + ": " + count + " executions, " +
+          exceededCount + " exceeding budget, " +
+          refusedCount.get() + " refused, " +
+          (totalTime / 1000000L) + "ms total, " +
+          (maxTime / 1000000L) + "ms max";
+    }
+  }
+}
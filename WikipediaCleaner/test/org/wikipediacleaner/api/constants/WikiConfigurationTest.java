@@ -0,0 +1,287 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.constants;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.wikipediacleaner.api.data.MagicWord;
+import org.wikipediacleaner.api.data.Namespace;
+import org.wikipediacleaner.api.data.SpecialPage;
+
+
+/**
+ * Test class for WikiConfiguration.
+ */
+public class WikiConfigurationTest {
+
+  WikiConfiguration config;
+
+  Map<String, MagicWord> magicWords;
+
+  List<Namespace> namespaces;
+
+  Map<String, SpecialPage> specialPages;
+
+  Random random;
+
+  @Before
+  public void beforeTest() {
+    config = new WikiConfiguration();
+    random = new Random(2020);
+
+    magicWords = new LinkedHashMap<String, MagicWord>();
+    addMagicWord(MagicWord.IF, false, "if");
+    addMagicWord(MagicWord.TIME, false, "time", "heure");
+    addMagicWord(MagicWord.REDIRECT, false, "#REDIRECT", "#REDIRECTION");
+    addMagicWord(MagicWord.DEFAULT_SORT, true, "DEFAULTSORT:", "CLEDETRI:");
+    addMagicWord(MagicWord.LC, false, "LC:");
+    addMagicWord(MagicWord.UC, false, "UC:");
+    addMagicWord(MagicWord.PAGE_NAME, false, "PAGENAME", "NOMPAGE", "\u0130S\u0130M", "STRA\u00DFE");
+    addMagicWord(MagicWord.IMG_WIDTH, true, "$1px", "$1 px");
+    addMagicWord(MagicWord.IMG_THUMBNAIL, false, "thumb", "thumbnail", "vignette");
+    addMagicWord(MagicWord.IMG_LEFT, false, "left", "gauche");
+    config.setMagicWords(magicWords);
+
+    namespaces = new ArrayList<Namespace>();
+    namespaces.add(new Namespace("0", "", "", EnumCaseSensitiveness.FIRST_LETTER, false));
+    namespaces.add(new Namespace("2", "Utilisateur", "User", EnumCaseSensitiveness.FIRST_LETTER, true));
+    namespaces.get(1).addAlias("Utilisatrice");
+    namespaces.add(new Namespace("6", "Fichier", "File", EnumCaseSensitiveness.FIRST_LETTER, false));
+    namespaces.get(2).addAlias("Image");
+    namespaces.add(new Namespace("10", "Mod\u00E8le", "Template", EnumCaseSensitiveness.FIRST_LETTER, true));
+    namespaces.add(new Namespace("14", "Cat\u00E9gorie", "Category", EnumCaseSensitiveness.FIRST_LETTER, false));
+    config.setNamespaces(namespaces);
+
+    specialPages = new LinkedHashMap<String, SpecialPage>();
+    addSpecialPage(SpecialPage.WHAT_LINKS_HERE, "WhatLinksHere", "Pages_li\u00E9es");
+    addSpecialPage(SpecialPage.WATCHLIST, "Watchlist", "Liste de suivi");
+    config.setSpecialPages(specialPages);
+  }
+
+  @Test
+  public void testMagicWordByAlias() {
+    for (String text : generateMagicWordTexts()) {
+      assertSame(text, getMagicWordByAlias(text), config.getMagicWordByAlias(text));
+    }
+    assertSame(magicWords.get(MagicWord.IF), config.getMagicWordByAlias("#IF"));
+    assertSame(magicWords.get(MagicWord.REDIRECT), config.getMagicWordByAlias("#redirect"));
+    assertNull(config.getMagicWordByAlias("REDIRECT"));
+    assertNull(config.getMagicWordByAlias("defaultsort:"));
+    assertSame(magicWords.get(MagicWord.IMG_WIDTH), config.getMagicWordByAlias("200px"));
+  }
+
+  @Test
+  public void testFunctionMagicWord() {
+    for (String text : generateMagicWordTexts()) {
+      assertSame(text, getFunctionMagicWord(text, false), config.getFunctionMagicWord(text, false));
+      assertSame(text, getFunctionMagicWord(text, true), config.getFunctionMagicWord(text, true));
+    }
+    assertSame(magicWords.get(MagicWord.LC), config.getFunctionMagicWord("lc", true));
+    assertNull(config.getFunctionMagicWord("lc", false));
+  }
+
+  @Test
+  public void testImgMagicWord() {
+    for (String text : generateMagicWordTexts()) {
+      assertSame(text, getImgMagicWord(text), config.getImgMagicWord(text));
+    }
+    assertSame(magicWords.get(MagicWord.IMG_THUMBNAIL), config.getImgMagicWord("Vignette"));
+  }
+
+  @Test
+  public void testNamespaceByName() {
+    List<String> texts = new ArrayList<String>();
+    for (Namespace namespace : namespaces) {
+      texts.addAll(namespace.getAliases());
+    }
+    texts.add("Unknown");
+    for (String text : mutate(texts, false)) {
+      assertSame(text, getNamespaceByName(text), config.getNamespaceByName(text));
+    }
+    assertEquals(Integer.valueOf(6), config.getNamespaceByName(" image ").getId());
+    assertNull(config.getNamespaceByName("IMAGE"));
+  }
+
+  @Test
+  public void testSpecialPageByAlias() {
+    List<String> texts = new ArrayList<String>();
+    for (SpecialPage specialPage : specialPages.values()) {
+      texts.addAll(specialPage.getAliases());
+    }
+    texts.add("Unknown");
+    for (String text : mutate(texts, true)) {
+      assertSame(text, getSpecialPageByAlias(text), config.getSpecialPageByAlias(text));
+    }
+    assertSame(
+        specialPages.get(SpecialPage.WATCHLIST),
+        config.getSpecialPageByAlias("liste_de__suivi"));
+  }
+
+  /**
+   * @param name Magic word name.
+   * @param caseSensitive True if the magic word is case sensitive.
+   * @param aliases Aliases.
+   */
+  private void addMagicWord(String name, boolean caseSensitive, String... aliases) {
+    magicWords.put(name, new MagicWord(name, Arrays.asList(aliases), caseSensitive));
+  }
+
+  /**
+   * @param name Special page name.
+   * @param aliases Aliases.
+   */
+  private void addSpecialPage(String name, String... aliases) {
+    specialPages.put(name, new SpecialPage(name, Arrays.asList(aliases)));
+  }
+
+  /**
+   * @return Random texts derived from the magic word aliases.
+   */
+  private List<String> generateMagicWordTexts() {
+    List<String> texts = new ArrayList<String>();
+    for (MagicWord magicWord : magicWords.values()) {
+      for (String alias : magicWord.getAliases()) {
+        texts.add(alias.replace("$1", "" + random.nextInt(500)));
+        texts.add(alias.replace("$1", ""));
+        if (alias.endsWith(":")) {
+          texts.add(alias.substring(0, alias.length() - 1));
+        }
+      }
+    }
+    texts.add("");
+    texts.add("#");
+    texts.add("px");
+    texts.add("unknown");
+    List<String> result = mutate(texts, false);
+    for (String text : new ArrayList<String>(result)) {
+      result.add("#" + text);
+    }
+    return result;
+  }
+
+  /**
+   * @param texts Texts.
+   * @param title True to also add title variations (spaces, underscores).
+   * @return Texts with random variations of the case.
+   */
+  private List<String> mutate(List<String> texts, boolean title) {
+    List<String> result = new ArrayList<String>();
+    for (String text : texts) {
+      result.add(text);
+      result.add(text.toLowerCase());
+      result.add(text.toUpperCase());
+      for (int i = 0; i < 20; i++) {
+        StringBuilder buffer = new StringBuilder();
+        for (int index = 0; index < text.length(); index++) {
+          char current = text.charAt(index);
+          switch (random.nextInt(title ? 6 : 4)) {
+          case 0:
+            buffer.append(Character.toUpperCase(current));
+            break;
+          case 1:
+            buffer.append(Character.toLowerCase(current));
+            break;
+          case 4:
+            buffer.append((current == ' ') ? '_' : current);
+            break;
+          case 5:
+            buffer.append(current);
+            if (current == ' ') {
+              buffer.append(' ');
+            }
+            break;
+          default:
+            buffer.append(current);
+          }
+        }
+        if (random.nextInt(5) == 0) {
+          buffer.insert(0, ' ');
+        }
+        result.add(buffer.toString());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Linear search as done before the tables were introduced.
+   */
+  private MagicWord getMagicWordByAlias(String value) {
+    for (MagicWord magicWord : magicWords.values()) {
+      if (magicWord.isPossibleAlias(value)) {
+        return magicWord;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Linear search as done before the tables were introduced.
+   */
+  private MagicWord getFunctionMagicWord(String text, boolean colon) {
+    String colonText = text + ":";
+    for (String functionMagicWord : MagicWord.getFunctionMagicWords()) {
+      MagicWord magicWord = magicWords.get(functionMagicWord);
+      if (magicWord != null) {
+        if (magicWord.isPossibleAlias(text)) {
+          return magicWord;
+        }
+        if (colon && magicWord.isPossibleAlias(colonText)) {
+          return magicWord;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Linear search as done before the tables were introduced.
+   */
+  private MagicWord getImgMagicWord(String text) {
+    for (String imgMagicWord : MagicWord.getImgMagicWords()) {
+      MagicWord magicWord = magicWords.get(imgMagicWord);
+      if ((magicWord != null) && magicWord.isPossibleAlias(text)) {
+        return magicWord;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Linear search as done before the tables were introduced.
+   */
+  private Namespace getNamespaceByName(String name) {
+    for (Namespace namespace : namespaces) {
+      if (namespace.isPossibleName(name)) {
+        return namespace;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Linear search as done before the tables were introduced.
+   */
+  private SpecialPage getSpecialPageByAlias(String value) {
+    for (SpecialPage specialPage : specialPages.values()) {
+      if (specialPage.isPossibleAlias(value)) {
+        return specialPage;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+
+/**
+ * Test class for ContentsEdit.
+ */
+public class ContentsEditTest {
+
+  @Test
+  public void testDiffSimple() {
+    assertTrue(ContentsEdit.diff("abc", "abc").isEmpty());
+    checkEdits(ContentsEdit.diff("abcdef", "abXdef"), "[2,3] \u2192 X");
+    checkEdits(ContentsEdit.diff("abcdef", "abcXYdef"), "[3,3] \u2192 XY");
+    checkEdits(ContentsEdit.diff("abcdef", "adef"), "[1,3] \u2192 ");
+    checkEdits(ContentsEdit.diff("", "abc"), "[0,0] \u2192 abc");
+  }
+
+  @Test
+  public void testDiffMerge() {
+
+    // Edits separated by a long unchanged text are kept apart
+    checkEdits(
+        ContentsEdit.diff("a long unchanged text b", "A long unchanged text B"),
+        "[0,1] \u2192 A", "[22,23] \u2192 B");
+
+    // Edits separated by a short unchanged text are merged
+    checkEdits(
+        ContentsEdit.diff("a b d", "A b D"),
+        "[0,5] \u2192 A b D");
+  }
+
+  @Test
+  public void testDiffTooManyDifferences() {
+    StringBuilder oldContents = new StringBuilder();
+    StringBuilder newContents = new StringBuilder();
+    for (int i = 0; i < 2000; i++) {
+      oldContents.append("a     ");
+      newContents.append("b     ");
+    }
+    List<ContentsEdit> edits = ContentsEdit.diff(oldContents.toString(), newContents.toString());
+    assertEquals(1, edits.size());
+    assertEquals(0, edits.get(0).getBeginIndex());
+    assertEquals(oldContents.length() - 5, edits.get(0).getEndIndex());
+    assertEquals(newContents.toString(), ContentsEdit.apply(oldContents.toString(), edits));
+  }
+
+  @Test
+  public void testDiffRandom() {
+    Random random = new Random(1016);
+    for (int test = 0; test < 2000; test++) {
+      String oldContents = generateText(random, random.nextInt(100));
+      StringBuilder newContents = new StringBuilder(oldContents);
+      int count = random.nextInt(5);
+      for (int i = 0; i < count; i++) {
+        int begin = random.nextInt(newContents.length() + 1);
+        int end = begin + random.nextInt(Math.min(5, newContents.length() - begin) + 1);
+        newContents.replace(begin, end, generateText(random, random.nextInt(5)));
+      }
+      List<ContentsEdit> edits = ContentsEdit.diff(oldContents, newContents.toString());
+      String message = "[" + oldContents + "] \u2192 [" + newContents + "]";
+      assertEquals(message, newContents.toString(), ContentsEdit.apply(oldContents, edits));
+      for (int i = 1; i < edits.size(); i++) {
+        assertTrue(
+            message,
+            edits.get(i).getBeginIndex() - edits.get(i - 1).getEndIndex() >= 4);
+      }
+    }
+  }
+
+  @Test
+  public void testIndependentEdits() {
+    ContentsEditBuilder builder = new ContentsEditBuilder("abcdefghij");
+    assertTrue(builder.addEdit(2, 4, "X"));
+    assertFalse(builder.addIndependentEdits(Arrays.asList(
+        new ContentsEdit(0, 1, "Y"), new ContentsEdit(4, 5, "Z"))));
+    assertFalse(builder.addIndependentEdits(Arrays.asList(
+        new ContentsEdit(1, 2, "Y"))));
+    assertEquals(1, builder.getEdits().size());
+    assertTrue(builder.addIndependentEdits(Arrays.asList(
+        new ContentsEdit(0, 1, "Y"), new ContentsEdit(5, 6, "Z"))));
+    assertEquals("YbXeZghij", builder.getContents());
+  }
+
+  /**
+   * @param edits Edits.
+   * @param expected Expected edits.
+   */
+  private static void checkEdits(List<ContentsEdit> edits, String... expected) {
+    List<String> actual = new ArrayList<String>();
+    for (ContentsEdit edit : edits) {
+      actual.add(edit.toString());
+    }
+    assertEquals(Arrays.asList(expected), actual);
+  }
+
+  /**
+   * @param random Random generator.
+   * @param length Length of the text.
+   * @return Random text.
+   */
+  private static String generateText(Random random, int length) {
+    StringBuilder result = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      result.append("ab c".charAt(random.nextInt(4)));
+    }
+    return result.toString();
+  }
+}
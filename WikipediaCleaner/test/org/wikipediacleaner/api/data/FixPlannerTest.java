@@ -0,0 +1,177 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.wikipediacleaner.api.constants.EnumCaseSensitiveness;
+import org.wikipediacleaner.api.constants.EnumWikipedia;
+
+
+/**
+ * Test class for FixPlanner.
+ */
+public class FixPlannerTest {
+
+  /** Words used to generate random texts */
+  private final static String[] WORDS = {
+    "a", "b", "c", "ab", "bc", "abc",
+  };
+
+  Page page;
+
+  @Before
+  public void beforeTest() {
+    EnumWikipedia wiki = EnumWikipedia.EN;
+    List<Namespace> namespaces = new ArrayList<Namespace>();
+    namespaces.add(new Namespace("0", "", "", EnumCaseSensitiveness.FIRST_LETTER, false));
+    wiki.getWikiConfiguration().setNamespaces(namespaces);
+    page = DataManager.getPage(wiki, "Test", null, null, null);
+  }
+
+  @Test
+  public void testIndependentFixes() {
+    List<WordFix> fixes = Arrays.asList(
+        new WordFix("a", "A"), new WordFix("c", "C"), new WordFix("d", "D"));
+    FixPlanner planner = new FixPlanner(page);
+    List<FixPlanner.Fix> appliedFixes = new ArrayList<FixPlanner.Fix>();
+    assertEquals("A b C b A", planner.apply("a b c b a", fixes, appliedFixes));
+    assertEquals(Arrays.asList(fixes.get(0), fixes.get(1)), appliedFixes);
+    assertEquals(2, planner.getAnalysisCount());
+  }
+
+  @Test
+  public void testDependentFixes() {
+
+    // Second fix depending on the result of the first one
+    FixPlanner planner = new FixPlanner(page);
+    assertEquals("c c", planner.apply(
+        "a b", Arrays.asList(new WordFix("a", "b"), new WordFix("b", "c")), null));
+    assertEquals("b c", planner.apply(
+        "a b", Arrays.asList(new WordFix("b", "c"), new WordFix("a", "b")), null));
+
+    // Overlapping fixes
+    assertEquals("Ab c", planner.apply(
+        "ab c", Arrays.asList(new WordFix("ab", "Ab"), new WordFix("ab", "aB")), null));
+
+    // Touching fixes
+    assertEquals("[[A]] b", planner.apply(
+        "a b", Arrays.asList(new LinkFix("a"), new WordFix("a", "A")), null));
+  }
+
+  @Test
+  public void testRandomIndependentFixes() {
+    Random random = new Random(1016);
+    for (int test = 0; test < 500; test++) {
+      StringBuilder buffer = new StringBuilder();
+      int count = random.nextInt(30);
+      for (int i = 0; i < count; i++) {
+        if (i > 0) {
+          buffer.append(' ');
+        }
+        buffer.append(WORDS[random.nextInt(WORDS.length)]);
+      }
+      String contents = buffer.toString();
+      List<WordFix> fixes = new ArrayList<WordFix>();
+      count = random.nextInt(6);
+      for (int i = 0; i < count; i++) {
+        fixes.add(new WordFix(
+            WORDS[random.nextInt(WORDS.length)],
+            WORDS[random.nextInt(WORDS.length)].toUpperCase()));
+      }
+      String expected = contents;
+      for (WordFix fix : fixes) {
+        expected = fix.fix(expected);
+      }
+      FixPlanner planner = new FixPlanner(page);
+      assertEquals(fixes + " on [" + contents + "]", expected, planner.apply(contents, fixes, null));
+    }
+  }
+
+  /**
+   * Fix replacing a word by an other one.
+   */
+  private static class WordFix implements FixPlanner.Fix {
+
+    /** Word to be replaced */
+    private final String from;
+
+    /** Replacement */
+    private final String to;
+
+    /**
+     * @param from Word to be replaced.
+     * @param to Replacement.
+     */
+    WordFix(String from, String to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    /**
+     * @param contents Text.
+     * @return Text with the word replaced.
+     */
+    String fix(String contents) {
+      return contents.replaceAll("(?<![a-z])" + from + "(?![a-z])", to);
+    }
+
+    /**
+     * @param analysis Page analysis.
+     * @return Page contents after fix.
+     * @see org.wikipediacleaner.api.data.FixPlanner.Fix#fix(org.wikipediacleaner.api.data.PageAnalysis)
+     */
+    @Override
+    public String fix(PageAnalysis analysis) {
+      return fix(analysis.getContents());
+    }
+
+    /**
+     * @return Description of the fix.
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+      return from + "->" + to;
+    }
+  }
+
+  /**
+   * Fix transforming a word into a link.
+   */
+  private static class LinkFix implements FixPlanner.Fix {
+
+    /** Word */
+    private final String word;
+
+    /**
+     * @param word Word.
+     */
+    LinkFix(String word) {
+      this.word = word;
+    }
+
+    /**
+     * @param analysis Page analysis.
+     * @return Page contents after fix.
+     * @see org.wikipediacleaner.api.data.FixPlanner.Fix#fix(org.wikipediacleaner.api.data.PageAnalysis)
+     */
+    @Override
+    public String fix(PageAnalysis analysis) {
+      return analysis.getContents().replaceAll(
+          "(?<![a-zA-Z\\[])(" + word + ")(?![a-z\\]])", "[[$1]]");
+    }
+  }
+}
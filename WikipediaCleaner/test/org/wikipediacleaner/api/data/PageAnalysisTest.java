@@ -0,0 +1,151 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.wikipediacleaner.api.constants.EnumCaseSensitiveness;
+import org.wikipediacleaner.api.constants.EnumWikipedia;
+import org.wikipediacleaner.api.constants.WikiConfiguration;
+
+
+/**
+ * Test class for PageAnalysis.
+ */
+public class PageAnalysisTest {
+
+  /** Fragments used to generate random wiki text */
+  private final static String[] FRAGMENTS = {
+    "text", "other text", " ", "\n", "\n\n", "|", "=", "[", "]", "{", "}", "<", ">",
+    "[[Link]]", "[[Link|text]]", "[[", "]]", "[[Category:Cat]]", "[[File:Image.jpg|thumb|text]]",
+    "{{Template}}", "{{Template|param=value}}", "{{", "}}", "{{{1}}}", "{{{", "}}}",
+    "<ref>", "</ref>", "<ref name=\"a\"/>", "<br/>", "<!--", "-->", "<!-- comment -->",
+    "== Title ==", "==", "[http://example.org text]", "http://example.org/page",
+    "__TOC__", "ISBN 2-7654-1005-4",
+  };
+
+  Random random;
+
+  Page page;
+
+  @Before
+  public void beforeTest() {
+    random = new Random(1014);
+    EnumWikipedia wiki = EnumWikipedia.EN;
+    WikiConfiguration config = wiki.getWikiConfiguration();
+    List<Namespace> namespaces = new ArrayList<Namespace>();
+    namespaces.add(new Namespace("0", "", "", EnumCaseSensitiveness.FIRST_LETTER, false));
+    namespaces.add(new Namespace("6", "File", "File", EnumCaseSensitiveness.FIRST_LETTER, false));
+    namespaces.add(new Namespace("10", "Template", "Template", EnumCaseSensitiveness.FIRST_LETTER, true));
+    namespaces.add(new Namespace("14", "Category", "Category", EnumCaseSensitiveness.FIRST_LETTER, false));
+    config.setNamespaces(namespaces);
+    Map<String, MagicWord> magicWords = new HashMap<String, MagicWord>();
+    magicWords.put(MagicWord.TOC, new MagicWord(MagicWord.TOC, Arrays.asList("__TOC__"), false));
+    magicWords.put(MagicWord.IMG_THUMBNAIL, new MagicWord(MagicWord.IMG_THUMBNAIL, Arrays.asList("thumb"), true));
+    config.setMagicWords(magicWords);
+    page = DataManager.getPage(wiki, "Test", null, null, null);
+  }
+
+  @Test
+  public void testModifiedContents() {
+    for (int test = 0; test < 300; test++) {
+      String contents = generateText(30);
+      PageAnalysis analysis = new PageAnalysis(page, contents);
+      analysis.getExternalLinks();
+      for (int step = 0; step < 10; step++) {
+
+        // Modify the contents
+        int offset = random.nextInt(contents.length() + 1);
+        int removedLength = random.nextInt(Math.min(10, contents.length() - offset) + 1);
+        String newContents =
+            contents.substring(0, offset) +
+            generateText(3) +
+            contents.substring(offset + removedLength);
+
+        // Compare the incremental analysis with a full analysis
+        PageAnalysis modified = analysis.analyzeModifiedContents(newContents);
+        PageAnalysis full = new PageAnalysis(page, newContents);
+        assertEquals(
+            "Analysis of [" + newContents + "] modified from [" + contents + "]",
+            describe(full), describe(modified));
+
+        contents = newContents;
+        analysis = modified;
+      }
+    }
+  }
+
+  /**
+   * @param count Maximum number of fragments.
+   * @return Random wiki text.
+   */
+  private String generateText(int count) {
+    StringBuilder buffer = new StringBuilder();
+    int fragments = random.nextInt(count + 1);
+    for (int i = 0; i < fragments; i++) {
+      buffer.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * @param analysis Page analysis.
+   * @return Description of the elements found by the analysis.
+   */
+  private static String describe(PageAnalysis analysis) {
+    StringBuilder buffer = new StringBuilder();
+    describe(buffer, "comments", analysis.getComments());
+    describe(buffer, "tags", analysis.getTags());
+    for (PageElementTag tag : analysis.getTags()) {
+      if (tag.getMatchingTag() != null) {
+        buffer.append(" ").append(tag.getBeginIndex());
+        buffer.append("->").append(tag.getMatchingTag().getBeginIndex());
+      }
+    }
+    describe(buffer, "internal links", analysis.getInternalLinks());
+    describe(buffer, "images", analysis.getImages());
+    describe(buffer, "categories", analysis.getCategories());
+    describe(buffer, "interwiki links", analysis.getInterwikiLinks());
+    describe(buffer, "language links", analysis.getLanguageLinks());
+    describe(buffer, "functions", analysis.getFunctions());
+    describe(buffer, "magic words", analysis.getMagicWords());
+    describe(buffer, "templates", analysis.getTemplates());
+    describe(buffer, "parameters", analysis.getParameters());
+    describe(buffer, "titles", analysis.getTitles());
+    describe(buffer, "external links", analysis.getExternalLinks());
+    describe(buffer, "ISBN", analysis.getISBNs());
+    for (int index = 0; index <= analysis.getContents().length(); index++) {
+      buffer.append((analysis.getAreas().getEndArea(index) > index) ? '1' : '0');
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * @param buffer Buffer for the description.
+   * @param name Name of the elements.
+   * @param elements Elements.
+   */
+  private static void describe(
+      StringBuilder buffer, String name, List<? extends PageElement> elements) {
+    buffer.append("\n").append(name).append(":");
+    for (PageElement element : elements) {
+      buffer.append(" ").append(element.getClass().getSimpleName());
+      buffer.append("[").append(element.getBeginIndex());
+      buffer.append(",").append(element.getEndIndex()).append(")");
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+
+/**
+ * Test class for PageContentsScanner.
+ */
+public class PageContentsScannerTest {
+
+  /** Fragments used to generate random wiki text */
+  private final static String[] FRAGMENTS = {
+    "a", "b", " ", "\n", "[", "]", "[[", "]]", "{", "}", "{{", "}}", "{{{",
+    "_", "__", "=", "==", "<", ">", "<!--", "-->", "<ref>", "</ref>", "|",
+    "http://", "HTTPS://", "ftp://", "mailto:", "news:", "//", "h", "M",
+    "k", "\u212A", "\u0130", "\u00E9",
+  };
+
+  @Test
+  public void testEmpty() {
+    PageContentsScanner scanner = new PageContentsScanner("");
+    assertEquals(-1, scanner.getTags().next(0));
+    assertEquals(-1, scanner.getWikiElements().next(0));
+    assertEquals(-1, scanner.getExternalLinks().next(0));
+    scanner = new PageContentsScanner(null);
+    assertEquals(-1, scanner.getTags().next(0));
+  }
+
+  @Test
+  public void testCursor() {
+    PageContentsScanner.Cursor cursor = new PageContentsScanner.Cursor(new int[] { 2, 5, 9 });
+    assertEquals(2, cursor.next(0));
+    assertEquals(5, cursor.next(3));
+    assertEquals(5, cursor.next(5));
+    assertEquals(9, cursor.next(6));
+    assertEquals(-1, cursor.next(10));
+    assertEquals(2, cursor.next(1));
+    assertEquals(9, cursor.next(9));
+  }
+
+  @Test
+  public void testRandomContents() {
+    Random random = new Random(4321);
+    for (int test = 0; test < 2000; test++) {
+      StringBuilder buffer = new StringBuilder();
+      int count = random.nextInt(100);
+      for (int i = 0; i < count; i++) {
+        buffer.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+      }
+      String contents = buffer.toString();
+      PageContentsScanner scanner = new PageContentsScanner(contents);
+
+      // Positions where the analysis loops used to test for an element
+      List<Integer> tags = new ArrayList<Integer>();
+      List<Integer> wikiElements = new ArrayList<Integer>();
+      List<Integer> externalLinks = new ArrayList<Integer>();
+      for (int index = 0; index < contents.length(); index++) {
+        if (contents.charAt(index) == '<') {
+          tags.add(Integer.valueOf(index));
+        }
+        if (contents.startsWith("[[", index) ||
+            contents.startsWith("{{", index) ||
+            contents.startsWith("=", index) ||
+            contents.startsWith("__", index)) {
+          wikiElements.add(Integer.valueOf(index));
+        }
+        if (contents.startsWith("[", index) ||
+            PageElementExternalLink.isPossibleProtocol(contents, index)) {
+          externalLinks.add(Integer.valueOf(index));
+        }
+      }
+
+      assertEquals(contents, tags, getPositions(scanner.getTags()));
+      assertEquals(contents, wikiElements, getPositions(scanner.getWikiElements()));
+      assertTrue(contents, getPositions(scanner.getExternalLinks()).containsAll(externalLinks));
+    }
+  }
+
+  /**
+   * @param cursor Cursor.
+   * @return All positions of the cursor.
+   */
+  private static List<Integer> getPositions(PageContentsScanner.Cursor cursor) {
+    List<Integer> result = new ArrayList<Integer>();
+    int index = cursor.next(0);
+    while (index >= 0) {
+      result.add(Integer.valueOf(index));
+      index = cursor.next(index + 1);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+
+/**
+ * Test class for PageContentsSlice.
+ */
+public class PageContentsSliceTest {
+
+  @Test
+  public void testIndexOf() {
+    String contents = "ab<!--cd-->ef:gh<!--";
+    PageContentsSlice slice = new PageContentsSlice(contents, 2, 13);
+    assertEquals(0, slice.indexOf('<'));
+    assertEquals(-1, slice.indexOf(':'));
+    assertEquals(0, slice.indexOf("<!--"));
+    assertEquals(6, slice.indexOf("-->"));
+    assertEquals(-1, slice.indexOf("ef:"));
+    assertEquals(0, slice.indexOf(""));
+    slice = new PageContentsSlice(contents, 3, 18);
+    assertEquals(-1, slice.indexOf("<!--"));
+    assertEquals(10, slice.indexOf(':'));
+  }
+
+  @Test
+  public void testIndexOfRandom() {
+    Random random = new Random(19);
+    String[] texts = { "a", "b", "ab", "ba", "aab", "" };
+    for (int test = 0; test < 5000; test++) {
+      StringBuilder buffer = new StringBuilder();
+      int length = random.nextInt(30);
+      for (int i = 0; i < length; i++) {
+        buffer.append((char) ('a' + random.nextInt(3)));
+      }
+      String contents = buffer.toString();
+      int beginIndex = random.nextInt(length + 1);
+      int endIndex = beginIndex + random.nextInt(length - beginIndex + 1);
+      PageContentsSlice slice = new PageContentsSlice(contents, beginIndex, endIndex);
+      String part = contents.substring(beginIndex, endIndex);
+      assertEquals(part, part.indexOf('a'), slice.indexOf('a'));
+      assertEquals(part, part.indexOf('c'), slice.indexOf('c'));
+      for (String text : texts) {
+        assertEquals(part + "/" + text, part.indexOf(text), slice.indexOf(text));
+      }
+    }
+  }
+}
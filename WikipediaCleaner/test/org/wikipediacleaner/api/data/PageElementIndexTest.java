@@ -0,0 +1,170 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+
+/**
+ * Test class for PageElementIndex.
+ */
+public class PageElementIndexTest {
+
+  /**
+   * Simple element for tests.
+   */
+  private static class Element extends PageElement {
+
+    public Element(int beginIndex, int endIndex) {
+      super(beginIndex, endIndex);
+    }
+
+    @Override
+    public String toString() {
+      return "[" + getBeginIndex() + "," + getEndIndex() + ")";
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    List<Element> elements = new ArrayList<Element>();
+    PageElementIndex<Element> index = new PageElementIndex<Element>(elements);
+    assertTrue(index.isIndexOf(elements));
+    assertNull(index.getNext(0));
+    assertNull(index.getFirstContaining(0));
+    assertNull(index.getLastContaining(0));
+    assertNull(index.getInnermostContaining(0));
+  }
+
+  @Test
+  public void testIsIndexOf() {
+    List<Element> elements = new ArrayList<Element>();
+    elements.add(new Element(0, 10));
+    PageElementIndex<Element> index = new PageElementIndex<Element>(elements);
+    assertTrue(index.isIndexOf(elements));
+    assertFalse(index.isIndexOf(new ArrayList<Element>(elements)));
+    elements.add(new Element(20, 30));
+    assertFalse(index.isIndexOf(elements));
+  }
+
+  @Test
+  public void testNested() {
+    List<Element> elements = new ArrayList<Element>();
+    Element outer = new Element(0, 100);
+    Element middle = new Element(10, 50);
+    Element inner = new Element(20, 30);
+    Element after = new Element(60, 70);
+    elements.add(outer);
+    elements.add(middle);
+    elements.add(inner);
+    elements.add(after);
+    PageElementIndex<Element> index = new PageElementIndex<Element>(elements);
+    assertSame(outer, index.getFirstContaining(25));
+    assertSame(inner, index.getLastContaining(25));
+    assertSame(inner, index.getInnermostContaining(25));
+    assertSame(middle, index.getInnermostContaining(30));
+    assertSame(after, index.getLastContaining(60));
+    assertSame(outer, index.getLastContaining(70));
+    assertNull(index.getFirstContaining(100));
+    assertSame(middle, index.getNext(1));
+    assertSame(after, index.getNext(31));
+    assertNull(index.getNext(61));
+  }
+
+  @Test
+  public void testRandomElements() {
+    Random random = new Random(12345);
+    for (int test = 0; test < 500; test++) {
+      int length = 1 + random.nextInt(300);
+      int count = random.nextInt(60);
+      List<Element> elements = new ArrayList<Element>();
+      for (int i = 0; i < count; i++) {
+        int beginIndex = random.nextInt(length);
+        int endIndex = beginIndex + random.nextInt(Math.max(1, (length - beginIndex) / (1 + random.nextInt(4)))) + 1;
+        elements.add(new Element(beginIndex, endIndex));
+      }
+      PageElementIndex<Element> index = new PageElementIndex<Element>(elements);
+      for (int currentIndex = -1; currentIndex <= length + 1; currentIndex++) {
+        assertSame(
+            "getNext(" + currentIndex + ") in " + elements,
+            getNext(elements, currentIndex), index.getNext(currentIndex));
+        assertSame(
+            "getFirstContaining(" + currentIndex + ") in " + elements,
+            getFirstContaining(elements, currentIndex), index.getFirstContaining(currentIndex));
+        assertSame(
+            "getLastContaining(" + currentIndex + ") in " + elements,
+            getLastContaining(elements, currentIndex), index.getLastContaining(currentIndex));
+        assertSame(
+            "getInnermostContaining(" + currentIndex + ") in " + elements,
+            getInnermostContaining(elements, currentIndex), index.getInnermostContaining(currentIndex));
+      }
+    }
+  }
+
+  /**
+   * Linear search as done before the index was introduced.
+   */
+  private static Element getNext(List<Element> elements, int currentIndex) {
+    for (Element element : elements) {
+      if (element.getBeginIndex() >= currentIndex) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Linear search as done before the index was introduced.
+   */
+  private static Element getFirstContaining(List<Element> elements, int currentIndex) {
+    for (Element element : elements) {
+      if ((element.getBeginIndex() <= currentIndex) &&
+          (element.getEndIndex() > currentIndex)) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Linear search as done before the index was introduced.
+   */
+  private static Element getLastContaining(List<Element> elements, int currentIndex) {
+    Element result = null;
+    for (Element element : elements) {
+      if ((element.getBeginIndex() <= currentIndex) &&
+          (element.getEndIndex() > currentIndex)) {
+        result = element;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Linear search as done before the index was introduced.
+   */
+  private static Element getInnermostContaining(List<Element> elements, int currentIndex) {
+    Element result = null;
+    for (Element element : elements) {
+      if ((element.getBeginIndex() <= currentIndex) &&
+          (element.getEndIndex() > currentIndex)) {
+        if ((result == null) ||
+            (element.getBeginIndex() > result.getBeginIndex())) {
+          result = element;
+        }
+      }
+    }
+    return result;
+  }
+}
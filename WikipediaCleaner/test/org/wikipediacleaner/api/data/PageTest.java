@@ -0,0 +1,79 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+
+/**
+ * Test class for Page.
+ */
+public class PageTest {
+
+  /** Fragments used to generate random titles */
+  private final static String[] FRAGMENTS = {
+    "a", "B", "\u00E9", "\u00DF", ":", " ", "  ", "_", "__", "\u00A0", "\u200E",
+    "\t", "\n", "1", "(", ")",
+  };
+
+  @Test
+  public void testNormalizeTitle() {
+    assertNull(Page.normalizeTitle(null));
+    assertEquals("", Page.normalizeTitle(""));
+    assertEquals("", Page.normalizeTitle(" _ "));
+    assertEquals("Title", Page.normalizeTitle("title"));
+    assertEquals("Some title", Page.normalizeTitle("  some__title\u200E"));
+    assertEquals("Some title", Page.normalizeTitle("Some\u00A0 _title"));
+    assertEquals("some title", Page.normalizeTitle("some_title", false));
+    String title = "Already normalized";
+    assertSame(title, Page.normalizeTitle(title));
+  }
+
+  @Test
+  public void testNormalizeTitleRandom() {
+    Random random = new Random(2016);
+    for (int test = 0; test < 20000; test++) {
+      StringBuilder buffer = new StringBuilder();
+      int count = random.nextInt(12);
+      for (int i = 0; i < count; i++) {
+        buffer.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+      }
+      String title = buffer.toString();
+      assertEquals(
+          "Title [" + title + "]",
+          normalizeTitle(title), Page.normalizeTitle(title));
+    }
+  }
+
+  @Test
+  public void testAreSameTitle() {
+    assertTrue(Page.areSameTitle("Some title", "Some title"));
+    assertTrue(Page.areSameTitle("some_title", "Some title"));
+    assertFalse(Page.areSameTitle("Some title", "Some other title"));
+  }
+
+  /**
+   * Normalization of a title with regular expressions, as done before the single pass.
+   */
+  private static String normalizeTitle(String pageTitle) {
+    String result = pageTitle.trim();
+    result = result.replaceAll("\u00A0", " ");
+    while ((result.length() > 0) && (result.charAt(result.length() - 1) == 0x200E)) {
+      result = result.substring(0, result.length() - 1);
+    }
+    result = result.replaceAll("_", " ");
+    result = result.replaceAll(" +", " ");
+    result = result.trim();
+    result = Page.getStringUcFirst(result);
+    return result;
+  }
+}
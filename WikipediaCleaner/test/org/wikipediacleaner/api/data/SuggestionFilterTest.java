@@ -0,0 +1,128 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+
+import org.junit.Test;
+
+
+/**
+ * Test class for SuggestionFilter.
+ */
+public class SuggestionFilterTest {
+
+  /** Patterns of the suggestions */
+  private final static String[] PATTERNS = {
+    "abcd",
+    "\\babcd\\b",
+    "(?<![a-z])abcd(?:e|ef)?",
+    "[aA]bcde[fg]",
+    "x?abcd.{0,3}",
+    "(ab|b)abcd(e|ee)",
+    "abcd(?=e)",
+    "^abcd",
+    "abcd$",
+    "a(bc)?abcd",
+    "\\w{1,4}abcd",
+    "abcd+",
+    "b*abcd",
+  };
+
+  /** Fragments used to generate random texts */
+  private final static String[] FRAGMENTS = {
+    "a", "b", "c", "d", "e", "f", "x", " ", "A", "abcd", "babcd", "abcde", "\n",
+  };
+
+  @Test
+  public void testRequiredLiteral() {
+    assertEquals("abcd", SuggestionFilter.getRequiredLiteral("x?abcd.{0,3}"));
+    assertEquals("abcd", SuggestionFilter.getRequiredLiteral("\\babcd\\b"));
+    assertNull(SuggestionFilter.getRequiredLiteral("abc"));
+    assertNull(SuggestionFilter.getRequiredLiteral("(?i)abcd"));
+    assertNull(SuggestionFilter.getRequiredLiteral("abcd|efgh"));
+  }
+
+  @Test
+  public void testMaxLength() {
+    assertEquals(4, SuggestionFilter.getMaxLength("abcd"));
+    assertEquals(4, SuggestionFilter.getMaxLength("\\babcd\\b"));
+    assertEquals(6, SuggestionFilter.getMaxLength("(?<![a-z])abcd(?:e|ef)?"));
+    assertEquals(8, SuggestionFilter.getMaxLength("[aA]bcde[fg]"));
+    assertEquals(11, SuggestionFilter.getMaxLength("x?abcd.{0,3}"));
+    assertEquals(8, SuggestionFilter.getMaxLength("(ab|b)abcd(e|ee)"));
+    assertEquals(4, SuggestionFilter.getMaxLength("^abcd$"));
+    assertEquals(5, SuggestionFilter.getMaxLength("\\{\\{abc"));
+    assertEquals(-1, SuggestionFilter.getMaxLength("abcd+"));
+    assertEquals(-1, SuggestionFilter.getMaxLength("b*abcd"));
+    assertEquals(-1, SuggestionFilter.getMaxLength("a.{2,}"));
+    assertEquals(-1, SuggestionFilter.getMaxLength("(a)\\1"));
+    assertEquals(-1, SuggestionFilter.getMaxLength("\\Gabcd"));
+    assertEquals(-1, SuggestionFilter.getMaxLength("(?i)abcd"));
+    assertEquals(-1, SuggestionFilter.getMaxLength("a{2000}"));
+  }
+
+  @Test
+  public void testWindows() {
+    List<Suggestion> suggestions = new ArrayList<Suggestion>();
+    for (String pattern : PATTERNS) {
+      suggestions.add(Suggestion.createSuggestion(pattern, false, null));
+    }
+    SuggestionFilter filter = new SuggestionFilter(suggestions);
+    assertNotNull(filter.find("abcd").getWindows(suggestions.get(0), 0, 4));
+    assertNull(filter.find("abcd").getWindows(suggestions.get(suggestions.size() - 1), 0, 4));
+    Random random = new Random(2021);
+    for (int test = 0; test < 3000; test++) {
+      StringBuilder buffer = new StringBuilder();
+      int count = random.nextInt(60);
+      for (int i = 0; i < count; i++) {
+        buffer.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+      }
+      String contents = buffer.toString();
+      int begin = random.nextInt(contents.length() + 1);
+      int end = begin + random.nextInt(contents.length() - begin + 1);
+      SuggestionFilter.Hits hits = filter.find(contents);
+      for (Suggestion suggestion : suggestions) {
+        List<SuggestionFilter.Window> windows = hits.getWindows(suggestion, begin, end);
+        String message = suggestion.getPatternText() + " in [" + contents + "] " + begin + "-" + end;
+        assertEquals(
+            message,
+            getMatches(suggestion, contents, begin, end, null),
+            getMatches(suggestion, contents, begin, end, windows));
+        if (hits.mayMatch(suggestion) && !hits.mayMatch(suggestion, begin, end)) {
+          assertTrue(message, getMatches(suggestion, contents, begin, end, null).isEmpty());
+        }
+      }
+    }
+  }
+
+  /**
+   * @param suggestion Suggestion.
+   * @param contents Text.
+   * @param begin Begin index of the region.
+   * @param end End index of the region.
+   * @param windows Windows where the suggestion may match (null to search the whole region).
+   * @return Matches of the suggestion in the region.
+   */
+  private static List<String> getMatches(
+      Suggestion suggestion, String contents, int begin, int end, List<SuggestionFilter.Window> windows) {
+    List<String> result = new ArrayList<String>();
+    Matcher matcher = suggestion.initMatcher(contents);
+    SuggestionFilter.Finder finder = new SuggestionFilter.Finder(matcher);
+    finder.reset(begin, end, windows);
+    while (finder.find()) {
+      result.add(matcher.start() + "-" + matcher.end());
+    }
+    return result;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ *  WPCleaner: A tool to help on Wikipedia maintenance tasks.
+ *  Copyright (C) 2016  Nicolas Vervelle
+ *
+ *  See README.txt file for licensing information.
+ */
+
+package org.wikipediacleaner.api.data;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+
+/**
+ * Test class for TitlePool.
+ */
+public class TitlePoolTest {
+
+  @Test
+  public void testCanonicalInstances() {
+    TitlePool pool = new TitlePool();
+    assertNull(pool.get("some_title"));
+    String normalized = pool.put("some_title", "Some title");
+    assertEquals("Some title", normalized);
+    assertSame(normalized, pool.get("some_title"));
+    assertSame(normalized, pool.get("Some title"));
+    assertSame(normalized, pool.put("some title", new String("Some title")));
+    assertSame(normalized, pool.get("some title"));
+    assertNull(pool.get(null));
+    assertNull(pool.put(null, null));
+  }
+
+  @Test
+  public void testMaxSize() {
+    TitlePool pool = new TitlePool(10);
+    for (int i = 0; i < 100; i++) {
+      String title = "title " + i;
+      assertEquals("Title " + i, pool.put(title, "Title " + i));
+      assertEquals("Title " + i, pool.get(title));
+      assertTrue(pool.size() <= 10);
+    }
+    pool.clear();
+    assertEquals(0, pool.size());
+    assertNull(pool.get("title 99"));
+  }
+}